@@ -0,0 +1,219 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------
+ * BenchmarkData.java
+ * ------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.chart.benchmark;
+
+import java.util.Random;
+
+import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.time.FixedMillisecond;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+
+/**
+ * Creates the datasets used by the benchmarks.  The data is a random walk
+ * from a fixed seed, so every run (and every release) measures the same
+ * values.
+ */
+final class BenchmarkData {
+
+    /** The seed for the random number generator. */
+    private static final long SEED = 20140726L;
+
+    /**
+     * Private constructor for non-instanceability.
+     */
+    private BenchmarkData() {
+        // no instances
+    }
+
+    /**
+     * Returns the y-values for a random walk.
+     *
+     * @param count  the number of values.
+     * @param seed  the seed offset (to create different series).
+     *
+     * @return The values.
+     */
+    static double[] randomWalk(int count, int seed) {
+        Random random = new Random(SEED + seed);
+        double[] y = new double[count];
+        double v = 100.0;
+        for (int i = 0; i < count; i++) {
+            v += random.nextGaussian();
+            y[i] = v;
+        }
+        return y;
+    }
+
+    /**
+     * Returns the x-values 0, 1, 2, ...
+     *
+     * @param count  the number of values.
+     *
+     * @return The values.
+     */
+    static double[] sequence(int count) {
+        double[] x = new double[count];
+        for (int i = 0; i < count; i++) {
+            x[i] = i;
+        }
+        return x;
+    }
+
+    /**
+     * Creates a collection of {@link XYSeries}.
+     *
+     * @param seriesCount  the number of series.
+     * @param itemCount  the number of items in each series.
+     *
+     * @return The dataset.
+     */
+    static XYSeriesCollection createXYSeriesCollection(int seriesCount,
+            int itemCount) {
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        double[] x = sequence(itemCount);
+        for (int s = 0; s < seriesCount; s++) {
+            XYSeries series = new XYSeries("S" + s, true, false);
+            series.add(x, randomWalk(itemCount, s), false);
+            dataset.addSeries(series);
+        }
+        return dataset;
+    }
+
+    /**
+     * Creates a {@link DefaultXYDataset}.
+     *
+     * @param seriesCount  the number of series.
+     * @param itemCount  the number of items in each series.
+     *
+     * @return The dataset.
+     */
+    static DefaultXYDataset createDefaultXYDataset(int seriesCount,
+            int itemCount) {
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        double[] x = sequence(itemCount);
+        for (int s = 0; s < seriesCount; s++) {
+            dataset.addSeries("S" + s, new double[][] {x,
+                    randomWalk(itemCount, s)});
+        }
+        return dataset;
+    }
+
+    /**
+     * Returns the periods for a time series, one second apart.
+     *
+     * @param count  the number of periods.
+     *
+     * @return The periods.
+     */
+    static RegularTimePeriod[] periods(int count) {
+        RegularTimePeriod[] periods = new RegularTimePeriod[count];
+        long start = 1400000000000L;
+        for (int i = 0; i < count; i++) {
+            periods[i] = new FixedMillisecond(start + i * 1000L);
+        }
+        return periods;
+    }
+
+    /**
+     * Creates a collection of {@link TimeSeries}.
+     *
+     * @param seriesCount  the number of series.
+     * @param itemCount  the number of items in each series.
+     *
+     * @return The dataset.
+     */
+    static TimeSeriesCollection createTimeSeriesCollection(int seriesCount,
+            int itemCount) {
+        TimeSeriesCollection dataset = new TimeSeriesCollection();
+        RegularTimePeriod[] periods = periods(itemCount);
+        for (int s = 0; s < seriesCount; s++) {
+            TimeSeries series = new TimeSeries("S" + s);
+            series.add(periods, randomWalk(itemCount, s), false);
+            dataset.addSeries(series);
+        }
+        return dataset;
+    }
+
+    /**
+     * Creates a category dataset.
+     *
+     * @param rowCount  the number of rows (series).
+     * @param columnCount  the number of columns (categories).
+     *
+     * @return The dataset.
+     */
+    static DefaultCategoryDataset createCategoryDataset(int rowCount,
+            int columnCount) {
+        Comparable[] rowKeys = new Comparable[rowCount];
+        Comparable[] columnKeys = new Comparable[columnCount];
+        double[][] data = new double[rowCount][];
+        for (int r = 0; r < rowCount; r++) {
+            rowKeys[r] = "R" + r;
+            data[r] = randomWalk(columnCount, r);
+        }
+        for (int c = 0; c < columnCount; c++) {
+            columnKeys[c] = "C" + c;
+        }
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        dataset.addValues(rowKeys, columnKeys, data);
+        return dataset;
+    }
+
+    /**
+     * Parses an image size in the form "640x480".
+     *
+     * @param size  the size.
+     *
+     * @return An array containing the width and height.
+     */
+    static int[] parseSize(String size) {
+        int x = size.indexOf('x');
+        return new int[] {Integer.parseInt(size.substring(0, x)),
+                Integer.parseInt(size.substring(x + 1))};
+    }
+
+}
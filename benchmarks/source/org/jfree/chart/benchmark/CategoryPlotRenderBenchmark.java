@@ -0,0 +1,172 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------------
+ * CategoryPlotRenderBenchmark.java
+ * --------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.chart.benchmark;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.CategoryAxis;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.renderer.category.BarRenderer;
+import org.jfree.chart.renderer.category.CategoryItemRenderer;
+import org.jfree.chart.renderer.category.LineAndShapeRenderer;
+import org.jfree.chart.renderer.category.StackedBarRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to draw a category chart to an off-screen image.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class CategoryPlotRenderBenchmark {
+
+    /** The number of categories. */
+    @Param({"10", "1000", "10000"})
+    public int categoryCount;
+
+    /** The number of series. */
+    @Param({"3"})
+    public int seriesCount;
+
+    /** The renderer: "bar", "stackedBar" or "line". */
+    @Param({"bar", "stackedBar", "line"})
+    public String renderer;
+
+    /** The image size. */
+    @Param({"800x600", "1920x1080"})
+    public String size;
+
+    /** Whether or not to collect chart entities while drawing. */
+    @Param({"false", "true"})
+    public boolean collectInfo;
+
+    /** The chart. */
+    private JFreeChart chart;
+
+    /** The image drawn to. */
+    private BufferedImage image;
+
+    /** The graphics target. */
+    private Graphics2D g2;
+
+    /** The drawing area. */
+    private Rectangle2D area;
+
+    /**
+     * Creates the chart and the image.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        CategoryAxis xAxis = new CategoryAxis("Category");
+        xAxis.setTickLabelsVisible(this.categoryCount <= 100);
+        CategoryPlot plot = new CategoryPlot(
+                BenchmarkData.createCategoryDataset(this.seriesCount,
+                this.categoryCount), xAxis, new NumberAxis("Value"),
+                createRenderer(this.renderer));
+        this.chart = new JFreeChart(plot);
+        int[] wh = BenchmarkData.parseSize(this.size);
+        this.image = new BufferedImage(wh[0], wh[1],
+                BufferedImage.TYPE_INT_ARGB);
+        this.g2 = this.image.createGraphics();
+        this.area = new Rectangle2D.Double(0, 0, wh[0], wh[1]);
+    }
+
+    /**
+     * Releases the graphics target.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.g2.dispose();
+    }
+
+    /**
+     * Creates the renderer for the benchmark.
+     *
+     * @param name  the renderer name.
+     *
+     * @return The renderer.
+     */
+    private static CategoryItemRenderer createRenderer(String name) {
+        if ("stackedBar".equals(name)) {
+            return new StackedBarRenderer();
+        }
+        else if ("line".equals(name)) {
+            return new LineAndShapeRenderer(true, false);
+        }
+        return new BarRenderer();
+    }
+
+    /**
+     * Draws the chart.
+     *
+     * @return The rendering info (to prevent dead code elimination).
+     */
+    @Benchmark
+    public ChartRenderingInfo draw() {
+        ChartRenderingInfo info = this.collectInfo ? new ChartRenderingInfo()
+                : null;
+        this.chart.draw(this.g2, this.area, info);
+        return info;
+    }
+
+}
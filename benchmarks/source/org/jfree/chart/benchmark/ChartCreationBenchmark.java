@@ -0,0 +1,135 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * ChartCreationBenchmark.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.chart.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to create charts with {@link ChartFactory} (creating
+ * the plot, axes and renderer and applying the chart theme), without
+ * drawing them.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class ChartCreationBenchmark {
+
+    /** The number of items in each series. */
+    @Param({"1000"})
+    public int itemCount;
+
+    /** An XY dataset. */
+    private XYSeriesCollection xyDataset;
+
+    /** A time series dataset. */
+    private TimeSeriesCollection timeSeriesDataset;
+
+    /** A category dataset. */
+    private CategoryDataset categoryDataset;
+
+    /**
+     * Creates the datasets.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.xyDataset = BenchmarkData.createXYSeriesCollection(3,
+                this.itemCount);
+        this.timeSeriesDataset = BenchmarkData.createTimeSeriesCollection(3,
+                this.itemCount);
+        this.categoryDataset = BenchmarkData.createCategoryDataset(3, 20);
+    }
+
+    /**
+     * Creates an XY line chart.
+     *
+     * @return The chart.
+     */
+    @Benchmark
+    public JFreeChart createXYLineChart() {
+        return ChartFactory.createXYLineChart("XY", "X", "Y",
+                this.xyDataset);
+    }
+
+    /**
+     * Creates a time series chart.
+     *
+     * @return The chart.
+     */
+    @Benchmark
+    public JFreeChart createTimeSeriesChart() {
+        return ChartFactory.createTimeSeriesChart("Time Series", "Time",
+                "Value", this.timeSeriesDataset);
+    }
+
+    /**
+     * Creates a bar chart.
+     *
+     * @return The chart.
+     */
+    @Benchmark
+    public JFreeChart createBarChart() {
+        return ChartFactory.createBarChart("Bar", "Category", "Value",
+                this.categoryDataset);
+    }
+
+}
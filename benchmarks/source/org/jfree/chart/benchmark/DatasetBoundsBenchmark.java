@@ -0,0 +1,168 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * DatasetBoundsBenchmark.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.chart.benchmark;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.xy.XYDataset;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the bounds searches in {@link DatasetUtilities} that run each time
+ * an axis is auto-ranged.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class DatasetBoundsBenchmark {
+
+    /** The number of items in each series. */
+    @Param({"1000", "100000", "1000000"})
+    public int itemCount;
+
+    /**
+     * The dataset class: "DefaultXYDataset", "XYSeriesCollection" or
+     * "TimeSeriesCollection".
+     */
+    @Param({"DefaultXYDataset", "XYSeriesCollection",
+            "TimeSeriesCollection"})
+    public String datasetType;
+
+    /** The setting for the bounds cache in DatasetUtilities. */
+    @Param({"true", "false"})
+    public boolean boundsCache;
+
+    /** The dataset. */
+    private XYDataset dataset;
+
+    /** The keys for all the series in the dataset. */
+    private List seriesKeys;
+
+    /** An x-range covering 10% of the items (as for a zoomed chart). */
+    private Range window;
+
+    /**
+     * Creates the dataset.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        DatasetUtilities.setBoundsCacheEnabled(this.boundsCache);
+        if ("XYSeriesCollection".equals(this.datasetType)) {
+            this.dataset = BenchmarkData.createXYSeriesCollection(3,
+                    this.itemCount);
+        }
+        else if ("TimeSeriesCollection".equals(this.datasetType)) {
+            this.dataset = BenchmarkData.createTimeSeriesCollection(3,
+                    this.itemCount);
+        }
+        else {
+            this.dataset = BenchmarkData.createDefaultXYDataset(3,
+                    this.itemCount);
+        }
+        this.seriesKeys = new ArrayList();
+        for (int s = 0; s < this.dataset.getSeriesCount(); s++) {
+            this.seriesKeys.add(this.dataset.getSeriesKey(s));
+        }
+        int n = this.itemCount;
+        this.window = new Range(this.dataset.getXValue(0, n * 45 / 100),
+                this.dataset.getXValue(0, n * 55 / 100));
+    }
+
+    /**
+     * Restores the default bounds cache setting.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        DatasetUtilities.setBoundsCacheEnabled(false);
+    }
+
+    /**
+     * Finds the x-bounds for the whole dataset.
+     *
+     * @return The bounds.
+     */
+    @Benchmark
+    public Range findDomainBounds() {
+        return DatasetUtilities.findDomainBounds(this.dataset);
+    }
+
+    /**
+     * Finds the y-bounds for the whole dataset.
+     *
+     * @return The bounds.
+     */
+    @Benchmark
+    public Range findRangeBounds() {
+        return DatasetUtilities.findRangeBounds(this.dataset);
+    }
+
+    /**
+     * Finds the y-bounds for the items in a window of x-values.
+     *
+     * @return The bounds.
+     */
+    @Benchmark
+    public Range findRangeBoundsInWindow() {
+        return DatasetUtilities.findRangeBounds(this.dataset,
+                this.seriesKeys, this.window, true);
+    }
+
+}
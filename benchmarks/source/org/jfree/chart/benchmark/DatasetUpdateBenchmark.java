@@ -0,0 +1,204 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * DatasetUpdateBenchmark.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.chart.benchmark;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.JFreeChart;
+import org.jfree.data.time.FixedMillisecond;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the cost of loading and updating series, including the change
+ * events that are sent to a dataset and chart.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class DatasetUpdateBenchmark {
+
+    /** The number of items loaded (or retained, for the live series). */
+    @Param({"1000", "100000"})
+    public int itemCount;
+
+    /** The periods to load. */
+    private RegularTimePeriod[] periods;
+
+    /** The x-values to load. */
+    private double[] x;
+
+    /** The y-values to load. */
+    private double[] y;
+
+    /** A series with a maximum item count, displayed in a chart. */
+    private TimeSeries liveSeries;
+
+    /** The chart for the live series (listens for changes). */
+    private JFreeChart liveChart;
+
+    /** The time for the next item added to the live series. */
+    private long next;
+
+    /**
+     * Creates the data.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.periods = BenchmarkData.periods(this.itemCount);
+        this.x = BenchmarkData.sequence(this.itemCount);
+        this.y = BenchmarkData.randomWalk(this.itemCount, 0);
+        this.liveSeries = new TimeSeries("Live");
+        this.liveSeries.setMaximumItemCount(this.itemCount);
+        this.liveSeries.add(this.periods, this.y);
+        this.liveChart = ChartFactory.createTimeSeriesChart("Live", "Time",
+                "Value", new TimeSeriesCollection(this.liveSeries));
+        this.next = this.periods[this.itemCount - 1].getLastMillisecond()
+                + 1000L;
+    }
+
+    /**
+     * Adds items to a time series one at a time, with an event for each.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public TimeSeries timeSeriesAdd() {
+        TimeSeries series = new TimeSeries("S");
+        new TimeSeriesCollection(series);
+        for (int i = 0; i < this.itemCount; i++) {
+            series.add(this.periods[i], this.y[i]);
+        }
+        return series;
+    }
+
+    /**
+     * Adds items to a time series one at a time, with a single event at the
+     * end.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public TimeSeries timeSeriesAddWithoutNotify() {
+        TimeSeries series = new TimeSeries("S");
+        new TimeSeriesCollection(series);
+        for (int i = 0; i < this.itemCount; i++) {
+            series.add(this.periods[i], this.y[i], false);
+        }
+        series.fireSeriesChanged();
+        return series;
+    }
+
+    /**
+     * Adds all the items to a time series in one call.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public TimeSeries timeSeriesBulkAdd() {
+        TimeSeries series = new TimeSeries("S");
+        new TimeSeriesCollection(series);
+        series.add(this.periods, this.y);
+        return series;
+    }
+
+    /**
+     * Adds items to an XY series one at a time, with an event for each.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public XYSeries xySeriesAdd() {
+        XYSeries series = new XYSeries("S");
+        new XYSeriesCollection(series);
+        for (int i = 0; i < this.itemCount; i++) {
+            series.add(this.x[i], this.y[i]);
+        }
+        return series;
+    }
+
+    /**
+     * Adds all the items to an XY series in one call.
+     *
+     * @return The series.
+     */
+    @Benchmark
+    public XYSeries xySeriesBulkAdd() {
+        XYSeries series = new XYSeries("S");
+        new XYSeriesCollection(series);
+        series.add(this.x, this.y);
+        return series;
+    }
+
+    /**
+     * Appends one item to a full series that is displayed in a chart (the
+     * oldest item is dropped).
+     *
+     * @return The chart.
+     */
+    @Benchmark
+    public JFreeChart appendToLiveSeries() {
+        this.liveSeries.add(new FixedMillisecond(this.next), 1.0);
+        this.next += 1000L;
+        return this.liveChart;
+    }
+
+}
@@ -0,0 +1,166 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * PngExportBenchmark.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.chart.benchmark;
+
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartUtilities;
+import org.jfree.chart.JFreeChart;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures PNG export with {@link ChartUtilities}: drawing plus encoding,
+ * and encoding alone.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class PngExportBenchmark {
+
+    /** The number of items in each series. */
+    @Param({"1000", "100000"})
+    public int itemCount;
+
+    /** The image size. */
+    @Param({"800x600", "1920x1080"})
+    public String size;
+
+    /** The PNG compression level (0-9). */
+    @Param({"1", "9"})
+    public int compression;
+
+    /** The chart. */
+    private JFreeChart chart;
+
+    /** The image width. */
+    private int width;
+
+    /** The image height. */
+    private int height;
+
+    /** A pre-drawn image of the chart. */
+    private BufferedImage image;
+
+    /** A stream that counts and discards the bytes written. */
+    private CountingOutputStream out;
+
+    /**
+     * Creates the chart.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        this.chart = ChartFactory.createTimeSeriesChart("PNG Export", "Time",
+                "Value", BenchmarkData.createTimeSeriesCollection(3,
+                this.itemCount));
+        int[] wh = BenchmarkData.parseSize(this.size);
+        this.width = wh[0];
+        this.height = wh[1];
+        this.image = this.chart.createBufferedImage(this.width, this.height);
+        this.out = new CountingOutputStream();
+    }
+
+    /**
+     * Draws the chart and writes it in PNG format.
+     *
+     * @return The number of bytes written so far.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Benchmark
+    public long writeChartAsPNG() throws IOException {
+        ChartUtilities.writeChartAsPNG(this.out, this.chart, this.width,
+                this.height, false, this.compression);
+        return this.out.count;
+    }
+
+    /**
+     * Encodes a pre-drawn image of the chart in PNG format.
+     *
+     * @return The encoded bytes.
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    @Benchmark
+    public byte[] encodeAsPNG() throws IOException {
+        return ChartUtilities.encodeAsPNG(this.image, false,
+                this.compression);
+    }
+
+    /**
+     * An output stream that discards the bytes written to it.
+     */
+    static final class CountingOutputStream extends OutputStream {
+
+        /** The number of bytes written. */
+        long count;
+
+        @Override
+        public void write(int b) {
+            this.count++;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            this.count += len;
+        }
+
+    }
+
+}
@@ -0,0 +1,177 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * XYPlotRenderBenchmark.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.chart.benchmark;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.JFreeChart;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
+import org.jfree.chart.renderer.xy.XYStepRenderer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the time to draw an XY chart to an off-screen image, which covers
+ * the axis auto-ranging in {@link XYPlot} as well as the renderer.
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(value = 1, jvmArgsAppend = "-Djava.awt.headless=true")
+public class XYPlotRenderBenchmark {
+
+    /** The number of items in each series. */
+    @Param({"1000", "100000", "1000000"})
+    public int itemCount;
+
+    /** The number of series. */
+    @Param({"3"})
+    public int seriesCount;
+
+    /**
+     * The renderer: "lines", "shapes", "aggregated" (lines with pixel column
+     * aggregation) or "step".
+     */
+    @Param({"lines", "shapes", "aggregated", "step"})
+    public String renderer;
+
+    /** The image size. */
+    @Param({"800x600", "1920x1080"})
+    public String size;
+
+    /** Whether or not to collect chart entities while drawing. */
+    @Param({"false", "true"})
+    public boolean collectInfo;
+
+    /** The chart. */
+    private JFreeChart chart;
+
+    /** The image drawn to. */
+    private BufferedImage image;
+
+    /** The graphics target. */
+    private Graphics2D g2;
+
+    /** The drawing area. */
+    private Rectangle2D area;
+
+    /**
+     * Creates the chart and the image.
+     */
+    @Setup(Level.Trial)
+    public void setUp() {
+        XYPlot plot = new XYPlot(BenchmarkData.createXYSeriesCollection(
+                this.seriesCount, this.itemCount), new NumberAxis("X"),
+                new NumberAxis("Y"), createRenderer(this.renderer));
+        this.chart = new JFreeChart(plot);
+        int[] wh = BenchmarkData.parseSize(this.size);
+        this.image = new BufferedImage(wh[0], wh[1],
+                BufferedImage.TYPE_INT_ARGB);
+        this.g2 = this.image.createGraphics();
+        this.area = new Rectangle2D.Double(0, 0, wh[0], wh[1]);
+    }
+
+    /**
+     * Releases the graphics target.
+     */
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        this.g2.dispose();
+    }
+
+    /**
+     * Creates the renderer for the benchmark.
+     *
+     * @param name  the renderer name.
+     *
+     * @return The renderer.
+     */
+    static XYItemRenderer createRenderer(String name) {
+        if ("shapes".equals(name)) {
+            return new XYLineAndShapeRenderer(false, true);
+        }
+        else if ("aggregated".equals(name)) {
+            XYLineAndShapeRenderer r = new XYLineAndShapeRenderer(true,
+                    false);
+            r.setPixelColumnAggregation(true);
+            return r;
+        }
+        else if ("step".equals(name)) {
+            return new XYStepRenderer();
+        }
+        return new XYLineAndShapeRenderer(true, false);
+    }
+
+    /**
+     * Draws the chart.
+     *
+     * @return The rendering info (to prevent dead code elimination).
+     */
+    @Benchmark
+    public ChartRenderingInfo draw() {
+        ChartRenderingInfo info = this.collectInfo ? new ChartRenderingInfo()
+                : null;
+        this.chart.draw(this.g2, this.area, info);
+        return info;
+    }
+
+}
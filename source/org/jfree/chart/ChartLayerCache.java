@@ -0,0 +1,397 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * ChartLayerCache.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.Rectangle;
+import java.awt.geom.AffineTransform;
+import java.awt.geom.Point2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.plot.CombinedDomainXYPlot;
+import org.jfree.chart.plot.CombinedRangeXYPlot;
+import org.jfree.chart.plot.Plot;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.title.LegendTitle;
+import org.jfree.chart.title.Title;
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * Draws a chart in layers and keeps the static layer (the background,
+ * titles, legend, axes and gridlines) in an image, so that when only the
+ * data has changed just the data and overlay layers need to be drawn again
+ * (see {@link JFreeChart#KEY_CHART_LAYERS}).  The layers are composited onto
+ * the target graphics device.
+ * <P>
+ * The static layer is drawn again after a call to {@link #invalidate()},
+ * when the chart, its area or the transform of the target changes, or when
+ * the axis ranges or legend items differ from the last time it was drawn.
+ * This means an update that changes the axis ranges (auto-ranging, for
+ * example) still redraws the whole chart.  Layered drawing is only used for
+ * charts with an {@link XYPlot} that has no shadow generator, other charts
+ * are drawn directly.
+ * <P>
+ * Instances of this class must only be used by one thread at a time, except
+ * for {@link #invalidate()} which can be called from any thread.
+ *
+ * @since 1.0.20
+ */
+public class ChartLayerCache {
+
+    /** The image for the static layer. */
+    private BufferedImage chromeImage;
+
+    /** The image for the data and overlay layers. */
+    private BufferedImage dataImage;
+
+    /** The chart the static layer was drawn for. */
+    private JFreeChart chart;
+
+    /** The chart area the static layer was drawn for. */
+    private Rectangle2D area;
+
+    /** The transform the static layer was drawn with. */
+    private AffineTransform transform;
+
+    /** The axis ranges and legend labels when the static layer was drawn. */
+    private List<Object> signature;
+
+    /** The entities created when drawing the static layer. */
+    private List<ChartEntity> chromeEntities;
+
+    /** A flag that is cleared when the static layer must be redrawn. */
+    private final AtomicBoolean valid;
+
+    /** The number of times the static layer has been drawn. */
+    private long chromeDrawCount;
+
+    /** The number of times the data layer has been drawn. */
+    private long dataDrawCount;
+
+    /**
+     * Creates a new cache.
+     */
+    public ChartLayerCache() {
+        this.valid = new AtomicBoolean(false);
+    }
+
+    /**
+     * Returns <code>true</code> if the specified chart can be drawn in
+     * layers, and <code>false</code> otherwise.
+     *
+     * @param chart  the chart (<code>null</code> not permitted).
+     *
+     * @return A boolean.
+     */
+    public static boolean isLayeringSupported(JFreeChart chart) {
+        ParamChecks.nullNotPermitted(chart, "chart");
+        return isLayeringSupported(chart.getPlot());
+    }
+
+    /**
+     * Returns <code>true</code> if the plot draws only the layers requested
+     * by the {@link JFreeChart#KEY_CHART_LAYERS} hint.
+     *
+     * @param plot  the plot.
+     *
+     * @return A boolean.
+     */
+    private static boolean isLayeringSupported(Plot plot) {
+        if (!(plot instanceof XYPlot)) {
+            return false;
+        }
+        XYPlot xyplot = (XYPlot) plot;
+        if (xyplot.getShadowGenerator() != null) {
+            return false;
+        }
+        List subplots = getSubplots(xyplot);
+        for (int i = 0; i < subplots.size(); i++) {
+            if (!isLayeringSupported((Plot) subplots.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the subplots of a combined plot, or an empty list for other
+     * plots.
+     *
+     * @param plot  the plot.
+     *
+     * @return The subplots.
+     */
+    private static List getSubplots(XYPlot plot) {
+        if (plot instanceof CombinedDomainXYPlot) {
+            return ((CombinedDomainXYPlot) plot).getSubplots();
+        }
+        if (plot instanceof CombinedRangeXYPlot) {
+            return ((CombinedRangeXYPlot) plot).getSubplots();
+        }
+        return new ArrayList();
+    }
+
+    /**
+     * Marks the static layer as stale, so that it is redrawn the next time
+     * the chart is drawn.  This should be called for any change to the chart
+     * that is not just a change to the data.
+     */
+    public void invalidate() {
+        this.valid.set(false);
+    }
+
+    /**
+     * Returns the number of times the static layer has been drawn.
+     *
+     * @return The count.
+     */
+    public long getChromeDrawCount() {
+        return this.chromeDrawCount;
+    }
+
+    /**
+     * Returns the number of times the data layer has been drawn.
+     *
+     * @return The count.
+     */
+    public long getDataDrawCount() {
+        return this.dataDrawCount;
+    }
+
+    /**
+     * Releases the images held by the cache.
+     */
+    public void clear() {
+        this.chromeImage = null;
+        this.dataImage = null;
+        this.chart = null;
+        this.signature = null;
+        this.chromeEntities = null;
+        this.valid.set(false);
+    }
+
+    /**
+     * Draws a chart, reusing the static layer from the last call if it is
+     * still current.
+     *
+     * @param g2  the graphics device (<code>null</code> not permitted).
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param area  the area within which the chart should be drawn
+     *     (<code>null</code> not permitted).
+     * @param anchor  the anchor point (<code>null</code> permitted).
+     * @param info  records info about the drawing (<code>null</code>
+     *     permitted).
+     */
+    public void draw(Graphics2D g2, JFreeChart chart, Rectangle2D area,
+            Point2D anchor, ChartRenderingInfo info) {
+        ParamChecks.nullNotPermitted(g2, "g2");
+        ParamChecks.nullNotPermitted(chart, "chart");
+        ParamChecks.nullNotPermitted(area, "area");
+        AffineTransform t = g2.getTransform();
+        Rectangle bounds = t.createTransformedShape(area).getBounds();
+        if (!isLayeringSupported(chart) || bounds.isEmpty()) {
+            clear();
+            chart.draw(g2, area, anchor, info);
+            return;
+        }
+
+        List<Object> sig = createSignature(chart);
+        boolean invalidated = !this.valid.getAndSet(true);
+        if (invalidated || chart != this.chart || !area.equals(this.area)
+                || !t.equals(this.transform) || !sig.equals(this.signature)
+                || (info != null && this.chromeEntities == null)
+                || this.chromeImage == null
+                || this.chromeImage.getWidth() != bounds.width
+                || this.chromeImage.getHeight() != bounds.height) {
+            this.chromeImage = prepareImage(this.chromeImage, bounds);
+            drawLayers(g2, this.chromeImage, bounds, chart, area, anchor,
+                    info, JFreeChart.LAYER_CHROME);
+            this.chart = chart;
+            this.area = (Rectangle2D) area.clone();
+            this.transform = t;
+            this.signature = sig;
+            this.chromeEntities = null;
+            if (info != null) {
+                this.chromeEntities = new ArrayList<ChartEntity>(
+                        info.getEntityCollection().getEntities());
+            }
+            this.chromeDrawCount++;
+        }
+
+        this.dataImage = prepareImage(this.dataImage, bounds);
+        drawLayers(g2, this.dataImage, bounds, chart, area, anchor, info,
+                JFreeChart.LAYER_DATA | JFreeChart.LAYER_OVERLAY);
+        this.dataDrawCount++;
+        if (info != null) {
+            // the entities for the static layer go underneath the others
+            EntityCollection entities = info.getEntityCollection();
+            List<ChartEntity> dataEntities = new ArrayList<ChartEntity>(
+                    entities.getEntities());
+            entities.clear();
+            Iterator<ChartEntity> iterator = this.chromeEntities.iterator();
+            while (iterator.hasNext()) {
+                entities.add(iterator.next());
+            }
+            iterator = dataEntities.iterator();
+            while (iterator.hasNext()) {
+                entities.add(iterator.next());
+            }
+        }
+
+        AffineTransform saved = g2.getTransform();
+        g2.setTransform(new AffineTransform());
+        g2.drawImage(this.chromeImage, bounds.x, bounds.y, null);
+        g2.drawImage(this.dataImage, bounds.x, bounds.y, null);
+        g2.setTransform(saved);
+    }
+
+    /**
+     * Returns a cleared image with the size of the bounds, reusing the
+     * existing image if it is the right size.
+     *
+     * @param image  the existing image (<code>null</code> permitted).
+     * @param bounds  the bounds.
+     *
+     * @return The image.
+     */
+    private static BufferedImage prepareImage(BufferedImage image,
+            Rectangle bounds) {
+        if (image == null || image.getWidth() != bounds.width
+                || image.getHeight() != bounds.height) {
+            return new BufferedImage(bounds.width, bounds.height,
+                    BufferedImage.TYPE_INT_ARGB_PRE);
+        }
+        Graphics2D g2 = image.createGraphics();
+        g2.setComposite(AlphaComposite.Clear);
+        g2.fillRect(0, 0, bounds.width, bounds.height);
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Draws some of the layers of a chart into an image.
+     *
+     * @param target  the graphics device the image will be drawn on.
+     * @param image  the image.
+     * @param bounds  the bounds of the image on the device.
+     * @param chart  the chart.
+     * @param area  the chart area.
+     * @param anchor  the anchor point (<code>null</code> permitted).
+     * @param info  the rendering info (<code>null</code> permitted).
+     * @param layers  the layers to draw.
+     */
+    private static void drawLayers(Graphics2D target, BufferedImage image,
+            Rectangle bounds, JFreeChart chart, Rectangle2D area,
+            Point2D anchor, ChartRenderingInfo info, int layers) {
+        Graphics2D g2 = image.createGraphics();
+        try {
+            g2.setRenderingHints(target.getRenderingHints());
+            g2.setRenderingHint(JFreeChart.KEY_CHART_LAYERS,
+                    Integer.valueOf(layers));
+            g2.translate(-bounds.x, -bounds.y);
+            g2.transform(target.getTransform());
+            chart.draw(g2, area, anchor, info);
+        }
+        finally {
+            g2.dispose();
+        }
+    }
+
+    /**
+     * Returns the values that the static layer depends on apart from the
+     * chart's own settings, which are covered by {@link #invalidate()}: the
+     * axis ranges (which can change with the data when auto-ranging) and
+     * the legend item labels.
+     *
+     * @param chart  the chart.
+     *
+     * @return The values.
+     */
+    private static List<Object> createSignature(JFreeChart chart) {
+        List<Object> result = new ArrayList<Object>();
+        addAxisRanges((XYPlot) chart.getPlot(), result);
+        for (int i = 0; i < chart.getSubtitleCount(); i++) {
+            Title title = chart.getSubtitle(i);
+            if (title instanceof LegendTitle) {
+                LegendItemSource[] sources = ((LegendTitle) title)
+                        .getSources();
+                for (int j = 0; j < sources.length; j++) {
+                    LegendItemCollection items = sources[j].getLegendItems();
+                    for (int k = 0; k < items.getItemCount(); k++) {
+                        result.add(items.get(k).getLabel());
+                    }
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Adds the ranges of the axes of a plot (and its subplots) to a list.
+     *
+     * @param plot  the plot.
+     * @param result  the list.
+     */
+    private static void addAxisRanges(XYPlot plot, List<Object> result) {
+        for (int i = 0; i < plot.getDomainAxisCount(); i++) {
+            ValueAxis axis = plot.getDomainAxis(i);
+            result.add(axis != null ? axis.getRange() : null);
+        }
+        for (int i = 0; i < plot.getRangeAxisCount(); i++) {
+            ValueAxis axis = plot.getRangeAxis(i);
+            result.add(axis != null ? axis.getRange() : null);
+        }
+        List subplots = getSubplots(plot);
+        for (int i = 0; i < subplots.size(); i++) {
+            addAxisRanges((XYPlot) subplots.get(i), result);
+        }
+    }
+
+}
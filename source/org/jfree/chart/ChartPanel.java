@@ -170,6 +170,13 @@
  * 02-Jul-2013 : Use ParamChecks class (DG);
  * 12-Sep-2013 : Provide auto-detection for JFreeSVG and OrsonPDF 
  *               libraries (no compile time dependencies) (DG);
+ * 17-Oct-2026 : Added maximum frame rate and background rendering;
+ * 17-Oct-2026 : Cancel superseded background frames and scale stale frames;
+ * 17-Oct-2026 : Added optional caching of the static chart layer;
+ * 17-Oct-2026 : Cancel background frames through ChartRenderingInfo rather
+ *               than by interrupting the worker;
+ * 17-Oct-2026 : Only listen for chart progress events when requested;
+ * 17-Oct-2026 : Register for chart progress events by default;
  * 
  */
 
@@ -202,6 +209,7 @@ import java.awt.geom.AffineTransform;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.awt.print.PageFormat;
 import java.awt.print.Printable;
 import java.awt.print.PrinterException;
@@ -220,6 +228,11 @@ import java.util.EventListener;
 import java.util.Iterator;
 import java.util.List;
 import java.util.ResourceBundle;
+import java.util.concurrent.ScheduledExecutorService;
+import java.util.concurrent.ScheduledThreadPoolExecutor;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
 
 import javax.swing.JFileChooser;
 import javax.swing.JMenu;
@@ -237,6 +250,7 @@ import org.jfree.chart.editor.ChartEditorManager;
 import org.jfree.chart.entity.ChartEntity;
 import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.ChartChangeEvent;
+import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.ChartChangeListener;
 import org.jfree.chart.event.ChartProgressEvent;
 import org.jfree.chart.event.ChartProgressListener;
@@ -556,6 +570,51 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      * @since 1.0.13
      */
     private List overlays;
+
+    /**
+     * The maximum number of times per second that the chart is redrawn
+     * after changes (zero for no limit).
+     */
+    private double maximumFrameRate;
+
+    /** A flag that controls whether the chart is drawn in the background. */
+    private boolean backgroundRendering;
+
+    /**
+     * A flag that controls whether the panel is registered as a progress
+     * listener with the chart.
+     */
+    private boolean chartProgressEnabled = true;
+
+    /**
+     * A flag that controls whether the last frame is stretched to fill the
+     * panel while a frame for a new panel size is drawn.
+     */
+    private boolean staleFrameScaled = true;
+
+    /**
+     * A flag that controls whether the static layer of the chart is cached
+     * separately from the data.
+     */
+    private boolean layerCaching;
+
+    /** The cache for the chart layers (<code>null</code> if not used). */
+    private transient volatile ChartLayerCache layerCache;
+
+    /** Schedules the redrawing of the chart after changes. */
+    private transient FrameScheduler frameScheduler = new FrameScheduler();
+
+    /** The size and scaling for the next frame drawn in the background. */
+    private transient volatile FrameSpec frameSpec;
+
+    /** The last frame drawn in the background (accessed on the EDT only). */
+    private transient Frame frame;
+
+    /**
+     * The threads that draw charts in the background (created when first
+     * needed).
+     */
+    private static ScheduledThreadPoolExecutor renderExecutor;
     
     /**
      * Constructs a panel that displays the specified chart.
@@ -794,7 +853,9 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         this.chart = chart;
         if (chart != null) {
             this.chart.addChangeListener(this);
-            this.chart.addProgressListener(this);
+            if (this.chartProgressEnabled) {
+                this.chart.addProgressListener(this);
+            }
             Plot plot = chart.getPlot();
             this.domainZoomable = false;
             this.rangeZoomable = false;
@@ -809,7 +870,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
             this.domainZoomable = false;
             this.rangeZoomable = false;
         }
-        if (this.useBuffer) {
+        if (isBuffered()) {
             this.refreshBuffer = true;
         }
         repaint();
@@ -1526,6 +1587,233 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         this.refreshBuffer = flag;
     }
 
+    /**
+     * Returns the maximum number of times per second that the chart is
+     * redrawn after changes.
+     *
+     * @return The maximum frame rate (zero for no limit).
+     *
+     * @see #setMaximumFrameRate(double)
+     *
+     * @since 1.0.20
+     */
+    public double getMaximumFrameRate() {
+        return this.maximumFrameRate;
+    }
+
+    /**
+     * Sets the maximum number of times per second that the chart is redrawn
+     * after changes.  When this is greater than zero, chart change events
+     * that arrive faster than this rate are combined into a single redraw,
+     * so that a dataset that is updated very frequently does not keep the
+     * event dispatch thread busy.  The default is zero (each change causes
+     * a repaint).
+     *
+     * @param framesPerSecond  the maximum frame rate (zero for no limit).
+     *
+     * @see #setBackgroundRendering(boolean)
+     *
+     * @since 1.0.20
+     */
+    public void setMaximumFrameRate(double framesPerSecond) {
+        if (framesPerSecond < 0.0 || Double.isNaN(framesPerSecond)) {
+            throw new IllegalArgumentException(
+                    "Requires 'framesPerSecond' >= 0.");
+        }
+        this.maximumFrameRate = framesPerSecond;
+    }
+
+    /**
+     * Returns the flag that controls whether the panel receives the progress
+     * events of its chart.
+     *
+     * @return A boolean.
+     *
+     * @see #setChartProgressEnabled(boolean)
+     *
+     * @since 1.0.20
+     */
+    public boolean isChartProgressEnabled() {
+        return this.chartProgressEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether the panel registers itself as a
+     * progress listener with its chart, so that
+     * {@link #chartProgress(ChartProgressEvent)} is called (with the
+     * rendering statistics in the <code>DRAWING_FINISHED</code> event).
+     * The default is <code>true</code>.  Since the chart records statistics
+     * whenever it has a progress listener, a panel that does not use
+     * {@link #chartProgress(ChartProgressEvent)} can clear this flag to
+     * avoid that work.
+     *
+     * @param flag  the new flag value.
+     *
+     * @since 1.0.20
+     */
+    public void setChartProgressEnabled(boolean flag) {
+        if (this.chartProgressEnabled == flag) {
+            return;
+        }
+        this.chartProgressEnabled = flag;
+        if (this.chart != null) {
+            if (flag) {
+                this.chart.addProgressListener(this);
+            }
+            else {
+                this.chart.removeProgressListener(this);
+            }
+        }
+    }
+
+    /**
+     * Returns the flag that controls whether the chart is drawn in a
+     * background thread.
+     *
+     * @return A boolean.
+     *
+     * @see #setBackgroundRendering(boolean)
+     *
+     * @since 1.0.20
+     */
+    public boolean isBackgroundRendering() {
+        return this.backgroundRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether the chart is drawn in a background
+     * thread.  When this is <code>true</code>, the chart is drawn to an
+     * off-screen image by a worker thread and the event dispatch thread only
+     * paints the last completed image, so the user interface stays
+     * responsive while large charts are drawn.  The chart (and its datasets)
+     * will then be read by the worker thread, so changes to it must either
+     * be made on a single thread or be safe for concurrent reading.  The
+     * default is <code>false</code>.
+     *
+     * @param flag  the new flag value.
+     *
+     * @see #setMaximumFrameRate(double)
+     *
+     * @since 1.0.20
+     */
+    public void setBackgroundRendering(boolean flag) {
+        this.backgroundRendering = flag;
+        this.frame = null;
+        this.frameSpec = null;
+        this.refreshBuffer = true;
+        repaint();
+    }
+
+    /**
+     * Returns the flag that controls whether, with background rendering, the
+     * last frame is stretched to fill the panel while a frame for a new
+     * panel size is being drawn.
+     *
+     * @return A boolean.
+     *
+     * @see #setStaleFrameScaled(boolean)
+     *
+     * @since 1.0.20
+     */
+    public boolean isStaleFrameScaled() {
+        return this.staleFrameScaled;
+    }
+
+    /**
+     * Sets the flag that controls whether, with background rendering, the
+     * last frame is stretched to fill the panel while a frame for a new
+     * panel size is being drawn.  If <code>false</code>, the last frame is
+     * shown at its original size.  The default is <code>true</code>.
+     *
+     * @param flag  the new flag value.
+     *
+     * @see #isStaleFrameScaled()
+     *
+     * @since 1.0.20
+     */
+    public void setStaleFrameScaled(boolean flag) {
+        this.staleFrameScaled = flag;
+        repaint();
+    }
+
+    /**
+     * Returns the flag that controls whether the static layer of the chart
+     * (the background, titles, legend, axes and gridlines) is cached
+     * separately from the data.
+     *
+     * @return A boolean.
+     *
+     * @see #setLayerCaching(boolean)
+     *
+     * @since 1.0.20
+     */
+    public boolean isLayerCaching() {
+        return this.layerCaching;
+    }
+
+    /**
+     * Sets the flag that controls whether the static layer of the chart is
+     * cached separately from the data.  When it is, a change to the data
+     * that leaves the axis ranges and legend unchanged only redraws the data
+     * and the items over it, which helps charts that are updated frequently
+     * at a fixed range.  The default is <code>false</code>.  Only some charts
+     * can be drawn in layers (see {@link ChartLayerCache}).
+     *
+     * @param flag  the new flag value.
+     *
+     * @see #isLayerCaching()
+     *
+     * @since 1.0.20
+     */
+    public void setLayerCaching(boolean flag) {
+        this.layerCaching = flag;
+        this.layerCache = flag ? new ChartLayerCache() : null;
+        this.refreshBuffer = true;
+        repaint();
+    }
+
+    /**
+     * Draws the chart, using the layer cache if there is one.
+     *
+     * @param g2  the graphics device.
+     * @param c  the chart.
+     * @param area  the chart area.
+     * @param a  the anchor point (<code>null</code> permitted).
+     * @param i  the rendering info (<code>null</code> permitted).
+     */
+    private void drawChart(Graphics2D g2, JFreeChart c, Rectangle2D area,
+            Point2D a, ChartRenderingInfo i) {
+        ChartLayerCache cache = this.layerCache;
+        if (cache != null) {
+            cache.draw(g2, c, area, a, i);
+        }
+        else {
+            c.draw(g2, area, a, i);
+        }
+    }
+
+    /**
+     * Abandons the frame that is being drawn in the background (if any),
+     * because a zoom or pan is about to make it out of date.  A new frame
+     * is drawn for the new axis ranges.
+     */
+    void cancelFrame() {
+        if (this.backgroundRendering) {
+            this.frameScheduler.cancel();
+        }
+    }
+
+    /**
+     * Returns <code>true</code> if the chart is painted from an off-screen
+     * image (so the zoom rectangle can be erased with a repaint rather than
+     * with XOR drawing).
+     *
+     * @return A boolean.
+     */
+    private boolean isBuffered() {
+        return this.useBuffer || this.backgroundRendering;
+    }
+
     /**
      * Paints the component by drawing the chart to fill the entire component,
      * but allowing for the insets (which will be non-zero if a border has been
@@ -1581,8 +1869,39 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         Rectangle2D chartArea = new Rectangle2D.Double(0.0, 0.0, drawWidth,
                 drawHeight);
 
+        // are we drawing the chart in the background?
+        if (this.backgroundRendering) {
+            FrameSpec spec = new FrameSpec((int) available.getWidth(),
+                    (int) available.getHeight(), drawWidth, drawHeight,
+                    this.scaleX, this.scaleY, scale,
+                    g2.getDeviceConfiguration());
+            if (this.refreshBuffer || !spec.equals(this.frameSpec)) {
+                if (this.frameSpec != null && !spec.equals(this.frameSpec)) {
+                    // a frame for the old size is no longer needed
+                    this.frameScheduler.cancel();
+                }
+                this.refreshBuffer = false;
+                this.frameSpec = spec;
+                this.frameScheduler.request();
+            }
+            // show the last completed frame (if any) until the next is ready
+            Frame f = this.frame;
+            if (f != null) {
+                this.scaleX = f.spec.scaleX;
+                this.scaleY = f.spec.scaleY;
+                if (this.staleFrameScaled && (f.spec.width != spec.width
+                        || f.spec.height != spec.height)) {
+                    g2.drawImage(f.image, insets.left, insets.top,
+                            spec.width, spec.height, this);
+                }
+                else {
+                    g2.drawImage(f.image, insets.left, insets.top, this);
+                }
+            }
+        }
+
         // are we using the chart buffer?
-        if (this.useBuffer) {
+        else if (this.useBuffer) {
 
             // do we need to resize the buffer?
             if ((this.chartBuffer == null)
@@ -1621,11 +1940,11 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
                     AffineTransform st = AffineTransform.getScaleInstance(
                             this.scaleX, this.scaleY);
                     bufferG2.transform(st);
-                    this.chart.draw(bufferG2, chartArea, this.anchor,
+                    drawChart(bufferG2, this.chart, chartArea, this.anchor,
                             this.info);
                     bufferG2.setTransform(saved);
                 } else {
-                    this.chart.draw(bufferG2, bufferArea, this.anchor,
+                    drawChart(bufferG2, this.chart, bufferArea, this.anchor,
                             this.info);
                 }
 
@@ -1642,7 +1961,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
                         this.scaleX, this.scaleY);
                 g2.transform(st);
             }
-            this.chart.draw(g2, chartArea, this.anchor, this.info);
+            drawChart(g2, this.chart, chartArea, this.anchor, this.info);
             g2.setTransform(saved);
 
         }
@@ -1656,11 +1975,15 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         // redraw the zoom rectangle (if present) - if useBuffer is false,
         // we use XOR so we can XOR the rectangle away again without redrawing
         // the chart
-        drawZoomRectangle(g2, !this.useBuffer);
+        drawZoomRectangle(g2, !isBuffered());
 
         g2.dispose();
 
-        this.anchor = null;
+        // with background rendering, the anchor is cleared when the frame
+        // that used it is installed
+        if (!this.backgroundRendering) {
+            this.anchor = null;
+        }
         this.verticalTraceLine = null;
         this.horizontalTraceLine = null;
     }
@@ -1672,17 +1995,125 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      */
     @Override
     public void chartChanged(ChartChangeEvent event) {
-        this.refreshBuffer = true;
+        if (!this.backgroundRendering) {
+            this.refreshBuffer = true;
+        }
+        ChartLayerCache cache = this.layerCache;
+        if (cache != null
+                && event.getType() != ChartChangeEventType.DATASET_UPDATED) {
+            cache.invalidate();
+        }
         Plot plot = this.chart.getPlot();
         if (plot instanceof Zoomable) {
             Zoomable z = (Zoomable) plot;
             this.orientation = z.getOrientation();
         }
+        if (this.backgroundRendering || this.maximumFrameRate > 0.0) {
+            this.frameScheduler.request();
+        }
+        else {
+            repaint();
+        }
+    }
+
+    /**
+     * Draws a frame for the current chart, using the size and scaling from
+     * the last time the panel was painted.  This method is called by a
+     * worker thread when background rendering is enabled.
+     *
+     * @param image  an image that can be reused if it is the right size
+     *     (<code>null</code> permitted).
+     * @param frameInfo  the rendering info for the frame, which can be used
+     *     to cancel the drawing (<code>null</code> not permitted).
+     *
+     * @return The frame, or <code>null</code> if there is nothing to draw.
+     */
+    private Frame drawFrame(BufferedImage image,
+            ChartRenderingInfo frameInfo) {
+        FrameSpec spec = this.frameSpec;
+        JFreeChart c = this.chart;
+        if (spec == null || c == null) {
+            return null;
+        }
+        if (image == null || image.getWidth() != spec.width
+                || image.getHeight() != spec.height) {
+            image = spec.createImage();
+        }
+        Point2D a = this.anchor;
+        Graphics2D g2 = image.createGraphics();
+        try {
+            g2.setComposite(AlphaComposite.Clear);
+            g2.fillRect(0, 0, spec.width, spec.height);
+            g2.setComposite(AlphaComposite.SrcOver);
+            Rectangle2D area;
+            if (spec.scale) {
+                g2.scale(spec.scaleX, spec.scaleY);
+                area = new Rectangle2D.Double(0, 0, spec.drawWidth,
+                        spec.drawHeight);
+            }
+            else {
+                area = new Rectangle2D.Double(0, 0, spec.width, spec.height);
+            }
+            drawChart(g2, c, area, a, frameInfo);
+        }
+        finally {
+            g2.dispose();
+        }
+        return new Frame(spec, image, frameInfo, a);
+    }
+
+    /**
+     * Makes a frame drawn in the background the one that is displayed.
+     * This method is called on the event dispatch thread.
+     *
+     * @param f  the frame.
+     */
+    private void installFrame(Frame f) {
+        if (!this.backgroundRendering) {
+            return;
+        }
+        Frame old = this.frame;
+        this.frame = f;
+        this.info = f.info;
+        this.scaleX = f.spec.scaleX;
+        this.scaleY = f.spec.scaleY;
+        if (this.anchor == f.anchor) {
+            this.anchor = null;
+        }
+        if (old != null) {
+            this.frameScheduler.recycle(old.image);
+        }
         repaint();
     }
 
     /**
-     * Receives notification of a chart progress event.
+     * Returns the executor for the threads that draw charts in the
+     * background.
+     *
+     * @return The executor.
+     */
+    private static synchronized ScheduledExecutorService getRenderExecutor() {
+        if (renderExecutor == null) {
+            renderExecutor = new ScheduledThreadPoolExecutor(
+                    Runtime.getRuntime().availableProcessors(),
+                    new ThreadFactory() {
+                @Override
+                public Thread newThread(Runnable r) {
+                    Thread thread = new Thread(r, "ChartPanel-renderer");
+                    thread.setDaemon(true);
+                    return thread;
+                }
+            });
+            renderExecutor.setKeepAliveTime(10L, TimeUnit.SECONDS);
+            renderExecutor.allowCoreThreadTimeOut(true);
+        }
+        return renderExecutor;
+    }
+
+    /**
+     * Receives notification of a chart progress event.  The panel does not
+     * receive these events if the <code>chartProgressEnabled</code> flag
+     * is cleared (see {@link #setChartProgressEnabled(boolean)}).
      *
      * @param event  the event.
      */
@@ -1904,6 +2335,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
             }
             double wPercent = -dx / this.panW;
             double hPercent = dy / this.panH;
+            cancelFrame();
             boolean old = this.chart.getPlot().isNotify();
             this.chart.getPlot().setNotify(false);
             Pannable p = (Pannable) this.chart.getPlot();
@@ -1934,7 +2366,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         // this is we are using XOR mode, which we do when we're not using
         // the buffer (if there is a buffer, then at the end of this method we
         // just trigger a repaint)
-        if (!this.useBuffer) {
+        if (!isBuffered()) {
             drawZoomRectangle(g2, true);
         }
 
@@ -1971,7 +2403,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
         }
 
         // Draw the new zoom rectangle...
-        if (this.useBuffer) {
+        if (isBuffered()) {
             repaint();
         }
         else {
@@ -2061,7 +2493,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
             else {
                 // erase the zoom rectangle
                 Graphics2D g2 = (Graphics2D) getGraphics();
-                if (this.useBuffer) {
+                if (isBuffered()) {
                     repaint();
                 }
                 else {
@@ -2173,6 +2605,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      * @param y  the y value (in screen coordinates).
      */
     public void zoomInBoth(double x, double y) {
+        cancelFrame();
         Plot plot = this.chart.getPlot();
         if (plot == null) {
             return;
@@ -2196,6 +2629,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      * @param y  the y-coordinate (in screen coordinates).
      */
     public void zoomInDomain(double x, double y) {
+        cancelFrame();
         Plot plot = this.chart.getPlot();
         if (plot instanceof Zoomable) {
             // here we tweak the notify flag on the plot so that only
@@ -2220,6 +2654,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      * @param y  the y coordinate (in screen coordinates).
      */
     public void zoomInRange(double x, double y) {
+        cancelFrame();
         Plot plot = this.chart.getPlot();
         if (plot instanceof Zoomable) {
             // here we tweak the notify flag on the plot so that only
@@ -2242,6 +2677,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      * @param y  the y value (in screen coordinates).
      */
     public void zoomOutBoth(double x, double y) {
+        cancelFrame();
         Plot plot = this.chart.getPlot();
         if (plot == null) {
             return;
@@ -2265,6 +2701,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      * @param y  the y-coordinate (in screen coordinates).
      */
     public void zoomOutDomain(double x, double y) {
+        cancelFrame();
         Plot plot = this.chart.getPlot();
         if (plot instanceof Zoomable) {
             // here we tweak the notify flag on the plot so that only
@@ -2289,6 +2726,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      * @param y  the y-coordinate (in screen coordinates).
      */
     public void zoomOutRange(double x, double y) {
+        cancelFrame();
         Plot plot = this.chart.getPlot();
         if (plot instanceof Zoomable) {
             // here we tweak the notify flag on the plot so that only
@@ -2310,6 +2748,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      * @param selection  the selected region.
      */
     public void zoom(Rectangle2D selection) {
+        cancelFrame();
 
         // get the origin of the zoom selection in the Java2D space used for
         // drawing the chart (that is, before any scaling to fit the panel)
@@ -2357,6 +2796,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      * Restores the auto-range calculation on both axes.
      */
     public void restoreAutoBounds() {
+        cancelFrame();
         Plot plot = this.chart.getPlot();
         if (plot == null) {
             return;
@@ -2375,6 +2815,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      * Restores the auto-range calculation on the domain axis.
      */
     public void restoreAutoDomainBounds() {
+        cancelFrame();
         Plot plot = this.chart.getPlot();
         if (plot instanceof Zoomable) {
             Zoomable z = (Zoomable) plot;
@@ -2395,6 +2836,7 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
      * Restores the auto-range calculation on the range axis.
      */
     public void restoreAutoRangeBounds() {
+        cancelFrame();
         Plot plot = this.chart.getPlot();
         if (plot instanceof Zoomable) {
             Zoomable z = (Zoomable) plot;
@@ -3328,6 +3770,10 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
 
         // we create a new but empty chartMouseListeners list
         this.chartMouseListeners = new EventListenerList();
+        this.frameScheduler = new FrameScheduler();
+        if (this.layerCaching) {
+            this.layerCache = new ChartLayerCache();
+        }
 
         // register as a listener with sub-components...
         if (this.chart != null) {
@@ -3336,4 +3782,280 @@ public class ChartPanel extends JPanel implements ChartChangeListener,
 
     }
 
+    /**
+     * Combines the requests to redraw the chart that arrive while a redraw
+     * is waiting or in progress, and spaces the redraws according to the
+     * maximum frame rate.  Depending on the panel settings, a redraw either
+     * draws a frame in the background or just calls <code>repaint()</code>.
+     */
+    private class FrameScheduler implements Runnable {
+
+        /** Is a redraw scheduled or in progress?  (guarded by this) */
+        private boolean pending;
+
+        /** Did a request arrive during a redraw?  (guarded by this) */
+        private boolean again;
+
+        /** The time the last redraw started (guarded by this). */
+        private long lastStart;
+
+        /** Is a redraw running?  (guarded by this) */
+        private boolean running;
+
+        /** The info for the frame being drawn (guarded by this). */
+        private ChartRenderingInfo drawing;
+
+        /** An image that can be reused for the next frame. */
+        private final AtomicReference<BufferedImage> spare
+                = new AtomicReference<BufferedImage>();
+
+        /**
+         * Requests a redraw.  This method can be called on any thread.
+         */
+        synchronized void request() {
+            if (this.pending) {
+                this.again = true;
+                return;
+            }
+            this.pending = true;
+            schedule();
+        }
+
+        /**
+         * Cancels the frame that is being drawn (if any) and schedules
+         * another.  A redraw that has not started yet is left alone.
+         */
+        synchronized void cancel() {
+            if (this.running) {
+                this.again = true;
+                if (this.drawing != null) {
+                    this.drawing.cancel();
+                }
+            }
+        }
+
+        /**
+         * Stores an image that is no longer displayed for reuse.
+         *
+         * @param image  the image.
+         */
+        void recycle(BufferedImage image) {
+            this.spare.set(image);
+        }
+
+        /**
+         * Schedules a redraw, respecting the maximum frame rate.  The caller
+         * must hold the lock on this object.
+         */
+        private void schedule() {
+            long delay = 0L;
+            double rate = ChartPanel.this.maximumFrameRate;
+            if (rate > 0.0) {
+                long interval = (long) (1e9 / rate);
+                delay = Math.max(0L, this.lastStart + interval
+                        - System.nanoTime());
+            }
+            getRenderExecutor().schedule(this, delay, TimeUnit.NANOSECONDS);
+        }
+
+        /**
+         * Performs a redraw.
+         */
+        @Override
+        public void run() {
+            ChartRenderingInfo frameInfo = new ChartRenderingInfo();
+            synchronized (this) {
+                this.again = false;
+                this.running = true;
+                this.lastStart = System.nanoTime();
+                this.drawing = frameInfo;
+            }
+            try {
+                if (ChartPanel.this.backgroundRendering) {
+                    Frame drawn = drawFrame(this.spare.getAndSet(null),
+                            frameInfo);
+                    if (frameInfo.isCancelled()) {
+                        // cancelled, so the frame may be incomplete
+                        if (drawn != null) {
+                            recycle(drawn.image);
+                        }
+                        return;
+                    }
+                    final Frame f = drawn;
+                    if (f != null) {
+                        SwingUtilities.invokeLater(new Runnable() {
+                            @Override
+                            public void run() {
+                                installFrame(f);
+                            }
+                        });
+                    }
+                    else {
+                        repaint();
+                    }
+                }
+                else {
+                    repaint();
+                }
+            }
+            catch (RuntimeException e) {
+                Thread t = Thread.currentThread();
+                t.getUncaughtExceptionHandler().uncaughtException(t, e);
+            }
+            finally {
+                synchronized (this) {
+                    this.running = false;
+                    this.drawing = null;
+                    if (this.again) {
+                        schedule();
+                    }
+                    else {
+                        this.pending = false;
+                    }
+                }
+            }
+        }
+
+    }
+
+    /**
+     * The size and scaling of a frame drawn in the background.
+     */
+    private static final class FrameSpec {
+
+        /** The image width. */
+        private final int width;
+
+        /** The image height. */
+        private final int height;
+
+        /** The width of the chart before scaling. */
+        private final double drawWidth;
+
+        /** The height of the chart before scaling. */
+        private final double drawHeight;
+
+        /** The horizontal scale factor. */
+        private final double scaleX;
+
+        /** The vertical scale factor. */
+        private final double scaleY;
+
+        /** Is the chart scaled? */
+        private final boolean scale;
+
+        /** The graphics configuration (<code>null</code> permitted). */
+        private final GraphicsConfiguration gc;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param width  the image width.
+         * @param height  the image height.
+         * @param drawWidth  the width of the chart before scaling.
+         * @param drawHeight  the height of the chart before scaling.
+         * @param scaleX  the horizontal scale factor.
+         * @param scaleY  the vertical scale factor.
+         * @param scale  is the chart scaled?
+         * @param gc  the graphics configuration (<code>null</code>
+         *     permitted).
+         */
+        FrameSpec(int width, int height, double drawWidth,
+                double drawHeight, double scaleX, double scaleY,
+                boolean scale, GraphicsConfiguration gc) {
+            this.width = Math.max(1, width);
+            this.height = Math.max(1, height);
+            this.drawWidth = drawWidth;
+            this.drawHeight = drawHeight;
+            this.scaleX = scaleX;
+            this.scaleY = scaleY;
+            this.scale = scale;
+            this.gc = gc;
+        }
+
+        /**
+         * Creates an image for a frame with this size.
+         *
+         * @return The image.
+         */
+        BufferedImage createImage() {
+            if (this.gc != null) {
+                return this.gc.createCompatibleImage(this.width, this.height,
+                        Transparency.TRANSLUCENT);
+            }
+            return new BufferedImage(this.width, this.height,
+                    BufferedImage.TYPE_INT_ARGB);
+        }
+
+        /**
+         * Tests this instance for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof FrameSpec)) {
+                return false;
+            }
+            FrameSpec that = (FrameSpec) obj;
+            return this.width == that.width && this.height == that.height
+                    && this.drawWidth == that.drawWidth
+                    && this.drawHeight == that.drawHeight
+                    && this.scaleX == that.scaleX
+                    && this.scaleY == that.scaleY
+                    && this.scale == that.scale && this.gc == that.gc;
+        }
+
+        /**
+         * Returns a hash code for this instance.
+         *
+         * @return A hash code.
+         */
+        @Override
+        public int hashCode() {
+            return 31 * this.width + this.height;
+        }
+
+    }
+
+    /**
+     * A frame drawn in the background.
+     */
+    private static final class Frame {
+
+        /** The size and scaling. */
+        private final FrameSpec spec;
+
+        /** The image. */
+        private final BufferedImage image;
+
+        /** The rendering info collected while drawing the frame. */
+        private final ChartRenderingInfo info;
+
+        /** The anchor used to draw the frame (possibly <code>null</code>). */
+        private final Point2D anchor;
+
+        /**
+         * Creates a new frame.
+         *
+         * @param spec  the size and scaling.
+         * @param image  the image.
+         * @param info  the rendering info.
+         * @param anchor  the anchor (<code>null</code> permitted).
+         */
+        Frame(FrameSpec spec, BufferedImage image, ChartRenderingInfo info,
+                Point2D anchor) {
+            this.spec = spec;
+            this.image = image;
+            this.info = info;
+            this.anchor = anchor;
+        }
+
+    }
+
 }
@@ -0,0 +1,631 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------
+ * ChartRenderCache.java
+ * ---------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jfree.chart.encoders.ImageEncoder;
+import org.jfree.chart.encoders.ImageEncoderFactory;
+import org.jfree.chart.encoders.ImageFormat;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.CombinedDomainCategoryPlot;
+import org.jfree.chart.plot.CombinedDomainXYPlot;
+import org.jfree.chart.plot.CombinedRangeCategoryPlot;
+import org.jfree.chart.plot.CombinedRangeXYPlot;
+import org.jfree.chart.plot.MultiplePiePlot;
+import org.jfree.chart.plot.PiePlot;
+import org.jfree.chart.plot.Plot;
+import org.jfree.chart.plot.PolarPlot;
+import org.jfree.chart.plot.SpiderWebPlot;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.general.Dataset;
+import org.jfree.data.general.ModificationStamped;
+
+/**
+ * A cache of encoded chart images.  Each image is stored under a key made
+ * from the chart, its {@link JFreeChart#getModificationCount() modification
+ * count}, the {@link ModificationStamped modification stamps} of the plot's
+ * datasets, the image size and format, so a chart that is requested again
+ * without having changed is returned from the cache instead of being drawn
+ * and encoded again.  Any change to the chart that sends a change event
+ * increases the modification count, and the stamps also reveal changes to
+ * the datasets made while their change events were suppressed.  A change
+ * that is neither reported by an event nor by a stamp (for example to a
+ * dataset that does not implement {@link ModificationStamped}, with events
+ * suppressed) is not detected, and the chart should then be removed from the
+ * cache with {@link #remove(JFreeChart)}.
+ * <P>
+ * The total size of the encoded images is limited, and the least recently
+ * used images are evicted first.  The cache holds references to the charts
+ * until their images are evicted.  Instances of this class are thread-safe,
+ * but as usual a chart must not be changed while it is being drawn.
+ *
+ * @since 1.0.20
+ */
+public class ChartRenderCache {
+
+    /** The maximum total size of the images (in bytes). */
+    private long maxBytes;
+
+    /** The renderer used to draw charts (<code>null</code> permitted). */
+    private volatile PooledChartRenderer renderer;
+
+    /** The images, in least recently used order. */
+    private LinkedHashMap<Key, RenderedChart> entries;
+
+    /** The total size of the images. */
+    private long size;
+
+    /** The number of requests answered from the cache. */
+    private long hitCount;
+
+    /** The number of requests that needed the chart to be drawn. */
+    private long missCount;
+
+    /** The number of images evicted to make room for others. */
+    private long evictionCount;
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxBytes  the maximum total size of the encoded images.
+     */
+    public ChartRenderCache(long maxBytes) {
+        if (maxBytes <= 0L) {
+            throw new IllegalArgumentException("Requires 'maxBytes' > 0.");
+        }
+        this.maxBytes = maxBytes;
+        this.entries = new LinkedHashMap<Key, RenderedChart>(16, 0.75f,
+                true);
+    }
+
+    /**
+     * Returns the maximum total size of the encoded images.
+     *
+     * @return The maximum size (in bytes).
+     */
+    public long getMaxBytes() {
+        return this.maxBytes;
+    }
+
+    /**
+     * Returns the renderer used to draw the charts.
+     *
+     * @return The renderer (possibly <code>null</code>).
+     */
+    public PooledChartRenderer getRenderer() {
+        return this.renderer;
+    }
+
+    /**
+     * Sets the renderer used to draw the charts.  If this is
+     * <code>null</code> (the default), each chart is drawn to a new image.
+     *
+     * @param renderer  the renderer (<code>null</code> permitted).
+     */
+    public void setRenderer(PooledChartRenderer renderer) {
+        this.renderer = renderer;
+    }
+
+    /**
+     * Returns a PNG image of a chart, from the cache if possible.
+     *
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param withInfo  collect a {@link ChartRenderingInfo} (for image maps)?
+     *
+     * @return The image.
+     *
+     * @throws IOException if there is a problem encoding the image.
+     */
+    public RenderedChart renderAsPNG(JFreeChart chart, int width, int height,
+            boolean withInfo) throws IOException {
+        return render(chart, width, height, ImageFormat.PNG, withInfo);
+    }
+
+    /**
+     * Returns a JPEG image of a chart, from the cache if possible.
+     *
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param withInfo  collect a {@link ChartRenderingInfo} (for image maps)?
+     *
+     * @return The image.
+     *
+     * @throws IOException if there is a problem encoding the image.
+     */
+    public RenderedChart renderAsJPEG(JFreeChart chart, int width, int height,
+            boolean withInfo) throws IOException {
+        return render(chart, width, height, ImageFormat.JPEG, withInfo);
+    }
+
+    /**
+     * Returns an image of a chart, from the cache if possible.  An image
+     * without rendering info may be answered by a cached image with
+     * rendering info.
+     *
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param format  the image format (see {@link ImageFormat}).
+     * @param withInfo  collect a {@link ChartRenderingInfo} (for image maps)?
+     *
+     * @return The image.
+     *
+     * @throws IOException if there is a problem encoding the image.
+     */
+    public RenderedChart render(JFreeChart chart, int width, int height,
+            String format, boolean withInfo) throws IOException {
+        ParamChecks.nullNotPermitted(chart, "chart");
+        ParamChecks.nullNotPermitted(format, "format");
+        long count = chart.getModificationCount();
+        long stamp = getDatasetStamp(chart.getPlot());
+        Key key = new Key(chart, count, stamp, width, height, format,
+                withInfo);
+        synchronized (this) {
+            RenderedChart result = this.entries.get(key);
+            if (result == null && !withInfo) {
+                result = this.entries.get(new Key(chart, count, stamp, width,
+                        height, format, true));
+            }
+            if (result != null) {
+                this.hitCount++;
+                return result;
+            }
+            this.missCount++;
+        }
+
+        ChartRenderingInfo info = null;
+        if (withInfo) {
+            info = new ChartRenderingInfo();
+        }
+        int imageType = BufferedImage.TYPE_INT_ARGB;
+        if (format.equals(ImageFormat.JPEG)) {
+            imageType = BufferedImage.TYPE_INT_RGB;
+        }
+        ImageEncoder encoder = ImageEncoderFactory.newInstance(format);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        PooledChartRenderer r = this.renderer;
+        if (r != null) {
+            r.writeChart(out, chart, width, height, imageType, info, encoder);
+        }
+        else {
+            BufferedImage image = chart.createBufferedImage(width, height,
+                    imageType, info);
+            encoder.encode(image, out);
+        }
+        RenderedChart result = new RenderedChart(out.toByteArray(), info,
+                count);
+
+        // only cache the image if the chart did not change while drawing
+        if (chart.getModificationCount() == count
+                && getDatasetStamp(chart.getPlot()) == stamp
+                && result.getLength() <= this.maxBytes) {
+            synchronized (this) {
+                put(key, result);
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the largest modification stamp of the datasets in a plot
+     * (including the datasets in the subplots of a combined plot).  Datasets
+     * that do not implement {@link ModificationStamped} are ignored.
+     *
+     * @param plot  the plot (<code>null</code> permitted).
+     *
+     * @return The stamp (<code>0</code> if there are no stamped datasets).
+     */
+    private static long getDatasetStamp(Plot plot) {
+        long result = 0L;
+        if (plot instanceof XYPlot) {
+            XYPlot p = (XYPlot) plot;
+            for (int i = 0; i < p.getDatasetCount(); i++) {
+                result = Math.max(result, getDatasetStamp(p.getDataset(i)));
+            }
+        }
+        else if (plot instanceof CategoryPlot) {
+            CategoryPlot p = (CategoryPlot) plot;
+            for (int i = 0; i < p.getDatasetCount(); i++) {
+                result = Math.max(result, getDatasetStamp(p.getDataset(i)));
+            }
+        }
+        else if (plot instanceof PolarPlot) {
+            PolarPlot p = (PolarPlot) plot;
+            for (int i = 0; i < p.getDatasetCount(); i++) {
+                result = Math.max(result, getDatasetStamp(p.getDataset(i)));
+            }
+        }
+        else if (plot instanceof PiePlot) {
+            result = getDatasetStamp(((PiePlot) plot).getDataset());
+        }
+        else if (plot instanceof MultiplePiePlot) {
+            result = getDatasetStamp(((MultiplePiePlot) plot).getDataset());
+        }
+        else if (plot instanceof SpiderWebPlot) {
+            result = getDatasetStamp(((SpiderWebPlot) plot).getDataset());
+        }
+        List subplots = null;
+        if (plot instanceof CombinedDomainXYPlot) {
+            subplots = ((CombinedDomainXYPlot) plot).getSubplots();
+        }
+        else if (plot instanceof CombinedRangeXYPlot) {
+            subplots = ((CombinedRangeXYPlot) plot).getSubplots();
+        }
+        else if (plot instanceof CombinedDomainCategoryPlot) {
+            subplots = ((CombinedDomainCategoryPlot) plot).getSubplots();
+        }
+        else if (plot instanceof CombinedRangeCategoryPlot) {
+            subplots = ((CombinedRangeCategoryPlot) plot).getSubplots();
+        }
+        if (subplots != null) {
+            for (Object subplot : subplots) {
+                result = Math.max(result, getDatasetStamp((Plot) subplot));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the modification stamp of a dataset.
+     *
+     * @param dataset  the dataset (<code>null</code> permitted).
+     *
+     * @return The stamp (<code>0</code> if the dataset is <code>null</code>
+     *     or does not implement {@link ModificationStamped}).
+     */
+    private static long getDatasetStamp(Dataset dataset) {
+        if (dataset instanceof ModificationStamped) {
+            return ((ModificationStamped) dataset).getModificationStamp();
+        }
+        return 0L;
+    }
+
+    /**
+     * Adds an image to the cache, removing older images of the same chart
+     * and evicting the least recently used images if the cache is full.
+     * The caller must hold the lock on this cache.
+     *
+     * @param key  the key.
+     * @param rendered  the image.
+     */
+    private void put(Key key, RenderedChart rendered) {
+        Iterator<Map.Entry<Key, RenderedChart>> iterator
+                = this.entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, RenderedChart> entry = iterator.next();
+            Key k = entry.getKey();
+            if (k.chart == key.chart
+                    && (k.modificationCount != key.modificationCount
+                    || k.datasetStamp != key.datasetStamp)) {
+                iterator.remove();
+                this.size -= entry.getValue().getLength();
+            }
+        }
+        RenderedChart old = this.entries.put(key, rendered);
+        if (old != null) {
+            this.size -= old.getLength();
+        }
+        this.size += rendered.getLength();
+        iterator = this.entries.entrySet().iterator();
+        while (this.size > this.maxBytes && iterator.hasNext()) {
+            Map.Entry<Key, RenderedChart> entry = iterator.next();
+            if (entry.getValue() == rendered) {
+                break;
+            }
+            iterator.remove();
+            this.size -= entry.getValue().getLength();
+            this.evictionCount++;
+        }
+    }
+
+    /**
+     * Removes all the images for a chart.
+     *
+     * @param chart  the chart (<code>null</code> permitted).
+     */
+    public synchronized void remove(JFreeChart chart) {
+        Iterator<Map.Entry<Key, RenderedChart>> iterator
+                = this.entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Map.Entry<Key, RenderedChart> entry = iterator.next();
+            if (entry.getKey().chart == chart) {
+                iterator.remove();
+                this.size -= entry.getValue().getLength();
+            }
+        }
+    }
+
+    /**
+     * Removes all the images.  The statistics are not reset.
+     */
+    public synchronized void clear() {
+        this.entries.clear();
+        this.size = 0L;
+    }
+
+    /**
+     * Returns the number of images in the cache.
+     *
+     * @return The number of images.
+     */
+    public synchronized int getEntryCount() {
+        return this.entries.size();
+    }
+
+    /**
+     * Returns the total size of the encoded images in the cache.
+     *
+     * @return The size (in bytes).
+     */
+    public synchronized long getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of requests answered from the cache.
+     *
+     * @return The hit count.
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Returns the number of requests that needed the chart to be drawn.
+     *
+     * @return The miss count.
+     */
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Returns the number of images evicted to make room for others.
+     *
+     * @return The eviction count.
+     */
+    public synchronized long getEvictionCount() {
+        return this.evictionCount;
+    }
+
+    /**
+     * An encoded image of a chart.
+     */
+    public static final class RenderedChart {
+
+        /** The encoded image. */
+        private byte[] data;
+
+        /** The rendering info (possibly <code>null</code>). */
+        private ChartRenderingInfo info;
+
+        /** The modification count of the chart when it was drawn. */
+        private long modificationCount;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param data  the encoded image.
+         * @param info  the rendering info (<code>null</code> permitted).
+         * @param modificationCount  the modification count of the chart.
+         */
+        RenderedChart(byte[] data, ChartRenderingInfo info,
+                long modificationCount) {
+            this.data = data;
+            this.info = info;
+            this.modificationCount = modificationCount;
+        }
+
+        /**
+         * Returns a copy of the encoded image.
+         *
+         * @return The encoded image.
+         */
+        public byte[] getData() {
+            return this.data.clone();
+        }
+
+        /**
+         * Returns the size of the encoded image.
+         *
+         * @return The size (in bytes).
+         */
+        public int getLength() {
+            return this.data.length;
+        }
+
+        /**
+         * Returns the rendering info collected when the chart was drawn.
+         * The info is shared by everyone that receives this image, so it
+         * should not be modified.
+         *
+         * @return The rendering info (possibly <code>null</code>).
+         */
+        public ChartRenderingInfo getInfo() {
+            return this.info;
+        }
+
+        /**
+         * Returns the modification count of the chart when it was drawn.
+         *
+         * @return The modification count.
+         */
+        public long getModificationCount() {
+            return this.modificationCount;
+        }
+
+        /**
+         * Returns an HTML image map for the chart.
+         *
+         * @param name  the map name (<code>null</code> not permitted).
+         *
+         * @return The image map, or <code>null</code> if the image was drawn
+         *     without rendering info.
+         */
+        public String getImageMap(String name) {
+            if (this.info == null) {
+                return null;
+            }
+            return ChartUtilities.getImageMap(name, this.info);
+        }
+
+        /**
+         * Writes the encoded image to an output stream.
+         *
+         * @param out  the output stream (<code>null</code> not permitted).
+         *
+         * @throws IOException if there is an I/O problem.
+         */
+        public void writeTo(OutputStream out) throws IOException {
+            ParamChecks.nullNotPermitted(out, "out");
+            out.write(this.data);
+        }
+
+    }
+
+    /**
+     * The key for an image in the cache.  Charts are compared by identity.
+     */
+    private static final class Key {
+
+        /** The chart. */
+        private JFreeChart chart;
+
+        /** The modification count of the chart. */
+        private long modificationCount;
+
+        /** The largest modification stamp of the datasets. */
+        private long datasetStamp;
+
+        /** The image width. */
+        private int width;
+
+        /** The image height. */
+        private int height;
+
+        /** The image format. */
+        private String format;
+
+        /** Does the image have rendering info? */
+        private boolean withInfo;
+
+        /**
+         * Creates a new key.
+         *
+         * @param chart  the chart.
+         * @param modificationCount  the modification count of the chart.
+         * @param datasetStamp  the largest modification stamp of the
+         *     datasets.
+         * @param width  the image width.
+         * @param height  the image height.
+         * @param format  the image format.
+         * @param withInfo  does the image have rendering info?
+         */
+        Key(JFreeChart chart, long modificationCount, long datasetStamp,
+                int width, int height, String format, boolean withInfo) {
+            this.chart = chart;
+            this.modificationCount = modificationCount;
+            this.datasetStamp = datasetStamp;
+            this.width = width;
+            this.height = height;
+            this.format = format;
+            this.withInfo = withInfo;
+        }
+
+        /**
+         * Tests this key for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof Key)) {
+                return false;
+            }
+            Key that = (Key) obj;
+            return this.chart == that.chart
+                    && this.modificationCount == that.modificationCount
+                    && this.datasetStamp == that.datasetStamp
+                    && this.width == that.width
+                    && this.height == that.height
+                    && this.format.equals(that.format)
+                    && this.withInfo == that.withInfo;
+        }
+
+        /**
+         * Returns a hash code for this key.
+         *
+         * @return A hash code.
+         */
+        @Override
+        public int hashCode() {
+            int result = System.identityHashCode(this.chart);
+            result = 31 * result + (int) (this.modificationCount
+                    ^ (this.modificationCount >>> 32));
+            result = 31 * result + (int) (this.datasetStamp
+                    ^ (this.datasetStamp >>> 32));
+            result = 31 * result + this.width;
+            result = 31 * result + this.height;
+            result = 31 * result + this.format.hashCode();
+            result = 31 * result + (this.withInfo ? 1 : 0);
+            return result;
+        }
+
+    }
+
+}
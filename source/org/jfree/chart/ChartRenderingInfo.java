@@ -44,6 +44,8 @@
  * 30-Nov-2005 : Removed get/setPlotArea() (DG);
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 01-Dec-2006 : Fixed equals() and clone() (DG);
+ * 17-Oct-2026 : Use GridEntityCollection by default;
+ * 17-Oct-2026 : Added cancel() and isCancelled();
  *
  */
 
@@ -56,7 +58,7 @@ import java.io.ObjectOutputStream;
 import java.io.Serializable;
 
 import org.jfree.chart.entity.EntityCollection;
-import org.jfree.chart.entity.StandardEntityCollection;
+import org.jfree.chart.entity.GridEntityCollection;
 import org.jfree.chart.plot.PlotRenderingInfo;
 import org.jfree.io.SerialUtilities;
 import org.jfree.util.ObjectUtilities;
@@ -94,12 +96,15 @@ public class ChartRenderingInfo implements Cloneable, Serializable {
      */
     private EntityCollection entities;
 
+    /** A flag that asks the code drawing the chart to stop. */
+    private transient volatile boolean cancelled;
+
     /**
      * Constructs a new ChartRenderingInfo structure that can be used to
      * collect information about the dimensions of a rendered chart.
      */
     public ChartRenderingInfo() {
-        this(new StandardEntityCollection());
+        this(new GridEntityCollection());
     }
 
     /**
@@ -160,6 +165,31 @@ public class ChartRenderingInfo implements Cloneable, Serializable {
         this.entities = entities;
     }
 
+    /**
+     * Asks the code that is drawing the chart with this info to stop.  The
+     * plots that support this skip the remaining data items, so the drawing
+     * is incomplete (this is used to abandon frames that are no longer
+     * needed, see
+     * {@link ChartPanel#setBackgroundRendering(boolean)}).  This method can
+     * be called on any thread.
+     *
+     * @since 1.0.20
+     */
+    public void cancel() {
+        this.cancelled = true;
+    }
+
+    /**
+     * Returns <code>true</code> if {@link #cancel()} has been called.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.20
+     */
+    public boolean isCancelled() {
+        return this.cancelled;
+    }
+
     /**
      * Clears the information recorded by this object.
      */
@@ -0,0 +1,271 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * ChartRenderingStatistics.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.chart;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * Timings and counts recorded while a chart is drawn.  When a chart has at
+ * least one registered {@link org.jfree.chart.event.ChartProgressListener},
+ * an instance of this class is filled in by the chart and its plot during
+ * drawing and passed to the listeners with the <code>DRAWING_FINISHED</code>
+ * event (see
+ * {@link org.jfree.chart.event.ChartProgressEvent#getStatistics()}).  When
+ * there are no listeners, nothing is recorded (a
+ * {@link ChartPanel} listens unless
+ * {@link ChartPanel#setChartProgressEnabled(boolean)} is cleared).
+ * <P>
+ * Each phase of the drawing (titles, legends, axis space, axes, rendering,
+ * annotations and so on) has a total time in nanoseconds.  The time spent
+ * and the number of data items processed by each renderer are recorded
+ * separately (for plots without a renderer, such as {@link
+ * org.jfree.chart.plot.PiePlot}, the plot takes the place of the renderer).
+ * <P>
+ * The methods of this class are synchronized because a plot may render its
+ * datasets on several threads.
+ *
+ * @since 1.0.20
+ */
+public class ChartRenderingStatistics {
+
+    /** The phase for drawing the chart title and subtitles (not legends). */
+    public static final String TITLES = "titles";
+
+    /** The phase for drawing the legends. */
+    public static final String LEGENDS = "legends";
+
+    /** The phase for drawing the plot (this includes the plot phases). */
+    public static final String PLOT = "plot";
+
+    /** The phase for calculating the space required by the axes. */
+    public static final String AXIS_SPACE = "axisSpace";
+
+    /** The phase for calculating the ticks and drawing the axes. */
+    public static final String AXES = "axes";
+
+    /** The phase for rendering the data items. */
+    public static final String RENDERING = "rendering";
+
+    /** The phase for drawing the annotations. */
+    public static final String ANNOTATIONS = "annotations";
+
+    /** The total time (in nanoseconds) to draw the chart. */
+    private long elapsedTime;
+
+    /** The phase times, in the order that the phases were first recorded. */
+    private Map<String, Long> phaseTimes;
+
+    /** The renderers, in the order that they were first recorded. */
+    private List<Object> renderers;
+
+    /** The rendering times for each renderer. */
+    private Map<Object, Long> rendererTimes;
+
+    /** The number of data items processed by each renderer. */
+    private Map<Object, Integer> rendererItemCounts;
+
+    /** The number of entities created. */
+    private int entityCount;
+
+    /**
+     * Creates a new instance with no recorded values.
+     */
+    public ChartRenderingStatistics() {
+        this.phaseTimes = new LinkedHashMap<String, Long>();
+        this.renderers = new ArrayList<Object>();
+        this.rendererTimes = new IdentityHashMap<Object, Long>();
+        this.rendererItemCounts = new IdentityHashMap<Object, Integer>();
+    }
+
+    /**
+     * Returns the total time (in nanoseconds) taken to draw the chart.
+     *
+     * @return The time.
+     */
+    public synchronized long getElapsedTime() {
+        return this.elapsedTime;
+    }
+
+    /**
+     * Sets the total time (in nanoseconds) taken to draw the chart.
+     *
+     * @param nanos  the time.
+     */
+    public synchronized void setElapsedTime(long nanos) {
+        this.elapsedTime = nanos;
+    }
+
+    /**
+     * Adds time to the total for a phase.
+     *
+     * @param phase  the phase (<code>null</code> not permitted).
+     * @param nanos  the time (in nanoseconds).
+     */
+    public synchronized void addPhaseTime(String phase, long nanos) {
+        ParamChecks.nullNotPermitted(phase, "phase");
+        Long total = this.phaseTimes.get(phase);
+        this.phaseTimes.put(phase, (total != null ? total : 0L) + nanos);
+    }
+
+    /**
+     * Returns the total time (in nanoseconds) recorded for a phase.
+     *
+     * @param phase  the phase (<code>null</code> not permitted).
+     *
+     * @return The time (zero if nothing was recorded for the phase).
+     */
+    public synchronized long getPhaseTime(String phase) {
+        ParamChecks.nullNotPermitted(phase, "phase");
+        Long total = this.phaseTimes.get(phase);
+        return (total != null ? total : 0L);
+    }
+
+    /**
+     * Returns the phases that have a recorded time, in the order they were
+     * first recorded.
+     *
+     * @return A new list of phase names (possibly empty).
+     */
+    public synchronized List<String> getPhases() {
+        return new ArrayList<String>(this.phaseTimes.keySet());
+    }
+
+    /**
+     * Adds the time and item count for one rendering pass of a renderer
+     * over a dataset.
+     *
+     * @param renderer  the renderer (or the plot, for plots that do not use
+     *     a renderer) (<code>null</code> not permitted).
+     * @param nanos  the time (in nanoseconds).
+     * @param itemCount  the number of data items processed.
+     */
+    public synchronized void addRendererTime(Object renderer, long nanos,
+            int itemCount) {
+        ParamChecks.nullNotPermitted(renderer, "renderer");
+        Long total = this.rendererTimes.get(renderer);
+        if (total == null) {
+            this.renderers.add(renderer);
+            this.rendererTimes.put(renderer, nanos);
+            this.rendererItemCounts.put(renderer, itemCount);
+        }
+        else {
+            this.rendererTimes.put(renderer, total + nanos);
+            this.rendererItemCounts.put(renderer,
+                    this.rendererItemCounts.get(renderer) + itemCount);
+        }
+    }
+
+    /**
+     * Returns the renderers that have recorded times, in the order they were
+     * first recorded.
+     *
+     * @return A new list of renderers (possibly empty).
+     */
+    public synchronized List<Object> getRenderers() {
+        return new ArrayList<Object>(this.renderers);
+    }
+
+    /**
+     * Returns the total time (in nanoseconds) recorded for a renderer.
+     *
+     * @param renderer  the renderer.
+     *
+     * @return The time (zero if nothing was recorded for the renderer).
+     */
+    public synchronized long getRendererTime(Object renderer) {
+        Long total = this.rendererTimes.get(renderer);
+        return (total != null ? total : 0L);
+    }
+
+    /**
+     * Returns the number of data items processed by a renderer.
+     *
+     * @param renderer  the renderer.
+     *
+     * @return The item count (zero if nothing was recorded for the
+     *     renderer).
+     */
+    public synchronized int getRendererItemCount(Object renderer) {
+        Integer count = this.rendererItemCounts.get(renderer);
+        return (count != null ? count : 0);
+    }
+
+    /**
+     * Returns the number of data items processed by all renderers.
+     *
+     * @return The item count.
+     */
+    public synchronized int getItemCount() {
+        int result = 0;
+        for (Integer count : this.rendererItemCounts.values()) {
+            result += count;
+        }
+        return result;
+    }
+
+    /**
+     * Returns the number of chart entities created while drawing.  This is
+     * zero unless the chart was drawn with a {@link ChartRenderingInfo} that
+     * has an entity collection.
+     *
+     * @return The entity count.
+     */
+    public synchronized int getEntityCount() {
+        return this.entityCount;
+    }
+
+    /**
+     * Sets the number of chart entities created while drawing.
+     *
+     * @param count  the count.
+     */
+    public synchronized void setEntityCount(int count) {
+        this.entityCount = count;
+    }
+
+}
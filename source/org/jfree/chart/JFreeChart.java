@@ -150,6 +150,9 @@
  * 29-Jun-2009 : Check visibility flag in main title (DG);
  * 02-Jul-2013 : Use ParamChecks class (DG);
  * 21-Jun-2014 : Set default hint value for stroke control (DG);
+ * 17-Oct-2026 : Record rendering statistics for progress listeners;
+ * 17-Oct-2026 : Added modification count;
+ * 17-Oct-2026 : Added KEY_CHART_LAYERS for layered drawing;
  *
  */
 
@@ -204,6 +207,7 @@ import org.jfree.chart.event.TitleChangeListener;
 import org.jfree.chart.plot.CategoryPlot;
 import org.jfree.chart.plot.Plot;
 import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.PlotState;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.title.LegendTitle;
 import org.jfree.chart.title.TextTitle;
@@ -286,6 +290,55 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             return val instanceof Boolean;
         }
     };
+
+    /**
+     * The layer containing the parts of the chart that do not depend on the
+     * data values (background, titles, legend, axes and gridlines).
+     *
+     * @since 1.0.20
+     */
+    public static final int LAYER_CHROME = 1;
+
+    /**
+     * The layer containing the data items.
+     *
+     * @since 1.0.20
+     */
+    public static final int LAYER_DATA = 2;
+
+    /**
+     * The layer containing the items drawn over the data (foreground
+     * markers, annotations and crosshairs).
+     *
+     * @since 1.0.20
+     */
+    public static final int LAYER_OVERLAY = 4;
+
+    /**
+     * All layers.
+     *
+     * @since 1.0.20
+     */
+    public static final int LAYER_ALL = LAYER_CHROME | LAYER_DATA
+            | LAYER_OVERLAY;
+
+    /**
+     * The key for a rendering hint that restricts chart drawing to some of
+     * the layers, so that they can be cached separately.  The hint value must
+     * be an Integer combining the <code>LAYER_XXX</code> constants.  When the
+     * hint is not set, all layers are drawn.
+     *
+     * @see #isLayerDrawn(Graphics2D, int)
+     *
+     * @since 1.0.20
+     */
+    public static final RenderingHints.Key KEY_CHART_LAYERS
+            = new RenderingHints.Key(1) {
+        @Override
+        public boolean isCompatibleValue(Object val) {
+            return val instanceof Integer;
+        }
+    };
     
     /**
      * Rendering hints that will be used for chart drawing.  This should never
@@ -341,6 +394,9 @@ public class JFreeChart implements Drawable, TitleChangeListener,
      */
     private boolean notify;
 
+    /** The number of changes made to the chart (not serialized). */
+    private transient volatile long modificationCount;
+
     /**
      * Creates a new chart based on the supplied plot.  The chart will have
      * a legend added automatically, but no title (although you can easily add
@@ -1141,6 +1197,14 @@ public class JFreeChart implements Drawable, TitleChangeListener,
 
         notifyListeners(new ChartProgressEvent(this, this,
                 ChartProgressEvent.DRAWING_STARTED, 0));
+
+        // statistics are only recorded if someone is listening for them
+        ChartRenderingStatistics stats = null;
+        long drawStart = 0L;
+        if (this.progressListeners.getListenerCount() > 0) {
+            stats = new ChartRenderingStatistics();
+            drawStart = System.nanoTime();
+        }
         
         EntityCollection entities = null;
         // record the chart area, if info is requested...
@@ -1149,7 +1213,8 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             info.setChartArea(chartArea);
             entities = info.getEntityCollection();
         }
-        if (entities != null) {
+        boolean chrome = isLayerDrawn(g2, LAYER_CHROME);
+        if (entities != null && chrome) {
             entities.add(new JFreeChartEntity((Rectangle2D) chartArea.clone(),
                     this));
         }
@@ -1161,12 +1226,12 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         g2.addRenderingHints(this.renderingHints);
 
         // draw the chart background...
-        if (this.backgroundPaint != null) {
+        if (this.backgroundPaint != null && chrome) {
             g2.setPaint(this.backgroundPaint);
             g2.fill(chartArea);
         }
 
-        if (this.backgroundImage != null) {
+        if (this.backgroundImage != null && chrome) {
             Composite originalComposite = g2.getComposite();
             g2.setComposite(AlphaComposite.getInstance(AlphaComposite.SRC_OVER,
                     this.backgroundImageAlpha));
@@ -1180,7 +1245,7 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             g2.setComposite(originalComposite);
         }
 
-        if (isBorderVisible()) {
+        if (isBorderVisible() && chrome) {
             Paint paint = getBorderPaint();
             Stroke stroke = getBorderStroke();
             if (paint != null && stroke != null) {
@@ -1200,22 +1265,34 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         this.padding.trim(nonTitleArea);
 
         if (this.title != null && this.title.isVisible()) {
+            long start = (stats != null) ? System.nanoTime() : 0L;
             EntityCollection e = drawTitle(this.title, g2, nonTitleArea,
                     (entities != null));
             if (e != null && entities != null) {
                 entities.addAll(e);
             }
+            if (stats != null) {
+                stats.addPhaseTime(ChartRenderingStatistics.TITLES,
+                        System.nanoTime() - start);
+            }
         }
 
         Iterator iterator = this.subtitles.iterator();
         while (iterator.hasNext()) {
             Title currentTitle = (Title) iterator.next();
             if (currentTitle.isVisible()) {
+                long start = (stats != null) ? System.nanoTime() : 0L;
                 EntityCollection e = drawTitle(currentTitle, g2, nonTitleArea,
                         (entities != null));
                 if (e != null && entities != null) {
                     entities.addAll(e);
                 }
+                if (stats != null) {
+                    stats.addPhaseTime(currentTitle instanceof LegendTitle
+                            ? ChartRenderingStatistics.LEGENDS
+                            : ChartRenderingStatistics.TITLES,
+                            System.nanoTime() - start);
+                }
             }
         }
 
@@ -1226,12 +1303,49 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         if (info != null) {
             plotInfo = info.getPlotInfo();
         }
-        this.plot.draw(g2, plotArea, anchor, null, plotInfo);
+        PlotState plotState = null;
+        long plotStart = 0L;
+        if (stats != null) {
+            plotState = new PlotState();
+            plotState.setStatistics(stats);
+            plotStart = System.nanoTime();
+        }
+        this.plot.draw(g2, plotArea, anchor, plotState, plotInfo);
+        if (stats != null) {
+            stats.addPhaseTime(ChartRenderingStatistics.PLOT,
+                    System.nanoTime() - plotStart);
+        }
 
         g2.setClip(savedClip);
 
+        if (stats != null) {
+            stats.setElapsedTime(System.nanoTime() - drawStart);
+            if (entities != null) {
+                stats.setEntityCount(entities.getEntityCount());
+            }
+        }
         notifyListeners(new ChartProgressEvent(this, this,
-                ChartProgressEvent.DRAWING_FINISHED, 100));
+                ChartProgressEvent.DRAWING_FINISHED, 100, stats));
+    }
+
+    /**
+     * Returns <code>true</code> if the specified layer should be drawn on
+     * the graphics device, as controlled by the {@link #KEY_CHART_LAYERS}
+     * rendering hint.
+     *
+     * @param g2  the graphics device.
+     * @param layer  the layer (one of the <code>LAYER_XXX</code> constants).
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.20
+     */
+    public static boolean isLayerDrawn(Graphics2D g2, int layer) {
+        Object hint = g2.getRenderingHint(KEY_CHART_LAYERS);
+        if (hint instanceof Integer) {
+            return (((Integer) hint).intValue() & layer) != 0;
+        }
+        return true;
     }
 
     /**
@@ -1305,13 +1419,16 @@ public class JFreeChart implements Drawable, TitleChangeListener,
                 new Range(0.0, ww), LengthConstraintType.RANGE, hh,
                 new Range(0.0, hh), LengthConstraintType.RANGE);
         Object retValue = null;
+        boolean chrome = isLayerDrawn(g2, LAYER_CHROME);
         BlockParams p = new BlockParams();
         p.setGenerateEntities(entities);
         if (position == RectangleEdge.TOP) {
             Size2D size = t.arrange(g2, constraint);
             titleArea = createAlignedRectangle2D(size, area,
                     t.getHorizontalAlignment(), VerticalAlignment.TOP);
-            retValue = t.draw(g2, titleArea, p);
+            if (chrome) {
+                retValue = t.draw(g2, titleArea, p);
+            }
             area.setRect(area.getX(), Math.min(area.getY() + size.height,
                     area.getMaxY()), area.getWidth(), Math.max(area.getHeight()
                     - size.height, 0));
@@ -1320,7 +1437,9 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             Size2D size = t.arrange(g2, constraint);
             titleArea = createAlignedRectangle2D(size, area,
                     t.getHorizontalAlignment(), VerticalAlignment.BOTTOM);
-            retValue = t.draw(g2, titleArea, p);
+            if (chrome) {
+                retValue = t.draw(g2, titleArea, p);
+            }
             area.setRect(area.getX(), area.getY(), area.getWidth(),
                     area.getHeight() - size.height);
         }
@@ -1328,7 +1447,9 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             Size2D size = t.arrange(g2, constraint);
             titleArea = createAlignedRectangle2D(size, area,
                     HorizontalAlignment.RIGHT, t.getVerticalAlignment());
-            retValue = t.draw(g2, titleArea, p);
+            if (chrome) {
+                retValue = t.draw(g2, titleArea, p);
+            }
             area.setRect(area.getX(), area.getY(), area.getWidth()
                     - size.width, area.getHeight());
         }
@@ -1337,7 +1458,9 @@ public class JFreeChart implements Drawable, TitleChangeListener,
             Size2D size = t.arrange(g2, constraint);
             titleArea = createAlignedRectangle2D(size, area,
                     HorizontalAlignment.LEFT, t.getVerticalAlignment());
-            retValue = t.draw(g2, titleArea, p);
+            if (chrome) {
+                retValue = t.draw(g2, titleArea, p);
+            }
             area.setRect(area.getX() + size.width, area.getY(), area.getWidth()
                     - size.width, area.getHeight());
         }
@@ -1489,6 +1612,22 @@ public class JFreeChart implements Drawable, TitleChangeListener,
         notifyListeners(event);
     }
 
+    /**
+     * Returns the number of changes made to the chart.  The count increases
+     * every time a {@link ChartChangeEvent} is generated (whether or not
+     * listeners are notified), including changes to the plot, titles and
+     * datasets, so two equal counts for the same chart mean that it has not
+     * changed in between.  This can be used to cache images of the chart
+     * (see {@link ChartRenderCache}).
+     *
+     * @return The modification count.
+     *
+     * @since 1.0.20
+     */
+    public long getModificationCount() {
+        return this.modificationCount;
+    }
+
     /**
      * Sends a {@link ChartChangeEvent} to all registered listeners.
      *
@@ -1496,6 +1635,7 @@ public class JFreeChart implements Drawable, TitleChangeListener,
      *               notification.
      */
     protected void notifyListeners(ChartChangeEvent event) {
+        this.modificationCount++;
         if (this.notify) {
             Object[] listeners = this.changeListeners.getListenerList();
             for (int i = listeners.length - 2; i >= 0; i -= 2) {
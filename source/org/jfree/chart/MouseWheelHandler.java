@@ -40,6 +40,7 @@
  * 10-Sep-2009 : Bug fix by Jim Goodwin to respect domain/rangeZoomable flags
  *               in the ChartPanel (DG);
  * 04-Nov-2009 : Pass mouse wheel notification to PiePlot (DG);
+ * 17-Oct-2026 : Cancel the background frame before zooming;
  *
  */
 
@@ -140,6 +141,7 @@ class MouseWheelHandler implements MouseWheelListener, Serializable {
         }
 
         Plot plot = (Plot) zoomable;
+        this.chartPanel.cancelFrame();
         // do not notify while zooming each axis
         boolean notifyState = plot.isNotify();
         plot.setNotify(false);
@@ -0,0 +1,507 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * PooledChartRenderer.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.chart;
+
+import java.awt.AlphaComposite;
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.OutputStream;
+import java.util.ArrayDeque;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.encoders.ImageEncoder;
+import org.jfree.chart.encoders.ImageEncoderFactory;
+import org.jfree.chart.encoders.ImageFormat;
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * Draws charts to off-screen images and writes them to output streams, for
+ * use by servers that generate a lot of chart images.  Unlike the methods in
+ * {@link ChartUtilities}, which create a new image for every chart, this
+ * class keeps the images that it has finished with and reuses them (after
+ * clearing) for later charts with the same width, height and image type.
+ * When the pool is full, the images for the size and type that was used
+ * least recently are discarded first, so a change in the sizes requested
+ * does not leave the pool holding images that are never reused.
+ * <P>
+ * The number of charts drawn at the same time is limited, which also limits
+ * the number of images in use.  A thread that calls one of the write
+ * methods when the limit is reached waits for another chart to finish or,
+ * if an acquire timeout has been set, gives up with a
+ * {@link RejectedExecutionException} when the timeout expires.  This allows
+ * a server to turn away requests when it is overloaded rather than queue
+ * them without limit.
+ * <P>
+ * Instances of this class are thread-safe.  Note that the charts themselves
+ * are not, so the same chart should not be written from two threads at once.
+ *
+ * @since 1.0.20
+ */
+public class PooledChartRenderer {
+
+    /** The maximum number of charts drawn at the same time. */
+    private int maxConcurrentRenders;
+
+    /** The maximum number of idle images kept for reuse. */
+    private int maxPooledImages;
+
+    /** Controls the number of charts drawn at the same time. */
+    private Semaphore permits;
+
+    /**
+     * The time (in milliseconds) to wait for a permit, or a negative value
+     * to wait for as long as it takes.
+     */
+    private volatile long acquireTimeout;
+
+    /**
+     * The idle images, by size and type, with the least recently used size
+     * and type first (guarded by itself).  There are no empty deques.
+     */
+    private Map<ImageKey, ArrayDeque<BufferedImage>> pool;
+
+    /** The number of idle images in the pool (guarded by pool). */
+    private int pooledImageCount;
+
+    /**
+     * Creates a new renderer that draws up to one chart per available
+     * processor at the same time.
+     */
+    public PooledChartRenderer() {
+        this(Runtime.getRuntime().availableProcessors(),
+                2 * Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Creates a new renderer.
+     *
+     * @param maxConcurrentRenders  the maximum number of charts drawn at the
+     *     same time (must be at least 1).
+     * @param maxPooledImages  the maximum number of idle images kept for
+     *     reuse (zero or more).
+     */
+    public PooledChartRenderer(int maxConcurrentRenders,
+            int maxPooledImages) {
+        if (maxConcurrentRenders < 1) {
+            throw new IllegalArgumentException(
+                    "Requires 'maxConcurrentRenders' >= 1.");
+        }
+        if (maxPooledImages < 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'maxPooledImages' >= 0.");
+        }
+        this.maxConcurrentRenders = maxConcurrentRenders;
+        this.maxPooledImages = maxPooledImages;
+        this.permits = new Semaphore(maxConcurrentRenders, true);
+        this.acquireTimeout = -1L;
+        this.pool = new LinkedHashMap<ImageKey, ArrayDeque<BufferedImage>>(
+                16, 0.75f, true);
+    }
+
+    /**
+     * Returns the maximum number of charts drawn at the same time.
+     *
+     * @return The maximum number of charts drawn at the same time.
+     */
+    public int getMaxConcurrentRenders() {
+        return this.maxConcurrentRenders;
+    }
+
+    /**
+     * Returns the maximum number of idle images kept for reuse.
+     *
+     * @return The maximum number of idle images.
+     */
+    public int getMaxPooledImages() {
+        return this.maxPooledImages;
+    }
+
+    /**
+     * Returns the time (in milliseconds) that the write methods wait when
+     * the maximum number of charts are already being drawn.  A negative
+     * value means the methods wait for as long as it takes.
+     *
+     * @return The timeout.
+     */
+    public long getAcquireTimeout() {
+        return this.acquireTimeout;
+    }
+
+    /**
+     * Sets the time (in milliseconds) that the write methods wait when the
+     * maximum number of charts are already being drawn, after which they
+     * throw a {@link RejectedExecutionException}.  A negative value means
+     * the methods wait for as long as it takes (this is the default).
+     *
+     * @param millis  the timeout.
+     */
+    public void setAcquireTimeout(long millis) {
+        this.acquireTimeout = millis;
+    }
+
+    /**
+     * Returns the number of idle images currently held for reuse.
+     *
+     * @return The number of idle images.
+     */
+    public int getPooledImageCount() {
+        synchronized (this.pool) {
+            return this.pooledImageCount;
+        }
+    }
+
+    /**
+     * Returns the number of idle images with the specified size and type
+     * currently held for reuse.
+     *
+     * @param width  the width.
+     * @param height  the height.
+     * @param imageType  the image type.
+     *
+     * @return The number of idle images.
+     */
+    int getPooledImageCount(int width, int height, int imageType) {
+        synchronized (this.pool) {
+            ArrayDeque<BufferedImage> images = this.pool.get(
+                    new ImageKey(width, height, imageType));
+            return images != null ? images.size() : 0;
+        }
+    }
+
+    /**
+     * Discards all the idle images held for reuse.
+     */
+    public void clear() {
+        synchronized (this.pool) {
+            this.pool.clear();
+            this.pooledImageCount = 0;
+        }
+    }
+
+    /**
+     * Writes a chart to an output stream in PNG format.
+     *
+     * @param out  the output stream (<code>null</code> not permitted).
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param info  carries back chart rendering info (<code>null</code>
+     *              permitted).
+     *
+     * @throws IOException if there are any I/O errors.
+     * @throws RejectedExecutionException if the acquire timeout expires.
+     */
+    public void writeChartAsPNG(OutputStream out, JFreeChart chart,
+            int width, int height, ChartRenderingInfo info)
+            throws IOException {
+        writeChart(out, chart, width, height, BufferedImage.TYPE_INT_ARGB,
+                info, ImageEncoderFactory.newInstance(ImageFormat.PNG));
+    }
+
+    /**
+     * Writes a chart to an output stream in PNG format.
+     *
+     * @param out  the output stream (<code>null</code> not permitted).
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param info  carries back chart rendering info (<code>null</code>
+     *              permitted).
+     * @param encodeAlpha  encode alpha?
+     * @param compression  the PNG compression level (0-9).
+     *
+     * @throws IOException if there are any I/O errors.
+     * @throws RejectedExecutionException if the acquire timeout expires.
+     */
+    public void writeChartAsPNG(OutputStream out, JFreeChart chart,
+            int width, int height, ChartRenderingInfo info,
+            boolean encodeAlpha, int compression) throws IOException {
+        writeChart(out, chart, width, height, BufferedImage.TYPE_INT_ARGB,
+                info, ImageEncoderFactory.newPNGInstance(compression,
+                encodeAlpha));
+    }
+
+    /**
+     * Writes a chart to an output stream in JPEG format, using the default
+     * quality setting of the JPEG encoder.
+     *
+     * @param out  the output stream (<code>null</code> not permitted).
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param info  carries back chart rendering info (<code>null</code>
+     *              permitted).
+     *
+     * @throws IOException if there are any I/O errors.
+     * @throws RejectedExecutionException if the acquire timeout expires.
+     */
+    public void writeChartAsJPEG(OutputStream out, JFreeChart chart,
+            int width, int height, ChartRenderingInfo info)
+            throws IOException {
+        writeChart(out, chart, width, height, BufferedImage.TYPE_INT_RGB,
+                info, ImageEncoderFactory.newInstance(ImageFormat.JPEG));
+    }
+
+    /**
+     * Writes a chart to an output stream in JPEG format.
+     *
+     * @param out  the output stream (<code>null</code> not permitted).
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param info  carries back chart rendering info (<code>null</code>
+     *              permitted).
+     * @param quality  the quality setting (0.0f to 1.0f).
+     *
+     * @throws IOException if there are any I/O errors.
+     * @throws RejectedExecutionException if the acquire timeout expires.
+     */
+    public void writeChartAsJPEG(OutputStream out, JFreeChart chart,
+            int width, int height, ChartRenderingInfo info, float quality)
+            throws IOException {
+        writeChart(out, chart, width, height, BufferedImage.TYPE_INT_RGB,
+                info, ImageEncoderFactory.newInstance(ImageFormat.JPEG,
+                quality));
+    }
+
+    /**
+     * Draws a chart to a pooled image and writes it to an output stream
+     * with the specified encoder.  The image is returned to the pool once
+     * the encoder has finished with it.
+     *
+     * @param out  the output stream (<code>null</code> not permitted).
+     * @param chart  the chart (<code>null</code> not permitted).
+     * @param width  the image width.
+     * @param height  the image height.
+     * @param imageType  the image type (see {@link BufferedImage}).
+     * @param info  carries back chart rendering info (<code>null</code>
+     *              permitted).
+     * @param encoder  the image encoder (<code>null</code> not permitted).
+     *
+     * @throws IOException if there are any I/O errors.
+     * @throws RejectedExecutionException if the acquire timeout expires.
+     */
+    public void writeChart(OutputStream out, JFreeChart chart, int width,
+            int height, int imageType, ChartRenderingInfo info,
+            ImageEncoder encoder) throws IOException {
+        ParamChecks.nullNotPermitted(out, "out");
+        ParamChecks.nullNotPermitted(chart, "chart");
+        ParamChecks.nullNotPermitted(encoder, "encoder");
+        acquirePermit();
+        try {
+            BufferedImage image = takeImage(width, height, imageType);
+            try {
+                Graphics2D g2 = image.createGraphics();
+                try {
+                    g2.setComposite(AlphaComposite.Clear);
+                    g2.fillRect(0, 0, width, height);
+                    g2.setComposite(AlphaComposite.SrcOver);
+                    chart.draw(g2, new Rectangle2D.Double(0, 0, width,
+                            height), null, info);
+                }
+                finally {
+                    g2.dispose();
+                }
+                encoder.encode(image, out);
+            }
+            finally {
+                returnImage(image);
+            }
+        }
+        finally {
+            this.permits.release();
+        }
+    }
+
+    /**
+     * Waits for a permit to draw a chart.
+     *
+     * @throws InterruptedIOException if the thread is interrupted while
+     *     waiting.
+     * @throws RejectedExecutionException if the acquire timeout expires.
+     */
+    private void acquirePermit() throws InterruptedIOException {
+        long timeout = this.acquireTimeout;
+        try {
+            if (timeout < 0L) {
+                this.permits.acquire();
+            }
+            else if (!this.permits.tryAcquire(timeout,
+                    TimeUnit.MILLISECONDS)) {
+                throw new RejectedExecutionException("Timed out after "
+                        + timeout + "ms waiting to draw a chart.");
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException(
+                    "Interrupted waiting to draw a chart.");
+        }
+    }
+
+    /**
+     * Returns an idle image with the specified size and type from the pool,
+     * or a new image if there is none.
+     *
+     * @param width  the width.
+     * @param height  the height.
+     * @param imageType  the image type.
+     *
+     * @return An image.
+     */
+    private BufferedImage takeImage(int width, int height, int imageType) {
+        ImageKey key = new ImageKey(width, height, imageType);
+        synchronized (this.pool) {
+            ArrayDeque<BufferedImage> images = this.pool.get(key);
+            if (images != null) {
+                BufferedImage image = images.pop();
+                if (images.isEmpty()) {
+                    this.pool.remove(key);
+                }
+                this.pooledImageCount--;
+                return image;
+            }
+        }
+        return new BufferedImage(width, height, imageType);
+    }
+
+    /**
+     * Returns an image to the pool.  If the pool is full, the oldest image
+     * for the least recently used size and type is discarded.
+     *
+     * @param image  the image.
+     */
+    private void returnImage(BufferedImage image) {
+        if (this.maxPooledImages == 0) {
+            return;
+        }
+        ImageKey key = new ImageKey(image.getWidth(), image.getHeight(),
+                image.getType());
+        synchronized (this.pool) {
+            ArrayDeque<BufferedImage> images = this.pool.get(key);
+            if (images == null) {
+                images = new ArrayDeque<BufferedImage>();
+                this.pool.put(key, images);
+            }
+            images.push(image);
+            this.pooledImageCount++;
+            if (this.pooledImageCount > this.maxPooledImages) {
+                Iterator<ArrayDeque<BufferedImage>> iterator
+                        = this.pool.values().iterator();
+                ArrayDeque<BufferedImage> eldest = iterator.next();
+                eldest.removeLast();
+                if (eldest.isEmpty()) {
+                    iterator.remove();
+                }
+                this.pooledImageCount--;
+            }
+        }
+    }
+
+    /**
+     * The size and type of a pooled image.
+     */
+    private static final class ImageKey {
+
+        /** The width. */
+        private final int width;
+
+        /** The height. */
+        private final int height;
+
+        /** The image type. */
+        private final int imageType;
+
+        /**
+         * Creates a new key.
+         *
+         * @param width  the width.
+         * @param height  the height.
+         * @param imageType  the image type.
+         */
+        ImageKey(int width, int height, int imageType) {
+            this.width = width;
+            this.height = height;
+            this.imageType = imageType;
+        }
+
+        /**
+         * Tests this key for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof ImageKey)) {
+                return false;
+            }
+            ImageKey that = (ImageKey) obj;
+            return this.width == that.width && this.height == that.height
+                    && this.imageType == that.imageType;
+        }
+
+        /**
+         * Returns a hash code for this key.
+         *
+         * @return A hash code.
+         */
+        @Override
+        public int hashCode() {
+            return (this.width * 31 + this.height) * 31 + this.imageType;
+        }
+
+    }
+
+}
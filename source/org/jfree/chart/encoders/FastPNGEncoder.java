@@ -0,0 +1,1373 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------
+ * FastPNGEncoder.java
+ * -------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.chart.encoders;
+
+import java.awt.image.BufferedImage;
+import java.awt.image.DataBufferInt;
+import java.awt.image.Raster;
+import java.awt.image.SinglePixelPackedSampleModel;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.zip.Adler32;
+import java.util.zip.CRC32;
+import java.util.zip.Deflater;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * A PNG encoder that reads the pixels of <code>TYPE_INT_RGB</code> and
+ * <code>TYPE_INT_ARGB</code> images directly from the image raster and
+ * compresses them with a {@link Deflater}.  Other image types are supported
+ * too, through <code>BufferedImage.getRGB()</code>.
+ * <P>
+ * The quality setting is the deflate compression level (0 for no
+ * compression, 1 for the fastest compression through to 9 for the best).
+ * A fraction up to 1, such as a JPEG quality, is scaled to a level (see
+ * {@link #setQuality(float)}), so level 1 can only be selected with
+ * {@link #setCompressionLevel(int)}.
+ * The deflate strategy and the PNG row filter can also be set, and large
+ * images can be compressed in parallel (in blocks of rows that are written
+ * as a single zlib stream, as <code>pigz</code> does).
+ * <P>
+ * The alpha channel is written if the image has one and either the
+ * <code>encodingAlpha</code> flag is set or the image has pixels that are
+ * not fully opaque, so an image is never written with less transparency
+ * than it has.
+ * <P>
+ * Charts often use only a few colours, and can then be written as 8-bit
+ * palette images, which are much smaller and faster to compress than
+ * 24/32-bit images (see {@link #setIndexed(boolean)}).  Images with more
+ * than 256 colours (usually because of anti-aliasing) can optionally be
+ * reduced to 256 colours (see {@link #setQuantizing(boolean)}).
+ * <P>
+ * This is the default PNG encoder returned by {@link ImageEncoderFactory}.
+ *
+ * @since 1.0.20
+ */
+public class FastPNGEncoder implements ImageEncoder {
+
+    /** The 'None' row filter (the rows are compressed as they are). */
+    public static final int FILTER_NONE = 0;
+
+    /** The 'Sub' row filter (the difference from the pixel to the left). */
+    public static final int FILTER_SUB = 1;
+
+    /** The 'Up' row filter (the difference from the pixel above). */
+    public static final int FILTER_UP = 2;
+
+    /** The PNG file signature. */
+    private static final byte[] SIGNATURE = {(byte) 137, 80, 78, 71, 13, 10,
+            26, 10};
+
+    /** The size of the IDAT chunks written while compressing. */
+    private static final int IDAT_SIZE = 65536;
+
+    /** The approximate number of bytes in each block compressed in parallel. */
+    private static final int BLOCK_SIZE = 256 * 1024;
+
+    /** The compression level (0 to 9). */
+    private int level = 6;
+
+    /** The deflate strategy. */
+    private int strategy = Deflater.DEFAULT_STRATEGY;
+
+    /** The PNG row filter. */
+    private int filter = FILTER_UP;
+
+    /** Encode alpha? */
+    private boolean encodingAlpha = false;
+
+    /** Compress large images in parallel? */
+    private boolean parallel = false;
+
+    /** Write palette images when there are no more than 256 colours? */
+    private boolean indexed = false;
+
+    /** Reduce images with more than 256 colours to a palette? */
+    private boolean quantizing = false;
+
+    /**
+     * Creates a new encoder with compression level 6, the default deflate
+     * strategy and the 'Up' row filter.
+     */
+    public FastPNGEncoder() {
+        // nothing to do
+    }
+
+    /**
+     * Returns the compression level (0 to 9).
+     *
+     * @return The compression level.
+     *
+     * @see #getCompressionLevel()
+     */
+    @Override
+    public float getQuality() {
+        return this.level;
+    }
+
+    /**
+     * Sets the compression level from a quality setting.  Since the other
+     * encoders take a quality between 0.0 and 1.0, a value greater than 0
+     * and up to 1 is scaled to the levels 1 to 9, so that a higher quality
+     * always gives a higher level (0.75f is level 7 and 1.0f is level 9).
+     * Values from 2 to 9 are taken as the level itself, and 0 means no
+     * compression.  To select level 1, use
+     * {@link #setCompressionLevel(int)}.
+     *
+     * @param quality  the quality (0 to 9).
+     *
+     * @see #setCompressionLevel(int)
+     */
+    @Override
+    public void setQuality(float quality) {
+        if (!(quality >= 0.0f && quality <= 9.0f)) {
+            throw new IllegalArgumentException(
+                    "Requires 0 <= quality <= 9.");
+        }
+        if (quality > 0.0f && quality <= 1.0f) {
+            this.level = 1 + Math.round(quality * 8.0f);
+        }
+        else {
+            this.level = (int) quality;
+        }
+    }
+
+    /**
+     * Returns the compression level (0 to 9).
+     *
+     * @return The compression level.
+     *
+     * @see #setCompressionLevel(int)
+     */
+    public int getCompressionLevel() {
+        return this.level;
+    }
+
+    /**
+     * Sets the compression level: 0 for no compression, and 1 (fastest)
+     * through to 9 (best compression).  For typical charts, levels 1 to 3
+     * are around twice as fast as the default level 6, and level 9 is
+     * several times slower for a small reduction in size.
+     *
+     * @param level  the compression level (0 to 9).
+     *
+     * @see #getCompressionLevel()
+     */
+    public void setCompressionLevel(int level) {
+        if (level < 0 || level > 9) {
+            throw new IllegalArgumentException("Requires 0 <= level <= 9.");
+        }
+        this.level = level;
+    }
+
+    /**
+     * Returns the flag that forces the alpha channel to be written for
+     * images that have one, even when all the pixels are opaque.
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean isEncodingAlpha() {
+        return this.encodingAlpha;
+    }
+
+    /**
+     * Sets the flag that forces the alpha channel to be written for images
+     * that have one, even when all the pixels are opaque.
+     *
+     * @param encodingAlpha  the flag.
+     */
+    @Override
+    public void setEncodingAlpha(boolean encodingAlpha) {
+        this.encodingAlpha = encodingAlpha;
+    }
+
+    /**
+     * Returns the deflate strategy.
+     *
+     * @return The strategy.
+     */
+    public int getStrategy() {
+        return this.strategy;
+    }
+
+    /**
+     * Sets the deflate strategy.
+     *
+     * @param strategy  one of <code>Deflater.DEFAULT_STRATEGY</code>,
+     *     <code>Deflater.FILTERED</code> and
+     *     <code>Deflater.HUFFMAN_ONLY</code>.
+     */
+    public void setStrategy(int strategy) {
+        if (strategy != Deflater.DEFAULT_STRATEGY
+                && strategy != Deflater.FILTERED
+                && strategy != Deflater.HUFFMAN_ONLY) {
+            throw new IllegalArgumentException("Unknown strategy " + strategy);
+        }
+        this.strategy = strategy;
+    }
+
+    /**
+     * Returns the PNG row filter.
+     *
+     * @return The filter.
+     */
+    public int getFilter() {
+        return this.filter;
+    }
+
+    /**
+     * Sets the PNG row filter.  The 'Up' filter (the default) usually gives
+     * the smallest output for charts, and 'None' is the fastest.
+     *
+     * @param filter  one of {@link #FILTER_NONE}, {@link #FILTER_SUB} and
+     *     {@link #FILTER_UP}.
+     */
+    public void setFilter(int filter) {
+        if (filter < FILTER_NONE || filter > FILTER_UP) {
+            throw new IllegalArgumentException("Unknown filter " + filter);
+        }
+        this.filter = filter;
+    }
+
+    /**
+     * Returns the flag that controls whether large images are compressed on
+     * several threads.
+     *
+     * @return A boolean.
+     */
+    public boolean isParallel() {
+        return this.parallel;
+    }
+
+    /**
+     * Sets the flag that controls whether large images are compressed on
+     * several threads (using the common fork-join pool).  The output is a
+     * little larger than for sequential compression.
+     *
+     * @param parallel  the flag.
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
+    }
+
+    /**
+     * Returns the flag that controls whether images with no more than 256
+     * colours are written as 8-bit palette images.
+     *
+     * @return A boolean.
+     */
+    public boolean isIndexed() {
+        return this.indexed;
+    }
+
+    /**
+     * Sets the flag that controls whether images with no more than 256
+     * colours are written as 8-bit palette images.  This is lossless: images
+     * with more colours are written as 24/32-bit images unless the
+     * <code>quantizing</code> flag is also set.
+     *
+     * @param indexed  the flag.
+     */
+    public void setIndexed(boolean indexed) {
+        this.indexed = indexed;
+    }
+
+    /**
+     * Returns the flag that controls whether images with more than 256
+     * colours are reduced to 256 colours when the <code>indexed</code> flag
+     * is set.
+     *
+     * @return A boolean.
+     */
+    public boolean isQuantizing() {
+        return this.quantizing;
+    }
+
+    /**
+     * Sets the flag that controls whether images with more than 256
+     * colours are reduced to 256 colours when the <code>indexed</code> flag
+     * is set.  The palette holds the 256 most frequent colours: for a chart,
+     * these are the colours of the chart elements plus the most common
+     * anti-aliasing shades along their edges.  Every other colour is drawn
+     * with the nearest palette colour.  This is lossy, but the change is
+     * rarely visible for anti-aliased charts.
+     *
+     * @param quantizing  the flag.
+     */
+    public void setQuantizing(boolean quantizing) {
+        this.quantizing = quantizing;
+    }
+
+    /**
+     * Encodes an image in PNG format.
+     *
+     * @param bufferedImage  the image to be encoded (<code>null</code> not
+     *     permitted).
+     *
+     * @return The byte[] that is the encoded image.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Override
+    public byte[] encode(BufferedImage bufferedImage) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        encode(bufferedImage, out);
+        return out.toByteArray();
+    }
+
+    /**
+     * Encodes an image in PNG format and writes it to an
+     * <code>OutputStream</code>.
+     *
+     * @param bufferedImage  the image to be encoded (<code>null</code> not
+     *     permitted).
+     * @param outputStream  the output stream (<code>null</code> not
+     *     permitted).
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    @Override
+    public void encode(BufferedImage bufferedImage, OutputStream outputStream)
+            throws IOException {
+        ParamChecks.nullNotPermitted(bufferedImage, "bufferedImage");
+        ParamChecks.nullNotPermitted(outputStream, "outputStream");
+        PixelReader reader = new PixelReader(bufferedImage);
+        boolean alpha = bufferedImage.getColorModel().hasAlpha()
+                && (this.encodingAlpha || !reader.isOpaque());
+        int width = bufferedImage.getWidth();
+        int height = bufferedImage.getHeight();
+        Palette palette = null;
+        if (this.indexed) {
+            palette = Palette.create(reader, alpha, this.quantizing);
+        }
+        int colorType = alpha ? 6 : 2;  // RGBA or RGB
+        if (palette != null) {
+            colorType = 3;
+        }
+
+        DataOutputStream out = new DataOutputStream(outputStream);
+        out.write(SIGNATURE);
+        ChunkWriter chunks = new ChunkWriter(out);
+        ByteArrayOutputStream header = new ByteArrayOutputStream(13);
+        DataOutputStream h = new DataOutputStream(header);
+        h.writeInt(width);
+        h.writeInt(height);
+        h.writeByte(8);  // bit depth
+        h.writeByte(colorType);
+        h.writeByte(0);  // compression method
+        h.writeByte(0);  // filter method
+        h.writeByte(0);  // interlace method
+        chunks.writeChunk("IHDR", header.toByteArray(), 0, header.size());
+        if (palette != null) {
+            palette.writeChunks(chunks);
+        }
+
+        IdatWriter idat = new IdatWriter(chunks);
+        idat.write(zlibHeader(this.level), 0, 2);
+        int rowBytes = 1 + width * RowFilter.bytesPerPixel(alpha, palette);
+        int rowsPerBlock = Math.max(1, BLOCK_SIZE / rowBytes);
+        long adler;
+        if (this.parallel && height > rowsPerBlock) {
+            adler = deflateParallel(reader, alpha, palette, rowsPerBlock,
+                    idat);
+        }
+        else {
+            RowFilter rows = new RowFilter(reader, alpha, palette,
+                    this.filter, 0);
+            adler = deflateRows(rows, 0, height, true, idat);
+        }
+        byte[] trailer = new byte[4];
+        trailer[0] = (byte) (adler >>> 24);
+        trailer[1] = (byte) (adler >>> 16);
+        trailer[2] = (byte) (adler >>> 8);
+        trailer[3] = (byte) adler;
+        idat.write(trailer, 0, 4);
+        idat.flush();
+        chunks.writeChunk("IEND", new byte[0], 0, 0);
+        out.flush();
+    }
+
+    /**
+     * Filters and compresses a range of rows as raw deflate data, writing
+     * the output to the specified stream.
+     *
+     * @param rows  the row filter.
+     * @param y0  the first row (inclusive).
+     * @param y1  the last row (exclusive).
+     * @param last  is this the last block of the image?
+     * @param out  the output stream.
+     *
+     * @return The Adler-32 checksum of the uncompressed rows.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    private long deflateRows(RowFilter rows, int y0, int y1, boolean last,
+            OutputStream out) throws IOException {
+        Deflater deflater = new Deflater(this.level, true);
+        deflater.setStrategy(this.strategy);
+        Adler32 adler = new Adler32();
+        byte[] buffer = new byte[IDAT_SIZE];
+        try {
+            for (int y = y0; y < y1; y++) {
+                byte[] row = rows.filterRow(y);
+                adler.update(row, 0, row.length);
+                deflater.setInput(row, 0, row.length);
+                while (!deflater.needsInput()) {
+                    int n = deflater.deflate(buffer, 0, buffer.length);
+                    out.write(buffer, 0, n);
+                }
+            }
+            if (last) {
+                deflater.finish();
+                while (!deflater.finished()) {
+                    int n = deflater.deflate(buffer, 0, buffer.length);
+                    out.write(buffer, 0, n);
+                }
+            }
+            else {
+                // end the block on a byte boundary without marking it as
+                // the final block, so that the next block can follow it
+                int n;
+                do {
+                    n = deflater.deflate(buffer, 0, buffer.length,
+                            Deflater.SYNC_FLUSH);
+                    out.write(buffer, 0, n);
+                } while (n == buffer.length);
+            }
+        }
+        finally {
+            deflater.end();
+        }
+        return adler.getValue();
+    }
+
+    /**
+     * Compresses blocks of rows in parallel and writes them, in order, to the
+     * IDAT writer.
+     *
+     * @param reader  the pixel reader.
+     * @param alpha  write the alpha channel?
+     * @param palette  the palette (<code>null</code> for RGB/RGBA).
+     * @param rowsPerBlock  the number of rows in each block.
+     * @param idat  the IDAT writer.
+     *
+     * @return The Adler-32 checksum of all the uncompressed rows.
+     *
+     * @throws IOException if there is an IO problem.
+     */
+    private long deflateParallel(final PixelReader reader,
+            final boolean alpha, final Palette palette, int rowsPerBlock,
+            IdatWriter idat)
+            throws IOException {
+        final int height = reader.getHeight();
+        List<Callable<byte[]>> tasks = new ArrayList<Callable<byte[]>>();
+        List<Integer> lengths = new ArrayList<Integer>();
+        final long[] checksums = new long[(height + rowsPerBlock - 1)
+                / rowsPerBlock];
+        int rowBytes = 1 + reader.getWidth()
+                * RowFilter.bytesPerPixel(alpha, palette);
+        for (int b = 0; b < checksums.length; b++) {
+            final int block = b;
+            final int y0 = b * rowsPerBlock;
+            final int y1 = Math.min(y0 + rowsPerBlock, height);
+            lengths.add((y1 - y0) * rowBytes);
+            tasks.add(new Callable<byte[]>() {
+                @Override
+                public byte[] call() throws IOException {
+                    ByteArrayOutputStream out = new ByteArrayOutputStream();
+                    RowFilter rows = new RowFilter(reader, alpha, palette,
+                            FastPNGEncoder.this.filter, y0);
+                    checksums[block] = deflateRows(rows, y0, y1,
+                            y1 == height, out);
+                    return out.toByteArray();
+                }
+            });
+        }
+        List<Future<byte[]>> results = ForkJoinPool.commonPool().invokeAll(
+                tasks);
+        long adler = 1L;
+        try {
+            for (int b = 0; b < results.size(); b++) {
+                byte[] data = results.get(b).get();
+                idat.write(data, 0, data.length);
+                adler = combineAdler32(adler, checksums[b], lengths.get(b));
+            }
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while encoding the image.");
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            throw new IOException(String.valueOf(cause));
+        }
+        return adler;
+    }
+
+    /**
+     * Returns the two byte zlib header for the specified compression level.
+     *
+     * @param level  the compression level.
+     *
+     * @return The header.
+     */
+    private static byte[] zlibHeader(int level) {
+        int cmf = 0x78;  // deflate with a 32K window
+        int flevel;
+        if (level < 2) {
+            flevel = 0;
+        }
+        else if (level < 6) {
+            flevel = 1;
+        }
+        else if (level == 6) {
+            flevel = 2;
+        }
+        else {
+            flevel = 3;
+        }
+        int flg = flevel << 6;
+        flg += 31 - ((cmf * 256 + flg) % 31);
+        return new byte[] {(byte) cmf, (byte) flg};
+    }
+
+    /**
+     * Returns the Adler-32 checksum of two sequences of bytes, given the
+     * checksum of each sequence (this is <code>adler32_combine()</code> from
+     * zlib).
+     *
+     * @param adler1  the checksum of the first sequence.
+     * @param adler2  the checksum of the second sequence.
+     * @param len2  the length of the second sequence.
+     *
+     * @return The checksum.
+     */
+    static long combineAdler32(long adler1, long adler2, long len2) {
+        final long base = 65521L;
+        long rem = len2 % base;
+        long sum1 = adler1 & 0xFFFF;
+        long sum2 = (rem * sum1) % base;
+        sum1 += (adler2 & 0xFFFF) + base - 1;
+        sum2 += ((adler1 >> 16) & 0xFFFF) + ((adler2 >> 16) & 0xFFFF)
+                + base - rem;
+        if (sum1 >= base) {
+            sum1 -= base;
+        }
+        if (sum1 >= base) {
+            sum1 -= base;
+        }
+        if (sum2 >= (base << 1)) {
+            sum2 -= (base << 1);
+        }
+        if (sum2 >= base) {
+            sum2 -= base;
+        }
+        return sum1 | (sum2 << 16);
+    }
+
+    /**
+     * Reads rows of pixels (as non-premultiplied ARGB values) from an image.
+     */
+    private static class PixelReader {
+
+        /** The image. */
+        private BufferedImage image;
+
+        /** The raster data, for int RGB/ARGB images (otherwise null). */
+        private int[] data;
+
+        /** The offset of the first pixel in the data. */
+        private int offset;
+
+        /** The scanline stride of the data. */
+        private int stride;
+
+        /**
+         * Creates a reader for the specified image.
+         *
+         * @param image  the image.
+         */
+        PixelReader(BufferedImage image) {
+            this.image = image;
+            int type = image.getType();
+            Raster raster = image.getRaster();
+            if ((type == BufferedImage.TYPE_INT_RGB
+                    || type == BufferedImage.TYPE_INT_ARGB)
+                    && raster.getDataBuffer() instanceof DataBufferInt
+                    && raster.getSampleModel()
+                    instanceof SinglePixelPackedSampleModel) {
+                SinglePixelPackedSampleModel sm
+                        = (SinglePixelPackedSampleModel)
+                        raster.getSampleModel();
+                this.data = ((DataBufferInt) raster.getDataBuffer())
+                        .getData();
+                this.stride = sm.getScanlineStride();
+                this.offset = raster.getDataBuffer().getOffset()
+                        + sm.getOffset(-raster.getSampleModelTranslateX(),
+                        -raster.getSampleModelTranslateY());
+            }
+        }
+
+        /**
+         * Returns the image width.
+         *
+         * @return The width.
+         */
+        int getWidth() {
+            return this.image.getWidth();
+        }
+
+        /**
+         * Returns the image height.
+         *
+         * @return The height.
+         */
+        int getHeight() {
+            return this.image.getHeight();
+        }
+
+        /**
+         * Reads a row of pixels into the specified array.  For direct
+         * access the array may be ignored and the raster data returned,
+         * in which case the row starts at {@link #rowOffset(int)}.
+         *
+         * @param y  the row.
+         * @param row  an array with space for one row.
+         *
+         * @return The array holding the pixels.
+         */
+        int[] readRow(int y, int[] row) {
+            if (this.data != null) {
+                return this.data;
+            }
+            return this.image.getRGB(0, y, row.length, 1, row, 0, row.length);
+        }
+
+        /**
+         * Returns the index of the first pixel of a row in the array
+         * returned by {@link #readRow(int, int[])}.
+         *
+         * @param y  the row.
+         *
+         * @return The index.
+         */
+        int rowOffset(int y) {
+            return (this.data != null) ? this.offset + y * this.stride : 0;
+        }
+
+        /**
+         * Returns <code>true</code> if the image has no alpha channel or
+         * every pixel is fully opaque.
+         *
+         * @return A boolean.
+         */
+        boolean isOpaque() {
+            if (!this.image.getColorModel().hasAlpha()) {
+                return true;
+            }
+            int w = getWidth();
+            int[] row = new int[w];
+            for (int y = 0; y < getHeight(); y++) {
+                int[] pixels = readRow(y, row);
+                int start = rowOffset(y);
+                for (int i = start; i < start + w; i++) {
+                    if ((pixels[i] >>> 24) != 0xFF) {
+                        return false;
+                    }
+                }
+            }
+            return true;
+        }
+
+    }
+
+    /**
+     * Converts rows of pixels to filtered PNG scanlines.
+     */
+    private static class RowFilter {
+
+        /** The pixel reader. */
+        private PixelReader reader;
+
+        /** Write the alpha channel? */
+        private boolean alpha;
+
+        /** The palette (<code>null</code> for RGB/RGBA rows). */
+        private Palette palette;
+
+        /** The number of bytes per pixel. */
+        private int bpp;
+
+        /** The filter type. */
+        private int filter;
+
+        /** Space for one row of pixels. */
+        private int[] pixels;
+
+        /** The current row, unfiltered (without the filter type byte). */
+        private byte[] current;
+
+        /** The previous row, unfiltered. */
+        private byte[] previous;
+
+        /** The filtered row (including the filter type byte). */
+        private byte[] filtered;
+
+        /**
+         * Returns the number of bytes per pixel in a scanline.
+         *
+         * @param alpha  write the alpha channel?
+         * @param palette  the palette (<code>null</code> for RGB/RGBA).
+         *
+         * @return The number of bytes.
+         */
+        static int bytesPerPixel(boolean alpha, Palette palette) {
+            if (palette != null) {
+                return 1;
+            }
+            return alpha ? 4 : 3;
+        }
+
+        /**
+         * Creates a new row filter.
+         *
+         * @param reader  the pixel reader.
+         * @param alpha  write the alpha channel?
+         * @param palette  the palette (<code>null</code> for RGB/RGBA rows).
+         * @param filter  the filter type.
+         * @param y0  the first row that will be filtered.
+         */
+        RowFilter(PixelReader reader, boolean alpha, Palette palette,
+                int filter, int y0) {
+            this.reader = reader;
+            this.alpha = alpha;
+            this.palette = palette;
+            this.bpp = bytesPerPixel(alpha, palette);
+            this.filter = filter;
+            int w = reader.getWidth();
+            int bytes = w * this.bpp;
+            this.pixels = new int[w];
+            this.current = new byte[bytes];
+            this.previous = new byte[bytes];
+            this.filtered = new byte[bytes + 1];
+            if (filter == FILTER_UP && y0 > 0) {
+                unpack(y0 - 1, this.current);
+            }
+        }
+
+        /**
+         * Reads a row of pixels into a byte array (palette indices, RGB or
+         * RGBA).
+         *
+         * @param y  the row.
+         * @param dest  the destination array.
+         */
+        private void unpack(int y, byte[] dest) {
+            int[] src = this.reader.readRow(y, this.pixels);
+            int i = this.reader.rowOffset(y);
+            int end = i + this.pixels.length;
+            int j = 0;
+            if (this.palette != null) {
+                int last = 0;
+                byte index = 0;
+                for (; i < end; i++) {
+                    int p = src[i];
+                    if (p != last || j == 0) {
+                        last = p;
+                        index = (byte) this.palette.indexOf(p);
+                    }
+                    dest[j++] = index;
+                }
+            }
+            else if (this.alpha) {
+                for (; i < end; i++) {
+                    int p = src[i];
+                    dest[j++] = (byte) (p >> 16);
+                    dest[j++] = (byte) (p >> 8);
+                    dest[j++] = (byte) p;
+                    dest[j++] = (byte) (p >>> 24);
+                }
+            }
+            else {
+                for (; i < end; i++) {
+                    int p = src[i];
+                    dest[j++] = (byte) (p >> 16);
+                    dest[j++] = (byte) (p >> 8);
+                    dest[j++] = (byte) p;
+                }
+            }
+        }
+
+        /**
+         * Returns the filtered scanline for a row.  Rows must be requested
+         * in order.  The returned array is reused for the next row.
+         *
+         * @param y  the row.
+         *
+         * @return The scanline (including the filter type byte).
+         */
+        byte[] filterRow(int y) {
+            byte[] swap = this.previous;
+            this.previous = this.current;
+            this.current = swap;
+            unpack(y, this.current);
+            byte[] cur = this.current;
+            byte[] out = this.filtered;
+            out[0] = (byte) this.filter;
+            int n = cur.length;
+            if (this.filter == FILTER_SUB) {
+                int bpp = this.bpp;
+                System.arraycopy(cur, 0, out, 1, Math.min(bpp, n));
+                for (int i = bpp; i < n; i++) {
+                    out[i + 1] = (byte) (cur[i] - cur[i - bpp]);
+                }
+            }
+            else if (this.filter == FILTER_UP) {
+                if (y == 0) {
+                    System.arraycopy(cur, 0, out, 1, n);
+                }
+                else {
+                    byte[] prev = this.previous;
+                    for (int i = 0; i < n; i++) {
+                        out[i + 1] = (byte) (cur[i] - prev[i]);
+                    }
+                }
+            }
+            else {
+                System.arraycopy(cur, 0, out, 1, n);
+            }
+            return out;
+        }
+
+    }
+
+    /**
+     * A palette of up to 256 colours, with the palette index for every
+     * colour in an image.
+     */
+    private static class Palette {
+
+        /** The maximum number of colours in a palette. */
+        private static final int MAX_COLORS = 256;
+
+        /** The palette colours (ARGB), translucent colours first. */
+        private int[] colors;
+
+        /** The palette index for each (normalised) image colour. */
+        private ColorTable indices;
+
+        /** Is the alpha channel written? */
+        private boolean alpha;
+
+        /**
+         * Creates a new palette.
+         *
+         * @param colors  the palette colours.
+         * @param indices  the palette index for each image colour.
+         * @param alpha  is the alpha channel written?
+         */
+        private Palette(int[] colors, ColorTable indices, boolean alpha) {
+            this.colors = colors;
+            this.indices = indices;
+            this.alpha = alpha;
+        }
+
+        /**
+         * Creates a palette for an image.
+         *
+         * @param reader  the pixel reader.
+         * @param alpha  is the alpha channel written?
+         * @param quantize  reduce the image to 256 colours if necessary?
+         *
+         * @return The palette, or <code>null</code> if the image has more
+         *     than 256 colours and <code>quantize</code> is
+         *     <code>false</code>.
+         */
+        static Palette create(PixelReader reader, boolean alpha,
+                boolean quantize) {
+            int w = reader.getWidth();
+            int[] row = new int[w];
+            ColorTable counts = new ColorTable();
+            for (int y = 0; y < reader.getHeight(); y++) {
+                int[] pixels = reader.readRow(y, row);
+                int start = reader.rowOffset(y);
+                int end = start + w;
+                // count runs of the same pixel value together, since charts
+                // have long runs of one colour
+                int i = start;
+                while (i < end) {
+                    int p = pixels[i];
+                    int runEnd = i + 1;
+                    while (runEnd < end && pixels[runEnd] == p) {
+                        runEnd++;
+                    }
+                    counts.add(normalise(p, alpha), runEnd - i);
+                    i = runEnd;
+                }
+                if (!quantize && counts.size() > MAX_COLORS) {
+                    return null;
+                }
+            }
+
+            // sort the colours by frequency (most frequent first)
+            int n = counts.size();
+            long[] entries = new long[n];
+            int k = 0;
+            for (int slot = 0; slot < counts.capacity(); slot++) {
+                if (counts.isUsed(slot)) {
+                    entries[k++] = ((long) (Integer.MAX_VALUE
+                            - counts.valueAt(slot)) << 32)
+                            | (counts.keyAt(slot) & 0xFFFFFFFFL);
+                }
+            }
+            Arrays.sort(entries);
+            int paletteSize = Math.min(n, MAX_COLORS);
+
+            // put the translucent colours first, to keep the tRNS chunk
+            // short
+            int[] colors = new int[paletteSize];
+            int c = 0;
+            for (int i = 0; i < paletteSize; i++) {
+                if (((int) entries[i] >>> 24) != 0xFF) {
+                    colors[c++] = (int) entries[i];
+                }
+            }
+            for (int i = 0; i < paletteSize; i++) {
+                if (((int) entries[i] >>> 24) == 0xFF) {
+                    colors[c++] = (int) entries[i];
+                }
+            }
+
+            ColorTable indices = new ColorTable();
+            for (int i = 0; i < paletteSize; i++) {
+                indices.put(colors[i], i);
+            }
+            for (int i = paletteSize; i < n; i++) {
+                int color = (int) entries[i];
+                indices.put(color, nearest(colors, color));
+            }
+            return new Palette(colors, indices, alpha);
+        }
+
+        /**
+         * Returns the colour used for a pixel in the palette: fully
+         * transparent pixels are all the same, and the alpha channel is
+         * dropped if it is not written.
+         *
+         * @param argb  the pixel.
+         * @param alpha  is the alpha channel written?
+         *
+         * @return The colour.
+         */
+        private static int normalise(int argb, boolean alpha) {
+            if (!alpha) {
+                return argb | 0xFF000000;
+            }
+            return (argb >>> 24) == 0 ? 0 : argb;
+        }
+
+        /**
+         * Returns the index of the palette colour nearest to the specified
+         * colour.
+         *
+         * @param colors  the palette colours.
+         * @param argb  the colour.
+         *
+         * @return The index.
+         */
+        private static int nearest(int[] colors, int argb) {
+            int a = argb >>> 24;
+            int r = (argb >> 16) & 0xFF;
+            int g = (argb >> 8) & 0xFF;
+            int b = argb & 0xFF;
+            int best = 0;
+            int bestDistance = Integer.MAX_VALUE;
+            for (int i = 0; i < colors.length; i++) {
+                int c = colors[i];
+                int da = a - (c >>> 24);
+                int dr = r - ((c >> 16) & 0xFF);
+                int dg = g - ((c >> 8) & 0xFF);
+                int db = b - (c & 0xFF);
+                int distance = 2 * da * da + 3 * dr * dr + 4 * dg * dg
+                        + 2 * db * db;
+                if (distance < bestDistance) {
+                    best = i;
+                    bestDistance = distance;
+                }
+            }
+            return best;
+        }
+
+        /**
+         * Returns the palette index for a pixel.
+         *
+         * @param argb  the pixel.
+         *
+         * @return The index.
+         */
+        int indexOf(int argb) {
+            return this.indices.get(normalise(argb, this.alpha));
+        }
+
+        /**
+         * Writes the PLTE chunk and, if there are translucent colours, the
+         * tRNS chunk.
+         *
+         * @param chunks  the chunk writer.
+         *
+         * @throws IOException if there is an IO problem.
+         */
+        void writeChunks(ChunkWriter chunks) throws IOException {
+            byte[] rgb = new byte[this.colors.length * 3];
+            byte[] alphas = new byte[this.colors.length];
+            int translucent = 0;
+            for (int i = 0; i < this.colors.length; i++) {
+                int c = this.colors[i];
+                rgb[i * 3] = (byte) (c >> 16);
+                rgb[i * 3 + 1] = (byte) (c >> 8);
+                rgb[i * 3 + 2] = (byte) c;
+                alphas[i] = (byte) (c >>> 24);
+                if ((c >>> 24) != 0xFF) {
+                    translucent = i + 1;
+                }
+            }
+            chunks.writeChunk("PLTE", rgb, 0, rgb.length);
+            if (translucent > 0) {
+                chunks.writeChunk("tRNS", alphas, 0, translucent);
+            }
+        }
+
+    }
+
+    /**
+     * A hash table from int keys to int values, without boxing.
+     */
+    private static class ColorTable {
+
+        /** The keys. */
+        private int[] keys;
+
+        /** The values. */
+        private int[] values;
+
+        /** Flags for the slots in use. */
+        private boolean[] used;
+
+        /** The number of keys. */
+        private int size;
+
+        /**
+         * Creates a new, empty table.
+         */
+        ColorTable() {
+            this.keys = new int[512];
+            this.values = new int[512];
+            this.used = new boolean[512];
+        }
+
+        /**
+         * Returns the number of keys.
+         *
+         * @return The number of keys.
+         */
+        int size() {
+            return this.size;
+        }
+
+        /**
+         * Returns the number of slots.
+         *
+         * @return The number of slots.
+         */
+        int capacity() {
+            return this.keys.length;
+        }
+
+        /**
+         * Returns <code>true</code> if a slot is in use.
+         *
+         * @param slot  the slot.
+         *
+         * @return A boolean.
+         */
+        boolean isUsed(int slot) {
+            return this.used[slot];
+        }
+
+        /**
+         * Returns the key in a slot.
+         *
+         * @param slot  the slot.
+         *
+         * @return The key.
+         */
+        int keyAt(int slot) {
+            return this.keys[slot];
+        }
+
+        /**
+         * Returns the value in a slot.
+         *
+         * @param slot  the slot.
+         *
+         * @return The value.
+         */
+        int valueAt(int slot) {
+            return this.values[slot];
+        }
+
+        /**
+         * Returns the slot for a key: either the slot holding the key or the
+         * empty slot where it would be added.
+         *
+         * @param key  the key.
+         *
+         * @return The slot.
+         */
+        private int slot(int key) {
+            int mask = this.keys.length - 1;
+            int h = key * 0x9E3779B9;
+            int i = (h ^ (h >>> 16)) & mask;
+            while (this.used[i] && this.keys[i] != key) {
+                i = (i + 1) & mask;
+            }
+            return i;
+        }
+
+        /**
+         * Returns the value for a key.
+         *
+         * @param key  the key.
+         *
+         * @return The value (-1 if the key is not in the table).
+         */
+        int get(int key) {
+            int i = slot(key);
+            return this.used[i] ? this.values[i] : -1;
+        }
+
+        /**
+         * Sets the value for a key.
+         *
+         * @param key  the key.
+         * @param value  the value.
+         */
+        void put(int key, int value) {
+            int i = slot(key);
+            if (!this.used[i]) {
+                i = insert(key, i);
+            }
+            this.values[i] = value;
+        }
+
+        /**
+         * Adds to the value for a key (starting from zero).
+         *
+         * @param key  the key.
+         * @param n  the amount to add.
+         */
+        void add(int key, int n) {
+            int i = slot(key);
+            if (!this.used[i]) {
+                i = insert(key, i);
+            }
+            this.values[i] += n;
+        }
+
+        /**
+         * Adds a key with value zero to an empty slot, growing the table if
+         * it is too full.
+         *
+         * @param key  the key.
+         * @param slot  the empty slot for the key.
+         *
+         * @return The slot holding the key.
+         */
+        private int insert(int key, int slot) {
+            if (2 * (this.size + 1) > this.keys.length) {
+                int[] oldKeys = this.keys;
+                int[] oldValues = this.values;
+                boolean[] oldUsed = this.used;
+                int capacity = oldKeys.length * 2;
+                this.keys = new int[capacity];
+                this.values = new int[capacity];
+                this.used = new boolean[capacity];
+                for (int i = 0; i < oldKeys.length; i++) {
+                    if (oldUsed[i]) {
+                        int s = slot(oldKeys[i]);
+                        this.used[s] = true;
+                        this.keys[s] = oldKeys[i];
+                        this.values[s] = oldValues[i];
+                    }
+                }
+                slot = slot(key);
+            }
+            this.used[slot] = true;
+            this.keys[slot] = key;
+            this.values[slot] = 0;
+            this.size++;
+            return slot;
+        }
+
+    }
+
+    /**
+     * Writes PNG chunks with their length and CRC.
+     */
+    private static class ChunkWriter {
+
+        /** The output stream. */
+        private DataOutputStream out;
+
+        /** The CRC calculator. */
+        private CRC32 crc;
+
+        /**
+         * Creates a new chunk writer.
+         *
+         * @param out  the output stream.
+         */
+        ChunkWriter(DataOutputStream out) {
+            this.out = out;
+            this.crc = new CRC32();
+        }
+
+        /**
+         * Writes a chunk.
+         *
+         * @param type  the chunk type (four ASCII characters).
+         * @param data  the chunk data.
+         * @param off  the offset of the data.
+         * @param len  the length of the data.
+         *
+         * @throws IOException if there is an IO problem.
+         */
+        void writeChunk(String type, byte[] data, int off, int len)
+                throws IOException {
+            byte[] typeBytes = type.getBytes("US-ASCII");
+            this.out.writeInt(len);
+            this.out.write(typeBytes);
+            this.out.write(data, off, len);
+            this.crc.reset();
+            this.crc.update(typeBytes);
+            this.crc.update(data, off, len);
+            this.out.writeInt((int) this.crc.getValue());
+        }
+
+    }
+
+    /**
+     * An output stream that writes its data as a sequence of IDAT chunks.
+     */
+    private static class IdatWriter extends OutputStream {
+
+        /** The chunk writer. */
+        private ChunkWriter chunks;
+
+        /** The buffer for the current chunk. */
+        private byte[] buffer;
+
+        /** The number of bytes in the buffer. */
+        private int count;
+
+        /**
+         * Creates a new writer.
+         *
+         * @param chunks  the chunk writer.
+         */
+        IdatWriter(ChunkWriter chunks) {
+            this.chunks = chunks;
+            this.buffer = new byte[IDAT_SIZE];
+        }
+
+        @Override
+        public void write(int b) throws IOException {
+            if (this.count == this.buffer.length) {
+                flush();
+            }
+            this.buffer[this.count++] = (byte) b;
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) throws IOException {
+            while (len > 0) {
+                if (this.count == this.buffer.length) {
+                    flush();
+                }
+                int n = Math.min(len, this.buffer.length - this.count);
+                System.arraycopy(b, off, this.buffer, this.count, n);
+                this.count += n;
+                off += n;
+                len -= n;
+            }
+        }
+
+        /**
+         * Writes the buffered data (if any) as an IDAT chunk.
+         *
+         * @throws IOException if there is an IO problem.
+         */
+        @Override
+        public void flush() throws IOException {
+            if (this.count > 0) {
+                this.chunks.writeChunk("IDAT", this.buffer, 0, this.count);
+                this.count = 0;
+            }
+        }
+
+    }
+
+}
@@ -0,0 +1,353 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * GridEntityCollection.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.chart.entity;
+
+import java.awt.geom.Rectangle2D;
+
+/**
+ * An entity collection that maintains a grid index over the bounds of the
+ * entities, so that {@link #getEntity(double, double)} only needs to test the
+ * entities that overlap one grid cell.  This makes hit-testing (for tooltips
+ * and mouse events in the {@link org.jfree.chart.ChartPanel} class) fast even
+ * when a chart has a very large number of entities.
+ * <P>
+ * The index is built the first time an entity is looked up by location
+ * after the collection has been modified, and the result is always the same
+ * as for the {@link StandardEntityCollection} class (the last entity added
+ * that contains the point).  Entities that span a large part of the grid
+ * (for example, the chart and plot entities) are kept in a separate list that
+ * is tested for every lookup.  If the area of an entity is changed after the
+ * entity is added to the collection, {@link #clear()} should be called and
+ * the entities added again.
+ *
+ * @since 1.0.20
+ */
+public class GridEntityCollection extends StandardEntityCollection {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -1878302442163113604L;
+
+    /** The maximum number of rows or columns in the grid. */
+    private static final int MAX_CELLS = 1024;
+
+    /**
+     * Entities that span more than this number of cells are not added to the
+     * grid.
+     */
+    private static final int MAX_CELLS_PER_ENTITY = 16;
+
+    /** The number of entities in the index. */
+    private transient int indexedCount;
+
+    /** The bounds of all the entities in the index. */
+    private transient double minX, minY, maxX, maxY;
+
+    /** The number of columns in the grid. */
+    private transient int columns;
+
+    /** The number of rows in the grid. */
+    private transient int rows;
+
+    /** The width of a grid cell. */
+    private transient double cellWidth;
+
+    /** The height of a grid cell. */
+    private transient double cellHeight;
+
+    /**
+     * The start of the entries for each cell in the <code>cellEntities</code>
+     * array (with an extra entry marking the end of the last cell).
+     */
+    private transient int[] cellStart;
+
+    /**
+     * The indices of the entities overlapping each cell, in ascending order
+     * within each cell.
+     */
+    private transient int[] cellEntities;
+
+    /** The indices of the entities not in the grid, in ascending order. */
+    private transient int[] largeEntities;
+
+    /**
+     * Creates a new entity collection (initially empty).
+     */
+    public GridEntityCollection() {
+        super();
+    }
+
+    /**
+     * Clears all the entities from the collection.
+     */
+    @Override
+    public void clear() {
+        super.clear();
+        invalidateIndex();
+    }
+
+    /**
+     * Adds an entity to the collection.
+     *
+     * @param entity  the entity (<code>null</code> not permitted).
+     */
+    @Override
+    public void add(ChartEntity entity) {
+        super.add(entity);
+        invalidateIndex();
+    }
+
+    /**
+     * Adds all the entities from the specified collection.
+     *
+     * @param collection  the collection of entities (<code>null</code> not
+     *     permitted).
+     */
+    @Override
+    public void addAll(EntityCollection collection) {
+        super.addAll(collection);
+        invalidateIndex();
+    }
+
+    /**
+     * Returns the last entity in the list with an area that encloses the
+     * specified coordinates, or <code>null</code> if there is no such entity.
+     *
+     * @param x  the x coordinate.
+     * @param y  the y coordinate.
+     *
+     * @return The entity (possibly <code>null</code>).
+     */
+    @Override
+    public ChartEntity getEntity(double x, double y) {
+        if (this.cellStart == null || this.indexedCount != getEntityCount()) {
+            buildIndex();
+        }
+        int best = -1;
+        if (x >= this.minX && x <= this.maxX && y >= this.minY
+                && y <= this.maxY) {
+            int cell = row(y) * this.columns + column(x);
+            for (int i = this.cellStart[cell + 1] - 1;
+                    i >= this.cellStart[cell]; i--) {
+                int index = this.cellEntities[i];
+                if (getEntity(index).getArea().contains(x, y)) {
+                    best = index;
+                    break;
+                }
+            }
+        }
+        for (int i = this.largeEntities.length - 1; i >= 0; i--) {
+            int index = this.largeEntities[i];
+            if (index < best) {
+                break;
+            }
+            if (getEntity(index).getArea().contains(x, y)) {
+                best = index;
+                break;
+            }
+        }
+        return best >= 0 ? getEntity(best) : null;
+    }
+
+    /**
+     * Returns a clone of this entity collection.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if the object cannot be cloned.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        GridEntityCollection clone = (GridEntityCollection) super.clone();
+        clone.invalidateIndex();
+        return clone;
+    }
+
+    /**
+     * Discards the index.
+     */
+    private void invalidateIndex() {
+        this.cellStart = null;
+        this.cellEntities = null;
+        this.largeEntities = null;
+    }
+
+    /**
+     * Returns the grid column for an x-coordinate.
+     *
+     * @param x  the x-coordinate.
+     *
+     * @return The column.
+     */
+    private int column(double x) {
+        int c = (int) ((x - this.minX) / this.cellWidth);
+        return Math.max(0, Math.min(c, this.columns - 1));
+    }
+
+    /**
+     * Returns the grid row for a y-coordinate.
+     *
+     * @param y  the y-coordinate.
+     *
+     * @return The row.
+     */
+    private int row(double y) {
+        int r = (int) ((y - this.minY) / this.cellHeight);
+        return Math.max(0, Math.min(r, this.rows - 1));
+    }
+
+    /**
+     * Builds the index for the entities currently in the collection.
+     */
+    private void buildIndex() {
+        int count = getEntityCount();
+        Rectangle2D[] bounds = new Rectangle2D[count];
+        double x0 = Double.POSITIVE_INFINITY;
+        double y0 = Double.POSITIVE_INFINITY;
+        double x1 = Double.NEGATIVE_INFINITY;
+        double y1 = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < count; i++) {
+            Rectangle2D b = getEntity(i).getArea().getBounds2D();
+            if (isFinite(b)) {
+                bounds[i] = b;
+                x0 = Math.min(x0, b.getMinX());
+                y0 = Math.min(y0, b.getMinY());
+                x1 = Math.max(x1, b.getMaxX());
+                y1 = Math.max(y1, b.getMaxY());
+            }
+        }
+        if (x0 > x1) {
+            x0 = 0.0;
+            y0 = 0.0;
+            x1 = 0.0;
+            y1 = 0.0;
+        }
+        this.minX = x0;
+        this.minY = y0;
+        this.maxX = x1;
+        this.maxY = y1;
+
+        // aim for about one entity per cell, with cells that are roughly
+        // square
+        double w = Math.max(x1 - x0, 1.0);
+        double h = Math.max(y1 - y0, 1.0);
+        int c = (int) Math.ceil(Math.sqrt(count * w / h));
+        this.columns = Math.max(1, Math.min(c, MAX_CELLS));
+        this.rows = Math.max(1, Math.min((count + this.columns - 1)
+                / this.columns, MAX_CELLS));
+        this.cellWidth = w / this.columns;
+        this.cellHeight = h / this.rows;
+
+        // count the entities in each cell, then fill the cells
+        int cellCount = this.columns * this.rows;
+        int[] start = new int[cellCount + 1];
+        int largeCount = 0;
+        for (int i = 0; i < count; i++) {
+            Rectangle2D b = bounds[i];
+            if (b == null || cellSpan(b) > MAX_CELLS_PER_ENTITY) {
+                bounds[i] = null;
+                largeCount++;
+                continue;
+            }
+            for (int r = row(b.getMinY()); r <= row(b.getMaxY()); r++) {
+                for (int col = column(b.getMinX()); col <= column(b.getMaxX());
+                        col++) {
+                    start[r * this.columns + col + 1]++;
+                }
+            }
+        }
+        for (int i = 0; i < cellCount; i++) {
+            start[i + 1] += start[i];
+        }
+        int[] next = new int[cellCount];
+        System.arraycopy(start, 0, next, 0, cellCount);
+        int[] entries = new int[start[cellCount]];
+        int[] large = new int[largeCount];
+        int l = 0;
+        for (int i = 0; i < count; i++) {
+            Rectangle2D b = bounds[i];
+            if (b == null) {
+                large[l++] = i;
+                continue;
+            }
+            for (int r = row(b.getMinY()); r <= row(b.getMaxY()); r++) {
+                for (int col = column(b.getMinX()); col <= column(b.getMaxX());
+                        col++) {
+                    entries[next[r * this.columns + col]++] = i;
+                }
+            }
+        }
+        this.cellStart = start;
+        this.cellEntities = entries;
+        this.largeEntities = large;
+        this.indexedCount = count;
+    }
+
+    /**
+     * Returns the number of grid cells that a rectangle overlaps.
+     *
+     * @param b  the rectangle.
+     *
+     * @return The number of cells.
+     */
+    private int cellSpan(Rectangle2D b) {
+        int c = column(b.getMaxX()) - column(b.getMinX()) + 1;
+        int r = row(b.getMaxY()) - row(b.getMinY()) + 1;
+        return c * r;
+    }
+
+    /**
+     * Returns <code>true</code> if all the coordinates of a rectangle are
+     * finite.
+     *
+     * @param b  the rectangle.
+     *
+     * @return A boolean.
+     */
+    private static boolean isFinite(Rectangle2D b) {
+        return !Double.isNaN(b.getMinX()) && !Double.isInfinite(b.getMinX())
+                && !Double.isNaN(b.getMinY()) && !Double.isInfinite(b.getMinY())
+                && !Double.isNaN(b.getMaxX()) && !Double.isInfinite(b.getMaxX())
+                && !Double.isNaN(b.getMaxY())
+                && !Double.isInfinite(b.getMaxY());
+    }
+
+}
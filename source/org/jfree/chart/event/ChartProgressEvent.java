@@ -36,11 +36,13 @@
  * -------
  * 14-Jan-2003 : Version 1 (DG);
  * 20-Jan-2010 : Fixed bug in constructor (DG);
+ * 17-Oct-2026 : Added rendering statistics;
  *
  */
 
 package org.jfree.chart.event;
 
+import org.jfree.chart.ChartRenderingStatistics;
 import org.jfree.chart.JFreeChart;
 
 /**
@@ -63,6 +65,9 @@ public class ChartProgressEvent extends java.util.EventObject {
     /** The chart that generated the event. */
     private JFreeChart chart;
 
+    /** The rendering statistics (<code>null</code> permitted). */
+    private ChartRenderingStatistics statistics;
+
     /**
      * Creates a new chart change event.
      *
@@ -80,6 +85,25 @@ public class ChartProgressEvent extends java.util.EventObject {
         this.percent = percent;
     }
 
+    /**
+     * Creates a new chart progress event with rendering statistics.
+     *
+     * @param source  the source of the event (could be the chart, a title, an
+     *                axis etc.)
+     * @param chart  the chart that generated the event.
+     * @param type  the type of event.
+     * @param percent  the percentage of completion.
+     * @param statistics  the rendering statistics (<code>null</code>
+     *                    permitted).
+     *
+     * @since 1.0.20
+     */
+    public ChartProgressEvent(Object source, JFreeChart chart, int type,
+            int percent, ChartRenderingStatistics statistics) {
+        this(source, chart, type, percent);
+        this.statistics = statistics;
+    }
+
     /**
      * Returns the chart that generated the change event.
      *
@@ -134,4 +158,27 @@ public class ChartProgressEvent extends java.util.EventObject {
         this.percent = percent;
     }
 
+    /**
+     * Returns the statistics recorded while drawing the chart.  These are
+     * only available with the {@link #DRAWING_FINISHED} event.
+     *
+     * @return The statistics (possibly <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public ChartRenderingStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    /**
+     * Sets the rendering statistics.
+     *
+     * @param statistics  the statistics (<code>null</code> permitted).
+     *
+     * @since 1.0.20
+     */
+    public void setStatistics(ChartRenderingStatistics statistics) {
+        this.statistics = statistics;
+    }
+
 }
@@ -182,6 +182,9 @@
  * 12-Sep-2013 : Check for KEY_SUPPRESS_SHADOW_GENERATION rendering hint (DG);
  * 10-Mar-2014 : Updated Javadocs for issue #1123 (DG);
  * 09-Apr-2014 : Remove use of ObjectList (DG);
+ * 17-Oct-2026 : Record rendering statistics when requested;
+ * 17-Oct-2026 : Render SnapshotableDataset from a snapshot;
+ * 17-Oct-2026 : Stop rendering items when the drawing is cancelled;
  * 
  */
 
@@ -217,6 +220,7 @@ import java.util.Map.Entry;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.TreeMap;
+import org.jfree.chart.ChartRenderingStatistics;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItemCollection;
 import org.jfree.chart.annotations.Annotation;
@@ -249,6 +253,7 @@ import org.jfree.data.category.CategoryDataset;
 import org.jfree.data.general.Dataset;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.SnapshotableDataset;
 import org.jfree.io.SerialUtilities;
 import org.jfree.ui.Layer;
 import org.jfree.ui.RectangleEdge;
@@ -3501,8 +3506,18 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
         RectangleInsets insets = getInsets();
         insets.trim(area);
 
+        ChartRenderingStatistics stats = null;
+        if (parentState != null) {
+            stats = parentState.getStatistics();
+        }
+
         // calculate the data area...
+        long start = (stats != null) ? System.nanoTime() : 0L;
         AxisSpace space = calculateAxisSpace(g2, area);
+        if (stats != null) {
+            stats.addPhaseTime(ChartRenderingStatistics.AXIS_SPACE,
+                    System.nanoTime() - start);
+        }
         Rectangle2D dataArea = space.shrink(area, null);
         this.axisOffset.trim(dataArea);
         dataArea = integerise(dataArea);
@@ -3520,7 +3535,12 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
             drawBackground(g2, dataArea);
         }
 
+        start = (stats != null) ? System.nanoTime() : 0L;
         Map axisStateMap = drawAxes(g2, area, dataArea, state);
+        if (stats != null) {
+            stats.addPhaseTime(ChartRenderingStatistics.AXES,
+                    System.nanoTime() - start);
+        }
 
         // the anchor point is typically the point where the mouse last
         // clicked - the crosshairs will be driven off this point...
@@ -3606,9 +3626,21 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
 
         DatasetRenderingOrder order = getDatasetRenderingOrder();
         List<Integer> datasetIndices = getDatasetIndices(order);
+        long renderStart = (stats != null) ? System.nanoTime() : 0L;
         for (int i : datasetIndices) {
-            foundData = render(g2, dataArea, i, state, crosshairState)
-                    || foundData;
+            start = (stats != null) ? System.nanoTime() : 0L;
+            boolean rendered = render(g2, dataArea, i, state, crosshairState);
+            if (stats != null && rendered && getRenderer(i) != null) {
+                CategoryDataset dataset = getDataset(i);
+                stats.addRendererTime(getRenderer(i),
+                        System.nanoTime() - start,
+                        dataset.getRowCount() * dataset.getColumnCount());
+            }
+            foundData = rendered || foundData;
+        }
+        if (stats != null) {
+            stats.addPhaseTime(ChartRenderingStatistics.RENDERING,
+                    System.nanoTime() - renderStart);
         }
 
         // draw the foreground markers...
@@ -3621,7 +3653,12 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
         }
 
         // draw the annotations (if any)...
+        start = (stats != null) ? System.nanoTime() : 0L;
         drawAnnotations(g2, dataArea);
+        if (stats != null) {
+            stats.addPhaseTime(ChartRenderingStatistics.ANNOTATIONS,
+                    System.nanoTime() - start);
+        }
 
         if (this.shadowGenerator != null && !suppressShadow) {
             BufferedImage shadowImage = this.shadowGenerator.createDropShadow(
@@ -3847,7 +3884,11 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
 
     /**
      * Draws a representation of a dataset within the dataArea region using the
-     * appropriate renderer.
+     * appropriate renderer.  If the dataset implements
+     * {@link SnapshotableDataset}, the items are read from a snapshot taken
+     * at the start of this method.  If the drawing is cancelled (see
+     * {@link PlotRenderingInfo#isCancelled()}) the remaining columns are
+     * skipped.
      *
      * @param g2  the graphics device.
      * @param dataArea  the region in which the data is to be drawn.
@@ -3865,6 +3906,13 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
 
         boolean foundData = false;
         CategoryDataset currentDataset = getDataset(index);
+        if (currentDataset instanceof SnapshotableDataset) {
+            Dataset snapshot
+                    = ((SnapshotableDataset) currentDataset).getSnapshot();
+            if (snapshot instanceof CategoryDataset) {
+                currentDataset = (CategoryDataset) snapshot;
+            }
+        }
         CategoryItemRenderer renderer = getRenderer(index);
         CategoryAxis domainAxis = getDomainAxisForDataset(index);
         ValueAxis rangeAxis = getRangeAxisForDataset(index);
@@ -3881,6 +3929,9 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
             for (int pass = 0; pass < passCount; pass++) {
                 if (this.columnRenderingOrder == SortOrder.ASCENDING) {
                     for (int column = 0; column < columnCount; column++) {
+                        if (info != null && info.isCancelled()) {
+                            break;
+                        }
                         if (this.rowRenderingOrder == SortOrder.ASCENDING) {
                             for (int row = 0; row < rowCount; row++) {
                                 renderer.drawItem(g2, state, dataArea, this,
@@ -3899,6 +3950,9 @@ public class CategoryPlot extends Plot implements ValueAxisPlot, Pannable,
                 }
                 else {
                     for (int column = columnCount - 1; column >= 0; column--) {
+                        if (info != null && info.isCancelled()) {
+                            break;
+                        }
                         if (this.rowRenderingOrder == SortOrder.ASCENDING) {
                             for (int row = 0; row < rowCount; row++) {
                                 renderer.drawItem(g2, state, dataArea, this,
@@ -96,6 +96,7 @@
  * 21-Dec-2011 : Apply patch 3447161 by Ulrich Voigt and Martin Hoeller (MH);
  * 21-Jul-2014 : Override isDomainPannable() and setDomainPannable() - motivated 
  *               by patch #304 by Ulrich Voigt (DG);
+ * 17-Oct-2026 : Draw the shared axis only with the chrome layer;
  *
  */
 
@@ -108,6 +109,7 @@ import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
 
+import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItemCollection;
 import org.jfree.chart.axis.AxisSpace;
 import org.jfree.chart.axis.AxisState;
@@ -427,7 +429,10 @@ public class CombinedRangeXYPlot extends XYPlot
         ValueAxis axis = getRangeAxis();
         RectangleEdge edge = getRangeAxisEdge();
         double cursor = RectangleEdge.coordinate(dataArea, edge);
-        AxisState axisState = axis.draw(g2, cursor, area, dataArea, edge, info);
+        AxisState axisState = null;
+        if (JFreeChart.isLayerDrawn(g2, JFreeChart.LAYER_CHROME)) {
+            axisState = axis.draw(g2, cursor, area, dataArea, edge, info);
+        }
 
         if (parentState == null) {
             parentState = new PlotState();
@@ -46,6 +46,7 @@
  *               1565168 (DG);
  * 06-Feb-2007 : Added new fields and methods to fix bug 1086307 (DG);
  * 26-Jun-2008 : Now tracks dataset index (DG);
+ * 17-Oct-2026 : Added copy() and merge() for parallel rendering;
  *
  */
 
@@ -498,4 +499,44 @@ public class CrosshairState {
         return this.rangeAxisIndex;
     }
 
+    /**
+     * Returns a new instance with the same anchor, crosshair values and
+     * distance as this instance.  This is used to give each dataset its own
+     * crosshair state when datasets are rendered in parallel.
+     *
+     * @return A new crosshair state.
+     */
+    CrosshairState copy() {
+        CrosshairState copy = new CrosshairState(
+                this.calculateDistanceInDataSpace);
+        copy.anchorX = this.anchorX;
+        copy.anchorY = this.anchorY;
+        copy.anchor = this.anchor;
+        copy.crosshairX = this.crosshairX;
+        copy.crosshairY = this.crosshairY;
+        copy.datasetIndex = this.datasetIndex;
+        copy.domainAxisIndex = this.domainAxisIndex;
+        copy.rangeAxisIndex = this.rangeAxisIndex;
+        copy.distance = this.distance;
+        return copy;
+    }
+
+    /**
+     * Takes the crosshair values from another state if they are closer to the
+     * anchor than the current values.  Merging the states for each dataset
+     * in rendering order gives the same result as sequential rendering.
+     *
+     * @param other  the other state.
+     */
+    void merge(CrosshairState other) {
+        if (other.distance < this.distance) {
+            this.crosshairX = other.crosshairX;
+            this.crosshairY = other.crosshairY;
+            this.datasetIndex = other.datasetIndex;
+            this.domainAxisIndex = other.domainAxisIndex;
+            this.rangeAxisIndex = other.rangeAxisIndex;
+            this.distance = other.distance;
+        }
+    }
+
 }
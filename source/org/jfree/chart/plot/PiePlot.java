@@ -170,6 +170,9 @@
  * 01-Jul-2012 : General label once only in drawSimpleLabels() (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
  * 12-Sep-2013 : Check for KEY_SUPPRESS_SHADOW_GENERATION rendering hint (DG);
+ * 17-Oct-2026 : Record rendering statistics when requested;
+ * 17-Oct-2026 : Pass the rendering statistics as a parameter;
+ * 17-Oct-2026 : Time drawPie() from draw() so that overrides are used;
  * 
  */
 
@@ -203,6 +206,7 @@ import java.util.List;
 import java.util.Map;
 import java.util.ResourceBundle;
 import java.util.TreeMap;
+import org.jfree.chart.ChartRenderingStatistics;
 import org.jfree.chart.JFreeChart;
 
 import org.jfree.chart.LegendItem;
@@ -2430,7 +2434,17 @@ public class PiePlot extends Plot implements Cloneable, Serializable {
                 g2.translate(-area.getX(), -area.getY());
                 g2.setRenderingHints(savedG2.getRenderingHints());
             }
+            ChartRenderingStatistics stats = null;
+            if (parentState != null) {
+                stats = parentState.getStatistics();
+            }
+            long start = (stats != null) ? System.nanoTime() : 0L;
             drawPie(g2, area, info);
+            if (stats != null) {
+                long nanos = System.nanoTime() - start;
+                stats.addPhaseTime(ChartRenderingStatistics.RENDERING, nanos);
+                stats.addRendererTime(this, nanos, this.dataset.getItemCount());
+            }
             if (this.shadowGenerator != null && !suppressShadow) {
                 BufferedImage shadowImage 
                         = this.shadowGenerator.createDropShadow(dataImage);
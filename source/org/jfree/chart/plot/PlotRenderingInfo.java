@@ -41,6 +41,7 @@
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 01-Dec-2006 : Implemented clone() method properly (DG);
  * 17-Apr-2007 : Fixed bug 1698965 (NPE in CombinedDomainXYPlot) (DG);
+ * 17-Oct-2026 : Added isCancelled();
  *
  */
 
@@ -101,6 +102,19 @@ public class PlotRenderingInfo implements Cloneable, Serializable {
         return this.owner;
     }
 
+    /**
+     * Returns <code>true</code> if the drawing has been cancelled (see
+     * {@link ChartRenderingInfo#cancel()}).  Plots check this while they
+     * render the data items.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.20
+     */
+    public boolean isCancelled() {
+        return this.owner != null && this.owner.isCancelled();
+    }
+
     /**
      * Returns the plot area (in Java2D space).
      *
@@ -35,6 +35,7 @@
  * Changes
  * -------
  * 30-Oct-2003 : Version 1 (DG);
+ * 17-Oct-2026 : Added rendering statistics;
  *
  */
 
@@ -43,6 +44,8 @@ package org.jfree.chart.plot;
 import java.util.HashMap;
 import java.util.Map;
 
+import org.jfree.chart.ChartRenderingStatistics;
+
 /**
  * Records information about the state of a plot during the drawing process.
  */
@@ -51,6 +54,9 @@ public class PlotState {
     /** The shared axis states. */
     private Map sharedAxisStates;
 
+    /** The rendering statistics (<code>null</code> permitted). */
+    private ChartRenderingStatistics statistics;
+
     /**
      * Creates a new state object.
      */
@@ -67,4 +73,28 @@ public class PlotState {
         return this.sharedAxisStates;
     }
 
+    /**
+     * Returns the object that collects rendering statistics for the chart
+     * being drawn.  Plots record their timings here when it is not
+     * <code>null</code>.
+     *
+     * @return The statistics (possibly <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public ChartRenderingStatistics getStatistics() {
+        return this.statistics;
+    }
+
+    /**
+     * Sets the object that collects rendering statistics.
+     *
+     * @param statistics  the statistics (<code>null</code> permitted).
+     *
+     * @since 1.0.20
+     */
+    public void setStatistics(ChartRenderingStatistics statistics) {
+        this.statistics = statistics;
+    }
+
 }
@@ -230,6 +230,18 @@
  * 12-Sep-2013 : Check for KEY_SUPPRESS_SHADOW_GENERATION rendering hint (DG);
  * 10-Mar-2014 : Updated Javadocs for issue #1123 (DG);
  * 29-Jul-2014 : Add hints to normalise stroke for crosshairs (DG);
+ * 17-Oct-2026 : Render LevelOfDetailXYDataset via a reduced view;
+ * 17-Oct-2026 : Added optional parallel rendering of datasets to layers;
+ * 17-Oct-2026 : Record rendering statistics when requested;
+ * 17-Oct-2026 : Stop rendering items when the drawing is cancelled;
+ * 17-Oct-2026 : Support drawing a subset of the chart layers;
+ * 17-Oct-2026 : Render SnapshotableDataset from a snapshot;
+ * 17-Oct-2026 : Pass the rendering statistics as a parameter;
+ * 17-Oct-2026 : Align parallel layers with the device pixels and stop them
+ *               when abandoned;
+ * 17-Oct-2026 : Time render() from draw() so that overrides are used;
+ * 17-Oct-2026 : Draw the first layer on the calling thread and join the
+ *               others, so that drawing from a pool thread cannot deadlock;
  *
  */
 
@@ -245,6 +257,7 @@ import java.awt.Rectangle;
 import java.awt.RenderingHints;
 import java.awt.Shape;
 import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Line2D;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
@@ -258,6 +271,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.IdentityHashMap;
 import java.util.Iterator;
 import java.util.List;
 import java.util.Map;
@@ -265,6 +279,11 @@ import java.util.Map.Entry;
 import java.util.ResourceBundle;
 import java.util.Set;
 import java.util.TreeMap;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinTask;
+import org.jfree.chart.ChartRenderingInfo;
+import org.jfree.chart.ChartRenderingStatistics;
 import org.jfree.chart.JFreeChart;
 
 import org.jfree.chart.LegendItem;
@@ -280,6 +299,7 @@ import org.jfree.chart.axis.AxisState;
 import org.jfree.chart.axis.TickType;
 import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.axis.ValueTick;
+import org.jfree.chart.entity.EntityCollection;
 import org.jfree.chart.event.AnnotationChangeEvent;
 import org.jfree.chart.event.ChartChangeEventType;
 import org.jfree.chart.event.PlotChangeEvent;
@@ -294,8 +314,11 @@ import org.jfree.chart.util.ParamChecks;
 import org.jfree.chart.util.ResourceBundleWrapper;
 import org.jfree.chart.util.ShadowGenerator;
 import org.jfree.data.Range;
+import org.jfree.data.general.Dataset;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.SnapshotableDataset;
+import org.jfree.data.xy.LevelOfDetailXYDataset;
 import org.jfree.data.xy.XYDataset;
 import org.jfree.io.SerialUtilities;
 import org.jfree.ui.Layer;
@@ -606,6 +629,14 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
      */
     private ShadowGenerator shadowGenerator;
 
+    /**
+     * A flag that controls whether or not the datasets are rendered in
+     * parallel.
+     *
+     * @since 1.0.20
+     */
+    private boolean parallelRendering;
+
     /**
      * Creates a new <code>XYPlot</code> instance with no dataset, no axes and
      * no renderer.  You should specify these items before using the plot.
@@ -715,6 +746,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         this.rangeCrosshairStroke = DEFAULT_CROSSHAIR_STROKE;
         this.rangeCrosshairPaint = DEFAULT_CROSSHAIR_PAINT;
         this.shadowGenerator = null;
+        this.parallelRendering = false;
     }
 
     /**
@@ -2974,6 +3006,47 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         fireChangeEvent();
     }
 
+    /**
+     * Returns the flag that controls whether or not the datasets in the plot
+     * are rendered in parallel.
+     *
+     * @return A boolean.
+     *
+     * @see #setParallelRendering(boolean)
+     *
+     * @since 1.0.20
+     */
+    public boolean isParallelRendering() {
+        return this.parallelRendering;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the datasets in the plot are
+     * rendered in parallel, and sends a {@link PlotChangeEvent} to all
+     * registered listeners.
+     * <P>
+     * When this flag is set and the plot has more than one dataset, each
+     * dataset is rendered on a separate thread into its own image layer, and
+     * the layers are then drawn in the order given by the
+     * {@link DatasetRenderingOrder}.  Datasets that share a renderer are
+     * rendered on the same thread, and the chart entities are added to the
+     * entity collection in the same order as for sequential rendering.  The
+     * layers run as tasks in the common fork/join pool, and the thread that
+     * draws the chart renders one of the layers itself.  Since
+     * the data is drawn as images, this mode is intended for raster output
+     * rather than vector formats.
+     *
+     * @param parallel  the new flag value.
+     *
+     * @see #isParallelRendering()
+     *
+     * @since 1.0.20
+     */
+    public void setParallelRendering(boolean parallel) {
+        this.parallelRendering = parallel;
+        fireChangeEvent();
+    }
+
     /**
      * Calculates the space required for all the axes in the plot.
      *
@@ -3098,7 +3171,9 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
     }
 
     /**
-     * Draws the plot within the specified area on a graphics device.
+     * Draws the plot within the specified area on a graphics device.  If the
+     * {@link JFreeChart#KEY_CHART_LAYERS} hint is set on the graphics device,
+     * only the requested layers are drawn.
      *
      * @param g2  the graphics device.
      * @param area  the plot area (in Java2D space).
@@ -3129,7 +3204,16 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         RectangleInsets insets = getInsets();
         insets.trim(area);
 
+        ChartRenderingStatistics stats = null;
+        if (parentState != null) {
+            stats = parentState.getStatistics();
+        }
+        long start = (stats != null) ? System.nanoTime() : 0L;
         AxisSpace space = calculateAxisSpace(g2, area);
+        if (stats != null) {
+            stats.addPhaseTime(ChartRenderingStatistics.AXIS_SPACE,
+                    System.nanoTime() - start);
+        }
         Rectangle2D dataArea = space.shrink(area, null);
         this.axisOffset.trim(dataArea);
 
@@ -3137,14 +3221,30 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         if (dataArea.isEmpty()) {
             return;
         }
-        createAndAddEntity((Rectangle2D) dataArea.clone(), info, null, null);
+        // the layers to draw, see JFreeChart.KEY_CHART_LAYERS
+        boolean chrome = JFreeChart.isLayerDrawn(g2, JFreeChart.LAYER_CHROME);
+        boolean data = JFreeChart.isLayerDrawn(g2, JFreeChart.LAYER_DATA);
+        boolean overlay = JFreeChart.isLayerDrawn(g2,
+                JFreeChart.LAYER_OVERLAY);
+        if (chrome) {
+            createAndAddEntity((Rectangle2D) dataArea.clone(), info, null,
+                    null);
+        }
         if (info != null) {
             info.setDataArea(dataArea);
         }
 
         // draw the plot background and axes...
-        drawBackground(g2, dataArea);
-        Map axisStateMap = drawAxes(g2, area, dataArea, info);
+        Map axisStateMap = new HashMap();
+        if (chrome) {
+            drawBackground(g2, dataArea);
+            start = (stats != null) ? System.nanoTime() : 0L;
+            axisStateMap = drawAxes(g2, area, dataArea, info);
+            if (stats != null) {
+                stats.addPhaseTime(ChartRenderingStatistics.AXES,
+                        System.nanoTime() - start);
+            }
+        }
 
         PlotOrientation orient = getOrientation();
 
@@ -3198,7 +3298,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 
         AxisState domainAxisState = (AxisState) axisStateMap.get(
                 getDomainAxis());
-        if (domainAxisState == null) {
+        if (domainAxisState == null && chrome) {
             if (parentState != null) {
                 domainAxisState = (AxisState) parentState.getSharedAxisStates()
                         .get(getDomainAxis());
@@ -3206,7 +3306,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         }
 
         AxisState rangeAxisState = (AxisState) axisStateMap.get(getRangeAxis());
-        if (rangeAxisState == null) {
+        if (rangeAxisState == null && chrome) {
             if (parentState != null) {
                 rangeAxisState = (AxisState) parentState.getSharedAxisStates()
                         .get(getRangeAxis());
@@ -3240,13 +3340,17 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         }
 
         // draw the markers that are associated with a specific dataset...
-        for (XYDataset dataset: this.datasets.values()) {
-            int datasetIndex = indexOf(dataset);
-            drawDomainMarkers(g2, dataArea, datasetIndex, Layer.BACKGROUND);
-        }
-        for (XYDataset dataset: this.datasets.values()) {
-            int datasetIndex = indexOf(dataset);
-            drawRangeMarkers(g2, dataArea, datasetIndex, Layer.BACKGROUND);
+        if (chrome) {
+            for (XYDataset dataset: this.datasets.values()) {
+                int datasetIndex = indexOf(dataset);
+                drawDomainMarkers(g2, dataArea, datasetIndex,
+                        Layer.BACKGROUND);
+            }
+            for (XYDataset dataset: this.datasets.values()) {
+                int datasetIndex = indexOf(dataset);
+                drawRangeMarkers(g2, dataArea, datasetIndex,
+                        Layer.BACKGROUND);
+            }
         }
 
         // now draw annotations and render data items...
@@ -3254,40 +3358,69 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         DatasetRenderingOrder order = getDatasetRenderingOrder();
         List<Integer> rendererIndices = getRendererIndices(order);
         List<Integer> datasetIndices = getDatasetIndices(order);
+        start = (stats != null) ? System.nanoTime() : 0L;
             // draw background annotations
         for (int i : rendererIndices) {
             XYItemRenderer renderer = getRenderer(i);
-            if (renderer != null) {
+            if (renderer != null && chrome) {
                     ValueAxis domainAxis = getDomainAxisForDataset(i);
                     ValueAxis rangeAxis = getRangeAxisForDataset(i);
                 renderer.drawAnnotations(g2, dataArea, domainAxis, rangeAxis, 
                             Layer.BACKGROUND, info);
                 }
             }
+        if (stats != null) {
+            long now = System.nanoTime();
+            stats.addPhaseTime(ChartRenderingStatistics.ANNOTATIONS,
+                    now - start);
+            start = now;
+        }
 
             // render data items...
-        for (int datasetIndex : datasetIndices) {
-            XYDataset dataset = this.getDataset(datasetIndex);
-            foundData = render(g2, dataArea, datasetIndex, info, 
-                    crosshairState) || foundData;
+        if (!data) {
+            // the data is drawn in another pass
+            foundData = true;
+        }
+        else if (this.parallelRendering && datasetIndices.size() > 1
+                && (g2.getTransform().getType()
+                & ~AffineTransform.TYPE_TRANSLATION) == 0) {
+            // the layers are only used when they can be drawn pixel for pixel
+            foundData = renderLayers(g2, dataArea, datasetIndices, info,
+                    crosshairState, stats);
+        }
+        else {
+            for (int datasetIndex : datasetIndices) {
+                foundData = renderDataset(g2, dataArea, datasetIndex, info,
+                        crosshairState, stats) || foundData;
             }
+        }
+        if (stats != null) {
+            long now = System.nanoTime();
+            stats.addPhaseTime(ChartRenderingStatistics.RENDERING,
+                    now - start);
+            start = now;
+        }
 
             // draw foreground annotations
         for (int i : rendererIndices) {
             XYItemRenderer renderer = getRenderer(i);
-            if (renderer != null) {
+            if (renderer != null && overlay) {
                     ValueAxis domainAxis = getDomainAxisForDataset(i);
                     ValueAxis rangeAxis = getRangeAxisForDataset(i);
                 renderer.drawAnnotations(g2, dataArea, domainAxis, rangeAxis, 
                             Layer.FOREGROUND, info);
                 }
             }
+        if (stats != null) {
+            stats.addPhaseTime(ChartRenderingStatistics.ANNOTATIONS,
+                    System.nanoTime() - start);
+        }
 
         // draw domain crosshair if required...
         int datasetIndex = crosshairState.getDatasetIndex();
         ValueAxis xAxis = this.getDomainAxisForDataset(datasetIndex);
         RectangleEdge xAxisEdge = getDomainAxisEdge(getDomainAxisIndex(xAxis));
-        if (!this.domainCrosshairLockedOnData && anchor != null) {
+        if (overlay && !this.domainCrosshairLockedOnData && anchor != null) {
             double xx;
             if (orient == PlotOrientation.VERTICAL) {
                 xx = xAxis.java2DToValue(anchor.getX(), dataArea, xAxisEdge);
@@ -3297,8 +3430,10 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             }
             crosshairState.setCrosshairX(xx);
         }
-        setDomainCrosshairValue(crosshairState.getCrosshairX(), false);
-        if (isDomainCrosshairVisible()) {
+        if (overlay) {
+            setDomainCrosshairValue(crosshairState.getCrosshairX(), false);
+        }
+        if (isDomainCrosshairVisible() && overlay) {
             double x = getDomainCrosshairValue();
             Paint paint = getDomainCrosshairPaint();
             Stroke stroke = getDomainCrosshairStroke();
@@ -3308,7 +3443,7 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         // draw range crosshair if required...
         ValueAxis yAxis = getRangeAxisForDataset(datasetIndex);
         RectangleEdge yAxisEdge = getRangeAxisEdge(getRangeAxisIndex(yAxis));
-        if (!this.rangeCrosshairLockedOnData && anchor != null) {
+        if (overlay && !this.rangeCrosshairLockedOnData && anchor != null) {
             double yy;
             if (orient == PlotOrientation.VERTICAL) {
                 yy = yAxis.java2DToValue(anchor.getY(), dataArea, yAxisEdge);
@@ -3317,8 +3452,10 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             }
             crosshairState.setCrosshairY(yy);
         }
-        setRangeCrosshairValue(crosshairState.getCrosshairY(), false);
-        if (isRangeCrosshairVisible()) {
+        if (overlay) {
+            setRangeCrosshairValue(crosshairState.getCrosshairY(), false);
+        }
+        if (isRangeCrosshairVisible() && overlay) {
             double y = getRangeCrosshairValue();
             Paint paint = getRangeCrosshairPaint();
             Stroke stroke = getRangeCrosshairStroke();
@@ -3329,14 +3466,21 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
             drawNoDataMessage(g2, dataArea);
         }
 
-        for (int i : rendererIndices) { 
-            drawDomainMarkers(g2, dataArea, i, Layer.FOREGROUND);
-        }
-        for (int i : rendererIndices) {
-            drawRangeMarkers(g2, dataArea, i, Layer.FOREGROUND);
-        }
+        if (overlay) {
+            for (int i : rendererIndices) { 
+                drawDomainMarkers(g2, dataArea, i, Layer.FOREGROUND);
+            }
+            for (int i : rendererIndices) {
+                drawRangeMarkers(g2, dataArea, i, Layer.FOREGROUND);
+            }
 
-        drawAnnotations(g2, dataArea, info);
+            start = (stats != null) ? System.nanoTime() : 0L;
+            drawAnnotations(g2, dataArea, info);
+            if (stats != null) {
+                stats.addPhaseTime(ChartRenderingStatistics.ANNOTATIONS,
+                        System.nanoTime() - start);
+            }
+        }
         if (this.shadowGenerator != null && !suppressShadow) {
             BufferedImage shadowImage
                     = this.shadowGenerator.createDropShadow(dataImage);
@@ -3351,7 +3495,9 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         g2.setClip(originalClip);
         g2.setComposite(originalComposite);
 
-        drawOutline(g2, dataArea);
+        if (chrome) {
+            drawOutline(g2, dataArea);
+        }
 
     }
 
@@ -3680,6 +3826,14 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
      * <P>
      * The <code>info</code> and <code>crosshairState</code> arguments may be
      * <code>null</code>.
+     * <P>
+     * If the drawing is cancelled (see {@link PlotRenderingInfo#isCancelled()})
+     * the remaining items are skipped (this is used to abandon frames that
+     * are no longer needed, see
+     * {@link org.jfree.chart.ChartPanel#setBackgroundRendering(boolean)}).
+     * <P>
+     * If the dataset implements {@link SnapshotableDataset}, the items are
+     * read from a snapshot taken at the start of this method.
      *
      * @param g2  the graphics device.
      * @param dataArea  the region in which the data is to be drawn.
@@ -3695,6 +3849,12 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
 
         boolean foundData = false;
         XYDataset dataset = getDataset(index);
+        if (dataset instanceof SnapshotableDataset) {
+            Dataset snapshot = ((SnapshotableDataset) dataset).getSnapshot();
+            if (snapshot instanceof XYDataset) {
+                dataset = (XYDataset) snapshot;
+            }
+        }
         if (!DatasetUtilities.isEmptyOrNull(dataset)) {
             foundData = true;
             ValueAxis xAxis = getDomainAxisForDataset(index);
@@ -3710,6 +3870,14 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                 }
             }
 
+            if (dataset instanceof LevelOfDetailXYDataset) {
+                double pixels = this.orientation == PlotOrientation.VERTICAL
+                        ? dataArea.getWidth() : dataArea.getHeight();
+                LevelOfDetailXYDataset lod = (LevelOfDetailXYDataset) dataset;
+                dataset = lod.getLevelOfDetail(xAxis.getLowerBound(),
+                        xAxis.getUpperBound(), (int) Math.ceil(pixels));
+            }
+
             XYItemRendererState state = renderer.initialise(g2, dataArea, this,
                     dataset, info);
             int passCount = renderer.getPassCount();
@@ -3735,6 +3903,10 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                         state.startSeriesPass(dataset, series, firstItem,
                                 lastItem, pass, passCount);
                         for (int item = firstItem; item <= lastItem; item++) {
+                            if (((item - firstItem) & 0xFFF) == 0
+                                    && info != null && info.isCancelled()) {
+                                break;
+                            }
                             renderer.drawItem(g2, state, dataArea, info,
                                     this, xAxis, yAxis, dataset, series, item,
                                     crosshairState, pass);
@@ -3761,6 +3933,10 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                         state.startSeriesPass(dataset, series, firstItem,
                                 lastItem, pass, passCount);
                         for (int item = firstItem; item <= lastItem; item++) {
+                            if (((item - firstItem) & 0xFFF) == 0
+                                    && info != null && info.isCancelled()) {
+                                break;
+                            }
                             renderer.drawItem(g2, state, dataArea, info,
                                     this, xAxis, yAxis, dataset, series, item,
                                     crosshairState, pass);
@@ -3774,6 +3950,273 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
         return foundData;
     }
 
+    /**
+     * Calls {@link #render(Graphics2D, Rectangle2D, int, PlotRenderingInfo,
+     * CrosshairState)} and, if there are rendering statistics, records the
+     * time taken and the number of items in the dataset against the
+     * renderer.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param index  the dataset index.
+     * @param info  an optional object for collection dimension information.
+     * @param crosshairState  collects crosshair information
+     *                        (<code>null</code> permitted).
+     * @param stats  the rendering statistics (<code>null</code> permitted).
+     *
+     * @return A flag that indicates whether any data was actually rendered.
+     */
+    private boolean renderDataset(Graphics2D g2, Rectangle2D dataArea,
+            int index, PlotRenderingInfo info, CrosshairState crosshairState,
+            ChartRenderingStatistics stats) {
+        if (stats == null) {
+            return render(g2, dataArea, index, info, crosshairState);
+        }
+        long start = System.nanoTime();
+        boolean rendered = render(g2, dataArea, index, info, crosshairState);
+        long nanos = System.nanoTime() - start;
+        XYItemRenderer renderer = getRenderer(index);
+        if (renderer == null) {
+            renderer = getRenderer();
+        }
+        XYDataset dataset = getDataset(index);
+        if (rendered && renderer != null && dataset != null) {
+            int itemCount = 0;
+            for (int series = 0; series < dataset.getSeriesCount(); series++) {
+                itemCount += dataset.getItemCount(series);
+            }
+            stats.addRendererTime(renderer, nanos, itemCount);
+        }
+        return rendered;
+    }
+
+    /**
+     * Renders the specified datasets in parallel, each into its own image,
+     * then draws the images in order and collects the chart entities and
+     * crosshair values from each dataset.  The calling thread renders the
+     * first group of layers itself and then joins the others, so a chart
+     * can also be drawn from a task running in the common fork/join pool.
+     * The transform of the graphics device must be a translation.  If the
+     * current thread is interrupted while it waits for the layers, nothing
+     * is drawn and the layers that are still running are cancelled.
+     *
+     * @param g2  the graphics device.
+     * @param dataArea  the region in which the data is to be drawn.
+     * @param datasetIndices  the dataset indices, in rendering order.
+     * @param info  an optional object for collection dimension information.
+     * @param crosshairState  collects crosshair information
+     *                        (<code>null</code> permitted).
+     * @param stats  the rendering statistics (<code>null</code> permitted).
+     *
+     * @return A flag that indicates whether any data was actually rendered.
+     */
+    private boolean renderLayers(Graphics2D g2, Rectangle2D dataArea,
+            List<Integer> datasetIndices, PlotRenderingInfo info,
+            CrosshairState crosshairState, ChartRenderingStatistics stats) {
+
+        // datasets that share a renderer are drawn on the same thread, since
+        // renderers are not thread-safe
+        ChartRenderingInfo abandon = new ChartRenderingInfo();
+        List<DatasetLayer> layers = new ArrayList<DatasetLayer>();
+        Map<XYItemRenderer, List<DatasetLayer>> groups
+                = new IdentityHashMap<XYItemRenderer, List<DatasetLayer>>();
+        for (int index : datasetIndices) {
+            DatasetLayer layer = new DatasetLayer(g2, dataArea, index, info,
+                    crosshairState, stats, abandon);
+            layers.add(layer);
+            XYItemRenderer renderer = getRenderer(index);
+            if (renderer == null) {
+                renderer = getRenderer();
+            }
+            List<DatasetLayer> group = groups.get(renderer);
+            if (group == null) {
+                group = new ArrayList<DatasetLayer>();
+                groups.put(renderer, group);
+            }
+            group.add(layer);
+        }
+        List<ForkJoinTask<Object>> tasks
+                = new ArrayList<ForkJoinTask<Object>>();
+        for (final List<DatasetLayer> group : groups.values()) {
+            tasks.add(ForkJoinTask.adapt(new Callable<Object>() {
+                @Override
+                public Object call() {
+                    for (DatasetLayer layer : group) {
+                        layer.render();
+                    }
+                    return null;
+                }
+            }));
+        }
+        // the calling thread renders the first group itself, then waits for
+        // the others with get(), which on a pool thread runs pending tasks
+        // rather than blocking (so a chart drawn from a task in the common
+        // pool cannot starve its own layers)
+        for (int i = 1; i < tasks.size(); i++) {
+            tasks.get(i).fork();
+        }
+        try {
+            tasks.get(0).invoke();
+            for (ForkJoinTask<Object> task : tasks) {
+                task.get();
+            }
+        }
+        catch (InterruptedException e) {
+            // the layers are not drawn, but this is not a lack of data
+            abandon.cancel();
+            for (ForkJoinTask<Object> task : tasks) {
+                task.cancel(false);
+            }
+            Thread.currentThread().interrupt();
+            return true;
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IllegalStateException(cause);
+        }
+
+        AffineTransform t = g2.getTransform();
+        boolean foundData = false;
+        for (DatasetLayer layer : layers) {
+            foundData = layer.foundData || foundData;
+            g2.drawImage(layer.image, AffineTransform.getTranslateInstance(
+                    layer.x - t.getTranslateX(), layer.y - t.getTranslateY()),
+                    null);
+            if (layer.info != null) {
+                EntityCollection entities = info.getOwner() != null
+                        ? info.getOwner().getEntityCollection() : null;
+                if (entities != null) {
+                    entities.addAll(
+                            layer.info.getOwner().getEntityCollection());
+                }
+            }
+            if (crosshairState != null) {
+                crosshairState.merge(layer.crosshairState);
+            }
+        }
+        return foundData;
+    }
+
+    /**
+     * An image layer for one dataset, used for parallel rendering.
+     */
+    private class DatasetLayer {
+
+        /** The dataset index. */
+        private int index;
+
+        /** The data area. */
+        private Rectangle2D dataArea;
+
+        /** The x-coordinate for the image (in device space). */
+        private int x;
+
+        /** The y-coordinate for the image (in device space). */
+        private int y;
+
+        /** The image. */
+        private BufferedImage image;
+
+        /** The graphics device for drawing to the image. */
+        private Graphics2D g2;
+
+        /** The rendering info for the layer (possibly <code>null</code>). */
+        private PlotRenderingInfo info;
+
+        /** Cancelled if the layers are abandoned. */
+        private ChartRenderingInfo abandon;
+
+        /** The crosshair state for the layer (possibly <code>null</code>). */
+        private CrosshairState crosshairState;
+
+        /** The rendering statistics (possibly <code>null</code>). */
+        private ChartRenderingStatistics stats;
+
+        /** A flag that indicates whether any data was rendered. */
+        private boolean foundData;
+
+        /**
+         * Creates a new layer.
+         *
+         * @param target  the graphics device that the layer will be drawn to.
+         * @param dataArea  the data area.
+         * @param index  the dataset index.
+         * @param info  the plot rendering info (<code>null</code> permitted).
+         * @param crosshairState  the crosshair state (<code>null</code>
+         *     permitted).
+         * @param stats  the rendering statistics (<code>null</code>
+         *     permitted).
+         * @param abandon  cancelled if the layers are abandoned.
+         */
+        DatasetLayer(Graphics2D target, Rectangle2D dataArea, int index,
+                PlotRenderingInfo info, CrosshairState crosshairState,
+                ChartRenderingStatistics stats,
+                final ChartRenderingInfo abandon) {
+            this.index = index;
+            this.stats = stats;
+            this.abandon = abandon;
+            this.dataArea = dataArea;
+            // the image is aligned with the device pixels
+            AffineTransform t = target.getTransform();
+            double tx = t.getTranslateX();
+            double ty = t.getTranslateY();
+            this.x = (int) Math.floor(dataArea.getX() + tx);
+            this.y = (int) Math.floor(dataArea.getY() + ty);
+            int w = (int) Math.ceil(dataArea.getMaxX() + tx) - this.x;
+            int h = (int) Math.ceil(dataArea.getMaxY() + ty) - this.y;
+            this.image = new BufferedImage(Math.max(w, 1), Math.max(h, 1),
+                    BufferedImage.TYPE_INT_ARGB);
+            this.g2 = this.image.createGraphics();
+            this.g2.setRenderingHints(target.getRenderingHints());
+            this.g2.translate(tx - this.x, ty - this.y);
+            this.g2.clip(dataArea);
+            if (info != null) {
+                ChartRenderingInfo owner = null;
+                final ChartRenderingInfo parent = info.getOwner();
+                if (parent != null) {
+                    // the layer sees the cancellation of the whole drawing
+                    owner = new ChartRenderingInfo() {
+                        @Override
+                        public boolean isCancelled() {
+                            return parent.isCancelled()
+                                    || abandon.isCancelled();
+                        }
+                    };
+                }
+                this.info = new PlotRenderingInfo(owner);
+                this.info.setPlotArea(info.getPlotArea());
+                this.info.setDataArea(info.getDataArea());
+            }
+            if (crosshairState != null) {
+                this.crosshairState = crosshairState.copy();
+            }
+        }
+
+        /**
+         * Renders the dataset to the layer image.
+         */
+        void render() {
+            try {
+                if (this.abandon.isCancelled()) {
+                    return;
+                }
+                this.foundData = renderDataset(this.g2, this.dataArea,
+                        this.index, this.info, this.crosshairState,
+                        this.stats);
+            }
+            finally {
+                this.g2.dispose();
+            }
+        }
+
+    }
+
     /**
      * Returns the domain axis for a dataset.
      *
@@ -5521,6 +5964,9 @@ public class XYPlot extends Plot implements ValueAxisPlot, Pannable, Zoomable,
                 that.shadowGenerator)) {
             return false;
         }
+        if (this.parallelRendering != that.parallelRendering) {
+            return false;
+        }
         return super.equals(obj);
     }
 
@@ -39,6 +39,8 @@
  * 19-May-2009 : Fixed FindBugs warnings, patch by Michal Wozniak (DG);
  * 23-Aug-2012 : Fixed rendering anomaly bug 3561093 (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 17-Oct-2026 : Use the block index of MappedXYDataset to find live items;
+ * 17-Oct-2026 : Use XYItemFinder rather than MappedXYDataset;
  *
  */
 
@@ -47,6 +49,7 @@ package org.jfree.chart.renderer;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.data.DomainOrder;
 import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYItemFinder;
 
 /**
  * Utility methods related to the rendering process.
@@ -80,6 +83,12 @@ public class RendererUtilities {
         if (itemCount <= 1) {
             return 0;
         }
+        if (dataset instanceof XYItemFinder) {
+            // the first item with x >= xLow, found by the dataset (for
+            // example, using an index)
+            XYItemFinder f = (XYItemFinder) dataset;
+            return Math.min(f.findItem(series, xLow), itemCount - 1);
+        }
         if (dataset.getDomainOrder() == DomainOrder.ASCENDING) {
             // for data in ascending order by x-value, we are (broadly) looking
             // for the index of the highest x-value that is less than xLow
@@ -174,6 +183,11 @@ public class RendererUtilities {
         if (itemCount <= 1) {
             return 0;
         }
+        if (dataset instanceof XYItemFinder) {
+            // the last item with x <= xHigh
+            XYItemFinder f = (XYItemFinder) dataset;
+            return Math.max(f.findItem(series, Math.nextUp(xHigh)) - 1, 0);
+        }
         if (dataset.getDomainOrder() == DomainOrder.ASCENDING) {
             int low = 0;
             int high = itemCount - 1;
@@ -67,6 +67,7 @@
  * 18-May-2009 : Clip lines in drawPrimaryLine() (DG);
  * 05-Jul-2012 : Removed JDK 1.3.1 code (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 17-Oct-2026 : Added pixel column aggregation mode;
  *
  */
 
@@ -83,6 +84,7 @@ import java.io.IOException;
 import java.io.ObjectInputStream;
 import java.io.ObjectOutputStream;
 import java.io.Serializable;
+import java.util.BitSet;
 
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.axis.ValueAxis;
@@ -191,6 +193,15 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
      */
     private boolean drawSeriesLineAsPath;
 
+    /**
+     * A flag that controls whether or not the items in each series are
+     * reduced to the entry, minimum, maximum and exit items for each pixel
+     * column before drawing.
+     *
+     * @since 1.0.20
+     */
+    private boolean pixelColumnAggregation;
+
     /**
      * Creates a new renderer with both lines and shapes visible.
      */
@@ -224,6 +235,7 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
                                        // default, not outline paint
 
         this.drawSeriesLineAsPath = false;
+        this.pixelColumnAggregation = false;
     }
 
     /**
@@ -254,6 +266,44 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Returns the flag that controls whether or not the items in each series
+     * are aggregated by pixel column.
+     *
+     * @return A boolean.
+     *
+     * @see #setPixelColumnAggregation(boolean)
+     *
+     * @since 1.0.20
+     */
+    public boolean getPixelColumnAggregation() {
+        return this.pixelColumnAggregation;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the items in each series
+     * are aggregated by pixel column, and sends a {@link RendererChangeEvent}
+     * to all registered listeners.  When this flag is set, only the first,
+     * last, minimum and maximum items (by y-value) that fall in each pixel
+     * column along the domain axis are drawn, which gives the same line for
+     * a dense series in time proportional to the width of the plot.  Lines,
+     * shapes, item labels and entities are all based on the reduced set of
+     * items, and items with <code>null</code> values are always retained so
+     * that gaps in the series are preserved.
+     *
+     * @param flag  the flag.
+     *
+     * @see #getPixelColumnAggregation()
+     *
+     * @since 1.0.20
+     */
+    public void setPixelColumnAggregation(boolean flag) {
+        if (this.pixelColumnAggregation != flag) {
+            this.pixelColumnAggregation = flag;
+            fireChangeEvent();
+        }
+    }
+
     /**
      * Returns the number of passes through the data that the renderer requires
      * in order to draw the chart.  Most charts will require a single pass, but
@@ -788,6 +838,25 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
          */
         private boolean lastPointGood;
 
+        /**
+         * The items retained by pixel column aggregation for the current
+         * series pass, indexed relative to the first item (<code>null</code>
+         * if not yet calculated or aggregation is not used).
+         */
+        private BitSet aggregatedItems;
+
+        /**
+         * The item currently being drawn when pixel column aggregation is
+         * used (-1 if there is none).
+         */
+        private int currentAggregatedItem;
+
+        /**
+         * The item retained by pixel column aggregation before the current
+         * item (-1 if there is none).
+         */
+        private int previousAggregatedItem;
+
         /**
          * Creates a new state instance.
          *
@@ -834,6 +903,9 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
                 int firstItem, int lastItem, int pass, int passCount) {
             this.seriesPath.reset();
             this.lastPointGood = false;
+            this.aggregatedItems = null;
+            this.currentAggregatedItem = -1;
+            this.previousAggregatedItem = -1;
             super.startSeriesPass(dataset, series, firstItem, lastItem, pass,
                     passCount);
        }
@@ -886,6 +958,21 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
             ValueAxis domainAxis, ValueAxis rangeAxis, XYDataset dataset,
             int series, int item, CrosshairState crosshairState, int pass) {
 
+        // skip items that are hidden by pixel column aggregation
+        if (this.pixelColumnAggregation && state instanceof State) {
+            State s = (State) state;
+            if (s.aggregatedItems == null) {
+                s.aggregatedItems = aggregateItems(dataset, series,
+                        s.getFirstItemIndex(), s.getLastItemIndex(),
+                        domainAxis, dataArea, plot.getDomainAxisEdge());
+            }
+            if (!s.aggregatedItems.get(item - s.getFirstItemIndex())) {
+                return;
+            }
+            s.previousAggregatedItem = s.currentAggregatedItem;
+            s.currentAggregatedItem = item;
+        }
+
         // do nothing if item is not visible
         if (!getItemVisible(series, item)) {
             return;
@@ -918,6 +1005,107 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         }
     }
 
+    /**
+     * Returns the items of a series to draw when pixel column aggregation is
+     * enabled.  For each run of consecutive items that fall in the same pixel
+     * column, the first, last, minimum and maximum items are retained.  Items
+     * with a <code>null</code> x- or y-value are always retained.
+     *
+     * @param dataset  the dataset.
+     * @param series  the series index.
+     * @param firstItem  the first item for the series pass.
+     * @param lastItem  the last item for the series pass.
+     * @param domainAxis  the domain axis.
+     * @param dataArea  the data area.
+     * @param edge  the domain axis edge.
+     *
+     * @return The retained items, indexed relative to <code>firstItem</code>.
+     */
+    private BitSet aggregateItems(XYDataset dataset, int series,
+            int firstItem, int lastItem, ValueAxis domainAxis,
+            Rectangle2D dataArea, RectangleEdge edge) {
+        BitSet result = new BitSet(Math.max(lastItem - firstItem + 1, 0));
+        int entry = -1;
+        int exit = -1;
+        int low = -1;
+        int high = -1;
+        double lowY = 0.0;
+        double highY = 0.0;
+        double column = Double.NaN;
+        for (int item = firstItem; item <= lastItem; item++) {
+            double x = dataset.getXValue(series, item);
+            double y = dataset.getYValue(series, item);
+            if (Double.isNaN(x) || Double.isNaN(y)) {
+                markAggregatedItems(result, firstItem, entry, low, high, exit);
+                entry = -1;
+                result.set(item - firstItem);
+                continue;
+            }
+            double c = Math.floor(domainAxis.valueToJava2D(x, dataArea, edge));
+            if (entry < 0 || c != column) {
+                markAggregatedItems(result, firstItem, entry, low, high, exit);
+                column = c;
+                entry = item;
+                low = item;
+                high = item;
+                lowY = y;
+                highY = y;
+            }
+            else if (y < lowY) {
+                low = item;
+                lowY = y;
+            }
+            else if (y > highY) {
+                high = item;
+                highY = y;
+            }
+            exit = item;
+        }
+        markAggregatedItems(result, firstItem, entry, low, high, exit);
+        return result;
+    }
+
+    /**
+     * Marks the items retained for a single pixel column.
+     *
+     * @param items  the retained items.
+     * @param firstItem  the first item for the series pass.
+     * @param entry  the first item in the column (-1 for none).
+     * @param low  the item with the lowest y-value.
+     * @param high  the item with the highest y-value.
+     * @param exit  the last item in the column.
+     */
+    private static void markAggregatedItems(BitSet items, int firstItem,
+            int entry, int low, int high, int exit) {
+        if (entry < 0) {
+            return;
+        }
+        items.set(entry - firstItem);
+        items.set(low - firstItem);
+        items.set(high - firstItem);
+        items.set(exit - firstItem);
+    }
+
+    /**
+     * Returns the item that precedes the specified item in the line for a
+     * series.  This is the previous item in the dataset unless pixel column
+     * aggregation is in use.
+     *
+     * @param state  the renderer state.
+     * @param item  the item index.
+     *
+     * @return The previous item index (-1 if there is none).
+     */
+    private int getPreviousItem(XYItemRendererState state, int item) {
+        if (state instanceof State) {
+            State s = (State) state;
+            if (s.aggregatedItems != null) {
+                return s.previousAggregatedItem;
+            }
+        }
+        return item - 1;
+    }
+
     /**
      * Returns <code>true</code> if the specified pass is the one for drawing
      * lines.
@@ -968,7 +1156,8 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
                                    ValueAxis domainAxis,
                                    ValueAxis rangeAxis,
                                    Rectangle2D dataArea) {
-        if (item == 0) {
+        int previous = getPreviousItem(state, item);
+        if (previous < 0) {
             return;
         }
 
@@ -979,8 +1168,8 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
             return;
         }
 
-        double x0 = dataset.getXValue(series, item - 1);
-        double y0 = dataset.getYValue(series, item - 1);
+        double x0 = dataset.getXValue(series, previous);
+        double y0 = dataset.getYValue(series, previous);
         if (Double.isNaN(y0) || Double.isNaN(x0)) {
             return;
         }
@@ -1344,6 +1533,9 @@ public class XYLineAndShapeRenderer extends AbstractXYItemRenderer
         if (this.drawSeriesLineAsPath != that.drawSeriesLineAsPath) {
             return false;
         }
+        if (this.pixelColumnAggregation != that.pixelColumnAggregation) {
+            return false;
+        }
         return true;
     }
 
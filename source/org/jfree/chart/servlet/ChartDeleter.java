@@ -38,6 +38,7 @@
  * 17-Oct-2002 : Fixed errors reported by Checkstyle (DG);
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
+ * 17-Oct-2026 : Also remove charts from the chart cache;
  *
  */
 
@@ -102,15 +103,19 @@ public class ChartDeleter implements HttpSessionBindingListener, Serializable {
     /**
      * When this object is unbound from the session (including upon session
      * expiry) the files that have been added to the ArrayList are iterated
-     * and deleted.
+     * and deleted (along with any images in the chart cache).
      *
      * @param event  the session unbind event.
      */
     @Override
     public void valueUnbound(HttpSessionBindingEvent event) {
+        ChartImageCache cache = ServletUtilities.getChartCache();
         Iterator iter = this.chartNames.listIterator();
         while (iter.hasNext()) {
             String filename = (String) iter.next();
+            if (cache != null && cache.remove(filename)) {
+                continue;
+            }
             File file = new File(
                 System.getProperty("java.io.tmpdir"), filename
             );
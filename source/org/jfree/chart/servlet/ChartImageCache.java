@@ -0,0 +1,490 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * ChartImageCache.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.servlet;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.security.SecureRandom;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * A bounded in-memory store for chart images, used by
+ * {@link ServletUtilities} and {@link DisplayChart} in place of temporary
+ * files (see {@link ServletUtilities#setChartCache(ChartImageCache)}).
+ * <P>
+ * Each image is stored under a generated name that looks like a temporary
+ * file name (for example <code>jfreechart-3f9a...e1.png</code>), so the
+ * name can be passed to <code>DisplayChart</code> in the same way.  When
+ * the total size or number of images reaches its limit, the least recently
+ * used images are evicted.  Images can also expire after a fixed time.
+ * The images can be kept outside the Java heap (in direct byte buffers),
+ * so that a large cache does not add to garbage collection work.
+ * <P>
+ * The cache records the number of hits, misses, evictions and expirations.
+ * Instances of this class are thread-safe.
+ *
+ * @since 1.0.20
+ */
+public class ChartImageCache {
+
+    /** The maximum total size of the images (in bytes). */
+    private long maxBytes;
+
+    /** The maximum number of images. */
+    private int maxEntries;
+
+    /** The time to live (in milliseconds, zero or less for no expiry). */
+    private long timeToLive;
+
+    /** Store the images outside the heap? */
+    private boolean offHeap;
+
+    /** The images, in least recently used order. */
+    private LinkedHashMap<String, CachedImage> images;
+
+    /** The total size of the images. */
+    private long size;
+
+    /** The number of lookups that found an image. */
+    private long hitCount;
+
+    /** The number of lookups that did not find an image. */
+    private long missCount;
+
+    /** The number of images evicted to make room for others. */
+    private long evictionCount;
+
+    /** The number of images removed because they expired. */
+    private long expirationCount;
+
+    /** The time of the last scan for expired images. */
+    private long lastPurge;
+
+    /** The random number generator for image names. */
+    private SecureRandom random;
+
+    /**
+     * Creates a new cache with no limit on the number of images, no
+     * expiry and storage on the heap.
+     *
+     * @param maxBytes  the maximum total size of the images (in bytes).
+     */
+    public ChartImageCache(long maxBytes) {
+        this(maxBytes, Integer.MAX_VALUE, 0L, false);
+    }
+
+    /**
+     * Creates a new cache.
+     *
+     * @param maxBytes  the maximum total size of the images (in bytes).
+     * @param maxEntries  the maximum number of images.
+     * @param timeToLive  the time (in milliseconds) that an image is kept
+     *     after it is added (zero or less for no expiry).
+     * @param offHeap  store the images outside the Java heap?
+     */
+    public ChartImageCache(long maxBytes, int maxEntries, long timeToLive,
+            boolean offHeap) {
+        if (maxBytes <= 0L) {
+            throw new IllegalArgumentException("Requires 'maxBytes' > 0.");
+        }
+        if (maxEntries <= 0) {
+            throw new IllegalArgumentException("Requires 'maxEntries' > 0.");
+        }
+        this.maxBytes = maxBytes;
+        this.maxEntries = maxEntries;
+        this.timeToLive = timeToLive;
+        this.offHeap = offHeap;
+        this.images = new LinkedHashMap<String, CachedImage>(16, 0.75f,
+                true);
+        this.random = new SecureRandom();
+    }
+
+    /**
+     * Returns the maximum total size of the images.
+     *
+     * @return The maximum size (in bytes).
+     */
+    public long getMaxBytes() {
+        return this.maxBytes;
+    }
+
+    /**
+     * Returns the maximum number of images.
+     *
+     * @return The maximum number of images.
+     */
+    public int getMaxEntries() {
+        return this.maxEntries;
+    }
+
+    /**
+     * Returns the time (in milliseconds) that an image is kept after it is
+     * added.
+     *
+     * @return The time to live (zero or less for no expiry).
+     */
+    public long getTimeToLive() {
+        return this.timeToLive;
+    }
+
+    /**
+     * Returns <code>true</code> if the images are stored outside the heap.
+     *
+     * @return A boolean.
+     */
+    public boolean isOffHeap() {
+        return this.offHeap;
+    }
+
+    /**
+     * Adds an image to the cache under a new, unguessable name.
+     *
+     * @param prefix  the name prefix (<code>null</code> not permitted).
+     * @param suffix  the name suffix, for example ".png"
+     *     (<code>null</code> not permitted).
+     * @param data  the image data (<code>null</code> not permitted).
+     * @param contentType  the MIME type (<code>null</code> permitted).
+     *
+     * @return The name, or <code>null</code> if the image is larger than
+     *     the maximum size of the cache.
+     */
+    public String put(String prefix, String suffix, byte[] data,
+            String contentType) {
+        ParamChecks.nullNotPermitted(prefix, "prefix");
+        ParamChecks.nullNotPermitted(suffix, "suffix");
+        ParamChecks.nullNotPermitted(data, "data");
+        if (data.length > this.maxBytes) {
+            return null;
+        }
+        byte[] id = new byte[16];
+        this.random.nextBytes(id);
+        StringBuilder name = new StringBuilder(prefix);
+        for (byte b : id) {
+            name.append(Character.forDigit((b >> 4) & 0xF, 16));
+            name.append(Character.forDigit(b & 0xF, 16));
+        }
+        name.append(suffix);
+        String result = name.toString();
+        CachedImage image = new CachedImage(data, contentType,
+                System.currentTimeMillis(), this.offHeap);
+        synchronized (this) {
+            purgeExpired(image.getCreationTime());
+            CachedImage old = this.images.put(result, image);
+            if (old != null) {
+                this.size -= old.getLength();
+            }
+            this.size += image.getLength();
+            Iterator<CachedImage> iterator = this.images.values().iterator();
+            while ((this.size > this.maxBytes
+                    || this.images.size() > this.maxEntries)
+                    && iterator.hasNext()) {
+                CachedImage eldest = iterator.next();
+                if (eldest == image) {
+                    break;
+                }
+                iterator.remove();
+                this.size -= eldest.getLength();
+                this.evictionCount++;
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Returns the image with the specified name.
+     *
+     * @param name  the name (<code>null</code> permitted).
+     *
+     * @return The image, or <code>null</code> if there is no image with
+     *     that name (or it has expired or been evicted).
+     */
+    public synchronized CachedImage get(String name) {
+        CachedImage image = this.images.get(name);
+        if (image != null && isExpired(image, System.currentTimeMillis())) {
+            this.images.remove(name);
+            this.size -= image.getLength();
+            this.expirationCount++;
+            image = null;
+        }
+        if (image == null) {
+            this.missCount++;
+        }
+        else {
+            this.hitCount++;
+        }
+        return image;
+    }
+
+    /**
+     * Removes the image with the specified name.
+     *
+     * @param name  the name (<code>null</code> permitted).
+     *
+     * @return A boolean that indicates whether an image was removed.
+     */
+    public synchronized boolean remove(String name) {
+        CachedImage image = this.images.remove(name);
+        if (image != null) {
+            this.size -= image.getLength();
+        }
+        return image != null;
+    }
+
+    /**
+     * Removes all the images.  The statistics are not reset.
+     */
+    public synchronized void clear() {
+        this.images.clear();
+        this.size = 0L;
+    }
+
+    /**
+     * Returns the number of images in the cache.
+     *
+     * @return The number of images.
+     */
+    public synchronized int getEntryCount() {
+        return this.images.size();
+    }
+
+    /**
+     * Returns the total size of the images in the cache.
+     *
+     * @return The size (in bytes).
+     */
+    public synchronized long getSize() {
+        return this.size;
+    }
+
+    /**
+     * Returns the number of lookups that found an image.
+     *
+     * @return The hit count.
+     */
+    public synchronized long getHitCount() {
+        return this.hitCount;
+    }
+
+    /**
+     * Returns the number of lookups that did not find an image.
+     *
+     * @return The miss count.
+     */
+    public synchronized long getMissCount() {
+        return this.missCount;
+    }
+
+    /**
+     * Returns the fraction of lookups that found an image.
+     *
+     * @return The hit rate (<code>Double.NaN</code> if there have been no
+     *     lookups).
+     */
+    public synchronized double getHitRate() {
+        long lookups = this.hitCount + this.missCount;
+        return (lookups > 0 ? (double) this.hitCount / lookups : Double.NaN);
+    }
+
+    /**
+     * Returns the number of images evicted to make room for others.
+     *
+     * @return The eviction count.
+     */
+    public synchronized long getEvictionCount() {
+        return this.evictionCount;
+    }
+
+    /**
+     * Returns the number of images removed because they expired.
+     *
+     * @return The expiration count.
+     */
+    public synchronized long getExpirationCount() {
+        return this.expirationCount;
+    }
+
+    /**
+     * Returns <code>true</code> if an image has expired.
+     *
+     * @param image  the image.
+     * @param now  the current time.
+     *
+     * @return A boolean.
+     */
+    private boolean isExpired(CachedImage image, long now) {
+        return this.timeToLive > 0L
+                && now - image.getCreationTime() >= this.timeToLive;
+    }
+
+    /**
+     * Removes the expired images, at most once a second.  The caller must
+     * hold the lock on this cache.
+     *
+     * @param now  the current time.
+     */
+    private void purgeExpired(long now) {
+        if (this.timeToLive <= 0L || now - this.lastPurge < 1000L) {
+            return;
+        }
+        this.lastPurge = now;
+        Iterator<Map.Entry<String, CachedImage>> iterator
+                = this.images.entrySet().iterator();
+        while (iterator.hasNext()) {
+            CachedImage image = iterator.next().getValue();
+            if (isExpired(image, now)) {
+                iterator.remove();
+                this.size -= image.getLength();
+                this.expirationCount++;
+            }
+        }
+    }
+
+    /**
+     * An image in a {@link ChartImageCache}.
+     */
+    public static final class CachedImage {
+
+        /** The data, if stored on the heap. */
+        private byte[] data;
+
+        /** The data, if stored off the heap. */
+        private ByteBuffer buffer;
+
+        /** The MIME type (possibly <code>null</code>). */
+        private String contentType;
+
+        /** The time the image was added to the cache. */
+        private long creationTime;
+
+        /**
+         * Creates a new image.
+         *
+         * @param data  the data.
+         * @param contentType  the MIME type (<code>null</code> permitted).
+         * @param creationTime  the time the image was added to the cache.
+         * @param offHeap  store the data off the heap?
+         */
+        CachedImage(byte[] data, String contentType, long creationTime,
+                boolean offHeap) {
+            if (offHeap) {
+                this.buffer = ByteBuffer.allocateDirect(data.length);
+                this.buffer.put(data);
+                this.buffer.flip();
+            }
+            else {
+                this.data = data.clone();
+            }
+            this.contentType = contentType;
+            this.creationTime = creationTime;
+        }
+
+        /**
+         * Returns the MIME type of the image.
+         *
+         * @return The MIME type (possibly <code>null</code>).
+         */
+        public String getContentType() {
+            return this.contentType;
+        }
+
+        /**
+         * Returns the time the image was added to the cache.
+         *
+         * @return The time (in milliseconds since 1-Jan-1970).
+         */
+        public long getCreationTime() {
+            return this.creationTime;
+        }
+
+        /**
+         * Returns the size of the image data.
+         *
+         * @return The size (in bytes).
+         */
+        public int getLength() {
+            return (this.data != null ? this.data.length
+                    : this.buffer.capacity());
+        }
+
+        /**
+         * Returns a copy of the image data.
+         *
+         * @return The data.
+         */
+        public byte[] getData() {
+            if (this.data != null) {
+                return this.data.clone();
+            }
+            byte[] result = new byte[this.buffer.capacity()];
+            this.buffer.duplicate().get(result);
+            return result;
+        }
+
+        /**
+         * Writes the image data to an output stream.
+         *
+         * @param out  the output stream (<code>null</code> not permitted).
+         *
+         * @throws IOException if there is an I/O problem.
+         */
+        public void writeTo(OutputStream out) throws IOException {
+            ParamChecks.nullNotPermitted(out, "out");
+            if (this.data != null) {
+                out.write(this.data);
+                return;
+            }
+            ByteBuffer source = this.buffer.duplicate();
+            byte[] chunk = new byte[Math.min(8192, source.remaining())];
+            while (source.hasRemaining()) {
+                int n = Math.min(chunk.length, source.remaining());
+                source.get(chunk, 0, n);
+                out.write(chunk, 0, n);
+            }
+        }
+
+    }
+
+}
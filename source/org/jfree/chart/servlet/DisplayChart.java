@@ -40,6 +40,7 @@
  * ------------- JFREECHART 1.0.x ---------------------------------------------
  * 02-Feb-2007 : Removed author tags all over JFreeChart sources (DG);
  * 03-Dec-2011 : Fixed path disclosure vulnerability - see bug 2879650 (DG);
+ * 17-Oct-2026 : Serve charts from the chart cache when there is one;
  * 
  */
 
@@ -56,8 +57,10 @@ import javax.servlet.http.HttpSession;
 
 /**
  * Servlet used for streaming charts to the client browser from the temporary
- * directory.  You need to add this servlet and mapping to your deployment
- * descriptor (web.xml) in order to get it to work.  The syntax is as follows:
+ * directory (or from the {@link ChartImageCache}, if one has been set with
+ * {@link ServletUtilities#setChartCache(ChartImageCache)}).  You need to add
+ * this servlet and mapping to your deployment descriptor (web.xml) in order
+ * to get it to work.  The syntax is as follows:
  * 
  * &lt;xmp&gt;
  * &lt;servlet&gt;
@@ -114,12 +117,20 @@ public class DisplayChart extends HttpServlet {
         //  This is to prevent access to the rest of the file system
         filename = ServletUtilities.searchReplace(filename, "..", "");
 
-        //  Check the file exists
-        File file = new File(System.getProperty("java.io.tmpdir"), filename);
-        if (!file.exists()) {
-            throw new ServletException(
-                    "Unable to display the chart with the filename '" 
-                    + filename + "'.");
+        //  Look in the cache first, then check the file exists
+        ChartImageCache cache = ServletUtilities.getChartCache();
+        ChartImageCache.CachedImage image = null;
+        if (cache != null) {
+            image = cache.get(filename);
+        }
+        File file = null;
+        if (image == null) {
+            file = new File(System.getProperty("java.io.tmpdir"), filename);
+            if (!file.exists()) {
+                throw new ServletException(
+                        "Unable to display the chart with the filename '" 
+                        + filename + "'.");
+            }
         }
 
         //  Check that the graph being served was created by the current user
@@ -145,9 +156,17 @@ public class DisplayChart extends HttpServlet {
 
         if (isChartInUserList || isChartPublic || isOneTimeChart) {
             //  Serve it up
-            ServletUtilities.sendTempFile(file, response);
-            if (isOneTimeChart) {
-                file.delete();
+            if (image != null) {
+                ServletUtilities.sendCachedImage(image, response);
+                if (isOneTimeChart) {
+                    cache.remove(filename);
+                }
+            }
+            else {
+                ServletUtilities.sendTempFile(file, response);
+                if (isOneTimeChart) {
+                    file.delete();
+                }
             }
         }
         else {
@@ -52,6 +52,8 @@
  * 13-Sep-2006 : Format date in response header in English, not locale default
  *               (see bug 1557141) (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 17-Oct-2026 : Added optional pooled chart renderer;
+ * 17-Oct-2026 : Added optional in-memory chart cache;
  *
  */
 
@@ -59,10 +61,13 @@ package org.jfree.chart.servlet;
 
 import java.io.BufferedInputStream;
 import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
 import java.io.File;
 import java.io.FileInputStream;
 import java.io.FileNotFoundException;
+import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.OutputStream;
 import java.text.SimpleDateFormat;
 import java.util.Date;
 import java.util.Locale;
@@ -74,6 +79,7 @@ import javax.servlet.http.HttpSession;
 import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.ChartUtilities;
 import org.jfree.chart.JFreeChart;
+import org.jfree.chart.PooledChartRenderer;
 import org.jfree.chart.util.ParamChecks;
 
 /**
@@ -87,6 +93,12 @@ public class ServletUtilities {
     /** A prefix for "one time" charts. */
     private static String tempOneTimeFilePrefix = "jfreechart-onetime-";
 
+    /** The renderer used to save charts (<code>null</code> permitted). */
+    private static volatile PooledChartRenderer chartRenderer;
+
+    /** The cache for chart images (<code>null</code> permitted). */
+    private static volatile ChartImageCache chartCache;
+
     /**
      * Returns the prefix for the temporary file names generated by this class.
      *
@@ -127,6 +139,60 @@ public class ServletUtilities {
         ServletUtilities.tempOneTimeFilePrefix = prefix;
     }
 
+    /**
+     * Returns the renderer used to draw and encode the charts saved by this
+     * class.
+     *
+     * @return The renderer (possibly <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public static PooledChartRenderer getChartRenderer() {
+        return ServletUtilities.chartRenderer;
+    }
+
+    /**
+     * Sets the renderer used to draw and encode the charts saved by this
+     * class.  A renderer reuses its images and limits the number of charts
+     * drawn at the same time, which suits servers that generate many charts.
+     * If this is <code>null</code> (the default), each chart is drawn to a
+     * new image by {@link ChartUtilities}.
+     *
+     * @param renderer  the renderer (<code>null</code> permitted).
+     *
+     * @since 1.0.20
+     */
+    public static void setChartRenderer(PooledChartRenderer renderer) {
+        ServletUtilities.chartRenderer = renderer;
+    }
+
+    /**
+     * Returns the cache that holds the charts saved by this class.
+     *
+     * @return The cache (possibly <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public static ChartImageCache getChartCache() {
+        return ServletUtilities.chartCache;
+    }
+
+    /**
+     * Sets the cache that holds the charts saved by this class.  If this is
+     * not <code>null</code>, the <code>saveChartAsXXX()</code> methods keep
+     * the images in memory rather than in temporary files, and
+     * {@link DisplayChart} sends them from there (images that are too large
+     * for the cache are still written to files).  The default is
+     * <code>null</code>.
+     *
+     * @param cache  the cache (<code>null</code> permitted).
+     *
+     * @since 1.0.20
+     */
+    public static void setChartCache(ChartImageCache cache) {
+        ServletUtilities.chartCache = cache;
+    }
+
     /**
      * Saves the chart as a PNG format file in the temporary directory.
      *
@@ -173,18 +239,8 @@ public class ServletUtilities {
             ChartRenderingInfo info, HttpSession session) throws IOException {
 
         ParamChecks.nullNotPermitted(chart, "chart");
-        ServletUtilities.createTempDir();
-        String prefix = ServletUtilities.tempFilePrefix;
-        if (session == null) {
-            prefix = ServletUtilities.tempOneTimeFilePrefix;
-        }
-        File tempFile = File.createTempFile(prefix, ".png",
-                new File(System.getProperty("java.io.tmpdir")));
-        ChartUtilities.saveChartAsPNG(tempFile, chart, width, height, info);
-        if (session != null) {
-            ServletUtilities.registerChartForDeletion(tempFile, session);
-        }
-        return tempFile.getName();
+        return ServletUtilities.saveChart(chart, width, height, info, session,
+                ".png");
 
     }
 
@@ -245,14 +301,70 @@ public class ServletUtilities {
             throws IOException {
 
         ParamChecks.nullNotPermitted(chart, "chart");
-        ServletUtilities.createTempDir();
+        return ServletUtilities.saveChart(chart, width, height, info, session,
+                ".jpeg");
+
+    }
+
+    /**
+     * Saves a chart in the chart cache, if there is one and the image fits,
+     * otherwise in a file in the temporary directory.
+     *
+     * @param chart  the chart.
+     * @param width  the width of the chart.
+     * @param height  the height of the chart.
+     * @param info  the rendering info (<code>null</code> permitted).
+     * @param session  the HTTP session of the client (<code>null</code> for
+     *     a "one time" chart).
+     * @param suffix  the suffix (".png" or ".jpeg").
+     *
+     * @return The name of the chart.
+     *
+     * @throws IOException if there is a problem saving the chart.
+     */
+    private static String saveChart(JFreeChart chart, int width, int height,
+            ChartRenderingInfo info, HttpSession session, String suffix)
+            throws IOException {
+
+        boolean jpeg = suffix.equals(".jpeg");
         String prefix = ServletUtilities.tempFilePrefix;
         if (session == null) {
             prefix = ServletUtilities.tempOneTimeFilePrefix;
         }
-        File tempFile = File.createTempFile(prefix, ".jpeg",
+        byte[] data = null;
+        ChartImageCache cache = ServletUtilities.chartCache;
+        if (cache != null) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            ServletUtilities.writeChart(out, chart, width, height, info, jpeg);
+            data = out.toByteArray();
+            String name = cache.put(prefix, suffix, data,
+                    jpeg ? "image/jpeg" : "image/png");
+            if (name != null) {
+                if (session != null) {
+                    ServletUtilities.registerChartForDeletion(name, session);
+                }
+                return name;
+            }
+        }
+
+        // there is no cache or the image is too large for it...
+        ServletUtilities.createTempDir();
+        File tempFile = File.createTempFile(prefix, suffix,
                 new File(System.getProperty("java.io.tmpdir")));
-        ChartUtilities.saveChartAsJPEG(tempFile, chart, width, height, info);
+        OutputStream out = new BufferedOutputStream(
+                new FileOutputStream(tempFile));
+        try {
+            if (data != null) {
+                out.write(data);
+            }
+            else {
+                ServletUtilities.writeChart(out, chart, width, height, info,
+                        jpeg);
+            }
+        }
+        finally {
+            out.close();
+        }
         if (session != null) {
             ServletUtilities.registerChartForDeletion(tempFile, session);
         }
@@ -260,6 +372,40 @@ public class ServletUtilities {
 
     }
 
+    /**
+     * Writes a chart to an output stream, using the chart renderer if one
+     * has been set.
+     *
+     * @param out  the output stream.
+     * @param chart  the chart.
+     * @param width  the width of the chart.
+     * @param height  the height of the chart.
+     * @param info  the rendering info (<code>null</code> permitted).
+     * @param jpeg  write a JPEG image (rather than PNG)?
+     *
+     * @throws IOException if there is an I/O problem.
+     */
+    private static void writeChart(OutputStream out, JFreeChart chart,
+            int width, int height, ChartRenderingInfo info, boolean jpeg)
+            throws IOException {
+
+        PooledChartRenderer renderer = ServletUtilities.chartRenderer;
+        if (renderer != null) {
+            if (jpeg) {
+                renderer.writeChartAsJPEG(out, chart, width, height, info);
+            }
+            else {
+                renderer.writeChartAsPNG(out, chart, width, height, info);
+            }
+        }
+        else if (jpeg) {
+            ChartUtilities.writeChartAsJPEG(out, chart, width, height, info);
+        }
+        else {
+            ChartUtilities.writeChartAsPNG(out, chart, width, height, info);
+        }
+    }
+
     /**
      * Creates the temporary directory if it does not exist.  Throws a
      * <code>RuntimeException</code> if the temporary directory is
@@ -293,6 +439,21 @@ public class ServletUtilities {
      */
     protected static void registerChartForDeletion(File tempFile,
             HttpSession session) {
+        registerChartForDeletion(tempFile.getName(), session);
+    }
+
+    /**
+     * Adds a {@link ChartDeleter} object to the session object with the name
+     * <code>JFreeChart_Deleter</code> if there is not already one bound to the
+     * session and adds the chart name to the list of charts to be deleted.
+     *
+     * @param name  the name of the file or cached image to be deleted.
+     * @param session  the HTTP session of the client.
+     *
+     * @since 1.0.20
+     */
+    protected static void registerChartForDeletion(String name,
+            HttpSession session) {
 
         //  Add chart to deletion list in session
         if (session != null) {
@@ -302,7 +463,7 @@ public class ServletUtilities {
                 chartDeleter = new ChartDeleter();
                 session.setAttribute("JFreeChart_Deleter", chartDeleter);
             }
-            chartDeleter.addChart(tempFile.getName());
+            chartDeleter.addChart(name);
         }
         else {
             System.out.println("Session is null - chart will not be deleted");
@@ -372,11 +533,8 @@ public class ServletUtilities {
                 response.setHeader("Content-Type", mimeType);
             }
             response.setHeader("Content-Length", String.valueOf(file.length()));
-            SimpleDateFormat sdf = new SimpleDateFormat(
-                    "EEE, dd MMM yyyy HH:mm:ss z", Locale.ENGLISH);
-            sdf.setTimeZone(TimeZone.getTimeZone("GMT"));
             response.setHeader("Last-Modified",
-                    sdf.format(new Date(file.lastModified())));
+                    formatHttpDate(file.lastModified()));
 
             BufferedOutputStream bos = new BufferedOutputStream(
                     response.getOutputStream());
@@ -400,6 +558,47 @@ public class ServletUtilities {
         }
     }
 
+    /**
+     * Streams an image from the chart cache to the HTTP response.
+     *
+     * @param image  the image (<code>null</code> not permitted).
+     * @param response  the HTTP response object.
+     *
+     * @throws IOException if there is an I/O problem.
+     *
+     * @since 1.0.20
+     */
+    public static void sendCachedImage(ChartImageCache.CachedImage image,
+            HttpServletResponse response) throws IOException {
+
+        ParamChecks.nullNotPermitted(image, "image");
+        if (image.getContentType() != null) {
+            response.setHeader("Content-Type", image.getContentType());
+        }
+        response.setHeader("Content-Length",
+                String.valueOf(image.getLength()));
+        response.setHeader("Last-Modified",
+                formatHttpDate(image.getCreationTime()));
+        OutputStream out = response.getOutputStream();
+        image.writeTo(out);
+        out.flush();
+        out.close();
+    }
+
+    /**
+     * Formats a time for use in an HTTP header.
+     *
+     * @param time  the time (in milliseconds since 1-Jan-1970).
+     *
+     * @return The formatted time.
+     */
+    private static String formatHttpDate(long time) {
+        SimpleDateFormat sdf = new SimpleDateFormat(
+                "EEE, dd MMM yyyy HH:mm:ss z", Locale.ENGLISH);
+        sdf.setTimeZone(TimeZone.getTimeZone("GMT"));
+        return sdf.format(new Date(time));
+    }
+
     /**
      * Perform a search/replace operation on a String
      * There are String methods to do this since (JDK 1.4)
@@ -37,6 +37,7 @@
  * 19-Oct-2006 : New class (DG);
  * 31-Oct-2007 : Implemented faster hashCode() (DG);
  * 27-Nov-2007 : Changed clear() from protected to public (DG);
+ * 17-Oct-2026 : Update modification stamp for silent changes;
  *
  */
 
@@ -257,6 +258,9 @@ public class ComparableObjectSeries extends Series
         if (notify) {
             fireSeriesChanged();
         }
+        else {
+            updateModificationStamp();
+        }
     }
 
     /**
@@ -53,6 +53,7 @@
  * 23-Nov-2007 : Added argument checks to removeRow(Comparable) to make it
  *               consistent with the removeRow(Comparable) method (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 17-Oct-2026 : Added setValues() method for bulk loading;
  * 
  */
 
@@ -60,6 +61,7 @@ package org.jfree.data;
 
 import java.io.Serializable;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import org.jfree.chart.util.ParamChecks;
@@ -320,9 +322,77 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
     public void setValue(Number value, Comparable rowKey,
                          Comparable columnKey) {
 
+        DefaultKeyedValues row = getOrCreateRow(rowKey);
+        row.setValue(columnKey, value);
+
+        int columnIndex = this.columnKeys.indexOf(columnKey);
+        if (columnIndex < 0) {
+            this.columnKeys.add(columnKey);
+        }
+    }
+
+    /**
+     * Adds or updates a table of values.  The result is the same as calling
+     * {@link #setValue(Number, Comparable, Comparable)} for each value in
+     * turn (row by row), but each column key is only looked up once.
+     *
+     * @param rowKeys  the row keys (<code>null</code> not permitted).
+     * @param columnKeys  the column keys (<code>null</code> not permitted).
+     * @param data  the values, indexed by row then column (<code>null</code>
+     *     not permitted).
+     *
+     * @since 1.0.20
+     */
+    public void setValues(Comparable[] rowKeys, Comparable[] columnKeys,
+            Number[][] data) {
+        ParamChecks.nullNotPermitted(rowKeys, "rowKeys");
+        ParamChecks.nullNotPermitted(columnKeys, "columnKeys");
+        ParamChecks.nullNotPermitted(data, "data");
+        if (data.length != rowKeys.length) {
+            throw new IllegalArgumentException(
+                    "The 'data' array must have one entry per row key.");
+        }
+        for (int r = 0; r < data.length; r++) {
+            if (data[r].length != columnKeys.length) {
+                throw new IllegalArgumentException(
+                        "Each row of the 'data' array must have one value "
+                        + "per column key.");
+            }
+        }
+        for (int r = 0; r < rowKeys.length; r++) {
+            ParamChecks.nullNotPermitted(rowKeys[r], "rowKeys[" + r + "]");
+        }
+        for (int c = 0; c < columnKeys.length; c++) {
+            ParamChecks.nullNotPermitted(columnKeys[c], "columnKeys[" + c
+                    + "]");
+        }
+        if (rowKeys.length == 0) {
+            return;
+        }
+        for (int r = 0; r < rowKeys.length; r++) {
+            DefaultKeyedValues row = getOrCreateRow(rowKeys[r]);
+            for (int c = 0; c < columnKeys.length; c++) {
+                row.setValue(columnKeys[c], data[r][c]);
+            }
+        }
+        HashSet existing = new HashSet(this.columnKeys);
+        for (int c = 0; c < columnKeys.length; c++) {
+            if (existing.add(columnKeys[c])) {
+                this.columnKeys.add(columnKeys[c]);
+            }
+        }
+    }
+
+    /**
+     * Returns the row for the specified key, creating it if necessary.
+     *
+     * @param rowKey  the row key (<code>null</code> not permitted).
+     *
+     * @return The row.
+     */
+    private DefaultKeyedValues getOrCreateRow(Comparable rowKey) {
         DefaultKeyedValues row;
         int rowIndex = getRowIndex(rowKey);
-
         if (rowIndex >= 0) {
             row = (DefaultKeyedValues) this.rows.get(rowIndex);
         }
@@ -338,12 +408,7 @@ public class DefaultKeyedValues2D implements KeyedValues2D, PublicCloneable,
                 this.rows.add(row);
             }
         }
-        row.setValue(columnKey, value);
-
-        int columnIndex = this.columnKeys.indexOf(columnKey);
-        if (columnIndex < 0) {
-            this.columnKeys.add(columnKey);
-        }
+        return row;
     }
 
     /**
@@ -0,0 +1,225 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * MinMaxSegmentTree.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.data;
+
+import java.util.Arrays;
+
+import org.jfree.chart.util.ParamChecks;
+
+/**
+ * A segment tree that finds the minimum and maximum of any run of
+ * consecutive values in an array in O(log n) time.  The series classes use
+ * this to find the range of y-values for the items within an x-range (for
+ * example, to auto-range the y-axis for a zoomed chart) without examining
+ * every item.  <code>Double.NaN</code> values are ignored.
+ * <P>
+ * Values can be added at the end of the tree and removed from the start,
+ * in O(log n) amortised time, so that a tree can follow a series that has
+ * items appended (and, for a series with a maximum item count, the oldest
+ * items removed) without being rebuilt.  This class is not thread-safe.
+ *
+ * @since 1.0.20
+ */
+public final class MinMaxSegmentTree {
+
+    /** The minimum number of free leaves after the tree is rebuilt. */
+    private static final int MINIMUM_SPARE = 16;
+
+    /** The number of leaves. */
+    private int capacity;
+
+    /** The leaf index of the first value. */
+    private int first;
+
+    /** The leaf index after the last value. */
+    private int end;
+
+    /**
+     * The minimum for each node, with the leaves at index
+     * <code>capacity</code> to <code>2 * capacity - 1</code>.  Unused leaves
+     * hold <code>Double.POSITIVE_INFINITY</code>.
+     */
+    private double[] min;
+
+    /**
+     * The maximum for each node (same layout as <code>min</code>).  Unused
+     * leaves hold <code>Double.NEGATIVE_INFINITY</code>.
+     */
+    private double[] max;
+
+    /**
+     * Creates a new tree for the specified values.  The array is not
+     * referenced after the constructor returns.
+     *
+     * @param values  the values (<code>null</code> not permitted).
+     */
+    public MinMaxSegmentTree(double[] values) {
+        ParamChecks.nullNotPermitted(values, "values");
+        build(values);
+    }
+
+    /**
+     * Returns the number of values in the tree.
+     *
+     * @return The number of values.
+     */
+    public int getSize() {
+        return this.end - this.first;
+    }
+
+    /**
+     * Adds a value at the end of the tree.
+     *
+     * @param value  the value (<code>Double.NaN</code> permitted).
+     */
+    public void add(double value) {
+        if (this.end == this.capacity) {
+            double[] values = new double[getSize()];
+            for (int i = 0; i < values.length; i++) {
+                int leaf = this.capacity + this.first + i;
+                values[i] = this.min[leaf] > this.max[leaf] ? Double.NaN
+                        : this.min[leaf];
+            }
+            build(values);
+        }
+        int i = this.capacity + this.end;
+        this.end++;
+        if (Double.isNaN(value)) {
+            return;  // the leaf is already empty
+        }
+        this.min[i] = value;
+        this.max[i] = value;
+        for (i = i >> 1; i > 0; i = i >> 1) {
+            this.min[i] = Math.min(this.min[2 * i], this.min[2 * i + 1]);
+            this.max[i] = Math.max(this.max[2 * i], this.max[2 * i + 1]);
+        }
+    }
+
+    /**
+     * Removes values from the start of the tree.
+     *
+     * @param count  the number of values to remove (in the range
+     *     <code>0</code> to <code>getSize()</code>).
+     */
+    public void removeFirst(int count) {
+        if (count < 0 || count > getSize()) {
+            throw new IndexOutOfBoundsException("Cannot remove " + count
+                    + " values (size " + getSize() + ").");
+        }
+        // the removed leaves are never part of a run, so they are left as
+        // they are until the tree is rebuilt
+        this.first += count;
+    }
+
+    /**
+     * Returns the range of the values from index <code>start</code> to index
+     * <code>end</code> (inclusive), ignoring <code>Double.NaN</code>.
+     *
+     * @param start  the index of the first value.
+     * @param end  the index of the last value (if this is less than
+     *     <code>start</code>, the result is <code>null</code>).
+     *
+     * @return The range, or <code>null</code> if there are no values (other
+     *     than <code>Double.NaN</code>) in the specified run.
+     */
+    public Range getBounds(int start, int end) {
+        if (start > end) {
+            return null;
+        }
+        if (start < 0 || end >= getSize()) {
+            throw new IndexOutOfBoundsException("Invalid run: " + start
+                    + " to " + end + " (size " + getSize() + ").");
+        }
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        int l = this.capacity + this.first + start;
+        int r = this.capacity + this.first + end + 1;
+        while (l < r) {
+            if ((l & 1) == 1) {
+                lower = Math.min(lower, this.min[l]);
+                upper = Math.max(upper, this.max[l]);
+                l++;
+            }
+            if ((r & 1) == 1) {
+                r--;
+                lower = Math.min(lower, this.min[r]);
+                upper = Math.max(upper, this.max[r]);
+            }
+            l = l >> 1;
+            r = r >> 1;
+        }
+        if (lower > upper) {
+            return null;
+        }
+        return new Range(lower, upper);
+    }
+
+    /**
+     * Builds the tree for an array of values, leaving room for half as many
+     * values again to be added before the tree is rebuilt.
+     *
+     * @param values  the values.
+     */
+    private void build(double[] values) {
+        int count = values.length;
+        int n = count + Math.max(count / 2, MINIMUM_SPARE);
+        this.capacity = n;
+        this.first = 0;
+        this.end = count;
+        this.min = new double[2 * n];
+        this.max = new double[2 * n];
+        Arrays.fill(this.min, Double.POSITIVE_INFINITY);
+        Arrays.fill(this.max, Double.NEGATIVE_INFINITY);
+        for (int i = 0; i < count; i++) {
+            double v = values[i];
+            if (!Double.isNaN(v)) {
+                this.min[n + i] = v;
+                this.max[n + i] = v;
+            }
+        }
+        for (int i = n - 1; i > 0; i--) {
+            this.min[i] = Math.min(this.min[2 * i], this.min[2 * i + 1]);
+            this.max[i] = Math.max(this.max[2 * i], this.max[2 * i + 1]);
+        }
+    }
+
+}
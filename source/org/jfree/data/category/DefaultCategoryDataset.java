@@ -43,6 +43,7 @@
  * 26-Feb-2007 : Updated API docs (DG);
  * 08-Mar-2007 : Implemented clone() (DG);
  * 09-May-2008 : Implemented PublicCloneable (DG);
+ * 17-Oct-2026 : Added addValues() method for bulk loading;
  *
  */
 
@@ -51,6 +52,7 @@ package org.jfree.data.category;
 import java.io.Serializable;
 import java.util.List;
 
+import org.jfree.chart.util.ParamChecks;
 import org.jfree.data.DefaultKeyedValues2D;
 import org.jfree.data.UnknownKeyException;
 import org.jfree.data.general.AbstractDataset;
@@ -247,6 +249,33 @@ public class DefaultCategoryDataset extends AbstractDataset
         addValue(new Double(value), rowKey, columnKey);
     }
 
+    /**
+     * Adds or updates a table of values and sends a single
+     * {@link DatasetChangeEvent} to all registered listeners.  The result is
+     * the same as calling {@link #addValue(double, Comparable, Comparable)}
+     * for each value in turn (row by row).
+     *
+     * @param rowKeys  the row keys (<code>null</code> not permitted).
+     * @param columnKeys  the column keys (<code>null</code> not permitted).
+     * @param data  the values, indexed by row then column (<code>null</code>
+     *     not permitted).
+     *
+     * @since 1.0.20
+     */
+    public void addValues(Comparable[] rowKeys, Comparable[] columnKeys,
+            double[][] data) {
+        ParamChecks.nullNotPermitted(data, "data");
+        Number[][] values = new Number[data.length][];
+        for (int r = 0; r < data.length; r++) {
+            values[r] = new Number[data[r].length];
+            for (int c = 0; c < data[r].length; c++) {
+                values[r][c] = new Double(data[r][c]);
+            }
+        }
+        this.data.setValues(rowKeys, columnKeys, values);
+        fireDatasetChanged();
+    }
+
     /**
      * Adds or updates a value in the table and sends a
      * {@link DatasetChangeEvent} to all registered listeners.
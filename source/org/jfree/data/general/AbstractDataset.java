@@ -55,6 +55,7 @@
  * 03-Jul-2013 : Use ParamChecks (DG);
  * 21-Nov-2013 : Added notify flag to allow suppressing change events 
  *               temporarily (DG);
+ * 17-Oct-2026 : Added modification stamp;
  *
  */
 
@@ -78,7 +79,7 @@ import org.jfree.chart.util.ParamChecks;
  * mechanism for registering change listeners.
  */
 public abstract class AbstractDataset implements Dataset, Cloneable,
-        Serializable, ObjectInputValidation {
+        Serializable, ObjectInputValidation, ModificationStamped {
 
     /** For serialization. */
     private static final long serialVersionUID = 1918768939869230744L;
@@ -95,6 +96,9 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      */
     private boolean notify;
 
+    /** The modification stamp (not serialized). */
+    private transient volatile long modificationStamp;
+
     /**
      * Constructs a dataset. By default, the dataset is assigned to its own
      * group.
@@ -103,6 +107,7 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
         this.group = new DatasetGroup();
         this.listenerList = new EventListenerList();
         this.notify = true;
+        this.modificationStamp = ModificationStamps.next();
     }
 
     /**
@@ -203,10 +208,35 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
         return list.contains(listener);
     }
 
+    /**
+     * Returns the modification stamp for the dataset.  The stamp changes
+     * every time the dataset is modified, whether or not change events are
+     * sent to listeners.
+     *
+     * @return The modification stamp.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public long getModificationStamp() {
+        return this.modificationStamp;
+    }
+
+    /**
+     * Updates the modification stamp for the dataset.  This is called for
+     * every change event, and subclasses should also call it when they
+     * modify the dataset without sending an event.
+     *
+     * @since 1.0.20
+     */
+    protected void updateModificationStamp() {
+        this.modificationStamp = ModificationStamps.next();
+    }
+
     /**
      * Notifies all registered listeners that the dataset has changed, 
      * provided that the <code>notify</code> flag has not been set to 
-     * <code>false</code>.
+     * <code>false</code>.  The modification stamp is updated in either case.
      *
      * @see #addChangeListener(DatasetChangeListener)
      */
@@ -214,6 +244,9 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
         if (this.notify) {
             notifyListeners(new DatasetChangeEvent(this, this));
         }
+        else {
+            updateModificationStamp();
+        }
     }
 
     /**
@@ -226,6 +259,7 @@ public abstract class AbstractDataset implements Dataset, Cloneable,
      * @see #removeChangeListener(DatasetChangeListener)
      */
     protected void notifyListeners(DatasetChangeEvent event) {
+        updateModificationStamp();
         Object[] listeners = this.listenerList.getListenerList();
         for (int i = listeners.length - 2; i >= 0; i -= 2) {
             if (listeners[i] == DatasetChangeListener.class) {
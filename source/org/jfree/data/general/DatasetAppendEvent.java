@@ -0,0 +1,70 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * DatasetAppendEvent.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.data.general;
+
+/**
+ * A {@link DatasetChangeEvent} indicating that the only change to an
+ * {@link org.jfree.data.xy.XYDataset} is that items have been appended to
+ * the end of one or more series, and/or new series have been added after the
+ * existing series.  No existing item has been modified, removed or moved.
+ * Listeners that cache information derived from the dataset can use this to
+ * update the information incrementally rather than recalculating it.
+ *
+ * @since 1.0.20
+ */
+public class DatasetAppendEvent extends DatasetChangeEvent {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6938897590492007595L;
+
+    /**
+     * Constructs a new event.
+     *
+     * @param source  the source of the event.
+     * @param dataset  the dataset that generated the event (<code>null</code>
+     *                 permitted).
+     */
+    public DatasetAppendEvent(Object source, Dataset dataset) {
+        super(source, dataset);
+    }
+
+}
@@ -0,0 +1,420 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * DatasetBoundsCache.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.data.general;
+
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
+import java.util.HashMap;
+import java.util.Map;
+
+import org.jfree.data.Range;
+import org.jfree.data.category.CategoryDataset;
+import org.jfree.data.xy.XYDataset;
+
+/**
+ * A cache of the bounds calculated by iterating over the items in a dataset,
+ * used by {@link DatasetUtilities} for datasets that do not maintain their
+ * own bounds.  The cache registers a listener with each dataset it holds
+ * bounds for, and the cached bounds are discarded whenever the dataset sends
+ * a {@link DatasetChangeEvent}.  For a {@link DatasetAppendEvent}, the bounds
+ * are retained and updated on the next request by iterating over the
+ * appended items only.  For a dataset that is {@link ModificationStamped},
+ * the bounds are also discarded when the stamp has changed without an event
+ * (for example, when items were added with notification switched off),
+ * including after an append.
+ * <P>
+ * Datasets are held by weak references and compared by identity (the
+ * <code>equals()</code> and <code>hashCode()</code> methods of a dataset
+ * depend on its content), so the cache does not prevent them from being
+ * garbage collected.
+ */
+final class DatasetBoundsCache {
+
+    /** The slot for the x-bounds of an XYDataset, excluding intervals. */
+    private static final int XY_DOMAIN = 0;
+
+    /** The slot for the x-bounds of an XYDataset, including intervals. */
+    private static final int XY_DOMAIN_INTERVAL = 1;
+
+    /** The slot for the y-bounds of an XYDataset, excluding intervals. */
+    private static final int XY_RANGE = 2;
+
+    /** The slot for the y-bounds of an XYDataset, including intervals. */
+    private static final int XY_RANGE_INTERVAL = 3;
+
+    /** The slot for the bounds of a CategoryDataset, excluding intervals. */
+    private static final int CATEGORY_RANGE = 4;
+
+    /** The slot for the bounds of a CategoryDataset, including intervals. */
+    private static final int CATEGORY_RANGE_INTERVAL = 5;
+
+    /** The number of slots. */
+    private static final int SLOT_COUNT = 6;
+
+    /** Storage for the cache entries (DatasetReference --> Entry). */
+    private final Map entries;
+
+    /** The queue for references to datasets that have been collected. */
+    private final ReferenceQueue queue;
+
+    /**
+     * Creates a new empty cache.
+     */
+    DatasetBoundsCache() {
+        this.entries = new HashMap();
+        this.queue = new ReferenceQueue();
+    }
+
+    /**
+     * Returns the bounds of the x-values in the dataset, iterating over the
+     * items only if the bounds are not already cached.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param includeInterval  include the x-interval (if any)?
+     *
+     * @return The bounds (possibly <code>null</code>).
+     */
+    Range getDomainBounds(XYDataset dataset, boolean includeInterval) {
+        return getXYBounds(dataset,
+                includeInterval ? XY_DOMAIN_INTERVAL : XY_DOMAIN);
+    }
+
+    /**
+     * Returns the bounds of the y-values in the dataset, iterating over the
+     * items only if the bounds are not already cached.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param includeInterval  include the y-interval (if any)?
+     *
+     * @return The bounds (possibly <code>null</code>).
+     */
+    Range getRangeBounds(XYDataset dataset, boolean includeInterval) {
+        return getXYBounds(dataset,
+                includeInterval ? XY_RANGE_INTERVAL : XY_RANGE);
+    }
+
+    /**
+     * Returns the bounds of the values in the dataset, iterating over the
+     * items only if the bounds are not already cached.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param includeInterval  include the interval (if any)?
+     *
+     * @return The bounds (possibly <code>null</code>).
+     */
+    Range getRangeBounds(CategoryDataset dataset, boolean includeInterval) {
+        int slot = includeInterval ? CATEGORY_RANGE_INTERVAL : CATEGORY_RANGE;
+        Entry entry = getEntry(dataset);
+        long stamp = getStamp(dataset);
+        int version;
+        synchronized (entry) {
+            if (entry.itemCounts[slot] != null
+                    && entry.stamps[slot] == stamp) {
+                return entry.bounds[slot];
+            }
+            version = entry.version;
+        }
+        Range result = DatasetUtilities.iterateRangeBounds(dataset,
+                includeInterval);
+        entry.store(slot, version, result, new int[0], stamp);
+        return result;
+    }
+
+    /**
+     * Returns the bounds for one of the XY slots.  If the dataset has only
+     * had items appended since the bounds were cached, only the new items
+     * are examined.
+     *
+     * @param dataset  the dataset.
+     * @param slot  the slot.
+     *
+     * @return The bounds (possibly <code>null</code>).
+     */
+    private Range getXYBounds(XYDataset dataset, int slot) {
+        Entry entry = getEntry(dataset);
+        long stamp = getStamp(dataset);
+        Range cached;
+        int[] counts;
+        int version;
+        synchronized (entry) {
+            cached = entry.bounds[slot];
+            counts = entry.itemCounts[slot];
+            if (entry.stamps[slot] != stamp) {
+                // changed without an event (since the bounds were stored or
+                // items were last appended), so the bounds must be
+                // calculated from scratch
+                counts = null;
+            }
+            if (counts != null && !entry.appended[slot]) {
+                return cached;
+            }
+            version = entry.version;
+        }
+        int seriesCount = dataset.getSeriesCount();
+        int[] current = new int[seriesCount];
+        for (int s = 0; s < seriesCount; s++) {
+            current[s] = dataset.getItemCount(s);
+        }
+        int[] firstItems = null;
+        if (counts != null && isAppended(counts, current)) {
+            firstItems = counts;
+        }
+        else {
+            cached = null;
+        }
+        boolean includeInterval = slot == XY_DOMAIN_INTERVAL
+                || slot == XY_RANGE_INTERVAL;
+        Range result;
+        if (slot == XY_DOMAIN || slot == XY_DOMAIN_INTERVAL) {
+            result = DatasetUtilities.iterateDomainBounds(dataset,
+                    includeInterval, firstItems);
+        }
+        else {
+            result = DatasetUtilities.iterateRangeBounds(dataset,
+                    includeInterval, firstItems);
+        }
+        result = Range.combine(cached, result);
+        entry.store(slot, version, result, current, stamp);
+        return result;
+    }
+
+    /**
+     * Returns the modification stamp for a dataset, or zero if the dataset
+     * does not record one.
+     *
+     * @param dataset  the dataset.
+     *
+     * @return The stamp.
+     */
+    private static long getStamp(Dataset dataset) {
+        if (dataset instanceof ModificationStamped) {
+            return ((ModificationStamped) dataset).getModificationStamp();
+        }
+        return 0L;
+    }
+
+    /**
+     * Returns <code>true</code> if the current item counts could have been
+     * reached from the earlier counts by appending items and series.
+     *
+     * @param earlier  the earlier item counts.
+     * @param current  the current item counts.
+     *
+     * @return A boolean.
+     */
+    private static boolean isAppended(int[] earlier, int[] current) {
+        if (current.length < earlier.length) {
+            return false;
+        }
+        for (int s = 0; s < earlier.length; s++) {
+            if (current[s] < earlier[s]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the entry for a dataset, creating it (and registering it as a
+     * listener with the dataset) if necessary.
+     *
+     * @param dataset  the dataset.
+     *
+     * @return The entry.
+     */
+    private synchronized Entry getEntry(Dataset dataset) {
+        Reference ref;
+        while ((ref = this.queue.poll()) != null) {
+            this.entries.remove(ref);
+        }
+        Entry entry = (Entry) this.entries.get(
+                new DatasetReference(dataset, null));
+        if (entry == null) {
+            entry = new Entry();
+            this.entries.put(new DatasetReference(dataset, this.queue), entry);
+            dataset.addChangeListener(entry);
+        }
+        return entry;
+    }
+
+    /**
+     * A weak reference to a dataset that is equal to another reference
+     * only if both refer to the same dataset instance.
+     */
+    private static final class DatasetReference extends WeakReference {
+
+        /** The identity hash code of the dataset. */
+        private final int hash;
+
+        /**
+         * Creates a new reference.
+         *
+         * @param dataset  the dataset.
+         * @param queue  the reference queue (<code>null</code> permitted).
+         */
+        DatasetReference(Dataset dataset, ReferenceQueue queue) {
+            super(dataset, queue);
+            this.hash = System.identityHashCode(dataset);
+        }
+
+        /**
+         * Tests this reference for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof DatasetReference)) {
+                return false;
+            }
+            Object dataset = get();
+            return dataset != null && dataset == ((DatasetReference) obj).get();
+        }
+
+        /**
+         * Returns a hash code for this reference.
+         *
+         * @return A hash code.
+         */
+        @Override
+        public int hashCode() {
+            return this.hash;
+        }
+
+    }
+
+    /**
+     * The cached bounds for one dataset.  An entry is registered as a
+     * listener with its dataset, and must not hold a reference to the
+     * dataset (otherwise the dataset would never be removed from the
+     * cache).
+     */
+    private static final class Entry implements DatasetChangeListener {
+
+        /** The cached bounds for each slot. */
+        private final Range[] bounds;
+
+        /**
+         * The item count for each series when the bounds in a slot were
+         * calculated, or <code>null</code> if the slot is empty.
+         */
+        private final int[][] itemCounts;
+
+        /**
+         * Flags for the slots whose bounds are still valid for the items
+         * they were calculated from, but items have since been appended.
+         */
+        private final boolean[] appended;
+
+        /**
+         * The modification stamp of the dataset when the bounds in each slot
+         * were calculated or, for appended slots, when the last items were
+         * appended.
+         */
+        private final long[] stamps;
+
+        /** Incremented each time the dataset changes. */
+        private int version;
+
+        /**
+         * Creates a new empty entry.
+         */
+        Entry() {
+            this.bounds = new Range[SLOT_COUNT];
+            this.itemCounts = new int[SLOT_COUNT][];
+            this.appended = new boolean[SLOT_COUNT];
+            this.stamps = new long[SLOT_COUNT];
+        }
+
+        /**
+         * Stores the bounds for a slot, unless the dataset has changed since
+         * the calculation started.
+         *
+         * @param slot  the slot.
+         * @param version  the version when the calculation started.
+         * @param range  the bounds (<code>null</code> permitted).
+         * @param counts  the item counts the bounds were calculated from.
+         * @param stamp  the modification stamp when the calculation started.
+         */
+        synchronized void store(int slot, int version, Range range,
+                int[] counts, long stamp) {
+            if (this.version == version) {
+                this.bounds[slot] = range;
+                this.itemCounts[slot] = counts;
+                this.appended[slot] = false;
+                this.stamps[slot] = stamp;
+            }
+        }
+
+        /**
+         * Receives notification of a change to the dataset and discards or
+         * marks the cached bounds.
+         *
+         * @param event  the event.
+         */
+        @Override
+        public synchronized void datasetChanged(DatasetChangeEvent event) {
+            this.version++;
+            boolean append = event instanceof DatasetAppendEvent;
+            long stamp = getStamp(event.getDataset());
+            for (int slot = 0; slot < SLOT_COUNT; slot++) {
+                if (append && slot < CATEGORY_RANGE) {
+                    this.appended[slot] = this.itemCounts[slot] != null;
+                    this.stamps[slot] = stamp;
+                }
+                else {
+                    this.bounds[slot] = null;
+                    this.itemCounts[slot] = null;
+                    this.appended[slot] = false;
+                }
+            }
+        }
+
+    }
+
+}
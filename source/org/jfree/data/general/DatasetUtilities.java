@@ -123,6 +123,9 @@
  * 10-Sep-2009 : Fix bug 2849731 for IntervalCategoryDataset (DG);
  * 16-Feb-2010 : Patch 2952086 - find z-bounds (MH);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 17-Oct-2026 : Cache the bounds for datasets that do not calculate their
+ *               own;
+ * 17-Oct-2026 : Made the bounds cache opt-in;
  * 
  */
 
@@ -171,6 +174,62 @@ public final class DatasetUtilities {
         // now try to instantiate this ;-)
     }
 
+    /** The cache for bounds found by iterating over the dataset items. */
+    private static final DatasetBoundsCache BOUNDS_CACHE
+            = new DatasetBoundsCache();
+
+    /** A flag that controls whether or not the bounds cache is used. */
+    private static volatile boolean boundsCacheEnabled;
+
+    /**
+     * Returns the flag that controls whether or not the bounds found by
+     * iterating over the items in a dataset are cached.
+     *
+     * @return A boolean.
+     *
+     * @see #setBoundsCacheEnabled(boolean)
+     *
+     * @since 1.0.20
+     */
+    public static boolean isBoundsCacheEnabled() {
+        return boundsCacheEnabled;
+    }
+
+    /**
+     * Sets the flag that controls whether or not the bounds found by
+     * iterating over the items in a dataset are cached.  The cache applies to
+     * the <code>findDomainBounds()</code> and <code>findRangeBounds()</code>
+     * methods (for all series) when the dataset is a subclass of
+     * {@link AbstractDataset} that does not implement {@link DomainInfo} or
+     * {@link RangeInfo}.  The cached bounds are discarded when the dataset
+     * sends a {@link DatasetChangeEvent} or its modification stamp changes,
+     * so any dataset that is modified without either (for example, a
+     * {@link org.jfree.data.xy.DefaultXYDataset} whose arrays are changed
+     * in place) should not be used while the cache is enabled.  The default
+     * value is <code>false</code>.
+     *
+     * @param enabled  the new flag value.
+     *
+     * @see #isBoundsCacheEnabled()
+     *
+     * @since 1.0.20
+     */
+    public static void setBoundsCacheEnabled(boolean enabled) {
+        boundsCacheEnabled = enabled;
+    }
+
+    /**
+     * Returns <code>true</code> if the bounds for the specified dataset
+     * should be cached.
+     *
+     * @param dataset  the dataset.
+     *
+     * @return A boolean.
+     */
+    private static boolean useBoundsCache(Dataset dataset) {
+        return boundsCacheEnabled && dataset instanceof AbstractDataset;
+    }
+
     /**
      * Calculates the total of all the values in a {@link PieDataset}.  If
      * the dataset contains negative or <code>null</code> values, they are
@@ -659,6 +718,9 @@ public final class DatasetUtilities {
             DomainInfo info = (DomainInfo) dataset;
             result = info.getDomainBounds(includeInterval);
         }
+        else if (useBoundsCache(dataset)) {
+            result = BOUNDS_CACHE.getDomainBounds(dataset, includeInterval);
+        }
         else {
             result = iterateDomainBounds(dataset, includeInterval);
         }
@@ -724,6 +786,23 @@ public final class DatasetUtilities {
      */
     public static Range iterateDomainBounds(XYDataset dataset,
             boolean includeInterval) {
+        return iterateDomainBounds(dataset, includeInterval, null);
+    }
+
+    /**
+     * Iterates over the items in an {@link XYDataset} to find the range of
+     * x-values, starting each series at the specified item.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param includeInterval  include the x-interval (if any)?
+     * @param firstItems  the index of the first item to examine for each
+     *     series (<code>null</code> permitted, to examine all items).  Series
+     *     with no entry in the array are examined from the first item.
+     *
+     * @return The range (possibly <code>null</code>).
+     */
+    static Range iterateDomainBounds(XYDataset dataset,
+            boolean includeInterval, int[] firstItems) {
         ParamChecks.nullNotPermitted(dataset, "dataset");
         double minimum = Double.POSITIVE_INFINITY;
         double maximum = Double.NEGATIVE_INFINITY;
@@ -733,7 +812,8 @@ public final class DatasetUtilities {
             IntervalXYDataset intervalXYData = (IntervalXYDataset) dataset;
             for (int series = 0; series < seriesCount; series++) {
                 int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
+                for (int item = firstItem(firstItems, series);
+                        item < itemCount; item++) {
                     double value = intervalXYData.getXValue(series, item);
                     lvalue = intervalXYData.getStartXValue(series, item);
                     uvalue = intervalXYData.getEndXValue(series, item);
@@ -755,7 +835,8 @@ public final class DatasetUtilities {
         else {
             for (int series = 0; series < seriesCount; series++) {
                 int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
+                for (int item = firstItem(firstItems, series);
+                        item < itemCount; item++) {
                     lvalue = dataset.getXValue(series, item);
                     uvalue = lvalue;
                     if (!Double.isNaN(lvalue)) {
@@ -801,6 +882,9 @@ public final class DatasetUtilities {
             RangeInfo info = (RangeInfo) dataset;
             result = info.getRangeBounds(includeInterval);
         }
+        else if (useBoundsCache(dataset)) {
+            result = BOUNDS_CACHE.getRangeBounds(dataset, includeInterval);
+        }
         else {
             result = iterateRangeBounds(dataset, includeInterval);
         }
@@ -867,6 +951,9 @@ public final class DatasetUtilities {
             RangeInfo info = (RangeInfo) dataset;
             result = info.getRangeBounds(includeInterval);
         }
+        else if (useBoundsCache(dataset)) {
+            result = BOUNDS_CACHE.getRangeBounds(dataset, includeInterval);
+        }
         else {
             result = iterateRangeBounds(dataset, includeInterval);
         }
@@ -1204,6 +1291,23 @@ public final class DatasetUtilities {
      */
     public static Range iterateRangeBounds(XYDataset dataset,
             boolean includeInterval) {
+        return iterateRangeBounds(dataset, includeInterval, null);
+    }
+
+    /**
+     * Iterates over the items in an {@link XYDataset} to find the range of
+     * y-values, starting each series at the specified item.
+     *
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param includeInterval  include the y-interval (if any)?
+     * @param firstItems  the index of the first item to examine for each
+     *     series (<code>null</code> permitted, to examine all items).  Series
+     *     with no entry in the array are examined from the first item.
+     *
+     * @return The range (possibly <code>null</code>).
+     */
+    static Range iterateRangeBounds(XYDataset dataset,
+            boolean includeInterval, int[] firstItems) {
         double minimum = Double.POSITIVE_INFINITY;
         double maximum = Double.NEGATIVE_INFINITY;
         int seriesCount = dataset.getSeriesCount();
@@ -1214,7 +1318,8 @@ public final class DatasetUtilities {
             IntervalXYDataset ixyd = (IntervalXYDataset) dataset;
             for (int series = 0; series < seriesCount; series++) {
                 int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
+                for (int item = firstItem(firstItems, series);
+                        item < itemCount; item++) {
                     double value = ixyd.getYValue(series, item);
                     double lvalue = ixyd.getStartYValue(series, item);
                     double uvalue = ixyd.getEndYValue(series, item);
@@ -1238,7 +1343,8 @@ public final class DatasetUtilities {
             OHLCDataset ohlc = (OHLCDataset) dataset;
             for (int series = 0; series < seriesCount; series++) {
                 int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
+                for (int item = firstItem(firstItems, series);
+                        item < itemCount; item++) {
                     double lvalue = ohlc.getLowValue(series, item);
                     double uvalue = ohlc.getHighValue(series, item);
                     if (!Double.isNaN(lvalue)) {
@@ -1254,7 +1360,8 @@ public final class DatasetUtilities {
             // standard case - plain XYDataset
             for (int series = 0; series < seriesCount; series++) {
                 int itemCount = dataset.getItemCount(series);
-                for (int item = 0; item < itemCount; item++) {
+                for (int item = firstItem(firstItems, series);
+                        item < itemCount; item++) {
                     double value = dataset.getYValue(series, item);
                     if (!Double.isNaN(value)) {
                         minimum = Math.min(minimum, value);
@@ -1271,6 +1378,22 @@ public final class DatasetUtilities {
         }
     }
 
+    /**
+     * Returns the index of the first item to examine in a series.
+     *
+     * @param firstItems  the first item indices (<code>null</code>
+     *     permitted).
+     * @param series  the series index.
+     *
+     * @return The item index.
+     */
+    private static int firstItem(int[] firstItems, int series) {
+        if (firstItems == null || series >= firstItems.length) {
+            return 0;
+        }
+        return firstItems[series];
+    }
+
     /**
      * Returns the range of values in the z-dimension for the dataset. This
      * method is the partner for the {@link #findRangeBounds(XYDataset)}
@@ -35,6 +35,7 @@
  * Changes:
  * --------
  * 28-Jan-2009 : Version 1 (DG);
+ * 17-Oct-2026 : Update modification stamp for silent changes;
  *
  */
 
@@ -274,6 +275,9 @@ public class DefaultHeatMapDataset extends AbstractDataset
         if (notify) {
             fireDatasetChanged();
         }
+        else {
+            updateModificationStamp();
+        }
     }
 
     /**
@@ -52,6 +52,7 @@
  * 28-Sep-2006 : Added sortByKeys() and sortByValues() methods (DG);
  * 30-Apr-2007 : Added new insertValues() methods (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 17-Oct-2026 : Added setValues() method for bulk loading;
  *
  */
 
@@ -213,6 +214,35 @@ public class DefaultPieDataset extends AbstractDataset
         setValue(key, new Double(value));
     }
 
+    /**
+     * Sets the data values for a number of keys and sends a single
+     * {@link DatasetChangeEvent} to all registered listeners.  The result is
+     * the same as calling {@link #setValue(Comparable, double)} for each key
+     * in turn.
+     *
+     * @param keys  the keys (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted, and the
+     *     same length as <code>keys</code>).
+     *
+     * @since 1.0.20
+     */
+    public void setValues(Comparable[] keys, double[] values) {
+        ParamChecks.nullNotPermitted(keys, "keys");
+        ParamChecks.nullNotPermitted(values, "values");
+        if (keys.length != values.length) {
+            throw new IllegalArgumentException(
+                    "The 'keys' and 'values' arrays must have the same "
+                    + "length.");
+        }
+        for (int i = 0; i < keys.length; i++) {
+            ParamChecks.nullNotPermitted(keys[i], "keys[" + i + "]");
+        }
+        for (int i = 0; i < keys.length; i++) {
+            this.data.setValue(keys[i], new Double(values[i]));
+        }
+        fireDatasetChanged();
+    }
+
     /**
      * Inserts a new value at the specified position in the dataset or, if
      * there is an existing item with the specified key, updates the value
@@ -0,0 +1,64 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * ModificationStamped.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+/**
+ * An object (such as a dataset or series) that records a modification stamp,
+ * so that a change can be detected by comparing the current stamp with an
+ * earlier one, without registering a listener.  The stamp changes every time
+ * the object is modified, including modifications made while change events
+ * are suppressed.  Stamps are taken from a single increasing sequence, so a
+ * stamp is never reused and an object that contains others (for example a
+ * collection of series) can report the largest stamp of its parts.
+ *
+ * @since 1.0.20
+ */
+public interface ModificationStamped {
+
+    /**
+     * Returns the modification stamp.  Two equal stamps read from the same
+     * object mean that it was not modified in between.
+     *
+     * @return The modification stamp.
+     */
+    public long getModificationStamp();
+
+}
@@ -0,0 +1,93 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * ModificationStamps.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * The source of the stamps returned by {@link ModificationStamped} objects,
+ * and a utility method for objects made of other stamped objects.
+ *
+ * @since 1.0.20
+ */
+public final class ModificationStamps {
+
+    /** The last stamp issued. */
+    private static final AtomicLong LAST = new AtomicLong();
+
+    /**
+     * No instances.
+     */
+    private ModificationStamps() {
+        // nothing to do
+    }
+
+    /**
+     * Returns a new stamp, greater than all the stamps issued before.
+     *
+     * @return The stamp.
+     */
+    static long next() {
+        return LAST.incrementAndGet();
+    }
+
+    /**
+     * Returns the latest of a stamp and the stamps of the items in a list.
+     * A collection uses this to combine its own stamp with the stamps of its
+     * series.
+     *
+     * @param stamp  the stamp (for example, of the collection itself).
+     * @param parts  the parts, which must all implement
+     *     {@link ModificationStamped} (<code>null</code> not permitted).
+     *
+     * @return The latest stamp.
+     */
+    public static long latest(long stamp, List<?> parts) {
+        long result = stamp;
+        for (int i = 0; i < parts.size(); i++) {
+            ModificationStamped part = (ModificationStamped) parts.get(i);
+            result = Math.max(result, part.getModificationStamp());
+        }
+        return result;
+    }
+
+}
@@ -51,6 +51,7 @@
  * 26-Sep-2007 : Added isEmpty() and getItemCount() methods (DG);
  * 16-Oct-2011 : Added vetoable property change support for series name (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 17-Oct-2026 : Added modification stamp;
  * 
  */
 
@@ -78,7 +79,8 @@ import org.jfree.util.ObjectUtilities;
  * You can also register a {@link SeriesChangeListener} to receive notification
  * of changes to the series data.
  */
-public abstract class Series implements Cloneable, Serializable {
+public abstract class Series implements Cloneable, Serializable,
+        ModificationStamped {
 
     /** For serialization. */
     private static final long serialVersionUID = -6906561437538683581L;
@@ -101,6 +103,9 @@ public abstract class Series implements Cloneable, Serializable {
     /** A flag that controls whether or not changes are notified. */
     private boolean notify;
 
+    /** The modification stamp (not serialized). */
+    private transient volatile long modificationStamp;
+
     /**
      * Creates a new series with the specified key.
      *
@@ -124,6 +129,7 @@ public abstract class Series implements Cloneable, Serializable {
         this.propertyChangeSupport = new PropertyChangeSupport(this);
         this.vetoableChangeSupport = new VetoableChangeSupport(this);
         this.notify = true;
+        this.modificationStamp = ModificationStamps.next();
     }
 
     /**
@@ -327,12 +333,16 @@ public abstract class Series implements Cloneable, Serializable {
 
     /**
      * General method for signalling to registered listeners that the series
-     * has been changed.
+     * has been changed.  The modification stamp is updated even if the
+     * notify flag is <code>false</code>.
      */
     public void fireSeriesChanged() {
         if (this.notify) {
             notifyListeners(new SeriesChangeEvent(this));
         }
+        else {
+            updateModificationStamp();
+        }
     }
 
     /**
@@ -343,6 +353,7 @@ public abstract class Series implements Cloneable, Serializable {
      */
     protected void notifyListeners(SeriesChangeEvent event) {
 
+        updateModificationStamp();
         Object[] listenerList = this.listeners.getListenerList();
         for (int i = listenerList.length - 2; i >= 0; i -= 2) {
             if (listenerList[i] == SeriesChangeListener.class) {
@@ -353,6 +364,31 @@ public abstract class Series implements Cloneable, Serializable {
 
     }
 
+    /**
+     * Returns the modification stamp for the series.  The stamp changes
+     * every time the series is modified, whether or not change events are
+     * sent to listeners.
+     *
+     * @return The modification stamp.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public long getModificationStamp() {
+        return this.modificationStamp;
+    }
+
+    /**
+     * Updates the modification stamp for the series.  This is called for
+     * every change event, and subclasses should also call it when they
+     * modify the series without sending an event.
+     *
+     * @since 1.0.20
+     */
+    protected void updateModificationStamp() {
+        this.modificationStamp = ModificationStamps.next();
+    }
+
     /**
      * Adds a property change listener to the series.
      *
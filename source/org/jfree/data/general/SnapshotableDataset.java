@@ -0,0 +1,77 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * SnapshotableDataset.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.general;
+
+/**
+ * A dataset that can supply an immutable snapshot of its current contents.
+ * Plots that support this interface (for example,
+ * {@link org.jfree.chart.plot.XYPlot} and
+ * {@link org.jfree.chart.plot.CategoryPlot}) take a snapshot before they
+ * render a dataset and read the items only from the snapshot, so the
+ * dataset can be modified on another thread while the chart is drawn
+ * without the plot seeing a partial update.
+ * <P>
+ * An <code>XYPlot</code> also passes the snapshot to
+ * {@link org.jfree.chart.renderer.xy.XYItemRenderer#initialise}.  A
+ * <code>CategoryPlot</code> only passes the dataset index to
+ * {@link org.jfree.chart.renderer.category.CategoryItemRenderer#initialise},
+ * so a renderer that looks up the dataset there sees the live dataset, as
+ * does the auto-range calculation for the axes.
+ * <P>
+ * A snapshot should be cheap to create (typically by sharing the
+ * unchanging parts of the data with the dataset rather than copying it)
+ * because one is taken every time a chart is drawn.
+ *
+ * @since 1.0.20
+ */
+public interface SnapshotableDataset extends Dataset {
+
+    /**
+     * Returns a dataset containing the current items in this dataset.  The
+     * returned dataset must implement the same dataset interfaces as this
+     * dataset (for example, <code>XYDataset</code>) and its contents must
+     * never change.  It may be this dataset if the contents cannot change.
+     *
+     * @return A dataset (never <code>null</code>).
+     */
+    public Dataset getSnapshot();
+
+}
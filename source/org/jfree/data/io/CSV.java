@@ -35,6 +35,8 @@
  * Changes
  * -------
  * 24-Nov-2003 : Version 1 (DG);
+ * 17-Oct-2026 : Added streaming readers for XY, time series and OHLC data;
+ * 17-Oct-2026 : Look up the time period constructor once for each load;
  *
  */
 
@@ -42,16 +44,55 @@ package org.jfree.data.io;
 
 import java.io.BufferedReader;
 import java.io.IOException;
+import java.io.InterruptedIOException;
 import java.io.Reader;
+import java.lang.reflect.Constructor;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Date;
+import java.util.Deque;
 import java.util.List;
+import java.util.TimeZone;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
 
+import org.jfree.chart.util.ParamChecks;
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.SeriesException;
+import org.jfree.data.time.FixedMillisecond;
+import org.jfree.data.time.RegularTimePeriod;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.DefaultOHLCDataset;
+import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.DoubleArrayXYSeries;
+import org.jfree.data.xy.OHLCDataItem;
+import org.jfree.data.xy.OHLCDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 
 /**
  * A utility class for reading {@link CategoryDataset} data from a CSV file.
  * This initial version is very basic, and won't handle errors in the data
  * file very gracefully.
+ * <P>
+ * This class can also read numeric data into XY, time series and OHLC
+ * datasets.  For these, the first line of the file contains the column
+ * keys, the first column contains the x-values (either numbers or
+ * timestamps such as <code>2026-10-17 09:30:00.250</code>, with an optional
+ * <code>Z</code> or <code>+hh:mm</code> offset) and the other columns
+ * contain the y-values (an empty field is read as
+ * <code>Double.NaN</code>).  Text delimiters around a value are ignored, but
+ * a field delimiter within a value is not supported.  The input is read in
+ * chunks of lines (see {@link #setChunkSize(int)}) that are parsed directly
+ * into <code>double</code> arrays, several chunks at a time on the common
+ * <code>ForkJoinPool</code> when more than one processor is available, and
+ * passed to the dataset in order.
  */
 public class CSV {
 
@@ -61,6 +102,15 @@ public class CSV {
     /** The text delimiter. */
     private char textDelimiter;
 
+    /** The time zone for timestamps that do not include an offset. */
+    private TimeZone timeZone;
+
+    /** The maximum number of lines in a chunk. */
+    private int chunkSize;
+
+    /** Parse chunks on more than one thread when possible? */
+    private boolean parallel;
+
     /**
      * Creates a new CSV reader where the field delimiter is a comma, and the
      * text delimiter is a double-quote.
@@ -80,6 +130,88 @@ public class CSV {
     public CSV(char fieldDelimiter, char textDelimiter) {
         this.fieldDelimiter = fieldDelimiter;
         this.textDelimiter = textDelimiter;
+        this.timeZone = TimeZone.getDefault();
+        this.chunkSize = 65536;
+        this.parallel = true;
+    }
+
+    /**
+     * Returns the time zone used for timestamps that do not include an
+     * offset, and for the time periods created by
+     * {@link #load(Reader, TimeSeriesCollection, Class)}.  The default is
+     * the default time zone for the JVM.
+     *
+     * @return The time zone (never <code>null</code>).
+     *
+     * @since 1.0.20
+     */
+    public TimeZone getTimeZone() {
+        return this.timeZone;
+    }
+
+    /**
+     * Sets the time zone used for timestamps that do not include an offset.
+     *
+     * @param zone  the time zone (<code>null</code> not permitted).
+     *
+     * @since 1.0.20
+     */
+    public void setTimeZone(TimeZone zone) {
+        ParamChecks.nullNotPermitted(zone, "zone");
+        this.timeZone = zone;
+    }
+
+    /**
+     * Returns the maximum number of lines in each chunk of the input.  The
+     * <code>load()</code> methods update the dataset once for each chunk.
+     * The default value is <code>65536</code>.
+     *
+     * @return The chunk size.
+     *
+     * @since 1.0.20
+     */
+    public int getChunkSize() {
+        return this.chunkSize;
+    }
+
+    /**
+     * Sets the maximum number of lines in each chunk of the input.
+     *
+     * @param lines  the number of lines (must be positive).
+     *
+     * @since 1.0.20
+     */
+    public void setChunkSize(int lines) {
+        if (lines <= 0) {
+            throw new IllegalArgumentException(
+                    "Requires 'lines' to be positive.");
+        }
+        this.chunkSize = lines;
+    }
+
+    /**
+     * Returns the flag that controls whether or not chunks are parsed on
+     * several threads at once.  The default value is <code>true</code>.
+     *
+     * @return A boolean.
+     *
+     * @since 1.0.20
+     */
+    public boolean isParallel() {
+        return this.parallel;
+    }
+
+    /**
+     * Sets the flag that controls whether or not chunks are parsed on
+     * several threads at once.  The datasets are always updated on the
+     * thread that reads the input.
+     *
+     * @param parallel  the new flag value.
+     *
+     * @since 1.0.20
+     */
+    public void setParallel(boolean parallel) {
+        this.parallel = parallel;
     }
 
     /**
@@ -112,6 +244,365 @@ public class CSV {
 
     }
 
+    /**
+     * Reads an {@link XYDataset} from a CSV file or input source.  There is
+     * one series for each column after the first, with the key from the
+     * first line, and the x-values from the first column.  The items are
+     * kept in <code>double</code> arrays (the series share one array of
+     * x-values).
+     *
+     * @param in  the input source (<code>null</code> not permitted).
+     *
+     * @return An XY dataset.
+     *
+     * @throws IOException if there is an I/O problem or a value cannot be
+     *     parsed.
+     *
+     * @since 1.0.20
+     */
+    public XYDataset readXYDataset(Reader in) throws IOException {
+        ColumnBuffer buffer = new ColumnBuffer();
+        parse(in, buffer);
+        DefaultXYDataset dataset = new DefaultXYDataset();
+        double[] x = buffer.getColumn(0);
+        for (int i = 0; i < buffer.keys.size(); i++) {
+            dataset.addSeries((Comparable) buffer.keys.get(i),
+                    new double[][] {x, buffer.getColumn(i + 1)});
+        }
+        return dataset;
+    }
+
+    /**
+     * Reads a {@link TimeSeriesCollection} from a CSV file or input source.
+     * There is one series for each column after the first, with the key
+     * from the first line, and the time periods are created from the
+     * timestamps (or milliseconds) in the first column.
+     *
+     * @param in  the input source (<code>null</code> not permitted).
+     * @param timePeriodClass  the class of the time periods, for example
+     *     <code>Millisecond.class</code> (<code>null</code> not permitted).
+     *
+     * @return A time series collection.
+     *
+     * @throws IOException if there is an I/O problem or a value cannot be
+     *     parsed.
+     * @throws IllegalArgumentException if <code>timePeriodClass</code> is
+     *     not {@link FixedMillisecond} and has no public
+     *     <code>(Date, TimeZone)</code> constructor.
+     *
+     * @since 1.0.20
+     */
+    public TimeSeriesCollection readTimeSeriesCollection(Reader in,
+            Class timePeriodClass) throws IOException {
+        TimeSeriesCollection dataset = new TimeSeriesCollection(
+                this.timeZone);
+        load(in, dataset, timePeriodClass);
+        return dataset;
+    }
+
+    /**
+     * Reads an {@link OHLCDataset} from a CSV file or input source.  The
+     * columns are the date, open, high, low, close and (optionally) volume
+     * values, in that order, and the first line is skipped.
+     *
+     * @param in  the input source (<code>null</code> not permitted).
+     * @param seriesKey  the series key (<code>null</code> not permitted).
+     *
+     * @return An OHLC dataset.
+     *
+     * @throws IOException if there is an I/O problem, a value cannot be
+     *     parsed or there are fewer than five columns.
+     *
+     * @since 1.0.20
+     */
+    public OHLCDataset readOHLCDataset(Reader in, Comparable seriesKey)
+            throws IOException {
+        ParamChecks.nullNotPermitted(seriesKey, "seriesKey");
+        ColumnBuffer buffer = new ColumnBuffer() {
+            @Override
+            public void header(List keys) throws IOException {
+                if (keys.size() < 4) {
+                    throw new IOException("Expected the columns date, open, "
+                            + "high, low, close and (optionally) volume.");
+                }
+                super.header(keys);
+            }
+        };
+        parse(in, buffer);
+        OHLCDataItem[] items = new OHLCDataItem[buffer.size];
+        double[][] v = buffer.values;
+        for (int i = 0; i < items.length; i++) {
+            double volume = v.length > 5 ? v[5][i] : Double.NaN;
+            items[i] = new OHLCDataItem(new Date((long) v[0][i]), v[1][i],
+                    v[2][i], v[3][i], v[4][i], volume);
+        }
+        return new DefaultOHLCDataset(seriesKey, items);
+    }
+
+    /**
+     * Reads data from a CSV file or input source and appends it to the
+     * series in an {@link XYSeriesCollection}, one chunk at a time (see
+     * {@link #setChunkSize(int)}).  The columns are matched to the series by
+     * key, and a {@link DoubleArrayXYSeries} is added for a column that has
+     * no series.  The dataset sends a single change event for each chunk
+     * (if its notify flag is set), so a chart showing the dataset is
+     * updated as the data arrives.  The dataset is modified on the calling
+     * thread.
+     *
+     * @param in  the input source (<code>null</code> not permitted).
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     *
+     * @return The number of rows read.
+     *
+     * @throws IOException if there is an I/O problem or a value cannot be
+     *     parsed.
+     *
+     * @since 1.0.20
+     */
+    public int load(Reader in, final XYSeriesCollection dataset)
+            throws IOException {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        return parse(in, new ChunkHandler() {
+
+            /** The series for each column (created when needed). */
+            private XYSeries[] series;
+
+            /** The column keys. */
+            private List keys;
+
+            @Override
+            public void header(List keys) {
+                this.keys = keys;
+                this.series = new XYSeries[keys.size()];
+                for (int i = 0; i < this.series.length; i++) {
+                    int index = dataset.getSeriesIndex(
+                            (Comparable) keys.get(i));
+                    if (index >= 0) {
+                        this.series[i] = dataset.getSeries(index);
+                    }
+                }
+            }
+
+            @Override
+            public void chunk(double[][] columns) {
+                boolean notify = dataset.getNotify();
+                dataset.setNotify(false);
+                try {
+                    for (int i = 0; i < this.series.length; i++) {
+                        if (this.series[i] == null) {
+                            this.series[i] = new DoubleArrayXYSeries(
+                                    (Comparable) this.keys.get(i));
+                            dataset.addSeries(this.series[i]);
+                        }
+                        this.series[i].add(columns[0], columns[i + 1], true);
+                    }
+                }
+                finally {
+                    dataset.setNotify(notify);
+                }
+            }
+
+        });
+    }
+
+    /**
+     * Reads data from a CSV file or input source and adds it to the series
+     * in a {@link TimeSeriesCollection}, one chunk at a time (see
+     * {@link #setChunkSize(int)}).  The columns are matched to the series by
+     * key, and a series is added for a column that has no series.  The time
+     * periods are created from the timestamps (or milliseconds) in the first
+     * column, using the time zone for this reader (the class of the time
+     * periods must be {@link FixedMillisecond} or have a public
+     * <code>(Date, TimeZone)</code> constructor).  An empty field is added
+     * as a <code>Double.NaN</code> value (not <code>null</code>).  The
+     * dataset sends a single change event for each chunk (if its notify flag
+     * is set), and is modified on the calling thread.
+     * <P>
+     * Every series is checked before a chunk is added, so a chunk is either
+     * added to all the series or to none of them.  If a chunk is rejected
+     * (because a time period is repeated or is already in a series), the
+     * chunks before it remain in the dataset.
+     *
+     * @param in  the input source (<code>null</code> not permitted).
+     * @param dataset  the dataset (<code>null</code> not permitted).
+     * @param timePeriodClass  the class of the time periods, for example
+     *     <code>Millisecond.class</code> (<code>null</code> not permitted).
+     *
+     * @return The number of rows read.
+     *
+     * @throws IOException if there is an I/O problem or a value cannot be
+     *     parsed.
+     * @throws SeriesException if a time period is repeated or is already in
+     *     a series.
+     * @throws IllegalArgumentException if <code>timePeriodClass</code> is
+     *     not {@link FixedMillisecond} and has no public
+     *     <code>(Date, TimeZone)</code> constructor.
+     *
+     * @since 1.0.20
+     */
+    public int load(Reader in, final TimeSeriesCollection dataset,
+            final Class timePeriodClass) throws IOException {
+        ParamChecks.nullNotPermitted(dataset, "dataset");
+        ParamChecks.nullNotPermitted(timePeriodClass, "timePeriodClass");
+        final Constructor constructor = findPeriodConstructor(
+                timePeriodClass);
+        final TimeZone zone = this.timeZone;
+        return parse(in, new ChunkHandler() {
+
+            /** The series for each column (created when needed). */
+            private TimeSeries[] series;
+
+            /** The column keys. */
+            private List keys;
+
+            @Override
+            public void header(List keys) {
+                this.keys = keys;
+                this.series = new TimeSeries[keys.size()];
+                for (int i = 0; i < this.series.length; i++) {
+                    this.series[i] = dataset.getSeries(
+                            (Comparable) keys.get(i));
+                }
+            }
+
+            @Override
+            public void chunk(double[][] columns) throws IOException {
+                RegularTimePeriod[] periods
+                        = new RegularTimePeriod[columns[0].length];
+                for (int i = 0; i < periods.length; i++) {
+                    periods[i] = createPeriod(constructor,
+                            (long) columns[0][i], zone);
+                }
+
+                // check every series before modifying any of them
+                RegularTimePeriod[] sorted = periods.clone();
+                Arrays.sort(sorted);
+                for (int i = 1; i < sorted.length; i++) {
+                    if (sorted[i].compareTo(sorted[i - 1]) == 0) {
+                        throw new SeriesException("The time period "
+                                + sorted[i] + " is repeated in the input.");
+                    }
+                }
+                for (int i = 0; i < this.series.length; i++) {
+                    if (this.series[i] != null) {
+                        checkPeriods(this.series[i], sorted);
+                    }
+                }
+
+                boolean notify = dataset.getNotify();
+                dataset.setNotify(false);
+                try {
+                    for (int i = 0; i < this.series.length; i++) {
+                        if (this.series[i] == null) {
+                            this.series[i] = new TimeSeries(
+                                    (Comparable) this.keys.get(i));
+                            dataset.addSeries(this.series[i]);
+                        }
+                        this.series[i].add(periods, columns[i + 1], true);
+                    }
+                }
+                finally {
+                    dataset.setNotify(notify);
+                }
+            }
+
+        });
+    }
+
+    /**
+     * Returns the constructor used to create time periods of the specified
+     * class from a date and time zone.
+     *
+     * @param c  the class of the time periods.
+     *
+     * @return The constructor, or <code>null</code> for
+     *     {@link FixedMillisecond} (which does not depend on the time zone).
+     *
+     * @throws IllegalArgumentException if the class is not
+     *     {@link FixedMillisecond} and has no public
+     *     <code>(Date, TimeZone)</code> constructor.
+     */
+    private static Constructor findPeriodConstructor(Class c) {
+        if (FixedMillisecond.class.equals(c)) {
+            return null;
+        }
+        if (!RegularTimePeriod.class.isAssignableFrom(c)) {
+            throw new IllegalArgumentException("The class " + c.getName()
+                    + " is not a subclass of RegularTimePeriod.");
+        }
+        try {
+            return c.getConstructor(new Class[] {Date.class,
+                    TimeZone.class});
+        }
+        catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException("The class " + c.getName()
+                    + " has no public (Date, TimeZone) constructor.");
+        }
+    }
+
+    /**
+     * Creates a time period.
+     *
+     * @param constructor  the constructor (see
+     *     {@link #findPeriodConstructor(Class)}), or <code>null</code> for
+     *     {@link FixedMillisecond}.
+     * @param millis  the time in milliseconds.
+     * @param zone  the time zone.
+     *
+     * @return The time period.
+     *
+     * @throws IOException if the time period cannot be created.
+     */
+    private static RegularTimePeriod createPeriod(Constructor constructor,
+            long millis, TimeZone zone) throws IOException {
+        if (constructor == null) {
+            return new FixedMillisecond(millis);
+        }
+        try {
+            return (RegularTimePeriod) constructor.newInstance(
+                    new Object[] {new Date(millis), zone});
+        }
+        catch (Exception e) {
+            throw new IOException("Unable to create an instance of "
+                    + constructor.getDeclaringClass().getName() + " for "
+                    + millis + ".", e);
+        }
+    }
+
+    /**
+     * Checks that a batch of time periods can be added to a series.
+     *
+     * @param series  the series.
+     * @param sorted  the time periods, in ascending order and without
+     *     duplicates.
+     *
+     * @throws SeriesException if the periods have a different class to the
+     *     periods in the series, or a period is already in the series.
+     */
+    private static void checkPeriods(TimeSeries series,
+            RegularTimePeriod[] sorted) {
+        int n = series.getItemCount();
+        if (n == 0 || sorted.length == 0) {
+            return;
+        }
+        Class c = series.getTimePeriodClass();
+        if (c != null && !c.equals(sorted[0].getClass())) {
+            throw new SeriesException("The series " + series.getKey()
+                    + " contains time periods of class " + c.getName()
+                    + ".");
+        }
+        if (sorted[0].compareTo(series.getTimePeriod(n - 1)) > 0) {
+            return;  // the usual case, the periods are after the series
+        }
+        for (int i = 0; i < sorted.length; i++) {
+            if (series.getIndex(sorted[i]) >= 0) {
+                throw new SeriesException("The series " + series.getKey()
+                        + " already contains the time period " + sorted[i]
+                        + ".");
+            }
+        }
+    }
+
     /**
      * Extracts the column keys from a string.
      *
@@ -198,4 +689,675 @@ public class CSV {
         return k;
     }
 
+    /**
+     * Reads the column keys from the first line of the input and then
+     * parses the remaining lines in chunks, passing each chunk to the
+     * handler in order.
+     *
+     * @param in  the input source (<code>null</code> not permitted).
+     * @param handler  the handler.
+     *
+     * @return The number of rows read.
+     *
+     * @throws IOException if there is an I/O problem or a value cannot be
+     *     parsed.
+     */
+    private int parse(Reader in, ChunkHandler handler) throws IOException {
+        ParamChecks.nullNotPermitted(in, "in");
+        ChunkReader reader = new ChunkReader(in);
+        char[] header = reader.next(1);
+        if (header == null) {
+            return 0;
+        }
+        int length = header.length;
+        while (length > 0 && (header[length - 1] == '\n'
+                || header[length - 1] == '\r')) {
+            length--;
+        }
+        int start = length > 0 && header[0] == '\uFEFF' ? 1 : 0;
+        List keys = extractColumnKeys(new String(header, start,
+                length - start));
+        handler.header(keys);
+
+        int columns = keys.size() + 1;
+        int threads = this.parallel
+                && Runtime.getRuntime().availableProcessors() > 1
+                ? ForkJoinPool.getCommonPoolParallelism() + 1 : 0;
+        Deque<Future<double[][]>> pending
+                = new ArrayDeque<Future<double[][]>>();
+        int rows = 0;
+        int line = 2;
+        try {
+            char[] text = reader.next(this.chunkSize);
+            while (text != null) {
+                ChunkParser parser = new ChunkParser(text, reader.lines,
+                        line, columns, this.fieldDelimiter,
+                        this.textDelimiter, this.timeZone);
+                line += reader.lines;
+                if (threads == 0) {
+                    rows += deliver(handler, parser.call());
+                }
+                else {
+                    pending.add(ForkJoinPool.commonPool().submit(parser));
+                    if (pending.size() >= threads) {
+                        rows += deliver(handler, await(pending.remove()));
+                    }
+                }
+                text = reader.next(this.chunkSize);
+            }
+            while (!pending.isEmpty()) {
+                rows += deliver(handler, await(pending.remove()));
+            }
+        }
+        finally {
+            for (Future<double[][]> future : pending) {
+                future.cancel(true);
+            }
+        }
+        return rows;
+    }
+
+    /**
+     * Passes a parsed chunk to a handler, unless it is empty.
+     *
+     * @param handler  the handler.
+     * @param columns  the parsed values for each column.
+     *
+     * @return The number of rows in the chunk.
+     *
+     * @throws IOException if the handler throws it.
+     */
+    private static int deliver(ChunkHandler handler, double[][] columns)
+            throws IOException {
+        int rows = columns[0].length;
+        if (rows > 0) {
+            handler.chunk(columns);
+        }
+        return rows;
+    }
+
+    /**
+     * Waits for a chunk to be parsed.
+     *
+     * @param future  the result of the parser.
+     *
+     * @return The parsed values for each column.
+     *
+     * @throws IOException if the chunk could not be parsed.
+     */
+    private static double[][] await(Future<double[][]> future)
+            throws IOException {
+        try {
+            return future.get();
+        }
+        catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException();
+        }
+        catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof IOException) {
+                throw (IOException) cause;
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Receives the data parsed from a CSV source.
+     */
+    private interface ChunkHandler {
+
+        /**
+         * Receives the column keys (excluding the first column).
+         *
+         * @param keys  the keys.
+         *
+         * @throws IOException if the columns are not acceptable.
+         */
+        void header(List keys) throws IOException;
+
+        /**
+         * Receives a chunk of rows.
+         *
+         * @param columns  the values for each column (the arrays all have the
+         *     same length, and are not used again by the caller).
+         *
+         * @throws IOException if there is a problem with the data.
+         */
+        void chunk(double[][] columns) throws IOException;
+
+    }
+
+    /**
+     * A handler that collects all the rows.
+     */
+    private static class ColumnBuffer implements ChunkHandler {
+
+        /** The column keys. */
+        List keys = Collections.EMPTY_LIST;
+
+        /** The values for each column (with spare capacity). */
+        double[][] values = new double[1][0];
+
+        /** The number of rows. */
+        int size;
+
+        @Override
+        public void header(List keys) throws IOException {
+            this.keys = keys;
+            this.values = new double[keys.size() + 1][0];
+        }
+
+        @Override
+        public void chunk(double[][] columns) {
+            int rows = columns[0].length;
+            for (int c = 0; c < this.values.length; c++) {
+                if (this.values[c].length < this.size + rows) {
+                    this.values[c] = Arrays.copyOf(this.values[c],
+                            Math.max(this.size + rows,
+                            this.values[c].length * 2));
+                }
+                System.arraycopy(columns[c], 0, this.values[c], this.size,
+                        rows);
+            }
+            this.size += rows;
+        }
+
+        /**
+         * Returns the values in a column.
+         *
+         * @param column  the column index.
+         *
+         * @return The values.
+         */
+        double[] getColumn(int column) {
+            return Arrays.copyOf(this.values[column], this.size);
+        }
+
+    }
+
+    /**
+     * Reads the input in chunks of whole lines.
+     */
+    private static final class ChunkReader {
+
+        /** The input source. */
+        private final Reader in;
+
+        /** The characters that have been read. */
+        private char[] buffer;
+
+        /** The position of the first character not yet returned. */
+        private int start;
+
+        /** The number of characters in the buffer. */
+        private int end;
+
+        /** Has the end of the input been reached? */
+        private boolean eof;
+
+        /** The number of lines in the last chunk. */
+        int lines;
+
+        /**
+         * Creates a reader.
+         *
+         * @param in  the input source.
+         */
+        ChunkReader(Reader in) {
+            this.in = in;
+            this.buffer = new char[8192];
+        }
+
+        /**
+         * Returns the characters in the next lines of the input, including
+         * the line terminators.
+         *
+         * @param maxLines  the maximum number of lines.
+         *
+         * @return The characters, or <code>null</code> at the end of the
+         *     input.
+         *
+         * @throws IOException if there is an I/O problem.
+         */
+        char[] next(int maxLines) throws IOException {
+            int offset = 0;
+            int count = 0;
+            while (count < maxLines) {
+                if (this.start + offset == this.end) {
+                    if (!fill()) {
+                        break;
+                    }
+                }
+                if (this.buffer[this.start + offset++] == '\n') {
+                    count++;
+                }
+            }
+            if (offset == 0) {
+                return null;
+            }
+            if (this.buffer[this.start + offset - 1] != '\n') {
+                count++;
+            }
+            char[] result = Arrays.copyOfRange(this.buffer, this.start,
+                    this.start + offset);
+            this.start += offset;
+            this.lines = count;
+            return result;
+        }
+
+        /**
+         * Reads more characters into the buffer, moving or growing it to
+         * make room.
+         *
+         * @return A boolean indicating whether or not any characters were
+         *     read.
+         *
+         * @throws IOException if there is an I/O problem.
+         */
+        private boolean fill() throws IOException {
+            if (this.eof) {
+                return false;
+            }
+            if (this.start > 0) {
+                System.arraycopy(this.buffer, this.start, this.buffer, 0,
+                        this.end - this.start);
+                this.end -= this.start;
+                this.start = 0;
+            }
+            if (this.end == this.buffer.length) {
+                this.buffer = Arrays.copyOf(this.buffer,
+                        this.buffer.length * 2);
+            }
+            int n = this.in.read(this.buffer, this.end,
+                    this.buffer.length - this.end);
+            if (n < 0) {
+                this.eof = true;
+                return false;
+            }
+            this.end += n;
+            return true;
+        }
+
+    }
+
+    /**
+     * Parses a chunk of lines into <code>double</code> arrays.
+     */
+    static final class ChunkParser implements Callable<double[][]> {
+
+        /** Exact powers of ten. */
+        private static final double[] POWERS_OF_TEN = {1e0, 1e1, 1e2, 1e3,
+                1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14,
+                1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+        /** The characters to parse. */
+        private final char[] text;
+
+        /** The number of lines in the text. */
+        private final int lines;
+
+        /** The line number of the first line (for error messages). */
+        private final int firstLine;
+
+        /** The number of columns. */
+        private final int columns;
+
+        /** The field delimiter. */
+        private final char fieldDelimiter;
+
+        /** The text delimiter. */
+        private final char textDelimiter;
+
+        /** The time zone for timestamps without an offset. */
+        private final TimeZone zone;
+
+        /**
+         * Creates a parser.
+         *
+         * @param text  the characters to parse.
+         * @param lines  the number of lines in the text.
+         * @param firstLine  the line number of the first line.
+         * @param columns  the number of columns.
+         * @param fieldDelimiter  the field delimiter.
+         * @param textDelimiter  the text delimiter.
+         * @param zone  the time zone for timestamps without an offset.
+         */
+        ChunkParser(char[] text, int lines, int firstLine, int columns,
+                char fieldDelimiter, char textDelimiter, TimeZone zone) {
+            this.text = text;
+            this.lines = lines;
+            this.firstLine = firstLine;
+            this.columns = columns;
+            this.fieldDelimiter = fieldDelimiter;
+            this.textDelimiter = textDelimiter;
+            this.zone = zone;
+        }
+
+        /**
+         * Parses the lines.  Blank lines are skipped.
+         *
+         * @return The values for each column.
+         *
+         * @throws IOException if a value cannot be parsed.
+         */
+        @Override
+        public double[][] call() throws IOException {
+            char[] s = this.text;
+            double[][] values = new double[this.columns][this.lines];
+            int row = 0;
+            int line = this.firstLine;
+            int i = 0;
+            while (i < s.length) {
+                int lineEnd = i;
+                boolean blank = true;
+                while (lineEnd < s.length && s[lineEnd] != '\n') {
+                    blank = blank && s[lineEnd] <= ' ';
+                    lineEnd++;
+                }
+                if (!blank) {
+                    int field = 0;
+                    int fieldStart = i;
+                    for (int j = i; j <= lineEnd; j++) {
+                        if (j < lineEnd && s[j] != this.fieldDelimiter) {
+                            continue;
+                        }
+                        if (field < this.columns) {
+                            values[field][row] = parseField(fieldStart, j,
+                                    field == 0, line);
+                        }
+                        field++;
+                        fieldStart = j + 1;
+                    }
+                    for (; field < this.columns; field++) {
+                        values[field][row] = Double.NaN;
+                    }
+                    row++;
+                }
+                line++;
+                i = lineEnd + 1;
+            }
+            if (row < this.lines) {
+                for (int c = 0; c < this.columns; c++) {
+                    values[c] = Arrays.copyOf(values[c], row);
+                }
+            }
+            return values;
+        }
+
+        /**
+         * Parses a field.
+         *
+         * @param start  the index of the first character.
+         * @param end  the index after the last character.
+         * @param x  is this the x-value (which may be a timestamp, and is
+         *     required)?
+         * @param line  the line number.
+         *
+         * @return The value.
+         *
+         * @throws IOException if the field cannot be parsed.
+         */
+        private double parseField(int start, int end, boolean x, int line)
+                throws IOException {
+            char[] s = this.text;
+            while (start < end && (s[start] <= ' '
+                    || s[start] == this.textDelimiter)) {
+                start++;
+            }
+            while (end > start && (s[end - 1] <= ' '
+                    || s[end - 1] == this.textDelimiter)) {
+                end--;
+            }
+            if (start == end) {
+                if (x) {
+                    throw new IOException("Missing x-value on line " + line
+                            + ".");
+                }
+                return Double.NaN;
+            }
+            try {
+                if (x && end - start >= 10 && s[start + 4] == '-'
+                        && s[start + 7] == '-') {
+                    return parseTimestamp(s, start, end, this.zone);
+                }
+                return parseDouble(s, start, end);
+            }
+            catch (NumberFormatException e) {
+                throw new IOException("Invalid value on line " + line + ": "
+                        + new String(s, start, end - start));
+            }
+        }
+
+        /**
+         * Parses a number.  Most values are converted without creating any
+         * objects; values with more than 15 significant digits or a large
+         * exponent are passed to {@link Double#parseDouble(String)}.
+         *
+         * @param s  the characters.
+         * @param start  the index of the first character.
+         * @param end  the index after the last character.
+         *
+         * @return The value.
+         *
+         * @throws NumberFormatException if the characters are not a number.
+         */
+        static double parseDouble(char[] s, int start, int end) {
+            int i = start;
+            boolean negative = false;
+            if (i < end && (s[i] == '-' || s[i] == '+')) {
+                negative = s[i] == '-';
+                i++;
+            }
+            long mantissa = 0;
+            int digits = 0;
+            int exponent = 0;
+            boolean any = false;
+            boolean point = false;
+            for (; i < end; i++) {
+                char c = s[i];
+                if (c >= '0' && c <= '9') {
+                    any = true;
+                    if (mantissa != 0 || c != '0') {
+                        mantissa = mantissa * 10 + (c - '0');
+                        digits++;
+                    }
+                    if (point) {
+                        exponent--;
+                    }
+                }
+                else if (c == '.' && !point) {
+                    point = true;
+                }
+                else {
+                    break;
+                }
+            }
+            if (any && i < end && (s[i] == 'e' || s[i] == 'E')) {
+                i++;
+                boolean negativeExponent = false;
+                if (i < end && (s[i] == '-' || s[i] == '+')) {
+                    negativeExponent = s[i] == '-';
+                    i++;
+                }
+                int e = 0;
+                boolean exponentDigits = false;
+                for (; i < end && s[i] >= '0' && s[i] <= '9'; i++) {
+                    exponentDigits = true;
+                    if (e < 10000) {
+                        e = e * 10 + (s[i] - '0');
+                    }
+                }
+                any = exponentDigits;
+                exponent += negativeExponent ? -e : e;
+            }
+            if (!any || i != end || digits > 18 || mantissa > 1L << 53) {
+                // not a plain decimal, or the mantissa is not exact as a
+                // double
+                return Double.parseDouble(new String(s, start, end - start));
+            }
+            double result;
+            if (mantissa == 0) {
+                result = 0.0;
+            }
+            else if (exponent >= 0 && exponent <= 22) {
+                result = mantissa * POWERS_OF_TEN[exponent];
+            }
+            else if (exponent < 0 && exponent >= -22) {
+                result = mantissa / POWERS_OF_TEN[-exponent];
+            }
+            else {
+                return Double.parseDouble(new String(s, start, end - start));
+            }
+            return negative ? -result : result;
+        }
+
+        /**
+         * Parses a timestamp in the form
+         * <code>yyyy-MM-dd[(T| )HH:mm[:ss[.SSS]]][Z|(+|-)hh[:]mm]</code>.
+         *
+         * @param s  the characters.
+         * @param start  the index of the first character.
+         * @param end  the index after the last character.
+         * @param zone  the time zone if there is no offset.
+         *
+         * @return The time in milliseconds since 1-Jan-1970 UTC.
+         *
+         * @throws NumberFormatException if the characters are not a
+         *     timestamp.
+         */
+        static double parseTimestamp(char[] s, int start, int end,
+                TimeZone zone) {
+            int year = digits(s, start, 4, end);
+            int month = digits(s, start + 5, 2, end);
+            int day = digits(s, start + 8, 2, end);
+            int i = start + 10;
+            int hour = 0;
+            int minute = 0;
+            int second = 0;
+            int millis = 0;
+            if (i < end && (s[i] == 'T' || s[i] == ' ')) {
+                hour = digits(s, i + 1, 2, end);
+                expect(s, i + 3, ':', end);
+                minute = digits(s, i + 4, 2, end);
+                i += 6;
+                if (i < end && s[i] == ':') {
+                    second = digits(s, i + 1, 2, end);
+                    i += 3;
+                    if (i < end && (s[i] == '.' || s[i] == ',')) {
+                        i++;
+                        int scale = 100;
+                        for (; i < end && s[i] >= '0' && s[i] <= '9'; i++) {
+                            millis += (s[i] - '0') * scale;
+                            scale /= 10;
+                        }
+                    }
+                }
+            }
+            boolean offsetGiven = false;
+            int offset = 0;
+            if (i < end && s[i] == 'Z') {
+                offsetGiven = true;
+                i++;
+            }
+            else if (i < end && (s[i] == '+' || s[i] == '-')) {
+                int sign = s[i] == '-' ? -1 : 1;
+                int hours = digits(s, i + 1, 2, end);
+                i += 3;
+                if (i < end && s[i] == ':') {
+                    i++;
+                }
+                int minutes = digits(s, i, 2, end);
+                i += 2;
+                offset = sign * (hours * 60 + minutes) * 60000;
+                offsetGiven = true;
+            }
+            expect(s, i, '\0', end);
+            if (month < 1 || month > 12 || day < 1 || day > 31 || hour > 23
+                    || minute > 59 || second > 60) {
+                throw new NumberFormatException();
+            }
+            long local = daysFromCivil(year, month, day) * 86400000L
+                    + hour * 3600000L + minute * 60000L + second * 1000L
+                    + millis;
+            if (offsetGiven) {
+                return local - offset;
+            }
+            long guess = local - zone.getRawOffset();
+            return local - zone.getOffset(guess);
+        }
+
+        /**
+         * Returns the value of a run of decimal digits.
+         *
+         * @param s  the characters.
+         * @param start  the index of the first digit.
+         * @param count  the number of digits.
+         * @param end  the index after the last character in the field.
+         *
+         * @return The value.
+         *
+         * @throws NumberFormatException if the characters are not digits.
+         */
+        private static int digits(char[] s, int start, int count, int end) {
+            if (start + count > end) {
+                throw new NumberFormatException();
+            }
+            int result = 0;
+            for (int i = start; i < start + count; i++) {
+                if (s[i] < '0' || s[i] > '9') {
+                    throw new NumberFormatException();
+                }
+                result = result * 10 + (s[i] - '0');
+            }
+            return result;
+        }
+
+        /**
+         * Checks for an expected character, or for the end of the field if
+         * the expected character is <code>'\0'</code>.
+         *
+         * @param s  the characters.
+         * @param i  the index.
+         * @param c  the expected character.
+         * @param end  the index after the last character in the field.
+         *
+         * @throws NumberFormatException if the character is not found.
+         */
+        private static void expect(char[] s, int i, char c, int end) {
+            if (c == '\0' ? i != end : i >= end || s[i] != c) {
+                throw new NumberFormatException();
+            }
+        }
+
+        /**
+         * Returns the number of days from 1-Jan-1970 to a date in the
+         * proleptic Gregorian calendar.
+         *
+         * @param year  the year.
+         * @param month  the month (1 to 12).
+         * @param day  the day of the month.
+         *
+         * @return The number of days.
+         */
+        private static long daysFromCivil(int year, int month, int day) {
+            int y = month <= 2 ? year - 1 : year;
+            int era = (y >= 0 ? y : y - 399) / 400;
+            int yearOfEra = y - era * 400;
+            int dayOfYear = (153 * (month > 2 ? month - 3 : month + 9) + 2)
+                    / 5 + day - 1;
+            int dayOfEra = yearOfEra * 365 + yearOfEra / 4 - yearOfEra / 100
+                    + dayOfYear;
+            return era * 146097L + dayOfEra - 719468;
+        }
+
+    }
+
 }
@@ -38,6 +38,7 @@
  * 21-May-2007 : Added clearObservations() and removeAllBins() (SI);
  * 10-Jul-2007 : Added null argument check to constructor (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 17-Oct-2026 : Update modification stamp for silent changes;
  *
  */
 
@@ -223,6 +224,9 @@ public class SimpleHistogramDataset extends AbstractIntervalXYDataset
         if (notify) {
             notifyListeners(new DatasetChangeEvent(this, this));
         }
+        else {
+            updateModificationStamp();
+        }
     }
 
     /**
@@ -0,0 +1,1143 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------
+ * RollingTimeSeries.java
+ * ----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time;
+
+import java.lang.reflect.Constructor;
+import java.util.AbstractList;
+import java.util.Calendar;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.Date;
+import java.util.List;
+import java.util.TimeZone;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.Range;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesException;
+
+/**
+ * A {@link TimeSeries} that stores its data in a circular buffer of
+ * primitive values rather than as a list of {@link TimeSeriesDataItem}
+ * objects.  This is intended for "rolling" series where new observations are
+ * appended to the end of the series and old observations are discarded from
+ * the start, either by setting a maximum item count or a maximum item age:
+ * <ul>
+ * <li>adding an item with a time period later than the last item in the
+ *     series is an (amortised) constant time operation;</li>
+ * <li>removing items from the start of the series, as happens when the
+ *     maximum item count or age is exceeded, takes constant time per
+ *     item;</li>
+ * <li>lookups by {@link RegularTimePeriod} use a binary search on the serial
+ *     indices of the stored periods.</li>
+ * </ul>
+ * Items can still be inserted or removed in the middle of the series, but
+ * those operations take time proportional to the number of items.  The time
+ * period objects are recreated on demand from the stored values, so the
+ * objects returned by {@link #getTimePeriod(int)} are equal to, but not
+ * the same instances as, those that were added.  A <code>null</code> value is
+ * stored as <code>Double.NaN</code>.
+ * <p>
+ * The series can be added to a {@link TimeSeriesCollection} like any other
+ * {@link TimeSeries}.
+ *
+ * @since 1.0.20
+ */
+public class RollingTimeSeries extends TimeSeries {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -2398160453297710426L;
+
+    /** The initial capacity of the buffer. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /**
+     * The time zone used to convert time periods to and from the stored
+     * millisecond values (UTC, so that the conversion is never affected by
+     * daylight saving transitions).
+     */
+    private static final TimeZone UTC = TimeZone.getTimeZone("UTC");
+
+    /** The serial index of the time period for each item. */
+    private long[] serials;
+
+    /** The first millisecond (in UTC) of the time period for each item. */
+    private long[] millis;
+
+    /** The value for each item (<code>Double.NaN</code> for null values). */
+    private double[] values;
+
+    /** The buffer index of the first item in the series. */
+    private int head;
+
+    /** The number of items in the series. */
+    private int itemCount;
+
+    /** The minimum y-value in the series (valid if boundsValid is true). */
+    private double minY;
+
+    /** The maximum y-value in the series (valid if boundsValid is true). */
+    private double maxY;
+
+    /**
+     * A flag that indicates whether the minY and maxY fields are up to date.
+     * When an item holding one of the bounds is evicted, the bounds are
+     * recalculated the next time they are requested rather than immediately,
+     * so that eviction stays cheap for series that are updated more often
+     * than they are drawn.
+     */
+    private boolean boundsValid;
+
+    /** A calendar (UTC) used to convert time periods to milliseconds. */
+    private transient Calendar workingCalendar;
+
+    /** The constructor used to recreate time periods (lazily initialised). */
+    private transient Constructor periodConstructor;
+
+    /**
+     * Creates a new empty series.
+     *
+     * @param name  the series name (<code>null</code> not permitted).
+     */
+    public RollingTimeSeries(Comparable name) {
+        this(name, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a new empty series that will retain at most the specified
+     * number of items.  The buffer is sized up front when the maximum is
+     * small enough, so no further allocation is required once the series is
+     * full.
+     *
+     * @param name  the series name (<code>null</code> not permitted).
+     * @param maximumItemCount  the maximum number of items (requires
+     *     &gt;= 0).
+     */
+    public RollingTimeSeries(Comparable name, int maximumItemCount) {
+        super(name);
+        int capacity = INITIAL_CAPACITY;
+        if (maximumItemCount < Integer.MAX_VALUE) {
+            capacity = Math.max(1, Math.min(maximumItemCount + 1, 1 << 20));
+        }
+        this.serials = new long[capacity];
+        this.millis = new long[capacity];
+        this.values = new double[capacity];
+        this.head = 0;
+        this.itemCount = 0;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+        this.boundsValid = true;
+        setMaximumItemCount(maximumItemCount);
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns an unmodifiable list view of the data items in the series.  The
+     * {@link TimeSeriesDataItem} objects are created on demand as the list is
+     * accessed.
+     *
+     * @return The list of data items.
+     */
+    @Override
+    public List getItems() {
+        return Collections.unmodifiableList(new AbstractList() {
+            @Override
+            public Object get(int index) {
+                return getDataItem(index);
+            }
+            @Override
+            public int size() {
+                return RollingTimeSeries.this.itemCount;
+            }
+        });
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series.
+     * If the series currently holds more items, the oldest items are removed
+     * and a {@link SeriesChangeEvent} is sent to all registered listeners.
+     *
+     * @param maximum  the maximum (requires &gt;= 0).
+     */
+    @Override
+    public void setMaximumItemCount(int maximum) {
+        super.setMaximumItemCount(maximum);
+        int remove = this.itemCount - maximum;
+        if (remove > 0) {
+            removeFirst(remove);
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Returns the range of y-values in the time series, or <code>null</code>
+     * if the series is empty.
+     *
+     * @return The range of y-values in the time series (possibly
+     *     <code>null</code>).
+     */
+    @Override
+    public Range findValueRange() {
+        if (this.itemCount == 0) {
+            return null;
+        }
+        return new Range(getMinY(), getMaxY());
+    }
+
+    /**
+     * Returns the smallest y-value in the series, ignoring any
+     * <code>null</code> and <code>Double.NaN</code> values.
+     *
+     * @return The smallest y-value.
+     */
+    @Override
+    public double getMinY() {
+        updateBounds();
+        return this.minY;
+    }
+
+    /**
+     * Returns the largest y-value in the series, ignoring any
+     * <code>null</code> and <code>Double.NaN</code> values.
+     *
+     * @return The largest y-value.
+     */
+    @Override
+    public double getMaxY() {
+        updateBounds();
+        return this.maxY;
+    }
+
+    /**
+     * Recalculates the minimum and maximum y-values if they have been
+     * invalidated.
+     */
+    private void updateBounds() {
+        if (this.boundsValid) {
+            return;
+        }
+        double low = Double.NaN;
+        double high = Double.NaN;
+        for (int i = 0; i < this.itemCount; i++) {
+            double v = this.values[physical(i)];
+            if (!Double.isNaN(v)) {
+                low = Double.isNaN(low) ? v : Math.min(low, v);
+                high = Double.isNaN(high) ? v : Math.max(high, v);
+            }
+        }
+        this.minY = low;
+        this.maxY = high;
+        this.boundsValid = true;
+    }
+
+    /**
+     * Updates the cached bounds for a value that has been added.
+     *
+     * @param value  the value.
+     */
+    private void updateBoundsForAddedValue(double value) {
+        if (this.boundsValid && !Double.isNaN(value)) {
+            this.minY = Double.isNaN(this.minY) ? value
+                    : Math.min(this.minY, value);
+            this.maxY = Double.isNaN(this.maxY) ? value
+                    : Math.max(this.maxY, value);
+        }
+    }
+
+    /**
+     * Updates the cached bounds for a value that has been removed.
+     *
+     * @param value  the value.
+     */
+    private void updateBoundsForRemovedValue(double value) {
+        if (this.boundsValid && !Double.isNaN(value)
+                && (value <= this.minY || value >= this.maxY)) {
+            this.boundsValid = false;
+        }
+    }
+
+    /**
+     * Returns a new data item containing the values at the specified index.
+     *
+     * @param index  the item index.
+     *
+     * @return The data item.
+     */
+    @Override
+    public TimeSeriesDataItem getDataItem(int index) {
+        return new TimeSeriesDataItem(getTimePeriod(index), getValue(index));
+    }
+
+    /**
+     * Returns a new data item containing the values at the specified index
+     * (there are no stored data item objects for this series).
+     *
+     * @param index  the item index (zero-based).
+     *
+     * @return The data item.
+     */
+    @Override
+    TimeSeriesDataItem getRawDataItem(int index) {
+        return getDataItem(index);
+    }
+
+    /**
+     * Returns a new data item for the specified period, or <code>null</code>
+     * if there is no item for the period.
+     *
+     * @param period  the period.
+     *
+     * @return The data item.
+     */
+    @Override
+    TimeSeriesDataItem getRawDataItem(RegularTimePeriod period) {
+        return getDataItem(period);
+    }
+
+    /**
+     * Returns the time period at the specified index.
+     *
+     * @param index  the index of the data item.
+     *
+     * @return The time period.
+     */
+    @Override
+    public RegularTimePeriod getTimePeriod(int index) {
+        checkIndex(index);
+        return createPeriod(this.millis[physical(index)]);
+    }
+
+    /**
+     * Returns the value at the specified index.
+     *
+     * @param index  index of a value.
+     *
+     * @return The value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getValue(int index) {
+        checkIndex(index);
+        double v = this.values[physical(index)];
+        return Double.isNaN(v) ? null : new Double(v);
+    }
+
+    /**
+     * Returns the index for the item (if any) that corresponds to a time
+     * period, found by a binary search on the serial indices of the stored
+     * periods.
+     *
+     * @param period  the time period (<code>null</code> not permitted).
+     *
+     * @return The index (if there is no match, the result is
+     *     <code>-(insertion point) - 1</code>).
+     */
+    @Override
+    public int getIndex(RegularTimePeriod period) {
+        ParamChecks.nullNotPermitted(period, "period");
+        if (this.timePeriodClass != null
+                && !this.timePeriodClass.equals(period.getClass())) {
+            return -1;  // serial indices are not comparable
+        }
+        long serial = period.getSerialIndex();
+        int low = 0;
+        int high = this.itemCount - 1;
+        while (low <= high) {
+            int mid = (low + high) >>> 1;
+            long s = this.serials[physical(mid)];
+            if (s < serial) {
+                low = mid + 1;
+            }
+            else if (s > serial) {
+                high = mid - 1;
+            }
+            else {
+                return mid;
+            }
+        }
+        return -(low + 1);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the (timeperiod, value) pair (<code>null</code> not
+     *              permitted).
+     * @param notify  notify listeners?
+     */
+    @Override
+    public void add(TimeSeriesDataItem item, boolean notify) {
+        ParamChecks.nullNotPermitted(item, "item");
+        add(item.getPeriod(), item.getValue(), notify);
+    }
+
+    /**
+     * Adds a new data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param period  the time period (<code>null</code> not permitted).
+     * @param value  the value (<code>null</code> permitted).
+     * @param notify  notify listeners?
+     */
+    @Override
+    public void add(RegularTimePeriod period, Number value, boolean notify) {
+        add(period, value != null ? value.doubleValue() : Double.NaN, notify);
+    }
+
+    /**
+     * Adds a new data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.  If the period
+     * is later than the last period in the series, this is a constant time
+     * operation.
+     *
+     * @param period  the time period (<code>null</code> not permitted).
+     * @param value  the value (<code>Double.NaN</code> for a missing value).
+     * @param notify  notify listeners?
+     *
+     * @throws SeriesException if the series already contains an item for the
+     *     period, or the period class does not match the series.
+     */
+    @Override
+    public void add(RegularTimePeriod period, double value, boolean notify) {
+        ParamChecks.nullNotPermitted(period, "period");
+        checkPeriodClass(period);
+        long serial = period.getSerialIndex();
+        int index = this.itemCount;
+        if (this.itemCount > 0
+                && serial <= this.serials[physical(this.itemCount - 1)]) {
+            index = getIndex(period);
+            if (index >= 0) {
+                throw duplicatePeriodException(period);
+            }
+            index = -index - 1;
+        }
+        insert(index, serial, toMillis(period), value);
+        afterAdd();
+        if (notify) {
+            fireSeriesChanged();
+        }
+        else {
+            updateModificationStamp();
+        }
+    }
+
+    /**
+     * Adds a batch of data items to the series and, if requested, sends a
+     * single {@link SeriesChangeEvent} to all registered listeners.  Periods
+     * that follow the last period in the series are appended in constant
+     * time each, otherwise the new items are merged with the existing items
+     * in one pass.  If any period is rejected, the series is not modified.
+     *
+     * @param periods  the time periods (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted, and the
+     *     same length as <code>periods</code>).
+     * @param notify  notify listeners?
+     *
+     * @throws SeriesException if a period is a duplicate, or does not have
+     *     the same class as the other periods in the series.
+     */
+    @Override
+    public void add(RegularTimePeriod[] periods, double[] values,
+            boolean notify) {
+        ParamChecks.nullNotPermitted(periods, "periods");
+        ParamChecks.nullNotPermitted(values, "values");
+        if (periods.length != values.length) {
+            throw new IllegalArgumentException(
+                    "The 'periods' and 'values' arrays must have the same "
+                    + "length.");
+        }
+        int count = periods.length;
+        if (count == 0) {
+            return;
+        }
+        Class c = this.timePeriodClass;
+        final long[] serial = new long[count];
+        boolean sorted = true;
+        for (int i = 0; i < count; i++) {
+            ParamChecks.nullNotPermitted(periods[i], "periods[" + i + "]");
+            if (c == null) {
+                c = periods[i].getClass();
+            }
+            checkPeriodClass(c, periods[i]);
+            serial[i] = periods[i].getSerialIndex();
+            sorted = sorted && (i == 0 || serial[i] > serial[i - 1]);
+        }
+        Integer[] order = null;
+        if (!sorted) {
+            order = new Integer[count];
+            for (int i = 0; i < count; i++) {
+                order[i] = new Integer(i);
+            }
+            Arrays.sort(order, new Comparator() {
+                @Override
+                public int compare(Object o1, Object o2) {
+                    long s1 = serial[((Integer) o1).intValue()];
+                    long s2 = serial[((Integer) o2).intValue()];
+                    return s1 < s2 ? -1 : (s1 == s2 ? 0 : 1);
+                }
+            });
+            for (int i = 1; i < count; i++) {
+                if (serial[order[i].intValue()]
+                        == serial[order[i - 1].intValue()]) {
+                    throw duplicatePeriodException(
+                            periods[order[i].intValue()]);
+                }
+            }
+        }
+
+        // check for periods already in the series, unless all the new
+        // periods follow the last period in the series
+        int n = this.itemCount;
+        int first = order != null ? order[0].intValue() : 0;
+        boolean append = n == 0
+                || serial[first] > this.serials[physical(n - 1)];
+        int i = 0;
+        int j = 0;
+        while (!append && i < n && j < count) {
+            int b = order != null ? order[j].intValue() : j;
+            long s = this.serials[physical(i)];
+            if (s < serial[b]) {
+                i++;
+            }
+            else if (s > serial[b]) {
+                j++;
+            }
+            else {
+                throw duplicatePeriodException(periods[b]);
+            }
+        }
+
+        if (this.timePeriodClass == null) {
+            this.timePeriodClass = c;
+        }
+        if (order == null && append) {
+            for (int k = 0; k < count; k++) {
+                insert(this.itemCount, serial[k], toMillis(periods[k]),
+                        values[k]);
+            }
+        }
+        else {
+            // merge from the end of the buffers, so no extra copy is needed
+            compact(Math.max(INITIAL_CAPACITY, n + count));
+            clearMillisFrom(0);
+            i = n - 1;
+            int k = n + count - 1;
+            for (j = count - 1; j >= 0; j--) {
+                int b = order != null ? order[j].intValue() : j;
+                while (i >= 0 && this.serials[i] > serial[b]) {
+                    this.serials[k] = this.serials[i];
+                    this.millis[k] = this.millis[i];
+                    this.values[k--] = this.values[i--];
+                }
+                this.serials[k] = serial[b];
+                this.millis[k] = toMillis(periods[b]);
+                this.values[k--] = values[b];
+                updateBoundsForAddedValue(values[b]);
+            }
+            this.itemCount = n + count;
+        }
+        afterAdd();
+        if (notify) {
+            fireSeriesChanged();
+        }
+        else {
+            updateModificationStamp();
+        }
+    }
+
+    /**
+     * Applies the maximum item count and age after an item has been added.
+     */
+    private void afterAdd() {
+        if (this.itemCount > getMaximumItemCount()) {
+            removeFirst(this.itemCount - getMaximumItemCount());
+        }
+        removeAgedItems(false);
+    }
+
+    /**
+     * Checks that the period has the same class as the existing periods in
+     * the series (and records the class if the series is empty).
+     *
+     * @param period  the period.
+     */
+    private void checkPeriodClass(RegularTimePeriod period) {
+        Class c = period.getClass();
+        if (this.timePeriodClass == null) {
+            this.timePeriodClass = c;
+        }
+        else if (!this.timePeriodClass.equals(c)) {
+            StringBuilder b = new StringBuilder();
+            b.append("You are trying to add data where the time period class ");
+            b.append("is ");
+            b.append(period.getClass().getName());
+            b.append(", but the TimeSeries is expecting an instance of ");
+            b.append(this.timePeriodClass.getName());
+            b.append(".");
+            throw new SeriesException(b.toString());
+        }
+    }
+
+    /**
+     * Updates (changes) the value for a time period.  Throws a
+     * {@link SeriesException} if the period does not exist.
+     *
+     * @param period  the period (<code>null</code> not permitted).
+     * @param value  the value (<code>null</code> permitted).
+     */
+    @Override
+    public void update(RegularTimePeriod period, Number value) {
+        int index = getIndex(period);
+        if (index < 0) {
+            throw new SeriesException("There is no existing value for the "
+                    + "specified 'period'.");
+        }
+        update(index, value);
+    }
+
+    /**
+     * Updates (changes) the value of a data item.
+     *
+     * @param index  the index of the data item.
+     * @param value  the new value (<code>null</code> permitted).
+     */
+    @Override
+    public void update(int index, Number value) {
+        checkIndex(index);
+        setValue(physical(index),
+                value != null ? value.doubleValue() : Double.NaN);
+        fireSeriesChanged();
+    }
+
+    /**
+     * Sets the value at a buffer position, maintaining the cached bounds.
+     *
+     * @param pos  the buffer position.
+     * @param value  the new value.
+     */
+    private void setValue(int pos, double value) {
+        updateBoundsForRemovedValue(this.values[pos]);
+        this.values[pos] = value;
+        updateBoundsForAddedValue(value);
+        clearValueTree();
+    }
+
+    /**
+     * Adds or updates an item in the times series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the data item (<code>null</code> not permitted).
+     *
+     * @return A copy of the overwritten data item, or <code>null</code> if no
+     *         item was overwritten.
+     */
+    @Override
+    public TimeSeriesDataItem addOrUpdate(TimeSeriesDataItem item) {
+        ParamChecks.nullNotPermitted(item, "item");
+        RegularTimePeriod period = item.getPeriod();
+        checkPeriodClass(period);
+        Number n = item.getValue();
+        double value = n != null ? n.doubleValue() : Double.NaN;
+        TimeSeriesDataItem overwritten = null;
+        int index = getIndex(period);
+        if (index >= 0) {
+            overwritten = getDataItem(index);
+            setValue(physical(index), value);
+        }
+        else {
+            insert(-index - 1, period.getSerialIndex(), toMillis(period),
+                    value);
+            if (this.itemCount > getMaximumItemCount()) {
+                removeFirst(this.itemCount - getMaximumItemCount());
+            }
+        }
+        removeAgedItems(false);
+        fireSeriesChanged();
+        return overwritten;
+    }
+
+    /**
+     * Age items in the series.  Ensure that the timespan from the youngest to
+     * the oldest record in the series does not exceed maximumItemAge time
+     * periods.  Oldest items will be removed if required.
+     *
+     * @param notify  controls whether or not a {@link SeriesChangeEvent} is
+     *                sent to registered listeners IF any items are removed.
+     */
+    @Override
+    public void removeAgedItems(boolean notify) {
+        if (this.itemCount > 1) {
+            long latest = this.serials[physical(this.itemCount - 1)];
+            removeItemsOlderThan(latest, notify);
+        }
+    }
+
+    /**
+     * Age items in the series.  Ensure that the timespan from the supplied
+     * time to the oldest record in the series does not exceed history count.
+     * oldest items will be removed if required.
+     *
+     * @param latest  the time to be compared against when aging data
+     *     (specified in milliseconds).
+     * @param notify  controls whether or not a {@link SeriesChangeEvent} is
+     *                sent to registered listeners IF any items are removed.
+     */
+    @Override
+    public void removeAgedItems(long latest, boolean notify) {
+        if (this.itemCount == 0) {
+            return;  // nothing to do
+        }
+        RegularTimePeriod newest;
+        if (this.timePeriodClass == FixedMillisecond.class) {
+            newest = new FixedMillisecond(latest);
+        }
+        else {
+            newest = RegularTimePeriod.createInstance(this.timePeriodClass,
+                    new Date(latest), TimeZone.getDefault());
+        }
+        removeItemsOlderThan(newest.getSerialIndex(), notify);
+    }
+
+    /**
+     * Removes items from the start of the series whose serial index is more
+     * than the maximum item age before <code>latest</code>.
+     *
+     * @param latest  the serial index of the latest period.
+     * @param notify  notify listeners if items are removed?
+     */
+    private void removeItemsOlderThan(long latest, boolean notify) {
+        long maxAge = getMaximumItemAge();
+        int remove = 0;
+        while (remove < this.itemCount
+                && latest - this.serials[physical(remove)] > maxAge) {
+            remove++;
+        }
+        if (remove > 0) {
+            removeFirst(remove);
+            if (notify) {
+                fireSeriesChanged();
+            }
+            else {
+                updateModificationStamp();
+            }
+        }
+    }
+
+    /**
+     * Removes all data items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     */
+    @Override
+    public void clear() {
+        if (this.itemCount > 0) {
+            this.head = 0;
+            this.itemCount = 0;
+            clearMillisFrom(0);
+            this.timePeriodClass = null;
+            this.minY = Double.NaN;
+            this.maxY = Double.NaN;
+            this.boundsValid = true;
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Deletes the data item for the given time period and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.  If there is no
+     * item with the specified time period, this method does nothing.
+     *
+     * @param period  the period of the item to delete (<code>null</code> not
+     *                permitted).
+     */
+    @Override
+    public void delete(RegularTimePeriod period) {
+        int index = getIndex(period);
+        if (index >= 0) {
+            removeRange(index, 1);
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Deletes data from start until end index (end inclusive).
+     *
+     * @param start  the index of the first period to delete.
+     * @param end  the index of the last period to delete.
+     * @param notify  notify listeners?
+     */
+    @Override
+    public void delete(int start, int end, boolean notify) {
+        if (end < start) {
+            throw new IllegalArgumentException("Requires start <= end.");
+        }
+        checkIndex(start);
+        checkIndex(end);
+        removeRange(start, end - start + 1);
+        if (notify) {
+            fireSeriesChanged();
+        }
+        else {
+            updateModificationStamp();
+        }
+    }
+
+    /**
+     * Returns a clone of the time series.
+     *
+     * @return A clone of the time series.
+     *
+     * @throws CloneNotSupportedException not thrown by this class, but
+     *         subclasses may differ.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        RollingTimeSeries clone = (RollingTimeSeries) super.clone();
+        clone.serials = this.serials.clone();
+        clone.millis = this.millis.clone();
+        clone.values = this.values.clone();
+        clone.workingCalendar = null;
+        return clone;
+    }
+
+    /**
+     * Creates a new timeseries by copying a subset of the data in this time
+     * series.
+     *
+     * @param start  the index of the first time period to copy.
+     * @param end  the index of the last time period to copy.
+     *
+     * @return A series containing a copy of this times series from start until
+     *         end.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public TimeSeries createCopy(int start, int end)
+            throws CloneNotSupportedException {
+        if (start < 0) {
+            throw new IllegalArgumentException("Requires start >= 0.");
+        }
+        if (end < start) {
+            throw new IllegalArgumentException("Requires start <= end.");
+        }
+        RollingTimeSeries copy = (RollingTimeSeries) clone();
+        if (this.itemCount > 0) {
+            checkIndex(end);
+            copy.compact(copy.serials.length);
+            copy.removeRange(end + 1, copy.itemCount - end - 1);
+            copy.removeRange(0, start);
+        }
+        return copy;
+    }
+
+    /**
+     * Creates a new timeseries by copying a subset of the data in this time
+     * series.
+     *
+     * @param start  the first time period to copy (<code>null</code> not
+     *         permitted).
+     * @param end  the last time period to copy (<code>null</code> not
+     *         permitted).
+     *
+     * @return A time series containing a copy of this time series from start
+     *         until end.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public TimeSeries createCopy(RegularTimePeriod start, RegularTimePeriod end)
+            throws CloneNotSupportedException {
+        ParamChecks.nullNotPermitted(start, "start");
+        ParamChecks.nullNotPermitted(end, "end");
+        if (start.compareTo(end) > 0) {
+            throw new IllegalArgumentException(
+                    "Requires start on or before end.");
+        }
+        int startIndex = getIndex(start);
+        if (startIndex < 0) {
+            startIndex = -(startIndex + 1);
+        }
+        int endIndex = getIndex(end);
+        if (endIndex < 0) {
+            endIndex = -(endIndex + 1) - 1;
+        }
+        if (startIndex >= this.itemCount || endIndex < startIndex) {
+            RollingTimeSeries copy = (RollingTimeSeries) clone();
+            copy.head = 0;
+            copy.itemCount = 0;
+            copy.minY = Double.NaN;
+            copy.maxY = Double.NaN;
+            copy.boundsValid = true;
+            return copy;
+        }
+        return createCopy(startIndex, endIndex);
+    }
+
+    /**
+     * Tests the series for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof RollingTimeSeries)) {
+            return false;
+        }
+        if (!super.equals(obj)) {
+            return false;
+        }
+        RollingTimeSeries that = (RollingTimeSeries) obj;
+        for (int i = 0; i < this.itemCount; i++) {
+            int p1 = physical(i);
+            int p2 = that.physical(i);
+            if (this.serials[p1] != that.serials[p2]
+                    || this.millis[p1] != that.millis[p2]) {
+                return false;
+            }
+            if (Double.doubleToLongBits(this.values[p1])
+                    != Double.doubleToLongBits(that.values[p2])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns the buffer position for the item with the specified index.
+     *
+     * @param index  the item index.
+     *
+     * @return The buffer position.
+     */
+    private int physical(int index) {
+        int p = this.head + index;
+        int capacity = this.values.length;
+        return p < capacity ? p : p - capacity;
+    }
+
+    /**
+     * Throws an <code>IndexOutOfBoundsException</code> if the index is not
+     * valid for this series.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.itemCount);
+        }
+    }
+
+    /**
+     * Inserts an item at the specified index.
+     *
+     * @param index  the index (0 to <code>getItemCount()</code>).
+     * @param serial  the serial index of the period.
+     * @param m  the first millisecond of the period (UTC).
+     * @param value  the value.
+     */
+    private void insert(int index, long serial, long m, double value) {
+        if (this.itemCount == this.values.length) {
+            compact(Math.max(INITIAL_CAPACITY, this.values.length * 2));
+        }
+        // shift later items one position towards the end of the buffer
+        for (int i = this.itemCount; i > index; i--) {
+            int to = physical(i);
+            int from = physical(i - 1);
+            this.serials[to] = this.serials[from];
+            this.millis[to] = this.millis[from];
+            this.values[to] = this.values[from];
+        }
+        int pos = physical(index);
+        this.serials[pos] = serial;
+        this.millis[pos] = m;
+        this.values[pos] = value;
+        this.itemCount++;
+        clearMillisFrom(index);
+        updateBoundsForAddedValue(value);
+    }
+
+    /**
+     * Removes the specified number of items from the start of the series.
+     * This does not move any data.
+     *
+     * @param count  the number of items to remove.
+     */
+    private void removeFirst(int count) {
+        for (int i = 0; i < count; i++) {
+            updateBoundsForRemovedValue(this.values[physical(i)]);
+        }
+        this.head = physical(count);
+        this.itemCount -= count;
+        removeMillisFromStart(count);
+        if (this.itemCount == 0) {
+            this.head = 0;
+            this.timePeriodClass = null;
+            this.minY = Double.NaN;
+            this.maxY = Double.NaN;
+            this.boundsValid = true;
+        }
+    }
+
+    /**
+     * Removes a range of items from the series.
+     *
+     * @param start  the index of the first item to remove.
+     * @param count  the number of items to remove.
+     */
+    private void removeRange(int start, int count) {
+        if (count <= 0) {
+            return;
+        }
+        if (start == 0) {
+            removeFirst(count);
+            return;
+        }
+        for (int i = start; i < start + count; i++) {
+            updateBoundsForRemovedValue(this.values[physical(i)]);
+        }
+        for (int i = start + count; i < this.itemCount; i++) {
+            int to = physical(i - count);
+            int from = physical(i);
+            this.serials[to] = this.serials[from];
+            this.millis[to] = this.millis[from];
+            this.values[to] = this.values[from];
+        }
+        this.itemCount -= count;
+        clearMillisFrom(start);
+    }
+
+    /**
+     * Copies the items into new buffers with the specified capacity, so that
+     * the first item is at position zero.
+     *
+     * @param capacity  the new capacity (at least the item count).
+     */
+    private void compact(int capacity) {
+        long[] s = new long[capacity];
+        long[] m = new long[capacity];
+        double[] v = new double[capacity];
+        int tail = Math.min(this.itemCount, this.values.length - this.head);
+        System.arraycopy(this.serials, this.head, s, 0, tail);
+        System.arraycopy(this.millis, this.head, m, 0, tail);
+        System.arraycopy(this.values, this.head, v, 0, tail);
+        int wrapped = this.itemCount - tail;
+        if (wrapped > 0) {
+            System.arraycopy(this.serials, 0, s, tail, wrapped);
+            System.arraycopy(this.millis, 0, m, tail, wrapped);
+            System.arraycopy(this.values, 0, v, tail, wrapped);
+        }
+        this.serials = s;
+        this.millis = m;
+        this.values = v;
+        this.head = 0;
+    }
+
+    /**
+     * Returns the calendar used to convert periods to milliseconds.
+     *
+     * @return The calendar.
+     */
+    private Calendar getWorkingCalendar() {
+        if (this.workingCalendar == null) {
+            this.workingCalendar = Calendar.getInstance(UTC);
+        }
+        return this.workingCalendar;
+    }
+
+    /**
+     * Returns the first millisecond of the period, evaluated in UTC.
+     *
+     * @param period  the period.
+     *
+     * @return The millisecond.
+     */
+    private long toMillis(RegularTimePeriod period) {
+        return period.getFirstMillisecond(getWorkingCalendar());
+    }
+
+    /**
+     * Recreates a time period of the series' time period class from its first
+     * millisecond (evaluated in UTC).
+     *
+     * @param m  the millisecond.
+     *
+     * @return The time period.
+     */
+    private RegularTimePeriod createPeriod(long m) {
+        if (this.timePeriodClass == FixedMillisecond.class) {
+            return new FixedMillisecond(m);
+        }
+        try {
+            // the constructor is kept when the series is cleared, and only
+            // looked up again if the time period class changes
+            if (this.periodConstructor == null
+                    || this.periodConstructor.getDeclaringClass()
+                    != this.timePeriodClass) {
+                this.periodConstructor = this.timePeriodClass
+                        .getDeclaredConstructor(new Class[] {Date.class,
+                        TimeZone.class});
+            }
+            return (RegularTimePeriod) this.periodConstructor.newInstance(
+                    new Object[] {new Date(m), UTC});
+        }
+        catch (Exception e) {
+            throw new SeriesException("Unable to create an instance of "
+                    + this.timePeriodClass.getName() + ".");
+        }
+    }
+
+}
@@ -85,6 +85,12 @@
  * 03-Dec-2011 : Fixed bug 3446965 which affects the y-range calculation for 
  *               the series (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 17-Oct-2026 : Added add(RegularTimePeriod[], double[]) for bulk loading;
+ * 17-Oct-2026 : Use a binary search and a segment tree in
+ *               findValueRange(Range, TimePeriodAnchor, TimeZone);
+ * 17-Oct-2026 : Update modification stamp for silent changes;
+ * 17-Oct-2026 : Cache item x-values in primitive arrays;
+ * 17-Oct-2026 : Extend the value tree when items are appended;
  * 
  */
 
@@ -93,6 +99,7 @@ package org.jfree.data.time;
 import java.io.Serializable;
 import java.lang.reflect.InvocationTargetException;
 import java.lang.reflect.Method;
+import java.util.ArrayList;
 import java.util.Calendar;
 import java.util.Collection;
 import java.util.Collections;
@@ -102,6 +109,7 @@ import java.util.List;
 import java.util.TimeZone;
 
 import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.MinMaxSegmentTree;
 import org.jfree.data.Range;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
@@ -161,6 +169,23 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
      */
     private double maxY;
 
+    /**
+     * A tree of the y-values used to find the value range for an x-range,
+     * created when required.  The tree covers the first
+     * <code>valueTree.getSize()</code> items: items appended to the series
+     * are added to the tree when it is next used, items removed from the
+     * start are removed from the tree, and the tree is discarded for any
+     * other change to the items it covers.
+     */
+    private transient MinMaxSegmentTree valueTree;
+
+    /**
+     * The cached x-values of the items for each anchor (START, MIDDLE and
+     * END), created when required (see
+     * {@link #getMillisecond(int, TimePeriodAnchor, Calendar)}).
+     */
+    private transient MillisCache[] millisCaches;
+
     /**
      * Creates a new (empty) time series.  By default, a daily time series is
      * created.  Use one of the other constructors if you require a different
@@ -391,34 +416,63 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         ParamChecks.nullNotPermitted(xRange, "xRange");
         ParamChecks.nullNotPermitted(xAnchor, "xAnchor");
         ParamChecks.nullNotPermitted(zone, "zone");
-        if (this.data.isEmpty()) {
+        int count = getItemCount();
+        if (count == 0) {
             return null;
         }
         Calendar calendar = Calendar.getInstance(zone);
-        // since the items are ordered, we could be more clever here and avoid
-        // iterating over all the data
-        double lowY = Double.POSITIVE_INFINITY;
-        double highY = Double.NEGATIVE_INFINITY;
-        for (int i = 0; i < this.data.size(); i++) {
-            TimeSeriesDataItem item = (TimeSeriesDataItem) this.data.get(i);
-            long millis = item.getPeriod().getMillisecond(xAnchor, calendar);
-            if (xRange.contains(millis)) {
-                Number n = item.getValue();
-                if (n != null) {
-                    double v = n.doubleValue();
-                    lowY = Math.min(lowY, v);
-                    highY = Math.max(highY, v);
-                }
+        // the items are ordered, so find the first item at or after the
+        // lower bound and the first item after the upper bound...
+        int start = firstIndexAfter(xRange.getLowerBound(), false, xAnchor,
+                calendar);
+        int end = firstIndexAfter(xRange.getUpperBound(), true, xAnchor,
+                calendar);
+        // ...then look up the y-values in between
+        MinMaxSegmentTree tree = this.valueTree;
+        if (tree == null || tree.getSize() > count) {
+            tree = new MinMaxSegmentTree(new double[0]);
+            this.valueTree = tree;
+        }
+        for (int i = tree.getSize(); i < count; i++) {
+            Number n = getValue(i);
+            tree.add(n != null ? n.doubleValue() : Double.NaN);
+        }
+        Range r = tree.getBounds(start, end - 1);
+        if (r == null) {
+            return new Range(Double.NaN, Double.NaN);
+        }
+        return r;
+    }
+
+    /**
+     * Returns the index of the first item with an x-value (for the given
+     * anchor and calendar) greater than <code>x</code> or, if
+     * <code>inclusive</code> is <code>false</code>, greater than or equal to
+     * <code>x</code>.
+     *
+     * @param x  the x-value.
+     * @param inclusive  include items at <code>x</code> in the search?
+     * @param anchor  the anchor.
+     * @param calendar  the calendar.
+     *
+     * @return The index (<code>getItemCount()</code> if there is no such
+     *     item).
+     */
+    private int firstIndexAfter(double x, boolean inclusive,
+            TimePeriodAnchor anchor, Calendar calendar) {
+        int low = 0;
+        int high = getItemCount();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            long m = getMillisecond(mid, anchor, calendar);
+            if (m < x || (inclusive && m == x)) {
+                low = mid + 1;
             }
-        }
-        if (Double.isInfinite(lowY) && Double.isInfinite(highY)) {
-            if (lowY < highY) {
-                return new Range(lowY, highY);
-            } else {
-                return new Range(Double.NaN, Double.NaN);
+            else {
+                high = mid;
             }
         }
-        return new Range(lowY, highY);
+        return low;
     }
 
     /**
@@ -550,6 +604,104 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         return getRawDataItem(index).getPeriod();
     }
 
+    /**
+     * Returns the x-value for an item, that is the millisecond at the
+     * specified anchor point of its time period, evaluated using the
+     * calendar's time zone.  The values are cached in a primitive array for
+     * each anchor, so repeated requests (for example, every time a chart is
+     * drawn) need no calendar calculations.  The cache is updated as items
+     * are added and removed, and is rebuilt if a calendar with a different
+     * time zone or week settings is passed in.
+     *
+     * @param index  the item index (zero-based).
+     * @param anchor  the anchor (<code>null</code> not permitted).
+     * @param calendar  the calendar (<code>null</code> not permitted).
+     *
+     * @return The x-value (milliseconds since the epoch).
+     *
+     * @since 1.0.20
+     */
+    public long getMillisecond(int index,
+            TimePeriodAnchor anchor, Calendar calendar) {
+        int a;
+        if (anchor.equals(TimePeriodAnchor.START)) {
+            a = 0;
+        }
+        else if (anchor.equals(TimePeriodAnchor.MIDDLE)) {
+            a = 1;
+        }
+        else if (anchor.equals(TimePeriodAnchor.END)) {
+            a = 2;
+        }
+        else {
+            throw new IllegalStateException("Unrecognised anchor: " + anchor);
+        }
+        if (this.millisCaches == null) {
+            this.millisCaches = new MillisCache[3];
+        }
+        MillisCache cache = this.millisCaches[a];
+        if (cache == null || !cache.matches(calendar)) {
+            cache = new MillisCache(anchor, calendar);
+            this.millisCaches[a] = cache;
+        }
+        return cache.get(this, index);
+    }
+
+    /**
+     * Discards the cached x-values for the items from the specified index
+     * onwards (and the tree of y-values, if it covers those items).  This
+     * must be called whenever items are inserted or removed other than at
+     * the end of the series.
+     *
+     * @param index  the index of the first item that has changed.
+     */
+    void clearMillisFrom(int index) {
+        if (this.valueTree != null && index < this.valueTree.getSize()) {
+            this.valueTree = null;
+        }
+        if (this.millisCaches != null) {
+            for (int i = 0; i < this.millisCaches.length; i++) {
+                if (this.millisCaches[i] != null) {
+                    this.millisCaches[i].truncate(index);
+                }
+            }
+        }
+    }
+
+    /**
+     * Discards the tree of y-values used by
+     * {@link #findValueRange(Range, TimePeriodAnchor, TimeZone)}.  This must
+     * be called whenever the value of an existing item is changed.
+     */
+    void clearValueTree() {
+        this.valueTree = null;
+    }
+
+    /**
+     * Drops the cached x-values (and y-values in the tree used by
+     * {@link #findValueRange(Range, TimePeriodAnchor, TimeZone)}) for items
+     * removed from the start of the series.
+     *
+     * @param count  the number of items removed.
+     */
+    void removeMillisFromStart(int count) {
+        if (this.valueTree != null) {
+            if (count <= this.valueTree.getSize()) {
+                this.valueTree.removeFirst(count);
+            }
+            else {
+                this.valueTree = null;
+            }
+        }
+        if (this.millisCaches != null) {
+            for (int i = 0; i < this.millisCaches.length; i++) {
+                if (this.millisCaches[i] != null) {
+                    this.millisCaches[i].removeFirst(count);
+                }
+            }
+        }
+    }
+
     /**
      * Returns a time period that would be the next in sequence on the end of
      * the time series.
@@ -690,6 +842,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
                 int index = Collections.binarySearch(this.data, item);
                 if (index < 0) {
                     this.data.add(-index - 1, item);
+                    clearMillisFrom(-index - 1);
                     added = true;
                 }
                 else {
@@ -709,6 +862,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
                 TimeSeriesDataItem d = (TimeSeriesDataItem) this.data.remove(0);
+                removeMillisFromStart(1);
                 updateBoundsForRemovedItem(d);
             }
 
@@ -718,6 +872,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             if (notify) {
                 fireSeriesChanged();
             }
+            else {
+                updateModificationStamp();
+            }
         }
 
     }
@@ -748,6 +905,163 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         add(item, notify);
     }
 
+    /**
+     * Adds a batch of data items to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param periods  the time periods (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted, and the
+     *     same length as <code>periods</code>).
+     *
+     * @throws SeriesException if a period is a duplicate, or does not have
+     *     the same class as the other periods in the series.
+     *
+     * @since 1.0.20
+     */
+    public void add(RegularTimePeriod[] periods, double[] values) {
+        add(periods, values, true);
+    }
+
+    /**
+     * Adds a batch of data items to the series and, if requested, sends a
+     * single {@link SeriesChangeEvent} to all registered listeners.  The new
+     * items are sorted and then merged with the existing items in one pass,
+     * so the time taken is linear in the total number of items when the
+     * periods are already in ascending order.  The result is the same as
+     * adding the items one at a time, except that the maximum item count and
+     * item age are only applied once all the new items have been added.  If
+     * any period is rejected, the series is not modified.
+     *
+     * @param periods  the time periods (<code>null</code> not permitted).
+     * @param values  the values (<code>null</code> not permitted, and the
+     *     same length as <code>periods</code>).
+     * @param notify  notify listeners?
+     *
+     * @throws SeriesException if a period is a duplicate, or does not have
+     *     the same class as the other periods in the series.
+     *
+     * @since 1.0.20
+     */
+    public void add(RegularTimePeriod[] periods, double[] values,
+            boolean notify) {
+        ParamChecks.nullNotPermitted(periods, "periods");
+        ParamChecks.nullNotPermitted(values, "values");
+        if (periods.length != values.length) {
+            throw new IllegalArgumentException(
+                    "The 'periods' and 'values' arrays must have the same "
+                    + "length.");
+        }
+        int count = periods.length;
+        if (count == 0) {
+            return;
+        }
+        Class c = this.timePeriodClass;
+        List items = new ArrayList(count);
+        for (int i = 0; i < count; i++) {
+            ParamChecks.nullNotPermitted(periods[i], "periods[" + i + "]");
+            if (c == null) {
+                c = periods[i].getClass();
+            }
+            checkPeriodClass(c, periods[i]);
+            items.add(new TimeSeriesDataItem(periods[i], values[i]));
+        }
+        Collections.sort(items);
+        for (int i = 1; i < count; i++) {
+            TimeSeriesDataItem item = (TimeSeriesDataItem) items.get(i);
+            if (item.compareTo(items.get(i - 1)) == 0) {
+                throw duplicatePeriodException(item.getPeriod());
+            }
+        }
+        int n = this.data.size();
+        if (n == 0 || ((TimeSeriesDataItem) items.get(0)).compareTo(
+                this.data.get(n - 1)) > 0) {
+            this.data.addAll(items);
+        }
+        else {
+            clearMillisFrom(-Collections.binarySearch(this.data,
+                    items.get(0)) - 1);
+            List merged = new ArrayList(n + count);
+            int i = 0;
+            int j = 0;
+            while (j < count) {
+                TimeSeriesDataItem item = (TimeSeriesDataItem) items.get(j);
+                if (i < n) {
+                    int cmp = ((TimeSeriesDataItem) this.data.get(i))
+                            .compareTo(item);
+                    if (cmp == 0) {
+                        throw duplicatePeriodException(item.getPeriod());
+                    }
+                    if (cmp < 0) {
+                        merged.add(this.data.get(i++));
+                        continue;
+                    }
+                }
+                merged.add(item);
+                j++;
+            }
+            merged.addAll(this.data.subList(i, n));
+            this.data = merged;
+        }
+        this.timePeriodClass = c;
+        for (int i = 0; i < count; i++) {
+            updateBoundsForAddedItem((TimeSeriesDataItem) items.get(i));
+        }
+        int excess = getItemCount() - this.maximumItemCount;
+        if (excess > 0) {
+            this.data.subList(0, excess).clear();
+            removeMillisFromStart(excess);
+            updateMinMaxYByIteration();
+        }
+        removeAgedItems(false);
+        if (notify) {
+            fireSeriesChanged();
+        }
+        else {
+            updateModificationStamp();
+        }
+    }
+
+    /**
+     * Throws a {@link SeriesException} if a period does not have the
+     * expected class.
+     *
+     * @param expected  the expected class.
+     * @param period  the period.
+     */
+    static void checkPeriodClass(Class expected,
+            RegularTimePeriod period) {
+        if (!expected.equals(period.getClass())) {
+            StringBuilder b = new StringBuilder();
+            b.append("You are trying to add data where the time period class ");
+            b.append("is ");
+            b.append(period.getClass().getName());
+            b.append(", but the TimeSeries is expecting an instance of ");
+            b.append(expected.getName());
+            b.append(".");
+            throw new SeriesException(b.toString());
+        }
+    }
+
+    /**
+     * Creates the exception thrown when an item is added for a period that
+     * is already in the series.
+     *
+     * @param period  the period.
+     *
+     * @return The exception.
+     */
+    static SeriesException duplicatePeriodException(
+            RegularTimePeriod period) {
+        StringBuilder b = new StringBuilder();
+        b.append("You are attempting to add an observation for ");
+        b.append("the time period ");
+        b.append(period.toString());
+        b.append(" but the series already contains an observation");
+        b.append(" for that time period. Duplicates are not ");
+        b.append("permitted.  Try using the addOrUpdate() method.");
+        return new SeriesException(b.toString());
+    }
+
     /**
      * Adds a new data item to the series and sends
      * a {@link org.jfree.data.general.SeriesChangeEvent} to all registered
@@ -822,6 +1136,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             }
         }
         item.setValue(value);
+        clearValueTree();
         if (iterate) {
             updateMinMaxYByIteration();
         }
@@ -927,6 +1242,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
                 iterate = oldY <= this.minY || oldY >= this.maxY;
             }
             existing.setValue(item.getValue());
+            clearValueTree();
             if (iterate) {
                 updateMinMaxYByIteration();
             }
@@ -939,11 +1255,13 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         else {
             item = (TimeSeriesDataItem) item.clone();
             this.data.add(-index - 1, item);
+            clearMillisFrom(-index - 1);
             updateBoundsForAddedItem(item);
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
                 TimeSeriesDataItem d = (TimeSeriesDataItem) this.data.remove(0);
+                removeMillisFromStart(1);
                 updateBoundsForRemovedItem(d);
             }
         }
@@ -972,6 +1290,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             while ((latest - getTimePeriod(0).getSerialIndex())
                     > this.maximumItemAge) {
                 this.data.remove(0);
+                removeMillisFromStart(1);
                 removed = true;
             }
             if (removed) {
@@ -979,6 +1298,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
                 if (notify) {
                     fireSeriesChanged();
                 }
+                else {
+                    updateModificationStamp();
+                }
             }
         }
     }
@@ -1024,6 +1346,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         while (getItemCount() > 0 && (index
                 - getTimePeriod(0).getSerialIndex()) > this.maximumItemAge) {
             this.data.remove(0);
+            removeMillisFromStart(1);
             removed = true;
         }
         if (removed) {
@@ -1031,6 +1354,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
             if (notify) {
                 fireSeriesChanged();
             }
+            else {
+                updateModificationStamp();
+            }
         }
     }
 
@@ -1041,7 +1367,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            clearMillisFrom(0);
             this.timePeriodClass = null;
+            this.valueTree = null;
             this.minY = Double.NaN;
             this.maxY = Double.NaN;
             fireSeriesChanged();
@@ -1061,6 +1389,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         if (index >= 0) {
             TimeSeriesDataItem item = (TimeSeriesDataItem) this.data.remove(
                     index);
+            clearMillisFrom(index);
             updateBoundsForRemovedItem(item);
             if (this.data.isEmpty()) {
                 this.timePeriodClass = null;
@@ -1095,6 +1424,7 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         for (int i = 0; i <= (end - start); i++) {
             this.data.remove(start);
         }
+        clearMillisFrom(start);
         updateMinMaxYByIteration();
         if (this.data.isEmpty()) {
             this.timePeriodClass = null;
@@ -1102,6 +1432,9 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         if (notify) {
             fireSeriesChanged();
         }
+        else {
+            updateModificationStamp();
+        }
     }
 
     /**
@@ -1123,6 +1456,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
     public Object clone() throws CloneNotSupportedException {
         TimeSeries clone = (TimeSeries) super.clone();
         clone.data = (List) ObjectUtilities.deepClone(this.data);
+        clone.millisCaches = null;
+        clone.valueTree = null;
         return clone;
     }
 
@@ -1149,6 +1484,8 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         TimeSeries copy = (TimeSeries) super.clone();
         copy.minY = Double.NaN;
         copy.maxY = Double.NaN;
+        copy.millisCaches = null;
+        copy.valueTree = null;
         copy.data = new java.util.ArrayList();
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
@@ -1430,4 +1767,137 @@ public class TimeSeries extends Series implements Cloneable, Serializable {
         this.maxY = Double.NaN;
     }
 
+    /**
+     * The cached x-values of the items in a series for one anchor and
+     * calendar.  Values are calculated as they are first requested, and kept
+     * in step with the series as items are added and removed.
+     */
+    private static final class MillisCache {
+
+        /** The anchor. */
+        private final TimePeriodAnchor anchor;
+
+        /** A copy of the calendar used to calculate the values. */
+        private final Calendar calendar;
+
+        /** The calendar that last matched (used for a quick check). */
+        private Calendar lastCalendar;
+
+        /** The time zone of the calendar that last matched. */
+        private TimeZone lastZone;
+
+        /** The values, starting at array index 'start'. */
+        private long[] values;
+
+        /** The array index of the value for the first item. */
+        private int start;
+
+        /** The number of items (from the first) with a cached value. */
+        private int count;
+
+        /**
+         * Creates a new empty cache.
+         *
+         * @param anchor  the anchor.
+         * @param calendar  the calendar.
+         */
+        MillisCache(TimePeriodAnchor anchor, Calendar calendar) {
+            this.anchor = anchor;
+            this.calendar = (Calendar) calendar.clone();
+            this.lastCalendar = calendar;
+            this.lastZone = calendar.getTimeZone();
+            this.values = new long[0];
+        }
+
+        /**
+         * Returns <code>true</code> if the values in this cache are valid
+         * for the specified calendar.
+         *
+         * @param c  the calendar.
+         *
+         * @return A boolean.
+         */
+        boolean matches(Calendar c) {
+            TimeZone zone = c.getTimeZone();
+            if (c.getFirstDayOfWeek() != this.calendar.getFirstDayOfWeek()
+                    || c.getMinimalDaysInFirstWeek()
+                    != this.calendar.getMinimalDaysInFirstWeek()) {
+                return false;
+            }
+            if (c == this.lastCalendar && zone == this.lastZone) {
+                return true;
+            }
+            if (!zone.getID().equals(this.calendar.getTimeZone().getID())
+                    || !zone.hasSameRules(this.calendar.getTimeZone())) {
+                return false;
+            }
+            this.lastCalendar = c;
+            this.lastZone = zone;
+            return true;
+        }
+
+        /**
+         * Returns the x-value for an item, calculating and caching the values
+         * up to that item if necessary.
+         *
+         * @param series  the series.
+         * @param index  the item index.
+         *
+         * @return The x-value.
+         */
+        long get(TimeSeries series, int index) {
+            if (index < this.count) {
+                return this.values[this.start + index];
+            }
+            int n = series.getItemCount();
+            if (index >= n) {
+                // let the series report the bad index
+                return series.getTimePeriod(index).getMillisecond(
+                        this.anchor, this.calendar);
+            }
+            if (this.start + n > this.values.length) {
+                long[] v = this.values;
+                if (n > v.length) {
+                    v = new long[Math.max(n + (n >> 1), 16)];
+                }
+                System.arraycopy(this.values, this.start, v, 0, this.count);
+                this.values = v;
+                this.start = 0;
+            }
+            for (int i = this.count; i <= index; i++) {
+                this.values[this.start + i] = series.getTimePeriod(i)
+                        .getMillisecond(this.anchor, this.calendar);
+            }
+            this.count = index + 1;
+            return this.values[this.start + index];
+        }
+
+        /**
+         * Discards the values from the specified item index onwards.
+         *
+         * @param index  the item index.
+         */
+        void truncate(int index) {
+            this.count = Math.max(0, Math.min(this.count, index));
+        }
+
+        /**
+         * Discards the values for items removed from the start of the
+         * series.
+         *
+         * @param n  the number of items removed.
+         */
+        void removeFirst(int n) {
+            if (n >= this.count) {
+                this.start = 0;
+                this.count = 0;
+            }
+            else {
+                this.start += n;
+                this.count -= n;
+            }
+        }
+
+    }
+
 }
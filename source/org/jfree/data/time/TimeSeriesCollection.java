@@ -83,6 +83,9 @@
  * 26-Jun-2009 : Fixed clone() (DG);
  * 08-Jan-2012 : Fixed getRangeBounds() method (bug 3445507) (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 17-Oct-2026 : Added getModificationStamp() override;
+ * 17-Oct-2026 : Read x-values from the series x-value caches;
+ * 17-Oct-2026 : Use ModificationStamps to combine the series stamps;
  *
  */
 
@@ -104,6 +107,7 @@ import org.jfree.data.DomainInfo;
 import org.jfree.data.DomainOrder;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.ModificationStamps;
 import org.jfree.data.general.Series;
 import org.jfree.data.xy.AbstractIntervalXYDataset;
 import org.jfree.data.xy.IntervalXYDataset;
@@ -283,6 +287,21 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
         return this.data.size();
     }
 
+    /**
+     * Returns the modification stamp for the dataset.  This is the latest of
+     * the stamps for the collection and its series, so it includes changes
+     * made to a series while its notify flag is <code>false</code>.
+     *
+     * @return The modification stamp.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public long getModificationStamp() {
+        return ModificationStamps.latest(super.getModificationStamp(),
+                this.data);
+    }
+
     /**
      * Returns the index of the specified series, or -1 if that series is not
      * present in the dataset.
@@ -445,6 +464,9 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
 
     /**
      * Returns the x-value (as a double primitive) for an item within a series.
+     * The value is looked up in the series' cache of x-values (see
+     * {@link TimeSeries#getMillisecond(int, TimePeriodAnchor, Calendar)}),
+     * so the calendar calculations are only done once for each item.
      *
      * @param series  the series (zero-based index).
      * @param item  the item (zero-based index).
@@ -454,8 +476,7 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
     @Override
     public double getXValue(int series, int item) {
         TimeSeries s = (TimeSeries) this.data.get(series);
-        RegularTimePeriod period = s.getTimePeriod(item);
-        return getX(period);
+        return s.getMillisecond(item, this.xPosition, this.workingCalendar);
     }
 
     /**
@@ -469,8 +490,8 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
     @Override
     public Number getX(int series, int item) {
         TimeSeries ts = (TimeSeries) this.data.get(series);
-        RegularTimePeriod period = ts.getTimePeriod(item);
-        return new Long(getX(period));
+        return new Long(ts.getMillisecond(item, this.xPosition,
+                this.workingCalendar));
     }
 
     /**
@@ -503,10 +524,24 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      * @return The value.
      */
     @Override
-    public synchronized Number getStartX(int series, int item) {
+    public Number getStartX(int series, int item) {
+        return new Long((long) getStartXValue(series, item));
+    }
+
+    /**
+     * Returns the starting x-value (as a double primitive) for an item
+     * within a series.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
         TimeSeries ts = (TimeSeries) this.data.get(series);
-        return new Long(ts.getTimePeriod(item).getFirstMillisecond(
-                this.workingCalendar));
+        return ts.getMillisecond(item, TimePeriodAnchor.START,
+                this.workingCalendar);
     }
 
     /**
@@ -518,10 +553,24 @@ public class TimeSeriesCollection extends AbstractIntervalXYDataset
      * @return The value.
      */
     @Override
-    public synchronized Number getEndX(int series, int item) {
+    public Number getEndX(int series, int item) {
+        return new Long((long) getEndXValue(series, item));
+    }
+
+    /**
+     * Returns the ending x-value (as a double primitive) for an item within
+     * a series.
+     *
+     * @param series  the series (zero-based index).
+     * @param item  the item (zero-based index).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
         TimeSeries ts = (TimeSeries) this.data.get(series);
-        return new Long(ts.getTimePeriod(item).getLastMillisecond(
-                this.workingCalendar));
+        return ts.getMillisecond(item, TimePeriodAnchor.END,
+                this.workingCalendar);
     }
 
     /**
@@ -52,6 +52,7 @@
  * 26-May-2009 : Peg to time zone if RegularTimePeriod is used (DG);
  * 02-Nov-2009 : Changed String to Comparable in add methods (DG);
  * 03-Jul-2013 : Use ParamChecks (DG);
+ * 17-Oct-2026 : Update modification stamp for silent changes;
  *
  */
 
@@ -241,6 +242,9 @@ public class TimeTableXYDataset extends AbstractIntervalXYDataset
         if (notify) {
             fireDatasetChanged();
         }
+        else {
+            updateModificationStamp();
+        }
     }
 
     /**
@@ -275,6 +279,9 @@ public class TimeTableXYDataset extends AbstractIntervalXYDataset
         if (notify) {
             fireDatasetChanged();
         }
+        else {
+            updateModificationStamp();
+        }
     }
 
     /**
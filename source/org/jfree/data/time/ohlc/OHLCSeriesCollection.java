@@ -39,6 +39,8 @@
  * 23-May-2009 : Added hashCode() implementation (DG);
  * 26-Jun-2009 : Added removeSeries() methods (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 17-Oct-2026 : Added getModificationStamp() override;
+ * 17-Oct-2026 : Use ModificationStamps to combine the series stamps;
  *
  */
 
@@ -50,6 +52,7 @@ import java.util.List;
 import org.jfree.chart.HashUtilities;
 import org.jfree.chart.util.ParamChecks;
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.ModificationStamps;
 import org.jfree.data.time.RegularTimePeriod;
 import org.jfree.data.time.TimePeriodAnchor;
 import org.jfree.data.xy.AbstractXYDataset;
@@ -129,6 +132,21 @@ public class OHLCSeriesCollection extends AbstractXYDataset
         return this.data.size();
     }
 
+    /**
+     * Returns the modification stamp for the dataset.  This is the latest of
+     * the stamps for the collection and its series, so it includes changes
+     * made to a series while its notify flag is <code>false</code>.
+     *
+     * @return The modification stamp.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public long getModificationStamp() {
+        return ModificationStamps.latest(super.getModificationStamp(),
+                this.data);
+    }
+
     /**
      * Returns a series from the collection.
      *
@@ -0,0 +1,890 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * ConcurrentXYDataset.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.Serializable;
+import java.util.Arrays;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.general.Dataset;
+import org.jfree.data.general.DatasetAppendEvent;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.SnapshotableDataset;
+
+/**
+ * An {@link XYDataset} that can be written to from any number of threads
+ * while it is being read (for example, by a chart on the event dispatch
+ * thread).  Producers call {@link #append(int, double, double)}, which
+ * holds a lock for the target series only (so writers to different series
+ * never contend) and never waits for readers.  The appended items become
+ * visible to readers when {@link #publish()} is called, which captures an
+ * immutable snapshot of each series and then sends one
+ * {@link DatasetChangeEvent} to the registered listeners.
+ * <P>
+ * Memory visibility: all items appended before a call to
+ * <code>publish()</code> starts are included in the snapshot it captures,
+ * and a thread that calls one of the <code>XYDataset</code> methods sees
+ * the snapshot from the last completed <code>publish()</code>.  The
+ * snapshot is only replaced by <code>publish()</code>, so a reader that
+ * calls <code>publish()</code> itself (typically the event dispatch thread,
+ * using a <code>javax.swing.Timer</code>) sees the same data for the
+ * whole time it draws a chart.  The listeners are notified on the thread
+ * that calls <code>publish()</code>.  Each series is captured separately,
+ * so the snapshot is consistent within each series but an item appended to
+ * one series may be published before an item appended earlier to another.
+ * <P>
+ * Items are stored in fixed-size chunks of <code>double</code> primitives.
+ * Published chunks are never modified, so a snapshot shares its chunks with
+ * the live series and publishing does not copy any data.  A maximum item
+ * count can be set to keep a rolling window of the most recent items.  For
+ * time series data, use the millisecond as the x-value and a
+ * {@link org.jfree.chart.axis.DateAxis} for the domain axis.  Series cannot
+ * be removed.
+ * <P>
+ * If <code>publish()</code> is called on a thread other than the one that
+ * draws the chart, the plot still renders consistent data because it reads
+ * from the {@link #getSnapshot()} it takes when it starts drawing.
+ *
+ * @since 1.0.20
+ */
+public class ConcurrentXYDataset extends AbstractXYDataset
+        implements XYDataset, SnapshotableDataset, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 5376295180416733307L;
+
+    /** The number of bits in a chunk index. */
+    private static final int CHUNK_SHIFT = 12;
+
+    /** The number of items in a chunk. */
+    private static final int CHUNK_SIZE = 1 << CHUNK_SHIFT;
+
+    /** The mask for the position of an item within a chunk. */
+    private static final int CHUNK_MASK = CHUNK_SIZE - 1;
+
+    /**
+     * The series being written to.  The array is replaced when a series is
+     * added, so writers can read it without holding a lock.
+     */
+    private volatile SeriesBuffer[] buffers;
+
+    /** The series as of the last call to publish(). */
+    private volatile SeriesSnapshot[] published;
+
+    /** The maximum number of items kept in each series. */
+    private volatile int maximumItemCount;
+
+    /**
+     * Creates a new empty dataset.
+     */
+    public ConcurrentXYDataset() {
+        this.buffers = new SeriesBuffer[0];
+        this.published = new SeriesSnapshot[0];
+        this.maximumItemCount = Integer.MAX_VALUE;
+    }
+
+    /**
+     * Returns the maximum number of items kept in each series.
+     *
+     * @return The maximum item count.
+     *
+     * @see #setMaximumItemCount(int)
+     */
+    public int getMaximumItemCount() {
+        return this.maximumItemCount;
+    }
+
+    /**
+     * Sets the maximum number of items kept in each series.  When a series
+     * exceeds the maximum, the oldest items are dropped.  The change is
+     * visible to readers after the next call to {@link #publish()}.
+     *
+     * @param maximum  the maximum (requires &gt; 0).
+     */
+    public void setMaximumItemCount(int maximum) {
+        if (maximum <= 0) {
+            throw new IllegalArgumentException("Requires 'maximum' > 0.");
+        }
+        this.maximumItemCount = maximum;
+        SeriesBuffer[] b = this.buffers;
+        for (int i = 0; i < b.length; i++) {
+            synchronized (b[i]) {
+                b[i].trim(maximum);
+            }
+        }
+    }
+
+    /**
+     * Adds a new series to the dataset.  This method can be called from any
+     * thread, the series is visible to readers after the next call to
+     * {@link #publish()}.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     *
+     * @return The index of the new series.
+     *
+     * @throws IllegalArgumentException if there is already a series with the
+     *     same key.
+     */
+    public synchronized int addSeries(Comparable key) {
+        ParamChecks.nullNotPermitted(key, "key");
+        SeriesBuffer[] b = this.buffers;
+        for (int i = 0; i < b.length; i++) {
+            if (b[i].key.equals(key)) {
+                throw new IllegalArgumentException(
+                        "Duplicate series key: " + key);
+            }
+        }
+        b = Arrays.copyOf(b, b.length + 1);
+        b[b.length - 1] = new SeriesBuffer(key);
+        this.buffers = b;
+        return b.length - 1;
+    }
+
+    /**
+     * Appends an item to a series.  This method can be called from any
+     * thread, the item is visible to readers after the next call to
+     * {@link #publish()}.
+     *
+     * @param series  the series index (as returned by
+     *     {@link #addSeries(Comparable)}).
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    public void append(int series, double x, double y) {
+        SeriesBuffer b = this.buffers[series];
+        int maximum = this.maximumItemCount;
+        synchronized (b) {
+            b.append(x, y);
+            b.trim(maximum);
+        }
+    }
+
+    /**
+     * Appends items to a series, holding the lock for the series only once.
+     * This method can be called from any thread, the items are visible to
+     * readers after the next call to {@link #publish()}.
+     *
+     * @param series  the series index.
+     * @param x  the x-values (<code>null</code> not permitted).
+     * @param y  the y-values (<code>null</code> not permitted, must have the
+     *     same length as the x-values).
+     */
+    public void append(int series, double[] x, double[] y) {
+        ParamChecks.nullNotPermitted(x, "x");
+        ParamChecks.nullNotPermitted(y, "y");
+        if (x.length != y.length) {
+            throw new IllegalArgumentException(
+                    "The 'x' and 'y' arrays must have the same length.");
+        }
+        SeriesBuffer b = this.buffers[series];
+        int maximum = this.maximumItemCount;
+        synchronized (b) {
+            for (int i = 0; i < x.length; i++) {
+                b.append(x[i], y[i]);
+            }
+            b.trim(maximum);
+        }
+    }
+
+    /**
+     * Removes all the items from a series.  This method can be called from
+     * any thread, the change is visible to readers after the next call to
+     * {@link #publish()}.
+     *
+     * @param series  the series index.
+     */
+    public void clear(int series) {
+        SeriesBuffer b = this.buffers[series];
+        synchronized (b) {
+            b.clear();
+        }
+    }
+
+    /**
+     * Makes the changes since the last call visible to readers and, if there
+     * are any, sends a {@link DatasetChangeEvent} to all registered
+     * listeners.  If the only changes are new items at the end of the series
+     * and new series, the event is a {@link DatasetAppendEvent}.  This method
+     * should be called on the thread that reads the dataset, usually the
+     * event dispatch thread.
+     *
+     * @return A boolean indicating whether or not there were any changes.
+     */
+    public boolean publish() {
+        SeriesBuffer[] b = this.buffers;
+        SeriesSnapshot[] old = this.published;
+        SeriesSnapshot[] s = new SeriesSnapshot[b.length];
+        boolean changed = b.length != old.length;
+        boolean append = true;
+        for (int i = 0; i < b.length; i++) {
+            synchronized (b[i]) {
+                s[i] = b[i].snapshot();
+                if (i < old.length && s[i].version != old[i].version) {
+                    changed = true;
+                    append = append && s[i].first == old[i].first
+                            && s[i].epoch == old[i].epoch;
+                }
+            }
+        }
+        if (!changed) {
+            return false;
+        }
+        this.published = s;
+        if (getNotify()) {
+            notifyListeners(append ? new DatasetAppendEvent(this, this)
+                    : new DatasetChangeEvent(this, this));
+        }
+        else {
+            updateModificationStamp();
+        }
+        return true;
+    }
+
+    /**
+     * Returns a dataset containing the series as of the last call to
+     * {@link #publish()}.  The returned dataset shares its data with this
+     * dataset and is not changed by later calls to <code>publish()</code>.
+     *
+     * @return An {@link XYDataset} (never <code>null</code>).
+     */
+    @Override
+    public Dataset getSnapshot() {
+        return new Snapshot(this.published);
+    }
+
+    /**
+     * Returns the number of published series.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.published.length;
+    }
+
+    /**
+     * Returns the key for a published series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The key for the series.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return this.published[series].key;
+    }
+
+    /**
+     * Returns {@link DomainOrder#ASCENDING} if the x-values in every
+     * published series are in ascending order, and {@link DomainOrder#NONE}
+     * otherwise.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return domainOrder(this.published);
+    }
+
+    /**
+     * Returns the domain order for a set of series.
+     *
+     * @param series  the series.
+     *
+     * @return The domain order.
+     */
+    static DomainOrder domainOrder(SeriesSnapshot[] series) {
+        for (int i = 0; i < series.length; i++) {
+            if (!series[i].ascending) {
+                return DomainOrder.NONE;
+            }
+        }
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the number of published items in a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.published[series].count;
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return this.published[series].get(true, item);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.published[series].get(false, item);
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value.
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return new Double(getYValue(series, item));
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.  Two datasets
+     * are equal if they have the same maximum item count and the same
+     * published series (items that are not yet published are ignored).
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof ConcurrentXYDataset)) {
+            return false;
+        }
+        ConcurrentXYDataset that = (ConcurrentXYDataset) obj;
+        if (this.maximumItemCount != that.maximumItemCount) {
+            return false;
+        }
+        SeriesSnapshot[] s1 = this.published;
+        SeriesSnapshot[] s2 = that.published;
+        if (s1.length != s2.length) {
+            return false;
+        }
+        for (int i = 0; i < s1.length; i++) {
+            if (!s1[i].equals(s2[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code for this dataset.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        SeriesSnapshot[] s = this.published;
+        int result = this.maximumItemCount;
+        for (int i = 0; i < s.length; i++) {
+            result = 31 * result + s[i].hashCode();
+        }
+        return result;
+    }
+
+    /**
+     * Returns an independent copy of this dataset, including the items that
+     * are not yet published.  The published data is shared, since it is
+     * never modified.
+     *
+     * @return A clone.
+     *
+     * @throws CloneNotSupportedException if there is a problem cloning.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        ConcurrentXYDataset clone = (ConcurrentXYDataset) super.clone();
+        SeriesBuffer[] b;
+        synchronized (this) {
+            b = this.buffers;
+        }
+        SeriesBuffer[] copies = new SeriesBuffer[b.length];
+        for (int i = 0; i < b.length; i++) {
+            synchronized (b[i]) {
+                copies[i] = b[i].copy();
+            }
+        }
+        clone.buffers = copies;
+        return clone;
+    }
+
+    /**
+     * The items written to a series.  All access must be synchronized on the
+     * buffer.  The arrays of chunks are replaced rather than modified when
+     * chunks are added or dropped, and the values in a chunk are never
+     * changed once written, so a {@link SeriesSnapshot} can share them.
+     */
+    private static final class SeriesBuffer implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 3452721396674542825L;
+
+        /** The series key. */
+        private final Comparable key;
+
+        /** The chunks of x-values. */
+        private double[][] xChunks;
+
+        /** The chunks of y-values. */
+        private double[][] yChunks;
+
+        /** The absolute chunk number of the first chunk in the arrays. */
+        private long chunkBase;
+
+        /** The absolute index of the first item. */
+        private long first;
+
+        /** The absolute index after the last item. */
+        private long end;
+
+        /** The last x-value appended. */
+        private double lastX;
+
+        /** Are the x-values in ascending order? */
+        private boolean ascending;
+
+        /** Incremented for every change. */
+        private long version;
+
+        /** Incremented when the items are cleared. */
+        private long epoch;
+
+        /**
+         * Creates an empty buffer.
+         *
+         * @param key  the series key.
+         */
+        SeriesBuffer(Comparable key) {
+            this.key = key;
+            this.xChunks = new double[0][];
+            this.yChunks = new double[0][];
+            this.lastX = Double.NEGATIVE_INFINITY;
+            this.ascending = true;
+        }
+
+        /**
+         * Appends an item.
+         *
+         * @param x  the x-value.
+         * @param y  the y-value.
+         */
+        void append(double x, double y) {
+            int c = (int) ((this.end >>> CHUNK_SHIFT) - this.chunkBase);
+            if (c == this.xChunks.length) {
+                this.xChunks = Arrays.copyOf(this.xChunks, c + 1);
+                this.yChunks = Arrays.copyOf(this.yChunks, c + 1);
+                this.xChunks[c] = new double[CHUNK_SIZE];
+                this.yChunks[c] = new double[CHUNK_SIZE];
+            }
+            int p = (int) (this.end & CHUNK_MASK);
+            this.xChunks[c][p] = x;
+            this.yChunks[c][p] = y;
+            this.end++;
+            if (x < this.lastX || Double.isNaN(x)) {
+                this.ascending = false;
+            }
+            this.lastX = x;
+            this.version++;
+        }
+
+        /**
+         * Drops the oldest items if there are more than the maximum.
+         *
+         * @param maximum  the maximum item count.
+         */
+        void trim(int maximum) {
+            if (this.end - this.first <= maximum) {
+                return;
+            }
+            this.first = this.end - maximum;
+            int drop = (int) ((this.first >>> CHUNK_SHIFT) - this.chunkBase);
+            if (drop > 0) {
+                this.xChunks = Arrays.copyOfRange(this.xChunks, drop,
+                        this.xChunks.length);
+                this.yChunks = Arrays.copyOfRange(this.yChunks, drop,
+                        this.yChunks.length);
+                this.chunkBase += drop;
+            }
+            this.version++;
+        }
+
+        /**
+         * Removes all items.
+         */
+        void clear() {
+            this.xChunks = new double[0][];
+            this.yChunks = new double[0][];
+            this.first = this.end;
+            this.chunkBase = this.end >>> CHUNK_SHIFT;
+            this.lastX = Double.NEGATIVE_INFINITY;
+            this.ascending = true;
+            this.version++;
+            this.epoch++;
+        }
+
+        /**
+         * Returns a copy of this buffer.  The chunks are copied too, since
+         * the last one is still being written to.
+         *
+         * @return The copy.
+         */
+        SeriesBuffer copy() {
+            SeriesBuffer copy = new SeriesBuffer(this.key);
+            copy.xChunks = new double[this.xChunks.length][];
+            copy.yChunks = new double[this.yChunks.length][];
+            for (int i = 0; i < this.xChunks.length; i++) {
+                copy.xChunks[i] = this.xChunks[i].clone();
+                copy.yChunks[i] = this.yChunks[i].clone();
+            }
+            copy.chunkBase = this.chunkBase;
+            copy.first = this.first;
+            copy.end = this.end;
+            copy.lastX = this.lastX;
+            copy.ascending = this.ascending;
+            copy.version = this.version;
+            copy.epoch = this.epoch;
+            return copy;
+        }
+
+        /**
+         * Returns an immutable snapshot of the items.
+         *
+         * @return The snapshot.
+         */
+        SeriesSnapshot snapshot() {
+            return new SeriesSnapshot(this.key, this.xChunks, this.yChunks,
+                    this.chunkBase, this.first,
+                    (int) (this.end - this.first), this.ascending,
+                    this.version, this.epoch);
+        }
+
+    }
+
+    /**
+     * An immutable view of the items in a series at the time it was
+     * published.
+     */
+    private static final class SeriesSnapshot implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 8416150188603185166L;
+
+        /** The series key. */
+        final Comparable key;
+
+        /** The chunks of x-values (shared with the buffer). */
+        private final double[][] xChunks;
+
+        /** The chunks of y-values (shared with the buffer). */
+        private final double[][] yChunks;
+
+        /** The absolute chunk number of the first chunk in the arrays. */
+        private final long chunkBase;
+
+        /** The absolute index of the first item. */
+        final long first;
+
+        /** The number of items. */
+        final int count;
+
+        /** Are the x-values in ascending order? */
+        final boolean ascending;
+
+        /** The version of the buffer. */
+        final long version;
+
+        /** The clear count of the buffer. */
+        final long epoch;
+
+        /**
+         * Creates a snapshot.
+         *
+         * @param key  the series key.
+         * @param xChunks  the x-value chunks.
+         * @param yChunks  the y-value chunks.
+         * @param chunkBase  the absolute chunk number of the first chunk.
+         * @param first  the absolute index of the first item.
+         * @param count  the item count.
+         * @param ascending  are the x-values in ascending order?
+         * @param version  the buffer version.
+         * @param epoch  the buffer clear count.
+         */
+        SeriesSnapshot(Comparable key, double[][] xChunks,
+                double[][] yChunks, long chunkBase, long first, int count,
+                boolean ascending, long version, long epoch) {
+            this.key = key;
+            this.xChunks = xChunks;
+            this.yChunks = yChunks;
+            this.chunkBase = chunkBase;
+            this.first = first;
+            this.count = count;
+            this.ascending = ascending;
+            this.version = version;
+            this.epoch = epoch;
+        }
+
+        /**
+         * Returns an x- or y-value.
+         *
+         * @param x  return the x-value?
+         * @param item  the item index.
+         *
+         * @return The value.
+         */
+        double get(boolean x, int item) {
+            if (item < 0 || item >= this.count) {
+                throw new IndexOutOfBoundsException("Index " + item
+                        + " out of bounds for " + this.count + " items.");
+            }
+            long p = this.first + item;
+            int c = (int) ((p >>> CHUNK_SHIFT) - this.chunkBase);
+            double[][] chunks = x ? this.xChunks : this.yChunks;
+            return chunks[c][(int) (p & CHUNK_MASK)];
+        }
+
+        /**
+         * Tests this snapshot for equality with an arbitrary object.  The
+         * key and the items are compared.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof SeriesSnapshot)) {
+                return false;
+            }
+            SeriesSnapshot that = (SeriesSnapshot) obj;
+            if (!this.key.equals(that.key) || this.count != that.count) {
+                return false;
+            }
+            for (int i = 0; i < this.count; i++) {
+                if (Double.doubleToLongBits(get(true, i))
+                        != Double.doubleToLongBits(that.get(true, i))) {
+                    return false;
+                }
+                if (Double.doubleToLongBits(get(false, i))
+                        != Double.doubleToLongBits(that.get(false, i))) {
+                    return false;
+                }
+            }
+            return true;
+        }
+
+        /**
+         * Returns a hash code for this snapshot.
+         *
+         * @return A hash code.
+         */
+        @Override
+        public int hashCode() {
+            int result = this.key.hashCode();
+            result = 31 * result + this.count;
+            if (this.count > 0) {
+                long bits = Double.doubleToLongBits(get(true,
+                        this.count - 1));
+                result = 31 * result + (int) (bits ^ (bits >>> 32));
+            }
+            return result;
+        }
+
+    }
+
+    /**
+     * The dataset returned by {@link ConcurrentXYDataset#getSnapshot()}.
+     */
+    private static final class Snapshot extends AbstractXYDataset
+            implements XYDataset {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 1996506145929910132L;
+
+        /** The series. */
+        private final SeriesSnapshot[] series;
+
+        /**
+         * Creates a new snapshot.
+         *
+         * @param series  the series.
+         */
+        Snapshot(SeriesSnapshot[] series) {
+            this.series = series;
+        }
+
+        /**
+         * Returns the number of series.
+         *
+         * @return The series count.
+         */
+        @Override
+        public int getSeriesCount() {
+            return this.series.length;
+        }
+
+        /**
+         * Returns the key for a series.
+         *
+         * @param series  the series index.
+         *
+         * @return The key for the series.
+         */
+        @Override
+        public Comparable getSeriesKey(int series) {
+            return this.series[series].key;
+        }
+
+        /**
+         * Returns the domain order.
+         *
+         * @return The domain order.
+         */
+        @Override
+        public DomainOrder getDomainOrder() {
+            return domainOrder(this.series);
+        }
+
+        /**
+         * Returns the number of items in a series.
+         *
+         * @param series  the series index.
+         *
+         * @return The item count.
+         */
+        @Override
+        public int getItemCount(int series) {
+            return this.series[series].count;
+        }
+
+        /**
+         * Returns the x-value for an item within a series.
+         *
+         * @param series  the series index.
+         * @param item  the item index.
+         *
+         * @return The x-value.
+         */
+        @Override
+        public double getXValue(int series, int item) {
+            return this.series[series].get(true, item);
+        }
+
+        /**
+         * Returns the y-value for an item within a series.
+         *
+         * @param series  the series index.
+         * @param item  the item index.
+         *
+         * @return The y-value.
+         */
+        @Override
+        public double getYValue(int series, int item) {
+            return this.series[series].get(false, item);
+        }
+
+        /**
+         * Returns the x-value for an item within a series.
+         *
+         * @param series  the series index.
+         * @param item  the item index.
+         *
+         * @return The x-value.
+         */
+        @Override
+        public Number getX(int series, int item) {
+            return new Double(getXValue(series, item));
+        }
+
+        /**
+         * Returns the y-value for an item within a series.
+         *
+         * @param series  the series index.
+         * @param item  the item index.
+         *
+         * @return The y-value.
+         */
+        @Override
+        public Number getY(int series, int item) {
+            return new Double(getYValue(series, item));
+        }
+
+    }
+
+}
@@ -58,6 +58,8 @@
  * 22-Apr-2008 : Implemented PublicCloneable (DG);
  * 10-Jun-2009 : Simplified getX() and getY() (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 17-Oct-2026 : Added getModificationStamp() override;
+ * 17-Oct-2026 : Use ModificationStamps to combine the series stamps;
  * 
  */
 
@@ -73,6 +75,7 @@ import org.jfree.data.DomainInfo;
 import org.jfree.data.Range;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.data.general.DatasetUtilities;
+import org.jfree.data.general.ModificationStamps;
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.util.ObjectUtilities;
 import org.jfree.util.PublicCloneable;
@@ -215,6 +218,21 @@ public class DefaultTableXYDataset extends AbstractIntervalXYDataset
         return this.data.size();
     }
 
+    /**
+     * Returns the modification stamp for the dataset.  This is the latest of
+     * the stamps for the collection and its series, so it includes changes
+     * made to a series while its notify flag is <code>false</code>.
+     *
+     * @return The modification stamp.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public long getModificationStamp() {
+        return ModificationStamps.latest(super.getModificationStamp(),
+                this.data);
+    }
+
     /**
      * Returns the number of x values in the dataset.
      *
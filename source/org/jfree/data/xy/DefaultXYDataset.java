@@ -38,6 +38,7 @@
  * 02-Nov-2006 : Fixed a problem with adding a new series with the same key
  *               as an existing series (see bug 1589392) (DG);
  * 25-Jan-2007 : Implemented PublicCloneable (DG);
+ * 17-Oct-2026 : Send a DatasetAppendEvent when a new series is added;
  *
  */
 
@@ -48,6 +49,7 @@ import java.util.Arrays;
 import java.util.List;
 
 import org.jfree.data.DomainOrder;
+import org.jfree.data.general.DatasetAppendEvent;
 import org.jfree.data.general.DatasetChangeEvent;
 import org.jfree.util.PublicCloneable;
 
@@ -249,7 +251,8 @@ public class DefaultXYDataset extends AbstractXYDataset
     /**
      * Adds a series or if a series with the same key already exists replaces
      * the data for that series, then sends a {@link DatasetChangeEvent} to
-     * all registered listeners.
+     * all registered listeners.  When a new series is added, the event is a
+     * {@link DatasetAppendEvent}.
      *
      * @param seriesKey  the series key (<code>null</code> not permitted).
      * @param data  the data (must be an array with length 2, containing two
@@ -276,12 +279,13 @@ public class DefaultXYDataset extends AbstractXYDataset
         if (seriesIndex == -1) {  // add a new series
             this.seriesKeys.add(seriesKey);
             this.seriesList.add(data);
+            notifyListeners(new DatasetAppendEvent(this, this));
         }
         else {  // replace an existing series
             this.seriesList.remove(seriesIndex);
             this.seriesList.add(seriesIndex, data);
+            notifyListeners(new DatasetChangeEvent(this, this));
         }
-        notifyListeners(new DatasetChangeEvent(this, this));
     }
 
     /**
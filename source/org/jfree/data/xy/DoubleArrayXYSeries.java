@@ -0,0 +1,1208 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * DoubleArrayXYSeries.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesException;
+
+/**
+ * An {@link XYSeries} that stores its x and y values in growable
+ * <code>double[]</code> arrays rather than as a list of {@link XYDataItem}
+ * objects.  This uses considerably less memory for series containing a large
+ * number of items, and avoids creating <code>Number</code> objects when the
+ * series is accessed via {@link #getXValue(int)} and {@link #getYValue(int)}
+ * (which is what {@link XYSeriesCollection} does for most renderers).
+ * <p>
+ * The <code>autoSort</code>, <code>allowDuplicateXValues</code> and
+ * <code>maximumItemCount</code> attributes behave as they do for the
+ * superclass.  A <code>null</code> y-value is stored as
+ * <code>Double.NaN</code>, so {@link #getY(int)} returns <code>null</code>
+ * for both.
+ *
+ * @since 1.0.20
+ */
+public class DoubleArrayXYSeries extends XYSeries {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 3816428510735624093L;
+
+    /** The initial capacity of the value arrays. */
+    private static final int INITIAL_CAPACITY = 16;
+
+    /** Storage for the x-values. */
+    private double[] xValues;
+
+    /** Storage for the y-values. */
+    private double[] yValues;
+
+    /**
+     * The index in the value arrays of the first item in the series (items
+     * removed from the start of the series only advance this offset, the
+     * arrays are compacted lazily when they need to grow).
+     */
+    private int first;
+
+    /** The number of items in the series. */
+    private int itemCount;
+
+    /** The maximum number of items for the series. */
+    private int maximumItemCount = Integer.MAX_VALUE;
+
+    /** The lowest x-value in the series, excluding Double.NaN values. */
+    private double minX;
+
+    /** The highest x-value in the series, excluding Double.NaN values. */
+    private double maxX;
+
+    /** The lowest y-value in the series, excluding Double.NaN values. */
+    private double minY;
+
+    /** The highest y-value in the series, excluding Double.NaN values. */
+    private double maxY;
+
+    /**
+     * Creates a new empty series.  By default, items added to the series will
+     * be sorted into ascending order by x-value, and duplicate x-values will
+     * be allowed (these defaults can be modified with another constructor).
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     */
+    public DoubleArrayXYSeries(Comparable key) {
+        this(key, true, true);
+    }
+
+    /**
+     * Constructs a new empty series, with the auto-sort flag set as requested,
+     * and duplicate values allowed.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     */
+    public DoubleArrayXYSeries(Comparable key, boolean autoSort) {
+        this(key, autoSort, true);
+    }
+
+    /**
+     * Constructs a new series that contains no data.
+     *
+     * @param key  the series key (<code>null</code> not permitted).
+     * @param autoSort  a flag that controls whether or not the items in the
+     *                  series are sorted.
+     * @param allowDuplicateXValues  a flag that controls whether duplicate
+     *                               x-values are allowed.
+     */
+    public DoubleArrayXYSeries(Comparable key, boolean autoSort,
+            boolean allowDuplicateXValues) {
+        super(key, autoSort, allowDuplicateXValues);
+        this.xValues = new double[INITIAL_CAPACITY];
+        this.yValues = new double[INITIAL_CAPACITY];
+        this.first = 0;
+        this.itemCount = 0;
+        this.minX = Double.NaN;
+        this.maxX = Double.NaN;
+        this.minY = Double.NaN;
+        this.maxY = Double.NaN;
+    }
+
+    /**
+     * Returns the smallest x-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no smallest x-value
+     * (for example, when the series is empty).
+     *
+     * @return The smallest x-value.
+     */
+    @Override
+    public double getMinX() {
+        return this.minX;
+    }
+
+    /**
+     * Returns the largest x-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no largest x-value
+     * (for example, when the series is empty).
+     *
+     * @return The largest x-value.
+     */
+    @Override
+    public double getMaxX() {
+        return this.maxX;
+    }
+
+    /**
+     * Returns the smallest y-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no smallest y-value
+     * (for example, when the series is empty).
+     *
+     * @return The smallest y-value.
+     */
+    @Override
+    public double getMinY() {
+        return this.minY;
+    }
+
+    /**
+     * Returns the largest y-value in the series, ignoring any Double.NaN
+     * values.  This method returns Double.NaN if there is no largest y-value
+     * (for example, when the series is empty).
+     *
+     * @return The largest y-value.
+     */
+    @Override
+    public double getMaxY() {
+        return this.maxY;
+    }
+
+    /**
+     * Returns the number of items in the series.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount() {
+        return this.itemCount;
+    }
+
+    /**
+     * Returns an unmodifiable list view of the data items in the series.  The
+     * {@link XYDataItem} objects are created on demand as the list is
+     * accessed.
+     *
+     * @return The list of data items.
+     */
+    @Override
+    public List getItems() {
+        return Collections.unmodifiableList(new AbstractList() {
+            @Override
+            public Object get(int index) {
+                return getDataItem(index);
+            }
+            @Override
+            public int size() {
+                return DoubleArrayXYSeries.this.itemCount;
+            }
+        });
+    }
+
+    /**
+     * Returns the maximum number of items that will be retained in the series.
+     * The default value is <code>Integer.MAX_VALUE</code>.
+     *
+     * @return The maximum item count.
+     *
+     * @see #setMaximumItemCount(int)
+     */
+    @Override
+    public int getMaximumItemCount() {
+        return this.maximumItemCount;
+    }
+
+    /**
+     * Sets the maximum number of items that will be retained in the series.
+     * If items need to be removed to satisfy the new maximum, the oldest
+     * items are removed and a {@link SeriesChangeEvent} is sent to all
+     * registered listeners.
+     *
+     * @param maximum  the maximum number of items for the series.
+     */
+    @Override
+    public void setMaximumItemCount(int maximum) {
+        this.maximumItemCount = maximum;
+        int remove = this.itemCount - maximum;
+        if (remove > 0) {
+            this.first += remove;
+            this.itemCount -= remove;
+            removeFirstFromYTree(remove);
+            findBoundsByIteration();
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the (x, y) item (<code>null</code> not permitted).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     */
+    @Override
+    public void add(XYDataItem item, boolean notify) {
+        ParamChecks.nullNotPermitted(item, "item");
+        add(item.getXValue(), item.getYValue(), notify);
+    }
+
+    /**
+     * Adds new data to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value (<code>null</code> not permitted).
+     * @param y  the y-value (<code>null</code> permitted).
+     * @param notify  a flag the controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     */
+    @Override
+    public void add(Number x, Number y, boolean notify) {
+        ParamChecks.nullNotPermitted(x, "x");
+        add(x.doubleValue(), y != null ? y.doubleValue() : Double.NaN,
+                notify);
+    }
+
+    /**
+     * Adds a data item to the series and sends a {@link SeriesChangeEvent} to
+     * all registered listeners.
+     *
+     * @param x  the x value.
+     * @param y  the y value.
+     */
+    @Override
+    public void add(double x, double y) {
+        add(x, y, true);
+    }
+
+    /**
+     * Adds a data item to the series and, if requested, sends a
+     * {@link SeriesChangeEvent} to all registered listeners.  Appending an
+     * item with an x-value greater than or equal to the current last x-value
+     * does not require a search, so streaming data into a sorted series is an
+     * amortised constant time operation.
+     *
+     * @param x  the x value.
+     * @param y  the y value (<code>Double.NaN</code> for a missing value).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     *
+     * @throws SeriesException if the x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     */
+    @Override
+    public void add(double x, double y, boolean notify) {
+        int index;
+        if (getAutoSort()) {
+            index = this.itemCount;
+            if (this.itemCount > 0) {
+                double lastX = this.xValues[this.first + this.itemCount - 1];
+                if (x < lastX) {
+                    index = indexOf(x);
+                    if (index < 0) {
+                        index = -index - 1;
+                    }
+                    else if (getAllowDuplicateXValues()) {
+                        // need to make sure we are adding *after* any
+                        // duplicates
+                        while (index < this.itemCount
+                                && this.xValues[this.first + index] == x) {
+                            index++;
+                        }
+                    }
+                    else {
+                        throw new SeriesException("X-value already exists.");
+                    }
+                }
+                else if (x == lastX && !getAllowDuplicateXValues()) {
+                    throw new SeriesException("X-value already exists.");
+                }
+            }
+        }
+        else {
+            if (!getAllowDuplicateXValues() && indexOf(x) >= 0) {
+                throw new SeriesException("X-value already exists.");
+            }
+            index = this.itemCount;
+        }
+        insertAndUpdateYTree(index, x, y);
+        updateBoundsForAddedItem(x, y);
+        if (this.itemCount > this.maximumItemCount) {
+            removeItem(0);
+        }
+        if (notify) {
+            fireSeriesChanged();
+        }
+        else {
+            updateModificationStamp();
+        }
+    }
+
+    /**
+     * Adds a batch of data items to the series and, if requested, sends a
+     * single {@link SeriesChangeEvent} to all registered listeners.  For a
+     * sorted series, the new items are sorted and then merged with the
+     * existing items in one pass (or simply appended if they all follow the
+     * existing items).  If any x-value is rejected, the series is not
+     * modified.
+     *
+     * @param xValues  the x-values (<code>null</code> not permitted).
+     * @param yValues  the y-values (<code>null</code> not permitted, and
+     *     the same length as <code>xValues</code>).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     *
+     * @throws SeriesException if any x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     */
+    @Override
+    public void add(double[] xValues, double[] yValues, boolean notify) {
+        ParamChecks.nullNotPermitted(xValues, "xValues");
+        ParamChecks.nullNotPermitted(yValues, "yValues");
+        if (xValues.length != yValues.length) {
+            throw new IllegalArgumentException(
+                    "The 'xValues' and 'yValues' arrays must have the same "
+                    + "length.");
+        }
+        int count = xValues.length;
+        boolean duplicates = getAllowDuplicateXValues();
+        if (getAutoSort()) {
+            int[] order = sortedOrder(xValues);
+            if (!duplicates) {
+                for (int j = 1; j < count; j++) {
+                    int a = order != null ? order[j - 1] : j - 1;
+                    int b = order != null ? order[j] : j;
+                    if (Double.compare(xValues[a], xValues[b]) == 0) {
+                        throw new SeriesException("X-value already exists.");
+                    }
+                }
+            }
+            int n = this.itemCount;
+            int c = n > 0 && count > 0 ? Double.compare(
+                    this.xValues[this.first + n - 1], xValues[order != null
+                    ? order[0] : 0]) : -1;
+            if (order == null && (c < 0 || (c == 0 && duplicates))) {
+                // the new items all follow the existing items
+                ensureCapacity(n + count);
+                System.arraycopy(xValues, 0, this.xValues, this.first + n,
+                        count);
+                System.arraycopy(yValues, 0, this.yValues, this.first + n,
+                        count);
+                for (int i = 0; i < count; i++) {
+                    appendToYTree(yValues[i]);
+                }
+            }
+            else {
+                merge(xValues, yValues, order, duplicates);
+                clearYTree();
+            }
+        }
+        else {
+            if (!duplicates) {
+                HashSet xs = new HashSet();
+                for (int i = 0; i < this.itemCount; i++) {
+                    xs.add(new Double(this.xValues[this.first + i]));
+                }
+                for (int i = 0; i < count; i++) {
+                    if (!xs.add(new Double(xValues[i]))) {
+                        throw new SeriesException("X-value already exists.");
+                    }
+                }
+            }
+            ensureCapacity(this.itemCount + count);
+            System.arraycopy(xValues, 0, this.xValues,
+                    this.first + this.itemCount, count);
+            System.arraycopy(yValues, 0, this.yValues,
+                    this.first + this.itemCount, count);
+            for (int i = 0; i < count; i++) {
+                appendToYTree(yValues[i]);
+            }
+        }
+        this.itemCount += count;
+        for (int i = 0; i < count; i++) {
+            updateBoundsForAddedItem(xValues[i], yValues[i]);
+        }
+        int excess = this.itemCount - this.maximumItemCount;
+        if (excess > 0) {
+            this.first += excess;
+            this.itemCount -= excess;
+            removeFirstFromYTree(excess);
+            findBoundsByIteration();
+        }
+        if (notify) {
+            fireSeriesChanged();
+        }
+        else {
+            updateModificationStamp();
+        }
+    }
+
+    /**
+     * Merges a batch of items into the (sorted) existing items, replacing the
+     * value arrays.  The item count is not updated.
+     *
+     * @param xValues  the new x-values.
+     * @param yValues  the new y-values.
+     * @param order  the indices of the new items in ascending order of
+     *     x-value (<code>null</code> if the x-values are already in order).
+     * @param duplicates  are duplicate x-values permitted?
+     *
+     * @throws SeriesException if a new x-value matches an existing x-value
+     *     and duplicates are not permitted.
+     */
+    private void merge(double[] xValues, double[] yValues, int[] order,
+            boolean duplicates) {
+        int n = this.itemCount;
+        int count = xValues.length;
+        double[] x = new double[Math.max(n + count, INITIAL_CAPACITY)];
+        double[] y = new double[x.length];
+        int i = 0;
+        int j = 0;
+        int k = 0;
+        while (j < count) {
+            int b = order != null ? order[j] : j;
+            if (i < n) {
+                int c = Double.compare(this.xValues[this.first + i],
+                        xValues[b]);
+                if (c == 0 && !duplicates) {
+                    throw new SeriesException("X-value already exists.");
+                }
+                if (c <= 0) {
+                    // existing items go before new items with the same x
+                    x[k] = this.xValues[this.first + i];
+                    y[k++] = this.yValues[this.first + i++];
+                    continue;
+                }
+            }
+            x[k] = xValues[b];
+            y[k++] = yValues[b];
+            j++;
+        }
+        System.arraycopy(this.xValues, this.first + i, x, k, n - i);
+        System.arraycopy(this.yValues, this.first + i, y, k, n - i);
+        this.xValues = x;
+        this.yValues = y;
+        this.first = 0;
+    }
+
+    /**
+     * Returns the indices of the specified values in ascending order of
+     * value, with equal values kept in their original order.
+     *
+     * @param values  the values.
+     *
+     * @return The indices, or <code>null</code> if the values are already in
+     *     ascending order.
+     */
+    private static int[] sortedOrder(double[] values) {
+        int n = values.length;
+        boolean sorted = true;
+        for (int i = 1; i < n && sorted; i++) {
+            sorted = Double.compare(values[i - 1], values[i]) <= 0;
+        }
+        if (sorted) {
+            return null;
+        }
+        int[] order = new int[n];
+        int[] work = new int[n];
+        for (int i = 0; i < n; i++) {
+            order[i] = i;
+        }
+        // bottom-up merge sort, which is stable
+        for (int width = 1; width < n; width *= 2) {
+            for (int low = 0; low < n; low += 2 * width) {
+                int mid = Math.min(low + width, n);
+                int high = Math.min(low + 2 * width, n);
+                int a = low;
+                int b = mid;
+                int k = low;
+                while (a < mid && b < high) {
+                    if (Double.compare(values[order[b]],
+                            values[order[a]]) < 0) {
+                        work[k++] = order[b++];
+                    }
+                    else {
+                        work[k++] = order[a++];
+                    }
+                }
+                while (a < mid) {
+                    work[k++] = order[a++];
+                }
+                while (b < high) {
+                    work[k++] = order[b++];
+                }
+            }
+            int[] swap = order;
+            order = work;
+            work = swap;
+        }
+        return order;
+    }
+
+    /**
+     * Inserts an item at the specified index, growing or compacting the
+     * value arrays if necessary.  Bounds are not updated.
+     *
+     * @param index  the index (in the range <code>0</code> to
+     *     <code>getItemCount()</code>).
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void insert(int index, double x, double y) {
+        ensureCapacity(this.itemCount + 1);
+        int pos = this.first + index;
+        int tail = this.itemCount - index;
+        if (tail > 0) {
+            System.arraycopy(this.xValues, pos, this.xValues, pos + 1, tail);
+            System.arraycopy(this.yValues, pos, this.yValues, pos + 1, tail);
+        }
+        this.xValues[pos] = x;
+        this.yValues[pos] = y;
+        this.itemCount++;
+    }
+
+    /**
+     * Inserts an item, as {@link #insert(int, double, double)} does, and
+     * updates the tree of y-values used by
+     * {@link #findYRange(org.jfree.data.Range)}.
+     *
+     * @param index  the index (in the range <code>0</code> to
+     *     <code>getItemCount()</code>).
+     * @param x  the x-value.
+     * @param y  the y-value.
+     */
+    private void insertAndUpdateYTree(int index, double x, double y) {
+        if (index == this.itemCount) {
+            appendToYTree(y);
+        }
+        else {
+            clearYTree();
+        }
+        insert(index, x, y);
+    }
+
+    /**
+     * Makes sure that the value arrays have room for the specified number of
+     * items after the current offset, either by discarding the space freed
+     * at the start of the arrays or by allocating larger arrays.
+     *
+     * @param required  the required number of items.
+     */
+    private void ensureCapacity(int required) {
+        int capacity = this.xValues.length;
+        if (this.first + required <= capacity) {
+            return;
+        }
+        if (required <= capacity && this.first >= capacity / 4) {
+            // enough space is wasted at the start, so just shift the data
+            System.arraycopy(this.xValues, this.first, this.xValues, 0,
+                    this.itemCount);
+            System.arraycopy(this.yValues, this.first, this.yValues, 0,
+                    this.itemCount);
+        }
+        else {
+            int newCapacity = Math.max(required, capacity + (capacity >> 1));
+            double[] x = new double[newCapacity];
+            double[] y = new double[newCapacity];
+            System.arraycopy(this.xValues, this.first, x, 0, this.itemCount);
+            System.arraycopy(this.yValues, this.first, y, 0, this.itemCount);
+            this.xValues = x;
+            this.yValues = y;
+        }
+        this.first = 0;
+    }
+
+    /**
+     * Removes the item at the specified index and updates the cached bounds,
+     * without sending a change event.
+     *
+     * @param index  the index.
+     *
+     * @return The item removed.
+     */
+    private XYDataItem removeItem(int index) {
+        if (index < 0 || index >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.itemCount);
+        }
+        int pos = this.first + index;
+        double x = this.xValues[pos];
+        double y = this.yValues[pos];
+        if (index == 0) {
+            this.first++;
+            removeFirstFromYTree(1);
+        }
+        else {
+            int tail = this.itemCount - index - 1;
+            System.arraycopy(this.xValues, pos + 1, this.xValues, pos, tail);
+            System.arraycopy(this.yValues, pos + 1, this.yValues, pos, tail);
+            clearYTree();
+        }
+        this.itemCount--;
+        if (this.itemCount == 0) {
+            this.first = 0;
+        }
+        updateBoundsForRemovedItem(x, y);
+        return createItem(x, y);
+    }
+
+    /**
+     * Creates a new data item for the specified values.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value (<code>Double.NaN</code> is mapped to
+     *     <code>null</code>).
+     *
+     * @return A new data item.
+     */
+    private static XYDataItem createItem(double x, double y) {
+        return new XYDataItem(new Double(x),
+                Double.isNaN(y) ? null : new Double(y));
+    }
+
+    /**
+     * Deletes a range of items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param start  the start index (zero-based).
+     * @param end  the end index (zero-based).
+     */
+    @Override
+    public void delete(int start, int end) {
+        if (start < 0 || end >= this.itemCount || start > end + 1) {
+            throw new IndexOutOfBoundsException("Invalid range: " + start
+                    + " to " + end + ", Size: " + this.itemCount);
+        }
+        int count = end - start + 1;
+        if (start == 0) {
+            this.first += count;
+            removeFirstFromYTree(count);
+        }
+        else {
+            clearYTree();
+            int tail = this.itemCount - end - 1;
+            System.arraycopy(this.xValues, this.first + end + 1, this.xValues,
+                    this.first + start, tail);
+            System.arraycopy(this.yValues, this.first + end + 1, this.yValues,
+                    this.first + start, tail);
+        }
+        this.itemCount -= count;
+        if (this.itemCount == 0) {
+            this.first = 0;
+        }
+        findBoundsByIteration();
+        fireSeriesChanged();
+    }
+
+    /**
+     * Removes the item at the specified index and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the index.
+     *
+     * @return The item removed.
+     */
+    @Override
+    public XYDataItem remove(int index) {
+        XYDataItem removed = removeItem(index);
+        fireSeriesChanged();
+        return removed;
+    }
+
+    /**
+     * Removes all data items from the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     */
+    @Override
+    public void clear() {
+        if (this.itemCount > 0) {
+            this.xValues = new double[INITIAL_CAPACITY];
+            this.yValues = new double[INITIAL_CAPACITY];
+            this.first = 0;
+            this.itemCount = 0;
+            clearYTree();
+            this.minX = Double.NaN;
+            this.maxX = Double.NaN;
+            this.minY = Double.NaN;
+            this.maxY = Double.NaN;
+            fireSeriesChanged();
+        }
+    }
+
+    /**
+     * Returns a new data item containing the values at the specified index.
+     *
+     * @param index  the index.
+     *
+     * @return The data item with the specified index.
+     */
+    @Override
+    public XYDataItem getDataItem(int index) {
+        checkIndex(index);
+        int pos = this.first + index;
+        return createItem(this.xValues[pos], this.yValues[pos]);
+    }
+
+    /**
+     * Returns a new data item containing the values at the specified index
+     * (there are no stored data item objects for this series).
+     *
+     * @param index  the index.
+     *
+     * @return The data item with the specified index.
+     */
+    @Override
+    XYDataItem getRawDataItem(int index) {
+        return getDataItem(index);
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value (never <code>null</code>).
+     */
+    @Override
+    public Number getX(int index) {
+        return new Double(getXValue(index));
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (<code>null</code> if the value is missing).
+     */
+    @Override
+    public Number getY(int index) {
+        double y = getYValue(index);
+        return Double.isNaN(y) ? null : new Double(y);
+    }
+
+    /**
+     * Returns the x-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int index) {
+        checkIndex(index);
+        return this.xValues[this.first + index];
+    }
+
+    /**
+     * Returns the y-value at the specified index.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value (<code>Double.NaN</code> if the value is missing).
+     */
+    @Override
+    public double getYValue(int index) {
+        checkIndex(index);
+        return this.yValues[this.first + index];
+    }
+
+    /**
+     * Throws an <code>IndexOutOfBoundsException</code> if the index is not
+     * valid for this series.
+     *
+     * @param index  the index.
+     */
+    private void checkIndex(int index) {
+        if (index < 0 || index >= this.itemCount) {
+            throw new IndexOutOfBoundsException("Index: " + index
+                    + ", Size: " + this.itemCount);
+        }
+    }
+
+    /**
+     * Updates the value of an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param index  the item (zero based index).
+     * @param y  the new value (<code>null</code> permitted).
+     *
+     * @deprecated Renamed {@link #updateByIndex(int, Number)} to avoid
+     *         confusion with the {@link #update(Number, Number)} method.
+     */
+    @Deprecated
+    @Override
+    public void update(int index, Number y) {
+        checkIndex(index);
+        updateValue(this.first + index,
+                y != null ? y.doubleValue() : Double.NaN);
+        fireSeriesChanged();
+    }
+
+    /**
+     * Sets the y-value at the specified array position and updates the
+     * cached y-bounds.
+     *
+     * @param pos  the position in the value arrays.
+     * @param y  the new y-value.
+     */
+    private void updateValue(int pos, double y) {
+        // figure out if we need to iterate through all the y-values
+        boolean iterate = false;
+        double oldY = this.yValues[pos];
+        if (!Double.isNaN(oldY)) {
+            iterate = oldY <= this.minY || oldY >= this.maxY;
+        }
+        this.yValues[pos] = y;
+        clearYTree();
+        if (iterate) {
+            findBoundsByIteration();
+        }
+        else {
+            this.minY = minIgnoreNaN(this.minY, y);
+            this.maxY = maxIgnoreNaN(this.maxY, y);
+        }
+    }
+
+    /**
+     * Adds or updates an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param x  the x-value.
+     * @param y  the y-value.
+     *
+     * @return The item that was overwritten, if any.
+     */
+    @Override
+    public XYDataItem addOrUpdate(double x, double y) {
+        if (getAllowDuplicateXValues()) {
+            add(x, y, true);
+            return null;
+        }
+        XYDataItem overwritten = null;
+        int index = indexOf(x);
+        if (index >= 0) {
+            int pos = this.first + index;
+            overwritten = createItem(this.xValues[pos], this.yValues[pos]);
+            updateValue(pos, y);
+        }
+        else {
+            insertAndUpdateYTree(getAutoSort() ? -index - 1 : this.itemCount,
+                    x, y);
+            updateBoundsForAddedItem(x, y);
+            if (this.itemCount > this.maximumItemCount) {
+                removeItem(0);
+            }
+        }
+        fireSeriesChanged();
+        return overwritten;
+    }
+
+    /**
+     * Adds or updates an item in the series and sends a
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param item  the data item (<code>null</code> not permitted).
+     *
+     * @return A copy of the overwritten data item, or <code>null</code> if no
+     *         item was overwritten.
+     */
+    @Override
+    public XYDataItem addOrUpdate(XYDataItem item) {
+        ParamChecks.nullNotPermitted(item, "item");
+        return addOrUpdate(item.getXValue(), item.getYValue());
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.
+     *
+     * @param x  the x-value (<code>null</code> not permitted).
+     *
+     * @return The index.
+     */
+    @Override
+    public int indexOf(Number x) {
+        ParamChecks.nullNotPermitted(x, "x");
+        return indexOf(x.doubleValue());
+    }
+
+    /**
+     * Returns the index of the item with the specified x-value, or a negative
+     * index if the series does not contain an item with that x-value.  For a
+     * sorted series the result is found by a binary search of the x-values
+     * and, when negative, encodes the insertion point in the same way as
+     * <code>Arrays.binarySearch()</code>.  For an unsorted series, the index
+     * is found by iterating through all items in the series and
+     * <code>-1</code> is returned when there is no match.
+     *
+     * @param x  the x-value.
+     *
+     * @return The index.
+     */
+    public int indexOf(double x) {
+        if (getAutoSort()) {
+            int result = Arrays.binarySearch(this.xValues, this.first,
+                    this.first + this.itemCount, x);
+            return result >= 0 ? result - this.first : result + this.first;
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            if (this.xValues[this.first + i] == x) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns a new array containing the x and y values from this series.
+     *
+     * @return A new array containing the x and y values from this series.
+     */
+    @Override
+    public double[][] toArray() {
+        double[][] result = new double[2][];
+        result[0] = Arrays.copyOfRange(this.xValues, this.first,
+                this.first + this.itemCount);
+        result[1] = Arrays.copyOfRange(this.yValues, this.first,
+                this.first + this.itemCount);
+        return result;
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values.
+     *
+     * @param x  the x-value added.
+     * @param y  the y-value added.
+     */
+    private void updateBoundsForAddedItem(double x, double y) {
+        this.minX = minIgnoreNaN(this.minX, x);
+        this.maxX = maxIgnoreNaN(this.maxX, x);
+        this.minY = minIgnoreNaN(this.minY, y);
+        this.maxY = maxIgnoreNaN(this.maxY, y);
+    }
+
+    /**
+     * Updates the cached values for the minimum and maximum data values on
+     * the basis that the specified item has just been removed.
+     *
+     * @param x  the x-value removed.
+     * @param y  the y-value removed.
+     */
+    private void updateBoundsForRemovedItem(double x, double y) {
+        boolean itemContributesToXBounds = !Double.isNaN(x)
+                && (x <= this.minX || x >= this.maxX);
+        boolean itemContributesToYBounds = !Double.isNaN(y)
+                && (y <= this.minY || y >= this.maxY);
+        if (this.itemCount == 0) {
+            this.minX = Double.NaN;
+            this.maxX = Double.NaN;
+            this.minY = Double.NaN;
+            this.maxY = Double.NaN;
+        }
+        else if (itemContributesToYBounds) {
+            findBoundsByIteration();
+        }
+        else if (itemContributesToXBounds) {
+            if (getAutoSort()) {
+                this.minX = this.xValues[this.first];
+                this.maxX = this.xValues[this.first + this.itemCount - 1];
+            }
+            else {
+                findBoundsByIteration();
+            }
+        }
+    }
+
+    /**
+     * Finds the bounds of the x and y values for the series, by iterating
+     * through all the data items.
+     */
+    private void findBoundsByIteration() {
+        double xmin = Double.NaN;
+        double xmax = Double.NaN;
+        double ymin = Double.NaN;
+        double ymax = Double.NaN;
+        int end = this.first + this.itemCount;
+        for (int i = this.first; i < end; i++) {
+            double x = this.xValues[i];
+            double y = this.yValues[i];
+            xmin = minIgnoreNaN(xmin, x);
+            xmax = maxIgnoreNaN(xmax, x);
+            ymin = minIgnoreNaN(ymin, y);
+            ymax = maxIgnoreNaN(ymax, y);
+        }
+        this.minX = xmin;
+        this.maxX = xmax;
+        this.minY = ymin;
+        this.maxY = ymax;
+    }
+
+    /**
+     * A function to find the minimum of two values, but ignoring any
+     * Double.NaN values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The minimum of the two values.
+     */
+    private static double minIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.min(a, b);
+    }
+
+    /**
+     * A function to find the maximum of two values, but ignoring any
+     * Double.NaN values.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The maximum of the two values.
+     */
+    private static double maxIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.max(a, b);
+    }
+
+    /**
+     * Returns a clone of the series.
+     *
+     * @return A clone of the series.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        DoubleArrayXYSeries clone = (DoubleArrayXYSeries) super.clone();
+        clone.xValues = Arrays.copyOfRange(this.xValues, this.first,
+                this.first + Math.max(this.itemCount, INITIAL_CAPACITY));
+        clone.yValues = Arrays.copyOfRange(this.yValues, this.first,
+                this.first + Math.max(this.itemCount, INITIAL_CAPACITY));
+        clone.first = 0;
+        return clone;
+    }
+
+    /**
+     * Creates a new series by copying a subset of the data in this series.
+     *
+     * @param start  the index of the first item to copy.
+     * @param end  the index of the last item to copy.
+     *
+     * @return A series containing a copy of this series from start until end.
+     *
+     * @throws CloneNotSupportedException if there is a cloning problem.
+     */
+    @Override
+    public XYSeries createCopy(int start, int end)
+            throws CloneNotSupportedException {
+        DoubleArrayXYSeries copy = (DoubleArrayXYSeries) clone();
+        if (this.itemCount > 0) {
+            int count = end - start + 1;
+            copy.xValues = Arrays.copyOfRange(this.xValues, this.first + start,
+                    this.first + start + Math.max(count, INITIAL_CAPACITY));
+            copy.yValues = Arrays.copyOfRange(this.yValues, this.first + start,
+                    this.first + start + Math.max(count, INITIAL_CAPACITY));
+            copy.itemCount = count;
+            copy.findBoundsByIteration();
+        }
+        return copy;
+    }
+
+    /**
+     * Tests this series for equality with an arbitrary object.
+     *
+     * @param obj  the object to test against for equality
+     *             (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof DoubleArrayXYSeries)) {
+            return false;
+        }
+        if (!super.equals(obj)) {
+            return false;
+        }
+        DoubleArrayXYSeries that = (DoubleArrayXYSeries) obj;
+        if (this.maximumItemCount != that.maximumItemCount) {
+            return false;
+        }
+        if (this.itemCount != that.itemCount) {
+            return false;
+        }
+        for (int i = 0; i < this.itemCount; i++) {
+            if (Double.doubleToLongBits(this.xValues[this.first + i])
+                    != Double.doubleToLongBits(that.xValues[that.first + i])) {
+                return false;
+            }
+            if (Double.doubleToLongBits(this.yValues[this.first + i])
+                    != Double.doubleToLongBits(that.yValues[that.first + i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns a hash code.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        int result = super.hashCode();
+        result = 29 * result + this.maximumItemCount;
+        return result;
+    }
+
+}
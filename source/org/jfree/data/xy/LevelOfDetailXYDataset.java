@@ -0,0 +1,74 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * LevelOfDetailXYDataset.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.data.xy;
+
+/**
+ * An {@link XYDataset} that can supply a reduced version of itself for
+ * drawing, with a level of detail that matches the resolution of the output.
+ * When a dataset implementing this interface is drawn by an
+ * {@link org.jfree.chart.plot.XYPlot}, the plot asks for a view covering the
+ * visible x-range at the pixel width of the data area and passes that view
+ * to the renderer, so the rendering cost depends on the size of the plot
+ * rather than the number of items in the dataset.
+ *
+ * @see MinMaxPyramidXYDataset
+ *
+ * @since 1.0.20
+ */
+public interface LevelOfDetailXYDataset extends XYDataset {
+
+    /**
+     * Returns a dataset containing the items that should be drawn for the
+     * specified x-range at the specified resolution.  The series in the
+     * returned dataset correspond to the series in this dataset and have the
+     * same keys.  The returned dataset may be this dataset (for example, if
+     * it contains no more items than can be seen at the given resolution).
+     *
+     * @param xLow  the lowest visible x-value.
+     * @param xHigh  the highest visible x-value.
+     * @param pixels  the number of pixels available for the x-range.
+     *
+     * @return A dataset (never <code>null</code>).
+     */
+    public XYDataset getLevelOfDetail(double xLow, double xHigh, int pixels);
+
+}
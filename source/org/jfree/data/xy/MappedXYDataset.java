@@ -0,0 +1,1024 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------
+ * MappedXYDataset.java
+ * --------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.io.RandomAccessFile;
+import java.io.Serializable;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.util.ObjectUtilities;
+
+/**
+ * An {@link IntervalXYDataset} that reads its items directly from binary
+ * files mapped into memory, so that series with hundreds of millions of
+ * items can be charted without loading them onto the Java heap.  Each
+ * series is one file containing a sequence of 16-byte records: the x-value
+ * (a little-endian <code>double</code>, or a little-endian
+ * <code>long</code> such as a millisecond timestamp) followed by the
+ * y-value (a little-endian <code>double</code>).  Any trailing partial
+ * record is ignored.  Files larger than 2GB are mapped in several
+ * segments.
+ * <P>
+ * The x-values in each file must be in ascending order.  This allows the
+ * renderers to find the visible items with a binary search (see
+ * {@link org.jfree.chart.renderer.RendererUtilities}) and the domain
+ * bounds to be read from the first and last records.  For the range
+ * bounds, the minimum and maximum y-value of each block of items is
+ * calculated the first time it is needed and kept, so auto-ranging the
+ * y-axis only reads the items at the ends of the visible x-range after the
+ * first time.  Note that the first call to
+ * {@link #getRangeBounds(boolean)} reads every item.
+ * <P>
+ * The files are mapped when a series is added and must not be modified
+ * while the dataset is in use.  The memory is released when the dataset
+ * is garbage collected.  The x-intervals are a fixed width around the
+ * x-value (see {@link #setIntervalWidth(double)}) and the y-intervals have
+ * zero width.
+ *
+ * @since 1.0.20
+ */
+public class MappedXYDataset extends AbstractIntervalXYDataset
+        implements IntervalXYDataset, DomainInfo, XYDomainInfo, RangeInfo,
+        XYRangeInfo, XYItemFinder, Serializable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = -3590424377284839826L;
+
+    /** The number of bytes in a record. */
+    static final int RECORD_SIZE = 16;
+
+    /** The default number of bits in the byte offset within a segment. */
+    private static final int SEGMENT_SHIFT = 30;
+
+    /** The default number of bits in the item index within a block. */
+    private static final int BLOCK_SHIFT = 16;
+
+    /** The number of bits in the byte offset within a mapped segment. */
+    private final int segmentShift;
+
+    /** The number of bits in the item index within a summary block. */
+    private final int blockShift;
+
+    /** The series. */
+    private List<MappedSeries> series;
+
+    /** The width of the x-interval for each item. */
+    private double intervalWidth;
+
+    /** The position of the x-value within the x-interval. */
+    private double intervalPositionFactor;
+
+    /**
+     * Creates a new dataset with no series.
+     */
+    public MappedXYDataset() {
+        this(SEGMENT_SHIFT, BLOCK_SHIFT);
+    }
+
+    /**
+     * Creates a new dataset with the specified segment and block sizes (this
+     * is used for testing).
+     *
+     * @param segmentShift  the number of bits in the byte offset within a
+     *     mapped segment (in the range 4 to 30).
+     * @param blockShift  the number of bits in the item index within a
+     *     summary block (in the range 0 to 30).
+     */
+    MappedXYDataset(int segmentShift, int blockShift) {
+        if (segmentShift < 4 || segmentShift > 30) {
+            throw new IllegalArgumentException(
+                    "Requires 'segmentShift' in the range 4 to 30.");
+        }
+        if (blockShift < 0 || blockShift > 30) {
+            throw new IllegalArgumentException(
+                    "Requires 'blockShift' in the range 0 to 30.");
+        }
+        this.segmentShift = segmentShift;
+        this.blockShift = blockShift;
+        this.series = new ArrayList<MappedSeries>();
+        this.intervalWidth = 1.0;
+        this.intervalPositionFactor = 0.5;
+    }
+
+    /**
+     * Adds a series backed by the specified file and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param key  the series key (<code>null</code> not permitted, and must
+     *     be different to the keys of the existing series).
+     * @param file  the file (<code>null</code> not permitted).
+     * @param longX  <code>true</code> if the x-values are stored as
+     *     <code>long</code> integers, <code>false</code> if they are stored
+     *     as <code>double</code> values.
+     *
+     * @throws IOException if the file cannot be mapped.
+     */
+    public void addSeries(Comparable key, File file, boolean longX)
+            throws IOException {
+        ParamChecks.nullNotPermitted(key, "key");
+        ParamChecks.nullNotPermitted(file, "file");
+        if (indexOf(key) >= 0) {
+            throw new IllegalArgumentException(
+                    "This dataset already contains a series with the key "
+                    + key);
+        }
+        MappedSeries s = new MappedSeries(key, file, longX,
+                this.segmentShift, this.blockShift);
+        s.map();
+        this.series.add(s);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Removes a series and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     */
+    public void removeSeries(int series) {
+        this.series.remove(series);
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the file for a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The file (never <code>null</code>).
+     */
+    public File getSeriesFile(int series) {
+        return this.series.get(series).file;
+    }
+
+    /**
+     * Returns the width of the x-interval for each item.  The default value
+     * is <code>1.0</code>.
+     *
+     * @return The interval width.
+     *
+     * @see #setIntervalWidth(double)
+     */
+    public double getIntervalWidth() {
+        return this.intervalWidth;
+    }
+
+    /**
+     * Sets the width of the x-interval for each item and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param width  the width (must be zero or positive).
+     *
+     * @see #getIntervalWidth()
+     */
+    public void setIntervalWidth(double width) {
+        if (!(width >= 0.0)) {
+            throw new IllegalArgumentException("Negative 'width' argument.");
+        }
+        this.intervalWidth = width;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the position of the x-value within the x-interval, as a
+     * fraction of the interval width.  The default value is
+     * <code>0.5</code> (the x-value is in the middle of the interval).
+     *
+     * @return The position factor.
+     *
+     * @see #setIntervalPositionFactor(double)
+     */
+    public double getIntervalPositionFactor() {
+        return this.intervalPositionFactor;
+    }
+
+    /**
+     * Sets the position of the x-value within the x-interval and sends a
+     * {@link org.jfree.data.general.DatasetChangeEvent} to all registered
+     * listeners.
+     *
+     * @param factor  the position factor (in the range <code>0.0</code> to
+     *     <code>1.0</code>).
+     *
+     * @see #getIntervalPositionFactor()
+     */
+    public void setIntervalPositionFactor(double factor) {
+        if (factor < 0.0 || factor > 1.0) {
+            throw new IllegalArgumentException(
+                    "Argument 'factor' must be between 0.0 and 1.0.");
+        }
+        this.intervalPositionFactor = factor;
+        fireDatasetChanged();
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.series.size();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The key for the series.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return this.series.get(series).key;
+    }
+
+    /**
+     * Returns {@link DomainOrder#ASCENDING}, since the x-values in each file
+     * are required to be in ascending order.
+     *
+     * @return The domain order.
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return DomainOrder.ASCENDING;
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index.
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.series.get(series).count;
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return this.series.get(series).getX(item);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.series.get(series).getY(item);
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return new Double(getXValue(series, item));
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The y-value.
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return new Double(getYValue(series, item));
+    }
+
+    /**
+     * Returns the starting x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The starting x-value.
+     */
+    @Override
+    public double getStartXValue(int series, int item) {
+        return getXValue(series, item)
+                - this.intervalPositionFactor * this.intervalWidth;
+    }
+
+    /**
+     * Returns the ending x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The ending x-value.
+     */
+    @Override
+    public double getEndXValue(int series, int item) {
+        return getStartXValue(series, item) + this.intervalWidth;
+    }
+
+    /**
+     * Returns the starting y-value for an item within a series (this is the
+     * same as the y-value).
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The starting y-value.
+     */
+    @Override
+    public double getStartYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the ending y-value for an item within a series (this is the
+     * same as the y-value).
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The ending y-value.
+     */
+    @Override
+    public double getEndYValue(int series, int item) {
+        return getYValue(series, item);
+    }
+
+    /**
+     * Returns the starting x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The starting x-value.
+     */
+    @Override
+    public Number getStartX(int series, int item) {
+        return new Double(getStartXValue(series, item));
+    }
+
+    /**
+     * Returns the ending x-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The ending x-value.
+     */
+    @Override
+    public Number getEndX(int series, int item) {
+        return new Double(getEndXValue(series, item));
+    }
+
+    /**
+     * Returns the starting y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The starting y-value.
+     */
+    @Override
+    public Number getStartY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the ending y-value for an item within a series.
+     *
+     * @param series  the series index.
+     * @param item  the item index.
+     *
+     * @return The ending y-value.
+     */
+    @Override
+    public Number getEndY(int series, int item) {
+        return getY(series, item);
+    }
+
+    /**
+     * Returns the index of the first item in a series with an x-value
+     * greater than or equal to <code>x</code>, using a binary search.
+     *
+     * @param series  the series index.
+     * @param x  the x-value.
+     *
+     * @return The item index, or the item count if every x-value is less
+     *     than <code>x</code>.
+     */
+    @Override
+    public int findItem(int series, double x) {
+        return this.series.get(series).findItem(x);
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there are no
+     *     items).
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there are no
+     *     items).
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the x-values in the dataset, which is found from
+     * the first and last item in each series.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The range (<code>null</code> if there are no items).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        Range result = null;
+        for (MappedSeries s : this.series) {
+            result = Range.combine(result, s.getXBounds());
+        }
+        return includeInterval ? expandToInterval(result) : result;
+    }
+
+    /**
+     * Returns the range of the x-values in the specified series.
+     *
+     * @param visibleSeriesKeys  the keys of the visible series
+     *     (<code>null</code> not permitted).
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The range (<code>null</code> if there are no items).
+     */
+    @Override
+    public Range getDomainBounds(List visibleSeriesKeys,
+            boolean includeInterval) {
+        ParamChecks.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        Range result = null;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            int index = indexOf((Comparable) iterator.next());
+            if (index >= 0) {
+                result = Range.combine(result,
+                        this.series.get(index).getXBounds());
+            }
+        }
+        return includeInterval ? expandToInterval(result) : result;
+    }
+
+    /**
+     * Expands an x-range to include the x-intervals of the items at each
+     * end.
+     *
+     * @param range  the range (<code>null</code> permitted).
+     *
+     * @return The expanded range (<code>null</code> if <code>range</code> is
+     *     <code>null</code>).
+     */
+    private Range expandToInterval(Range range) {
+        if (range == null) {
+            return null;
+        }
+        double lower = range.getLowerBound()
+                - this.intervalPositionFactor * this.intervalWidth;
+        return new Range(lower, lower + range.getLength()
+                + this.intervalWidth);
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  ignored, since the y-intervals have zero
+     *     width.
+     *
+     * @return The minimum value (<code>Double.NaN</code> if there are no
+     *     items).
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  ignored, since the y-intervals have zero
+     *     width.
+     *
+     * @return The maximum value (<code>Double.NaN</code> if there are no
+     *     items).
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the y-values in the dataset.
+     *
+     * @param includeInterval  ignored, since the y-intervals have zero
+     *     width.
+     *
+     * @return The range (<code>null</code> if there are no items).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        Range result = null;
+        for (MappedSeries s : this.series) {
+            result = Range.combine(result, s.findYRange(0, s.count - 1));
+        }
+        return result;
+    }
+
+    /**
+     * Returns the range of the y-values for the items in the specified
+     * series that have x-values within <code>xRange</code>.
+     *
+     * @param visibleSeriesKeys  the keys of the visible series
+     *     (<code>null</code> not permitted).
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     * @param includeInterval  ignored, since the y-intervals have zero
+     *     width.
+     *
+     * @return The range (<code>null</code> if there are no items).
+     */
+    @Override
+    public Range getRangeBounds(List visibleSeriesKeys, Range xRange,
+            boolean includeInterval) {
+        ParamChecks.nullNotPermitted(visibleSeriesKeys, "visibleSeriesKeys");
+        ParamChecks.nullNotPermitted(xRange, "xRange");
+        Range result = null;
+        Iterator iterator = visibleSeriesKeys.iterator();
+        while (iterator.hasNext()) {
+            int index = indexOf((Comparable) iterator.next());
+            if (index >= 0) {
+                MappedSeries s = this.series.get(index);
+                int start = s.findItem(xRange.getLowerBound());
+                int end = s.findItem(Math.nextUp(xRange.getUpperBound())) - 1;
+                result = Range.combine(result, s.findYRange(start, end));
+            }
+        }
+        return result;
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.  Two
+     * datasets are equal if they map the same files with the same settings.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof MappedXYDataset)) {
+            return false;
+        }
+        MappedXYDataset that = (MappedXYDataset) obj;
+        if (this.intervalWidth != that.intervalWidth) {
+            return false;
+        }
+        if (this.intervalPositionFactor != that.intervalPositionFactor) {
+            return false;
+        }
+        return this.series.equals(that.series);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return this.series.hashCode();
+    }
+
+    /**
+     * A series backed by a mapped file.  The mapped buffers are only read
+     * with absolute methods, so they can be shared by any number of threads.
+     */
+    private static final class MappedSeries implements Serializable {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 969148576483791587L;
+
+        /** The series key. */
+        final Comparable key;
+
+        /** The file. */
+        final File file;
+
+        /** Are the x-values stored as long integers? */
+        private final boolean longX;
+
+        /** The number of bits in the byte offset within a segment. */
+        private final int segmentShift;
+
+        /** The number of bits in the item index within a block. */
+        private final int blockShift;
+
+        /** The mapped segments of the file. */
+        private transient ByteBuffer[] segments;
+
+        /** The number of items. */
+        transient int count;
+
+        /** The first x-value in each block (created when needed). */
+        private transient double[] blockFirstX;
+
+        /** The minimum y-value in each block. */
+        private transient double[] blockMinY;
+
+        /** The maximum y-value in each block. */
+        private transient double[] blockMaxY;
+
+        /** Flags for the blocks with a known minimum and maximum. */
+        private transient boolean[] summarised;
+
+        /**
+         * Creates a series (call {@link #map()} before using it).
+         *
+         * @param key  the key.
+         * @param file  the file.
+         * @param longX  are the x-values stored as long integers?
+         * @param segmentShift  the segment shift.
+         * @param blockShift  the block shift.
+         */
+        MappedSeries(Comparable key, File file, boolean longX,
+                int segmentShift, int blockShift) {
+            this.key = key;
+            this.file = file;
+            this.longX = longX;
+            this.segmentShift = segmentShift;
+            this.blockShift = blockShift;
+        }
+
+        /**
+         * Maps the file into memory.
+         *
+         * @throws IOException if the file cannot be mapped.
+         */
+        void map() throws IOException {
+            RandomAccessFile raf = new RandomAccessFile(this.file, "r");
+            try {
+                FileChannel channel = raf.getChannel();
+                long items = channel.size() / RECORD_SIZE;
+                if (items > Integer.MAX_VALUE) {
+                    throw new IOException("The file " + this.file
+                            + " contains more than " + Integer.MAX_VALUE
+                            + " records.");
+                }
+                long bytes = items * RECORD_SIZE;
+                long segmentSize = 1L << this.segmentShift;
+                int n = (int) ((bytes + segmentSize - 1) >>> this.segmentShift);
+                ByteBuffer[] s = new ByteBuffer[n];
+                for (int i = 0; i < n; i++) {
+                    long position = (long) i << this.segmentShift;
+                    long size = Math.min(segmentSize, bytes - position);
+                    s[i] = channel.map(FileChannel.MapMode.READ_ONLY,
+                            position, size).order(ByteOrder.LITTLE_ENDIAN);
+                }
+                this.segments = s;
+                this.count = (int) items;
+            }
+            finally {
+                raf.close();
+            }
+            int blocks = (int) (((long) this.count + (1 << this.blockShift)
+                    - 1) >>> this.blockShift);
+            this.blockMinY = new double[blocks];
+            this.blockMaxY = new double[blocks];
+            this.summarised = new boolean[blocks];
+        }
+
+        /**
+         * Returns an x-value.
+         *
+         * @param item  the item index.
+         *
+         * @return The x-value.
+         */
+        double getX(int item) {
+            checkIndex(item);
+            long position = (long) item * RECORD_SIZE;
+            ByteBuffer b = this.segments[(int) (position
+                    >>> this.segmentShift)];
+            int offset = (int) (position & ((1L << this.segmentShift) - 1));
+            return this.longX ? b.getLong(offset) : b.getDouble(offset);
+        }
+
+        /**
+         * Returns a y-value.
+         *
+         * @param item  the item index.
+         *
+         * @return The y-value.
+         */
+        double getY(int item) {
+            checkIndex(item);
+            long position = (long) item * RECORD_SIZE;
+            ByteBuffer b = this.segments[(int) (position
+                    >>> this.segmentShift)];
+            int offset = (int) (position & ((1L << this.segmentShift) - 1));
+            return b.getDouble(offset + 8);
+        }
+
+        /**
+         * Checks an item index.
+         *
+         * @param item  the item index.
+         */
+        private void checkIndex(int item) {
+            if (item < 0 || item >= this.count) {
+                throw new IndexOutOfBoundsException("Index " + item
+                        + " out of bounds for " + this.count + " items.");
+            }
+        }
+
+        /**
+         * Returns the range of the x-values.
+         *
+         * @return The range (<code>null</code> if there are no items).
+         */
+        Range getXBounds() {
+            if (this.count == 0) {
+                return null;
+            }
+            return new Range(getX(0), getX(this.count - 1));
+        }
+
+        /**
+         * Returns the index of the first item with an x-value greater than
+         * or equal to <code>x</code>.  The block containing the item is
+         * found from the first x-value of each block, so only the records
+         * in one block are read.
+         *
+         * @param x  the x-value.
+         *
+         * @return The item index (<code>count</code> if there is none).
+         */
+        int findItem(double x) {
+            double[] firstX = getBlockFirstX();
+            int low = 0;
+            int high = firstX.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (firstX[mid] < x) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            if (low == 0) {
+                return 0;
+            }
+            high = (int) Math.min((long) low << this.blockShift, this.count);
+            low = (low - 1) << this.blockShift;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (getX(mid) < x) {
+                    low = mid + 1;
+                }
+                else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+
+        /**
+         * Returns the first x-value in each block, reading them the first
+         * time this method is called.
+         *
+         * @return The x-values.
+         */
+        private synchronized double[] getBlockFirstX() {
+            if (this.blockFirstX == null) {
+                double[] firstX = new double[this.summarised.length];
+                for (int i = 0; i < firstX.length; i++) {
+                    firstX[i] = getX(i << this.blockShift);
+                }
+                this.blockFirstX = firstX;
+            }
+            return this.blockFirstX;
+        }
+
+        /**
+         * Returns the range of the y-values for the items from
+         * <code>start</code> to <code>end</code> (inclusive), ignoring
+         * <code>Double.NaN</code>.  The blocks that lie entirely within the
+         * run are summarised the first time they are needed.
+         *
+         * @param start  the index of the first item.
+         * @param end  the index of the last item.
+         *
+         * @return The range (<code>null</code> if there are no values).
+         */
+        synchronized Range findYRange(int start, int end) {
+            if (start > end) {
+                return null;
+            }
+            double lower = Double.POSITIVE_INFINITY;
+            double upper = Double.NEGATIVE_INFINITY;
+            int b0 = start >>> this.blockShift;
+            int b1 = end >>> this.blockShift;
+            for (int b = b0; b <= b1; b++) {
+                int first = b << this.blockShift;
+                int last = (int) Math.min(((long) b + 1 << this.blockShift)
+                        - 1, this.count - 1);
+                if (first >= start && last <= end) {
+                    if (!this.summarised[b]) {
+                        double[] minMax = scan(first, last);
+                        this.blockMinY[b] = minMax[0];
+                        this.blockMaxY[b] = minMax[1];
+                        this.summarised[b] = true;
+                    }
+                    lower = Math.min(lower, this.blockMinY[b]);
+                    upper = Math.max(upper, this.blockMaxY[b]);
+                }
+                else {
+                    double[] minMax = scan(Math.max(first, start),
+                            Math.min(last, end));
+                    lower = Math.min(lower, minMax[0]);
+                    upper = Math.max(upper, minMax[1]);
+                }
+            }
+            if (lower > upper) {
+                return null;
+            }
+            return new Range(lower, upper);
+        }
+
+        /**
+         * Reads the minimum and maximum y-value for a run of items.
+         *
+         * @param start  the index of the first item.
+         * @param end  the index of the last item.
+         *
+         * @return The minimum and maximum (infinite if there are no values
+         *     other than <code>Double.NaN</code>).
+         */
+        private double[] scan(int start, int end) {
+            double min = Double.POSITIVE_INFINITY;
+            double max = Double.NEGATIVE_INFINITY;
+            for (int i = start; i <= end; i++) {
+                double y = getY(i);
+                if (y < min) {
+                    min = y;
+                }
+                if (y > max) {
+                    max = y;
+                }
+            }
+            return new double[] {min, max};
+        }
+
+        /**
+         * Tests this series for equality with an arbitrary object.
+         *
+         * @param obj  the object (<code>null</code> permitted).
+         *
+         * @return A boolean.
+         */
+        @Override
+        public boolean equals(Object obj) {
+            if (obj == this) {
+                return true;
+            }
+            if (!(obj instanceof MappedSeries)) {
+                return false;
+            }
+            MappedSeries that = (MappedSeries) obj;
+            return this.key.equals(that.key) && this.file.equals(that.file)
+                    && this.longX == that.longX;
+        }
+
+        /**
+         * Returns a hash code for this instance.
+         *
+         * @return A hash code.
+         */
+        @Override
+        public int hashCode() {
+            return ObjectUtilities.hashCode(this.key) * 31
+                    + this.file.hashCode();
+        }
+
+        /**
+         * Provides serialization support.
+         *
+         * @param stream  the input stream.
+         *
+         * @throws IOException  if there is an I/O error.
+         * @throws ClassNotFoundException  if there is a classpath problem.
+         */
+        private void readObject(ObjectInputStream stream)
+                throws IOException, ClassNotFoundException {
+            stream.defaultReadObject();
+            map();
+        }
+
+    }
+
+}
@@ -0,0 +1,986 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ---------------------------
+ * MinMaxPyramidXYDataset.java
+ * ---------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.data.xy;
+
+import java.io.IOException;
+import java.io.ObjectInputStream;
+import java.util.Arrays;
+
+import org.jfree.chart.util.ParamChecks;
+import org.jfree.data.DomainInfo;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.Range;
+import org.jfree.data.RangeInfo;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.DatasetUtilities;
+import org.jfree.util.PublicCloneable;
+
+/**
+ * A wrapper for an {@link XYDataset} with a large number of items that
+ * maintains a multi-resolution index (a "pyramid") of the y-values, so that
+ * an {@link org.jfree.chart.plot.XYPlot} can draw a reduced set of items
+ * that looks the same as the full dataset at the current resolution.
+ * <p>
+ * At level <i>n</i> the items of each series are grouped into buckets of
+ * 2<sup><i>n</i></sup> consecutive items and, for each bucket, the index
+ * records the items with the minimum and maximum y-values.  When a level of
+ * detail is requested, the level whose bucket count best matches the pixel
+ * width is selected and the first, minimum, maximum and last items of each
+ * visible bucket are returned (in their original order), which is enough to
+ * reproduce the outline of a line or scatter plot of the full data.
+ * <p>
+ * Notes:
+ * <ul>
+ * <li>only series with x-values in ascending order are reduced, other series
+ * are passed through in full;</li>
+ * <li>the index is rebuilt (on the next request for a level of detail) after
+ * any change to the underlying dataset;</li>
+ * <li>gaps due to <code>null</code> or <code>Double.NaN</code> y-values can be
+ * hidden in the reduced data;</li>
+ * <li>the item indices seen by renderers (and therefore in the chart
+ * entities) refer to the reduced dataset, not to this dataset.</li>
+ * </ul>
+ *
+ * @since 1.0.20
+ */
+public class MinMaxPyramidXYDataset extends AbstractXYDataset
+        implements LevelOfDetailXYDataset, DomainInfo, RangeInfo,
+        DatasetChangeListener, PublicCloneable {
+
+    /** For serialization. */
+    private static final long serialVersionUID = 6146512845409832215L;
+
+    /**
+     * The lowest level stored in the index.  Buckets at lower levels contain
+     * no more than four items, so they do not reduce the data.
+     */
+    private static final int MIN_LEVEL = 3;
+
+    /** The underlying dataset. */
+    private XYDataset underlying;
+
+    /** The index for each series (<code>null</code> when out of date). */
+    private transient Pyramid[] pyramids;
+
+    /** The most recent level of detail (reused if the request repeats). */
+    private transient XYDataset lastView;
+
+    /** The x-range and pixel count for the most recent level of detail. */
+    private transient double lastLow, lastHigh;
+
+    /** The pixel count for the most recent level of detail. */
+    private transient int lastPixels;
+
+    /**
+     * Creates a new dataset.
+     *
+     * @param underlying  the underlying dataset (<code>null</code> not
+     *     permitted).
+     */
+    public MinMaxPyramidXYDataset(XYDataset underlying) {
+        ParamChecks.nullNotPermitted(underlying, "underlying");
+        this.underlying = underlying;
+        this.underlying.addChangeListener(this);
+    }
+
+    /**
+     * Returns the underlying dataset that was specified via the constructor.
+     *
+     * @return The underlying dataset (never <code>null</code>).
+     */
+    public XYDataset getUnderlyingDataset() {
+        return this.underlying;
+    }
+
+    /**
+     * Returns the number of series in the dataset.
+     *
+     * @return The series count.
+     */
+    @Override
+    public int getSeriesCount() {
+        return this.underlying.getSeriesCount();
+    }
+
+    /**
+     * Returns the key for a series.
+     *
+     * @param series  the series index (in the range <code>0</code> to
+     *     <code>getSeriesCount() - 1</code>).
+     *
+     * @return The series key.
+     */
+    @Override
+    public Comparable getSeriesKey(int series) {
+        return this.underlying.getSeriesKey(series);
+    }
+
+    /**
+     * Returns the order of the domain (or x-) values in the dataset.
+     *
+     * @return The order (never <code>null</code>).
+     */
+    @Override
+    public DomainOrder getDomainOrder() {
+        return this.underlying.getDomainOrder();
+    }
+
+    /**
+     * Returns the number of items in a series.
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The item count.
+     */
+    @Override
+    public int getItemCount(int series) {
+        return this.underlying.getItemCount(series);
+    }
+
+    /**
+     * Returns the x-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The x-value.
+     */
+    @Override
+    public Number getX(int series, int item) {
+        return this.underlying.getX(series, item);
+    }
+
+    /**
+     * Returns the x-value (as a double primitive) for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getXValue(int series, int item) {
+        return this.underlying.getXValue(series, item);
+    }
+
+    /**
+     * Returns the y-value for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The y-value (possibly <code>null</code>).
+     */
+    @Override
+    public Number getY(int series, int item) {
+        return this.underlying.getY(series, item);
+    }
+
+    /**
+     * Returns the y-value (as a double primitive) for an item within a series.
+     *
+     * @param series  the series index (zero-based).
+     * @param item  the item index (zero-based).
+     *
+     * @return The value.
+     */
+    @Override
+    public double getYValue(int series, int item) {
+        return this.underlying.getYValue(series, item);
+    }
+
+    /**
+     * Returns the number of levels in the index for a series (zero if the
+     * series is too small to be reduced, or is not sorted by x-value).
+     *
+     * @param series  the series index (zero-based).
+     *
+     * @return The level count.
+     */
+    public int getLevelCount(int series) {
+        Pyramid p = getPyramids()[series];
+        return p.minIndex.length;
+    }
+
+    /**
+     * Returns a dataset containing the items to draw for the specified
+     * x-range at the specified resolution.
+     *
+     * @param xLow  the lowest visible x-value.
+     * @param xHigh  the highest visible x-value.
+     * @param pixels  the number of pixels available for the x-range.
+     *
+     * @return A dataset (never <code>null</code>).
+     */
+    @Override
+    public XYDataset getLevelOfDetail(double xLow, double xHigh, int pixels) {
+        Pyramid[] p = getPyramids();
+        if (this.lastView != null && this.lastLow == xLow
+                && this.lastHigh == xHigh && this.lastPixels == pixels) {
+            return this.lastView;
+        }
+        int seriesCount = p.length;
+        int[][] indices = new int[seriesCount][];
+        int[] first = new int[seriesCount];
+        int[] count = new int[seriesCount];
+        for (int s = 0; s < seriesCount; s++) {
+            int n = p[s].itemCount;
+            if (n == 0) {
+                continue;
+            }
+            if (!p[s].sorted) {
+                count[s] = n;
+                continue;
+            }
+            int i0 = Math.max(findFirstAtOrAbove(s, xLow) - 1, 0);
+            int i1 = Math.min(findFirstAbove(s, xHigh), n - 1);
+            if (i1 < i0) {
+                continue;
+            }
+            int items = i1 - i0 + 1;
+            int level = 31 - Integer.numberOfLeadingZeros(
+                    Math.max(items / Math.max(pixels, 1), 1));
+            level = Math.min(level, MIN_LEVEL + p[s].minIndex.length - 1);
+            if (level < MIN_LEVEL) {
+                first[s] = i0;
+                count[s] = items;
+            }
+            else {
+                indices[s] = select(p[s], level, i0, i1);
+                count[s] = indices[s].length;
+            }
+        }
+        this.lastView = new View(this.underlying, indices, first, count);
+        this.lastLow = xLow;
+        this.lastHigh = xHigh;
+        this.lastPixels = pixels;
+        return this.lastView;
+    }
+
+    /**
+     * Returns the indices of the items to draw at the specified level for
+     * the buckets spanning items <code>i0</code> to <code>i1</code>.
+     *
+     * @param p  the index for the series.
+     * @param level  the level.
+     * @param i0  the first item.
+     * @param i1  the last item.
+     *
+     * @return The item indices, in ascending order.
+     */
+    private int[] select(Pyramid p, int level, int i0, int i1) {
+        int[] mins = p.minIndex[level - MIN_LEVEL];
+        int[] maxs = p.maxIndex[level - MIN_LEVEL];
+        int b0 = i0 >> level;
+        int b1 = i1 >> level;
+        int[] result = new int[(b1 - b0 + 1) * 4];
+        int[] candidates = new int[4];
+        int c = 0;
+        int last = -1;
+        for (int b = b0; b <= b1; b++) {
+            candidates[0] = b << level;
+            candidates[1] = mins[b];
+            candidates[2] = maxs[b];
+            candidates[3] = Math.min((b + 1) << level, p.itemCount) - 1;
+            Arrays.sort(candidates);
+            for (int k = 0; k < 4; k++) {
+                int item = candidates[k];
+                if (item > last) {
+                    result[c++] = item;
+                    last = item;
+                }
+            }
+        }
+        return Arrays.copyOf(result, c);
+    }
+
+    /**
+     * Returns the index of the first item in a (sorted) series with an
+     * x-value greater than or equal to <code>x</code>.
+     *
+     * @param series  the series index.
+     * @param x  the x-value.
+     *
+     * @return The item index (the item count if there is no such item).
+     */
+    private int findFirstAtOrAbove(int series, double x) {
+        int low = 0;
+        int high = this.underlying.getItemCount(series);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.underlying.getXValue(series, mid) < x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index of the first item in a (sorted) series with an
+     * x-value greater than <code>x</code>.
+     *
+     * @param series  the series index.
+     * @param x  the x-value.
+     *
+     * @return The item index (the item count if there is no such item).
+     */
+    private int findFirstAbove(int series, double x) {
+        int low = 0;
+        int high = this.underlying.getItemCount(series);
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (this.underlying.getXValue(series, mid) <= x) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    /**
+     * Returns the index for each series, rebuilding it if necessary.
+     *
+     * @return The index for each series.
+     */
+    private Pyramid[] getPyramids() {
+        if (this.pyramids == null) {
+            int seriesCount = this.underlying.getSeriesCount();
+            Pyramid[] p = new Pyramid[seriesCount];
+            for (int s = 0; s < seriesCount; s++) {
+                p[s] = build(s);
+            }
+            this.pyramids = p;
+            this.lastView = null;
+        }
+        return this.pyramids;
+    }
+
+    /**
+     * Builds the index for one series.
+     *
+     * @param series  the series index.
+     *
+     * @return The index.
+     */
+    private Pyramid build(int series) {
+        XYDataset d = this.underlying;
+        int n = d.getItemCount(series);
+        Pyramid p = new Pyramid();
+        p.itemCount = n;
+        p.sorted = true;
+        int bucketCount = (n + (1 << MIN_LEVEL) - 1) >> MIN_LEVEL;
+        int[] mins = new int[bucketCount];
+        int[] maxs = new int[bucketCount];
+        double prevX = Double.NEGATIVE_INFINITY;
+        for (int b = 0; b < bucketCount; b++) {
+            int start = b << MIN_LEVEL;
+            int end = Math.min(start + (1 << MIN_LEVEL), n);
+            int mn = start;
+            int mx = start;
+            double ymn = Double.NaN;
+            double ymx = Double.NaN;
+            for (int i = start; i < end; i++) {
+                double x = d.getXValue(series, i);
+                if (!(x >= prevX)) {
+                    p.sorted = false;
+                }
+                prevX = x;
+                p.minX = minIgnoreNaN(p.minX, x);
+                p.maxX = maxIgnoreNaN(p.maxX, x);
+                double y = d.getYValue(series, i);
+                if (!Double.isNaN(y)) {
+                    if (Double.isNaN(ymn) || y < ymn) {
+                        ymn = y;
+                        mn = i;
+                    }
+                    if (Double.isNaN(ymx) || y > ymx) {
+                        ymx = y;
+                        mx = i;
+                    }
+                }
+            }
+            mins[b] = mn;
+            maxs[b] = mx;
+            p.minY = minIgnoreNaN(p.minY, ymn);
+            p.maxY = maxIgnoreNaN(p.maxY, ymx);
+        }
+        if (!p.sorted || bucketCount < 2) {
+            p.minIndex = new int[0][];
+            p.maxIndex = new int[0][];
+            return p;
+        }
+        int levels = 1;
+        while (((bucketCount - 1) >> levels) > 0) {
+            levels++;
+        }
+        p.minIndex = new int[levels][];
+        p.maxIndex = new int[levels][];
+        p.minIndex[0] = mins;
+        p.maxIndex[0] = maxs;
+        for (int level = 1; level < levels; level++) {
+            int[] lowerMins = p.minIndex[level - 1];
+            int[] lowerMaxs = p.maxIndex[level - 1];
+            int count = (lowerMins.length + 1) / 2;
+            mins = new int[count];
+            maxs = new int[count];
+            for (int b = 0; b < count; b++) {
+                int left = 2 * b;
+                int right = Math.min(left + 1, lowerMins.length - 1);
+                mins[b] = pick(series, lowerMins[left], lowerMins[right],
+                        true);
+                maxs[b] = pick(series, lowerMaxs[left], lowerMaxs[right],
+                        false);
+            }
+            p.minIndex[level] = mins;
+            p.maxIndex[level] = maxs;
+        }
+        return p;
+    }
+
+    /**
+     * Returns whichever of two items has the lower (or higher) y-value,
+     * ignoring <code>Double.NaN</code> values.
+     *
+     * @param series  the series index.
+     * @param i1  the first item.
+     * @param i2  the second item.
+     * @param lower  select the lower value?
+     *
+     * @return The item index.
+     */
+    private int pick(int series, int i1, int i2, boolean lower) {
+        if (i1 == i2) {
+            return i1;
+        }
+        double y1 = this.underlying.getYValue(series, i1);
+        double y2 = this.underlying.getYValue(series, i2);
+        if (Double.isNaN(y1)) {
+            return i2;
+        }
+        if (Double.isNaN(y2)) {
+            return i1;
+        }
+        if (lower) {
+            return y2 < y1 ? i2 : i1;
+        }
+        return y2 > y1 ? i2 : i1;
+    }
+
+    /**
+     * Returns the minimum of two values, ignoring <code>Double.NaN</code>.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The minimum.
+     */
+    private static double minIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.min(a, b);
+    }
+
+    /**
+     * Returns the maximum of two values, ignoring <code>Double.NaN</code>.
+     *
+     * @param a  the first value.
+     * @param b  the second value.
+     *
+     * @return The maximum.
+     */
+    private static double maxIgnoreNaN(double a, double b) {
+        if (Double.isNaN(a)) {
+            return b;
+        }
+        if (Double.isNaN(b)) {
+            return a;
+        }
+        return Math.max(a, b);
+    }
+
+    /**
+     * Returns the minimum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The minimum value.
+     */
+    @Override
+    public double getDomainLowerBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum x-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The maximum value.
+     */
+    @Override
+    public double getDomainUpperBound(boolean includeInterval) {
+        Range r = getDomainBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the values in this dataset's domain.  The bounds
+     * are taken from the index, unless the x-interval is required for an
+     * interval dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         x-interval is taken into account.
+     *
+     * @return The range (or <code>null</code> if the dataset contains no
+     *     values).
+     */
+    @Override
+    public Range getDomainBounds(boolean includeInterval) {
+        if (includeInterval && this.underlying instanceof IntervalXYDataset) {
+            return DatasetUtilities.findDomainBounds(this.underlying, true);
+        }
+        double lower = Double.NaN;
+        double upper = Double.NaN;
+        Pyramid[] p = getPyramids();
+        for (int s = 0; s < p.length; s++) {
+            lower = minIgnoreNaN(lower, p[s].minX);
+            upper = maxIgnoreNaN(upper, p[s].maxX);
+        }
+        return Double.isNaN(lower) ? null : new Range(lower, upper);
+    }
+
+    /**
+     * Returns the minimum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The minimum value.
+     */
+    @Override
+    public double getRangeLowerBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getLowerBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the maximum y-value in the dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The maximum value.
+     */
+    @Override
+    public double getRangeUpperBound(boolean includeInterval) {
+        Range r = getRangeBounds(includeInterval);
+        return r != null ? r.getUpperBound() : Double.NaN;
+    }
+
+    /**
+     * Returns the range of the values in this dataset's range.  The bounds
+     * are taken from the index, unless the y-interval is required for an
+     * interval dataset.
+     *
+     * @param includeInterval  a flag that determines whether or not the
+     *                         y-interval is taken into account.
+     *
+     * @return The range (or <code>null</code> if the dataset contains no
+     *     values).
+     */
+    @Override
+    public Range getRangeBounds(boolean includeInterval) {
+        if (includeInterval && this.underlying instanceof IntervalXYDataset) {
+            return DatasetUtilities.findRangeBounds(this.underlying, true);
+        }
+        double lower = Double.NaN;
+        double upper = Double.NaN;
+        Pyramid[] p = getPyramids();
+        for (int s = 0; s < p.length; s++) {
+            lower = minIgnoreNaN(lower, p[s].minY);
+            upper = maxIgnoreNaN(upper, p[s].maxY);
+        }
+        return Double.isNaN(lower) ? null : new Range(lower, upper);
+    }
+
+    /**
+     * Receives notification of a change to the underlying dataset, discards
+     * the index and passes the event on to the listeners for this dataset.
+     *
+     * @param event  information about the change.
+     */
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.pyramids = null;
+        this.lastView = null;
+        notifyListeners(new DatasetChangeEvent(this, this));
+    }
+
+    /**
+     * Tests this dataset for equality with an arbitrary object.
+     *
+     * @param obj  the object (<code>null</code> permitted).
+     *
+     * @return A boolean.
+     */
+    @Override
+    public boolean equals(Object obj) {
+        if (obj == this) {
+            return true;
+        }
+        if (!(obj instanceof MinMaxPyramidXYDataset)) {
+            return false;
+        }
+        MinMaxPyramidXYDataset that = (MinMaxPyramidXYDataset) obj;
+        return this.underlying.equals(that.underlying);
+    }
+
+    /**
+     * Returns a hash code for this instance.
+     *
+     * @return A hash code.
+     */
+    @Override
+    public int hashCode() {
+        return this.underlying.hashCode();
+    }
+
+    /**
+     * Returns an independent copy of the dataset.  The underlying dataset is
+     * only cloned if it implements the {@link PublicCloneable} interface, and
+     * the listeners registered with this dataset are not carried over to the
+     * cloned dataset.
+     *
+     * @return An independent copy of the dataset.
+     *
+     * @throws CloneNotSupportedException if the dataset cannot be cloned for
+     *         any reason.
+     */
+    @Override
+    public Object clone() throws CloneNotSupportedException {
+        MinMaxPyramidXYDataset clone = (MinMaxPyramidXYDataset) super.clone();
+        if (this.underlying instanceof PublicCloneable) {
+            PublicCloneable pc = (PublicCloneable) this.underlying;
+            clone.underlying = (XYDataset) pc.clone();
+            clone.underlying.addChangeListener(clone);
+        }
+        clone.pyramids = null;
+        clone.lastView = null;
+        return clone;
+    }
+
+    /**
+     * Provides serialization support.
+     *
+     * @param stream  the input stream.
+     *
+     * @throws IOException  if there is an I/O error.
+     * @throws ClassNotFoundException  if there is a classpath problem.
+     */
+    private void readObject(ObjectInputStream stream)
+            throws IOException, ClassNotFoundException {
+        stream.defaultReadObject();
+        this.underlying.addChangeListener(this);
+    }
+
+    /**
+     * The index for one series.
+     */
+    private static class Pyramid {
+
+        /** The number of items in the series when the index was built. */
+        int itemCount;
+
+        /** A flag indicating whether the x-values are in ascending order. */
+        boolean sorted;
+
+        /** The minimum x-value. */
+        double minX = Double.NaN;
+
+        /** The maximum x-value. */
+        double maxX = Double.NaN;
+
+        /** The minimum y-value. */
+        double minY = Double.NaN;
+
+        /** The maximum y-value. */
+        double maxY = Double.NaN;
+
+        /** The item with the minimum y-value, by level and bucket. */
+        int[][] minIndex;
+
+        /** The item with the maximum y-value, by level and bucket. */
+        int[][] maxIndex;
+
+    }
+
+    /**
+     * A read-only view of a subset of the items in the underlying dataset.
+     * For each series, the items are either listed explicitly or given as a
+     * contiguous range.
+     */
+    private static class View extends AbstractIntervalXYDataset {
+
+        /** For serialization. */
+        private static final long serialVersionUID = 3419116459216158313L;
+
+        /** The underlying dataset. */
+        private XYDataset underlying;
+
+        /** The item indices for each series (null for a contiguous range). */
+        private int[][] indices;
+
+        /** The first item for series with a contiguous range. */
+        private int[] first;
+
+        /** The number of items for each series. */
+        private int[] count;
+
+        /**
+         * Creates a new view.
+         *
+         * @param underlying  the underlying dataset.
+         * @param indices  the item indices.
+         * @param first  the first items.
+         * @param count  the item counts.
+         */
+        View(XYDataset underlying, int[][] indices, int[] first,
+                int[] count) {
+            this.underlying = underlying;
+            this.indices = indices;
+            this.first = first;
+            this.count = count;
+        }
+
+        /**
+         * Maps an item in the view to the underlying dataset.
+         *
+         * @param series  the series.
+         * @param item  the item in the view.
+         *
+         * @return The item in the underlying dataset.
+         */
+        private int map(int series, int item) {
+            int[] i = this.indices[series];
+            return i != null ? i[item] : this.first[series] + item;
+        }
+
+        /**
+         * Returns the number of series.
+         *
+         * @return The series count.
+         */
+        @Override
+        public int getSeriesCount() {
+            return this.count.length;
+        }
+
+        /**
+         * Returns the key for a series.
+         *
+         * @param series  the series index.
+         *
+         * @return The series key.
+         */
+        @Override
+        public Comparable getSeriesKey(int series) {
+            return this.underlying.getSeriesKey(series);
+        }
+
+        /**
+         * Returns the domain order of the underlying dataset.
+         *
+         * @return The domain order.
+         */
+        @Override
+        public DomainOrder getDomainOrder() {
+            return this.underlying.getDomainOrder();
+        }
+
+        /**
+         * Returns the number of items in a series.
+         *
+         * @param series  the series index.
+         *
+         * @return The item count.
+         */
+        @Override
+        public int getItemCount(int series) {
+            return this.count[series];
+        }
+
+        /**
+         * Returns the x-value for an item.
+         *
+         * @param series  the series index.
+         * @param item  the item index.
+         *
+         * @return The x-value.
+         */
+        @Override
+        public Number getX(int series, int item) {
+            return this.underlying.getX(series, map(series, item));
+        }
+
+        /**
+         * Returns the x-value for an item.
+         *
+         * @param series  the series index.
+         * @param item  the item index.
+         *
+         * @return The x-value.
+         */
+        @Override
+        public double getXValue(int series, int item) {
+            return this.underlying.getXValue(series, map(series, item));
+        }
+
+        /**
+         * Returns the y-value for an item.
+         *
+         * @param series  the series index.
+         * @param item  the item index.
+         *
+         * @return The y-value.
+         */
+        @Override
+        public Number getY(int series, int item) {
+            return this.underlying.getY(series, map(series, item));
+        }
+
+        /**
+         * Returns the y-value for an item.
+         *
+         * @param series  the series index.
+         * @param item  the item index.
+         *
+         * @return The y-value.
+         */
+        @Override
+        public double getYValue(int series, int item) {
+            return this.underlying.getYValue(series, map(series, item));
+        }
+
+        /**
+         * Returns the starting x-value for an item.
+         *
+         * @param series  the series index.
+         * @param item  the item index.
+         *
+         * @return The starting x-value.
+         */
+        @Override
+        public Number getStartX(int series, int item) {
+            if (this.underlying instanceof IntervalXYDataset) {
+                return ((IntervalXYDataset) this.underlying).getStartX(series,
+                        map(series, item));
+            }
+            return getX(series, item);
+        }
+
+        /**
+         * Returns the ending x-value for an item.
+         *
+         * @param series  the series index.
+         * @param item  the item index.
+         *
+         * @return The ending x-value.
+         */
+        @Override
+        public Number getEndX(int series, int item) {
+            if (this.underlying instanceof IntervalXYDataset) {
+                return ((IntervalXYDataset) this.underlying).getEndX(series,
+                        map(series, item));
+            }
+            return getX(series, item);
+        }
+
+        /**
+         * Returns the starting y-value for an item.
+         *
+         * @param series  the series index.
+         * @param item  the item index.
+         *
+         * @return The starting y-value.
+         */
+        @Override
+        public Number getStartY(int series, int item) {
+            if (this.underlying instanceof IntervalXYDataset) {
+                return ((IntervalXYDataset) this.underlying).getStartY(series,
+                        map(series, item));
+            }
+            return getY(series, item);
+        }
+
+        /**
+         * Returns the ending y-value for an item.
+         *
+         * @param series  the series index.
+         * @param item  the item index.
+         *
+         * @return The ending y-value.
+         */
+        @Override
+        public Number getEndY(int series, int item) {
+            if (this.underlying instanceof IntervalXYDataset) {
+                return ((IntervalXYDataset) this.underlying).getEndY(series,
+                        map(series, item));
+            }
+            return getY(series, item);
+        }
+
+    }
+
+}
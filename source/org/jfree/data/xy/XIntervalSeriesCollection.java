@@ -39,6 +39,8 @@
  * 18-Jan-2008 : Added removeSeries() and removeAllSeries() methods (DG);
  * 22-Apr-2008 : Implemented PublicCloneable (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 17-Oct-2026 : Added getModificationStamp() override;
+ * 17-Oct-2026 : Use ModificationStamps to combine the series stamps;
  *
  */
 
@@ -49,6 +51,7 @@ import java.util.List;
 import org.jfree.chart.util.ParamChecks;
 
 import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.ModificationStamps;
 import org.jfree.util.ObjectUtilities;
 import org.jfree.util.PublicCloneable;
 
@@ -95,6 +98,21 @@ public class XIntervalSeriesCollection extends AbstractIntervalXYDataset
         return this.data.size();
     }
 
+    /**
+     * Returns the modification stamp for the dataset.  This is the latest of
+     * the stamps for the collection and its series, so it includes changes
+     * made to a series while its notify flag is <code>false</code>.
+     *
+     * @return The modification stamp.
+     *
+     * @since 1.0.20
+     */
+    @Override
+    public long getModificationStamp() {
+        return ModificationStamps.latest(super.getModificationStamp(),
+                this.data);
+    }
+
     /**
      * Returns a series from the collection.
      *
@@ -0,0 +1,67 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------
+ * XYItemFinder.java
+ * -----------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.data.xy;
+
+/**
+ * An interface that can (optionally) be implemented by a dataset whose
+ * series are sorted by x-value in ascending order, to find items more
+ * quickly than a binary search through the <code>getXValue()</code> method
+ * (for example, by using an index).  The renderers use this to find the
+ * items that are visible.
+ *
+ * @since 1.0.20
+ */
+public interface XYItemFinder {
+
+    /**
+     * Returns the index of the first item in a series with an x-value
+     * greater than or equal to <code>x</code>.
+     *
+     * @param series  the series index.
+     * @param x  the x-value.
+     *
+     * @return The item index, or the item count if every x-value is less
+     *     than <code>x</code>.
+     */
+    public int findItem(int series, double x);
+
+}
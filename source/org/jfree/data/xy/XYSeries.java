@@ -75,17 +75,26 @@
  * 10-Jun-2009 : Make clones to isolate XYDataItem instances used
  *               for data storage (DG);
  * 02-Jul-2013 : Use ParamChecks (DG);
+ * 17-Oct-2026 : Added getXValue() and getYValue() methods;
+ * 17-Oct-2026 : Added add(double[], double[]) for bulk loading;
+ * 17-Oct-2026 : Added findYRange(Range) method;
+ * 17-Oct-2026 : Update modification stamp for silent changes;
+ * 17-Oct-2026 : Update the y-value tree when items are appended;
  * 
  */
 
 package org.jfree.data.xy;
 
 import java.io.Serializable;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.List;
 import org.jfree.chart.util.ParamChecks;
 
+import org.jfree.data.MinMaxSegmentTree;
+import org.jfree.data.Range;
 import org.jfree.data.general.Series;
 import org.jfree.data.general.SeriesChangeEvent;
 import org.jfree.data.general.SeriesException;
@@ -134,6 +143,14 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     /** The highest y-value in the series, excluding Double.NaN values. */
     private double maxY;
 
+    /**
+     * A tree of the y-values used by {@link #findYRange(Range)}, created
+     * when required.  The tree is updated when items are appended to the
+     * series or removed from the start, and discarded for any other
+     * change.
+     */
+    private transient MinMaxSegmentTree yTree;
+
     /**
      * Creates a new empty series.  By default, items added to the series will
      * be sorted into ascending order by x-value, and duplicate x-values will
@@ -239,6 +256,109 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         return this.maxY;
     }
 
+    /**
+     * Returns the range of the y-values for the items with an x-value in the
+     * specified range, ignoring any <code>null</code> and
+     * <code>Double.NaN</code> y-values.  For a sorted series, the items are
+     * found by a binary search and the y-range is found from a tree that is
+     * built the first time this method is called after the series is
+     * modified, so repeated calls (for example, while a chart is being
+     * zoomed or panned) take O(log n) time.
+     *
+     * @param xRange  the x-range (<code>null</code> not permitted).
+     *
+     * @return The range of y-values, or <code>null</code> if there are no
+     *     y-values for the items in the x-range.
+     *
+     * @since 1.0.20
+     */
+    public Range findYRange(Range xRange) {
+        ParamChecks.nullNotPermitted(xRange, "xRange");
+        int count = getItemCount();
+        if (!getAutoSort()) {
+            double lower = Double.POSITIVE_INFINITY;
+            double upper = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < count; i++) {
+                if (xRange.contains(getXValue(i))) {
+                    double y = getYValue(i);
+                    if (!Double.isNaN(y)) {
+                        lower = Math.min(lower, y);
+                        upper = Math.max(upper, y);
+                    }
+                }
+            }
+            return lower <= upper ? new Range(lower, upper) : null;
+        }
+        // the first item with x >= lower bound...
+        int low = 0;
+        int high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getXValue(mid) < xRange.getLowerBound()) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        int start = low;
+        // ...and the first item with x > upper bound
+        high = count;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (getXValue(mid) <= xRange.getUpperBound()) {
+                low = mid + 1;
+            }
+            else {
+                high = mid;
+            }
+        }
+        MinMaxSegmentTree tree = this.yTree;
+        if (tree == null || tree.getSize() != count) {
+            double[] y = new double[count];
+            for (int i = 0; i < count; i++) {
+                y[i] = getYValue(i);
+            }
+            tree = new MinMaxSegmentTree(y);
+            this.yTree = tree;
+        }
+        return tree.getBounds(start, low - 1);
+    }
+
+    /**
+     * Discards the tree of y-values used by {@link #findYRange(Range)}.
+     * Subclasses that store the data items themselves must call this
+     * whenever the items are modified, other than by the changes handled by
+     * {@link #appendToYTree(double)} and {@link #removeFirstFromYTree(int)}.
+     */
+    void clearYTree() {
+        this.yTree = null;
+    }
+
+    /**
+     * Updates the tree of y-values used by {@link #findYRange(Range)} for an
+     * item that has been added at the end of the series.
+     *
+     * @param y  the y-value of the item.
+     */
+    void appendToYTree(double y) {
+        if (this.yTree != null) {
+            this.yTree.add(y);
+        }
+    }
+
+    /**
+     * Updates the tree of y-values used by {@link #findYRange(Range)} for
+     * items that have been removed from the start of the series.
+     *
+     * @param count  the number of items removed.
+     */
+    void removeFirstFromYTree(int count) {
+        if (this.yTree != null) {
+            this.yTree.removeFirst(count);
+        }
+    }
+
     /**
      * Updates the cached values for the minimum and maximum data values.
      *
@@ -388,6 +508,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         int remove = this.data.size() - maximum;
         if (remove > 0) {
             this.data.subList(0, remove).clear();
+            removeFirstFromYTree(remove);
             findBoundsByIteration();
             fireSeriesChanged();
         }
@@ -506,9 +627,11 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public void add(XYDataItem item, boolean notify) {
         ParamChecks.nullNotPermitted(item, "item");
         item = (XYDataItem) item.clone();
+        boolean appended = true;
         if (this.autoSort) {
             int index = Collections.binarySearch(this.data, item);
             if (index < 0) {
+                appended = -index - 1 == this.data.size();
                 this.data.add(-index - 1, item);
             }
             else {
@@ -520,6 +643,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                         index++;
                     }
                     if (index < this.data.size()) {
+                        appended = false;
                         this.data.add(index, item);
                     }
                     else {
@@ -542,14 +666,146 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             }
             this.data.add(item);
         }
+        if (appended) {
+            appendToYTree(item.getYValue());
+        }
+        else {
+            this.yTree = null;
+        }
         updateBoundsForAddedItem(item);
         if (getItemCount() > this.maximumItemCount) {
             XYDataItem removed = (XYDataItem) this.data.remove(0);
+            removeFirstFromYTree(1);
             updateBoundsForRemovedItem(removed);
         }
         if (notify) {
             fireSeriesChanged();
         }
+        else {
+            updateModificationStamp();
+        }
+    }
+
+    /**
+     * Adds a batch of data items to the series and sends a single
+     * {@link SeriesChangeEvent} to all registered listeners.
+     *
+     * @param xValues  the x-values (<code>null</code> not permitted).
+     * @param yValues  the y-values (<code>null</code> not permitted, and
+     *     the same length as <code>xValues</code>).
+     *
+     * @throws SeriesException if any x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     *
+     * @since 1.0.20
+     */
+    public void add(double[] xValues, double[] yValues) {
+        add(xValues, yValues, true);
+    }
+
+    /**
+     * Adds a batch of data items to the series and, if requested, sends a
+     * single {@link SeriesChangeEvent} to all registered listeners.  For a
+     * sorted series, the new items are sorted and then merged with the
+     * existing items in one pass, so the time taken is linear in the total
+     * number of items when the new x-values are already in ascending order.
+     * The result is the same as adding the items one at a time, except that
+     * if the series has a maximum item count, the oldest items are only
+     * removed once all the new items have been added.  If any x-value is
+     * rejected, the series is not modified.
+     *
+     * @param xValues  the x-values (<code>null</code> not permitted).
+     * @param yValues  the y-values (<code>null</code> not permitted, and
+     *     the same length as <code>xValues</code>).
+     * @param notify  a flag that controls whether or not a
+     *                {@link SeriesChangeEvent} is sent to all registered
+     *                listeners.
+     *
+     * @throws SeriesException if any x-value is a duplicate and the
+     *     <code>allowDuplicateXValues</code> flag is not set for this series.
+     *
+     * @since 1.0.20
+     */
+    public void add(double[] xValues, double[] yValues, boolean notify) {
+        ParamChecks.nullNotPermitted(xValues, "xValues");
+        ParamChecks.nullNotPermitted(yValues, "yValues");
+        if (xValues.length != yValues.length) {
+            throw new IllegalArgumentException(
+                    "The 'xValues' and 'yValues' arrays must have the same "
+                    + "length.");
+        }
+        int count = xValues.length;
+        List items = new ArrayList(count);
+        for (int i = 0; i < count; i++) {
+            items.add(new XYDataItem(xValues[i], yValues[i]));
+        }
+        boolean appended = true;
+        if (this.autoSort) {
+            Collections.sort(items);  // stable, so duplicates keep their order
+            appended = this.data.isEmpty() || count == 0
+                    || ((XYDataItem) this.data.get(this.data.size() - 1))
+                    .compareTo(items.get(0)) <= 0;
+            List merged = new ArrayList(this.data.size() + count);
+            int i = 0;
+            int j = 0;
+            while (i < this.data.size() || j < count) {
+                if (j == count) {
+                    merged.add(this.data.get(i++));
+                    continue;
+                }
+                XYDataItem item = (XYDataItem) items.get(j);
+                int c = i < this.data.size() ? ((XYDataItem) this.data.get(i))
+                        .compareTo(item) : 1;
+                if (!this.allowDuplicateXValues && (c == 0 || (j > 0
+                        && item.compareTo(items.get(j - 1)) == 0))) {
+                    throw new SeriesException("X-value already exists.");
+                }
+                if (c <= 0) {
+                    merged.add(this.data.get(i++));
+                }
+                else {
+                    merged.add(item);
+                    j++;
+                }
+            }
+            this.data = merged;
+        }
+        else {
+            if (!this.allowDuplicateXValues) {
+                HashSet xs = new HashSet();
+                for (int i = 0; i < this.data.size(); i++) {
+                    xs.add(((XYDataItem) this.data.get(i)).getX());
+                }
+                for (int i = 0; i < count; i++) {
+                    if (!xs.add(((XYDataItem) items.get(i)).getX())) {
+                        throw new SeriesException("X-value already exists.");
+                    }
+                }
+            }
+            this.data.addAll(items);
+        }
+        for (int i = 0; i < count; i++) {
+            XYDataItem item = (XYDataItem) items.get(i);
+            updateBoundsForAddedItem(item);
+            if (appended) {
+                appendToYTree(item.getYValue());
+            }
+        }
+        if (!appended) {
+            this.yTree = null;
+        }
+        int excess = getItemCount() - this.maximumItemCount;
+        if (excess > 0) {
+            this.data.subList(0, excess).clear();
+            removeFirstFromYTree(excess);
+            findBoundsByIteration();
+        }
+        if (notify) {
+            fireSeriesChanged();
+        }
+        else {
+            updateModificationStamp();
+        }
     }
 
     /**
@@ -561,6 +817,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public void delete(int start, int end) {
         this.data.subList(start, end + 1).clear();
+        this.yTree = null;
         findBoundsByIteration();
         fireSeriesChanged();
     }
@@ -575,6 +832,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
      */
     public XYDataItem remove(int index) {
         XYDataItem removed = (XYDataItem) this.data.remove(index);
+        this.yTree = null;
         updateBoundsForRemovedItem(removed);
         fireSeriesChanged();
         return removed;
@@ -601,6 +859,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public void clear() {
         if (this.data.size() > 0) {
             this.data.clear();
+            this.yTree = null;
             this.minX = Double.NaN;
             this.maxX = Double.NaN;
             this.minY = Double.NaN;
@@ -656,6 +915,33 @@ public class XYSeries extends Series implements Cloneable, Serializable {
         return getRawDataItem(index).getY();
     }
 
+    /**
+     * Returns the x-value at the specified index as a primitive.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The x-value.
+     *
+     * @since 1.0.20
+     */
+    public double getXValue(int index) {
+        return getRawDataItem(index).getXValue();
+    }
+
+    /**
+     * Returns the y-value at the specified index as a primitive, with
+     * <code>null</code> values reported as <code>Double.NaN</code>.
+     *
+     * @param index  the index (zero-based).
+     *
+     * @return The y-value.
+     *
+     * @since 1.0.20
+     */
+    public double getYValue(int index) {
+        return getRawDataItem(index).getYValue();
+    }
+
     /**
      * Updates the value of an item in the series and sends a
      * {@link SeriesChangeEvent} to all registered listeners.
@@ -676,6 +962,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             iterate = oldY <= this.minY || oldY >= this.maxY;
         }
         item.setY(y);
+        this.yTree = null;
 
         if (iterate) {
             findBoundsByIteration();
@@ -817,6 +1104,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
                 iterate = oldY <= this.minY || oldY >= this.maxY;
             }
             existing.setY(item.getY());
+            this.yTree = null;
 
             if (iterate) {
                 findBoundsByIteration();
@@ -833,17 +1121,20 @@ public class XYSeries extends Series implements Cloneable, Serializable {
             // new item...otherwise it will be just -1 and we should just
             // append the value to the list...
             item = (XYDataItem) item.clone();
-            if (this.autoSort) {
+            if (this.autoSort && -index - 1 < this.data.size()) {
                 this.data.add(-index - 1, item);
+                this.yTree = null;
             }
             else {
                 this.data.add(item);
+                appendToYTree(item.getYValue());
             }
             updateBoundsForAddedItem(item);
 
             // check if this addition will exceed the maximum item count...
             if (getItemCount() > this.maximumItemCount) {
                 XYDataItem removed = (XYDataItem) this.data.remove(0);
+                removeFirstFromYTree(1);
                 updateBoundsForRemovedItem(removed);
             }
         }
@@ -910,6 +1201,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
     public Object clone() throws CloneNotSupportedException {
         XYSeries clone = (XYSeries) super.clone();
         clone.data = (List) ObjectUtilities.deepClone(this.data);
+        clone.yTree = null;
         return clone;
     }
 
@@ -928,6 +1220,7 @@ public class XYSeries extends Series implements Cloneable, Serializable {
 
         XYSeries copy = (XYSeries) super.clone();
         copy.data = new java.util.ArrayList();
+        copy.yTree = null;
         if (this.data.size() > 0) {
             for (int index = start; index <= end; index++) {
                 XYDataItem item = (XYDataItem) this.data.get(index);
@@ -0,0 +1,233 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * ChartLayerCacheTest.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart;
+
+import java.awt.Graphics2D;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.LegendItemEntity;
+import org.jfree.chart.entity.PlotEntity;
+import org.jfree.chart.entity.XYItemEntity;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.general.DefaultPieDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link ChartLayerCache} class.
+ */
+public class ChartLayerCacheTest {
+
+    private static final Rectangle2D AREA = new Rectangle2D.Double(0, 0,
+            300, 200);
+
+    private static JFreeChart createChart(XYSeries series) {
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                new XYSeriesCollection(series));
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.getDomainAxis().setRange(0.0, 100.0);
+        plot.getRangeAxis().setRange(0.0, 10.0);
+        return chart;
+    }
+
+    private static BufferedImage draw(ChartLayerCache cache,
+            JFreeChart chart, ChartRenderingInfo info) {
+        BufferedImage image = new BufferedImage(300, 200,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        if (cache != null) {
+            cache.draw(g2, chart, AREA, null, info);
+        }
+        else {
+            chart.draw(g2, AREA, null, info);
+        }
+        g2.dispose();
+        return image;
+    }
+
+    /**
+     * Returns the largest difference between the colour components of two
+     * images.
+     */
+    private static int maxDifference(BufferedImage a, BufferedImage b) {
+        int result = 0;
+        for (int y = 0; y < a.getHeight(); y++) {
+            for (int x = 0; x < a.getWidth(); x++) {
+                int p = a.getRGB(x, y);
+                int q = b.getRGB(x, y);
+                for (int shift = 0; shift < 32; shift += 8) {
+                    int d = Math.abs(((p >> shift) & 0xFF)
+                            - ((q >> shift) & 0xFF));
+                    result = Math.max(result, d);
+                }
+            }
+        }
+        return result;
+    }
+
+    /**
+     * A change to the data that leaves the axis ranges alone only redraws
+     * the data layer, and the result looks the same as a full redraw.
+     */
+    @Test
+    public void testDataOnlyChange() {
+        XYSeries series = new XYSeries("S1");
+        series.add(10.0, 2.0);
+        series.add(20.0, 5.0);
+        JFreeChart chart = createChart(series);
+        ChartLayerCache cache = new ChartLayerCache();
+        draw(cache, chart, null);
+        assertEquals(1L, cache.getChromeDrawCount());
+        assertEquals(1L, cache.getDataDrawCount());
+
+        series.add(30.0, 3.0);
+        BufferedImage layered = draw(cache, chart, null);
+        assertEquals(1L, cache.getChromeDrawCount());
+        assertEquals(2L, cache.getDataDrawCount());
+        BufferedImage direct = draw(null, chart, null);
+        assertTrue(maxDifference(layered, direct) <= 2);
+    }
+
+    /**
+     * The static layer is redrawn when an axis range changes, including
+     * when auto-ranging changes it without a separate change event.
+     */
+    @Test
+    public void testAxisRangeChange() {
+        XYSeries series = new XYSeries("S1");
+        series.add(10.0, 2.0);
+        JFreeChart chart = createChart(series);
+        XYPlot plot = (XYPlot) chart.getPlot();
+        plot.getRangeAxis().setAutoRange(true);
+        ChartLayerCache cache = new ChartLayerCache();
+        draw(cache, chart, null);
+        series.add(20.0, 50.0);
+        draw(cache, chart, null);
+        assertEquals(2L, cache.getChromeDrawCount());
+
+        plot.getDomainAxis().setRange(0.0, 50.0);
+        draw(cache, chart, null);
+        assertEquals(3L, cache.getChromeDrawCount());
+    }
+
+    /**
+     * Any other change is handled by calling invalidate().
+     */
+    @Test
+    public void testInvalidate() {
+        XYSeries series = new XYSeries("S1");
+        series.add(10.0, 2.0);
+        JFreeChart chart = createChart(series);
+        ChartLayerCache cache = new ChartLayerCache();
+        draw(cache, chart, null);
+        draw(cache, chart, null);
+        assertEquals(1L, cache.getChromeDrawCount());
+        chart.setTitle("New Title");
+        cache.invalidate();
+        draw(cache, chart, null);
+        assertEquals(2L, cache.getChromeDrawCount());
+        assertEquals(3L, cache.getDataDrawCount());
+    }
+
+    /**
+     * The entities for the static layer are kept when only the data is
+     * redrawn, and stay underneath the data item entities.
+     */
+    @Test
+    public void testEntities() {
+        XYSeries series = new XYSeries("S1");
+        series.add(10.0, 2.0);
+        series.add(20.0, 5.0);
+        JFreeChart chart = createChart(series);
+        ChartLayerCache cache = new ChartLayerCache();
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        draw(cache, chart, info);
+        series.add(30.0, 3.0);
+        draw(cache, chart, info);
+        assertEquals(1L, cache.getChromeDrawCount());
+
+        EntityCollection entities = info.getEntityCollection();
+        int plotIndex = -1;
+        int legendCount = 0;
+        int itemCount = 0;
+        for (int i = 0; i < entities.getEntityCount(); i++) {
+            ChartEntity entity = entities.getEntity(i);
+            if (entity instanceof PlotEntity) {
+                plotIndex = i;
+            }
+            else if (entity instanceof LegendItemEntity) {
+                legendCount++;
+            }
+            else if (entity instanceof XYItemEntity) {
+                assertTrue(plotIndex >= 0);
+                itemCount++;
+            }
+        }
+        assertEquals(1, legendCount);
+        assertEquals(3, itemCount);
+        assertEquals(AREA, info.getChartArea());
+        assertFalse(info.getPlotInfo().getDataArea().isEmpty());
+    }
+
+    /**
+     * Charts that cannot be drawn in layers are drawn directly.
+     */
+    @Test
+    public void testUnsupportedChart() {
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        dataset.setValue("A", 1.0);
+        JFreeChart chart = ChartFactory.createPieChart("Title", dataset);
+        assertFalse(ChartLayerCache.isLayeringSupported(chart));
+        ChartLayerCache cache = new ChartLayerCache();
+        draw(cache, chart, null);
+        assertEquals(0L, cache.getChromeDrawCount());
+        assertEquals(0L, cache.getDataDrawCount());
+    }
+
+}
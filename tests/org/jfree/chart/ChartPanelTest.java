@@ -44,18 +44,30 @@ package org.jfree.chart;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
+import java.awt.Graphics2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 import java.util.EventListener;
 import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import javax.swing.SwingUtilities;
 
 import javax.swing.event.CaretListener;
 
 import org.jfree.chart.axis.NumberAxis;
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
+import org.jfree.chart.event.ChartProgressEvent;
+import org.jfree.chart.event.ChartProgressListener;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.XYPlot;
+import org.jfree.data.Range;
 import org.jfree.data.xy.DefaultXYDataset;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 import org.junit.Test;
 
 /**
@@ -63,6 +75,8 @@ import org.junit.Test;
  */
 public class ChartPanelTest implements ChartChangeListener, ChartMouseListener {
 
+    private static final double EPSILON = 0.0000000001;
+
     private List chartChangeEvents = new java.util.ArrayList();
 
     /**
@@ -96,6 +110,41 @@ public class ChartPanelTest implements ChartChangeListener, ChartMouseListener {
         assertEquals(null, panel.getChart());
     }
 
+    /**
+     * The panel receives the chart's progress events (and so causes the
+     * chart to record rendering statistics) unless this is switched off.
+     */
+    @Test
+    public void testChartProgressEnabled() {
+        final AtomicInteger count = new AtomicInteger();
+        JFreeChart chart = new JFreeChart(new XYPlot());
+        ChartPanel panel = new ChartPanel(chart) {
+            @Override
+            public void chartProgress(ChartProgressEvent event) {
+                count.incrementAndGet();
+            }
+        };
+        assertTrue(panel.isChartProgressEnabled());
+        chart.createBufferedImage(100, 100);
+        assertEquals(2, count.get());
+
+        panel.setChartProgressEnabled(false);
+        chart.createBufferedImage(100, 100);
+        assertEquals(2, count.get());
+
+        // the flag is kept when the chart is replaced
+        JFreeChart chart2 = new JFreeChart(new XYPlot());
+        panel.setChart(chart2);
+        chart2.createBufferedImage(100, 100);
+        assertEquals(2, count.get());
+
+        panel.setChartProgressEnabled(true);
+        chart.createBufferedImage(100, 100);
+        assertEquals(2, count.get());
+        chart2.createBufferedImage(100, 100);
+        assertEquals(4, count.get());
+    }
+
     /**
      * Check the behaviour of the getListeners() method.
      */
@@ -343,4 +392,191 @@ public class ChartPanelTest implements ChartChangeListener, ChartMouseListener {
         panel.setMouseWheelEnabled(false);
         assertFalse(panel.isMouseWheelEnabled());
     }
+
+    /**
+     * Paints a panel to an image.
+     *
+     * @param panel  the panel.
+     */
+    private static void paint(ChartPanel panel) {
+        BufferedImage image = new BufferedImage(panel.getWidth(),
+                panel.getHeight(), BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        panel.paintComponent(g2);
+        g2.dispose();
+    }
+
+    /**
+     * Waits until the panel shows a frame of the specified width (frames are
+     * installed on the event dispatch thread).
+     *
+     * @param panel  the panel.
+     * @param width  the width.
+     */
+    private static void waitForFrame(ChartPanel panel, double width)
+            throws Exception {
+        long end = System.currentTimeMillis() + 10000L;
+        while (System.currentTimeMillis() < end) {
+            SwingUtilities.invokeAndWait(new Runnable() {
+                @Override
+                public void run() {
+                    // nothing to do
+                }
+            });
+            Rectangle2D area = panel.getChartRenderingInfo().getChartArea();
+            if (area.getWidth() == width) {
+                return;
+            }
+            Thread.sleep(10L);
+        }
+    }
+
+    /**
+     * With background rendering, the chart is drawn on a thread other than
+     * the event dispatch thread and the rendering info is updated when the
+     * frame is ready.
+     */
+    @Test
+    public void testBackgroundRendering() throws Exception {
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 2.0);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                new XYSeriesCollection(series));
+        ChartPanel panel = new ChartPanel(chart);
+        panel.setBackgroundRendering(true);
+        assertTrue(panel.isBackgroundRendering());
+        panel.setSize(400, 300);
+        final CountDownLatch drawn = new CountDownLatch(1);
+        final AtomicInteger edtDraws = new AtomicInteger();
+        chart.addProgressListener(new ChartProgressListener() {
+            @Override
+            public void chartProgress(ChartProgressEvent event) {
+                if (event.getType() == ChartProgressEvent.DRAWING_FINISHED) {
+                    if (SwingUtilities.isEventDispatchThread()) {
+                        edtDraws.incrementAndGet();
+                    }
+                    drawn.countDown();
+                }
+            }
+        });
+        paint(panel);
+        assertTrue(drawn.await(10L, TimeUnit.SECONDS));
+        waitForFrame(panel, 400.0);
+        assertEquals(400.0,
+                panel.getChartRenderingInfo().getChartArea().getWidth(),
+                EPSILON);
+        assertEquals(0, edtDraws.get());
+
+        // a resize causes another frame to be drawn
+        panel.setSize(500, 300);
+        paint(panel);
+        waitForFrame(panel, 500.0);
+        assertEquals(500.0,
+                panel.getChartRenderingInfo().getChartArea().getWidth(),
+                EPSILON);
+    }
+
+    /**
+     * With a maximum frame rate, a burst of changes should be combined into
+     * a small number of redraws.
+     */
+    @Test
+    public void testMaximumFrameRate() throws Exception {
+        XYSeries series = new XYSeries("S1");
+        series.add(0.0, 0.0);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                new XYSeriesCollection(series));
+        ChartPanel panel = new ChartPanel(chart);
+        panel.setMaximumFrameRate(10.0);
+        assertEquals(10.0, panel.getMaximumFrameRate(), EPSILON);
+        panel.setBackgroundRendering(true);
+        panel.setSize(400, 300);
+        paint(panel);
+        waitForFrame(panel, 400.0);
+
+        final AtomicInteger frames = new AtomicInteger();
+        final CountDownLatch drawn = new CountDownLatch(1);
+        chart.addProgressListener(new ChartProgressListener() {
+            @Override
+            public void chartProgress(ChartProgressEvent event) {
+                if (event.getType() == ChartProgressEvent.DRAWING_FINISHED) {
+                    frames.incrementAndGet();
+                    drawn.countDown();
+                }
+            }
+        });
+        for (int i = 1; i <= 200; i++) {
+            series.add(i, Math.sin(i));
+        }
+        assertTrue(drawn.await(10L, TimeUnit.SECONDS));
+        Thread.sleep(300L);
+        assertTrue(frames.get() >= 1);
+        assertTrue(frames.get() < 50);
+    }
+
+    /**
+     * A zoom cancels the frame being drawn, but a frame showing the new axis
+     * range must still arrive.
+     */
+    @Test
+    public void testCancelFrame() throws Exception {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 1000; i++) {
+            series.add(i, Math.sin(i / 10.0));
+        }
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                new XYSeriesCollection(series));
+        ChartPanel panel = new ChartPanel(chart);
+        assertTrue(panel.isStaleFrameScaled());
+        panel.setStaleFrameScaled(false);
+        assertFalse(panel.isStaleFrameScaled());
+        panel.setBackgroundRendering(true);
+        panel.setSize(400, 300);
+        paint(panel);
+        waitForFrame(panel, 400.0);
+
+        final CountDownLatch drawn = new CountDownLatch(1);
+        chart.addProgressListener(new ChartProgressListener() {
+            @Override
+            public void chartProgress(ChartProgressEvent event) {
+                if (event.getType() == ChartProgressEvent.DRAWING_FINISHED) {
+                    drawn.countDown();
+                }
+            }
+        });
+        XYPlot plot = (XYPlot) chart.getPlot();
+        for (int i = 0; i < 10; i++) {
+            panel.zoomInDomain(200.0, 150.0);
+        }
+        assertTrue(drawn.await(10L, TimeUnit.SECONDS));
+        Range range = plot.getDomainAxis().getRange();
+        assertTrue(range.getLength() < 100.0);
+    }
+
+    /**
+     * With layer caching, a data update is still shown in the panel.
+     */
+    @Test
+    public void testLayerCaching() throws Exception {
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 2.0);
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                new XYSeriesCollection(series));
+        ChartPanel panel = new ChartPanel(chart);
+        assertFalse(panel.isLayerCaching());
+        panel.setLayerCaching(true);
+        assertTrue(panel.isLayerCaching());
+        panel.setSize(400, 300);
+        paint(panel);
+        assertEquals(400.0,
+                panel.getChartRenderingInfo().getChartArea().getWidth(),
+                EPSILON);
+        int before = panel.getChartRenderingInfo().getEntityCollection()
+                .getEntityCount();
+        series.add(2.0, 3.0);
+        paint(panel);
+        assertEquals(before + 1, panel.getChartRenderingInfo()
+                .getEntityCollection().getEntityCount());
+    }
+
 }
@@ -0,0 +1,202 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------
+ * ChartRenderCacheTest.java
+ * -------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart;
+
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+
+import org.jfree.chart.encoders.ImageFormat;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link ChartRenderCache} class.
+ */
+public class ChartRenderCacheTest {
+
+    /** The series used by the test chart. */
+    private XYSeries series;
+
+    /**
+     * Creates a chart for testing.
+     *
+     * @return A chart.
+     */
+    private JFreeChart createChart() {
+        this.series = new XYSeries("S1");
+        for (int i = 0; i < 20; i++) {
+            this.series.add(i, Math.sin(i));
+        }
+        return ChartFactory.createXYLineChart("Title", "X", "Y",
+                new XYSeriesCollection(this.series));
+    }
+
+    /**
+     * Any change to the chart, including a change to its dataset, should
+     * increase the modification count.
+     */
+    @Test
+    public void testModificationCount() {
+        JFreeChart chart = createChart();
+        long count = chart.getModificationCount();
+        chart.setTitle("New Title");
+        assertTrue(chart.getModificationCount() > count);
+        count = chart.getModificationCount();
+        this.series.add(20, 1.0);
+        assertTrue(chart.getModificationCount() > count);
+        count = chart.getModificationCount();
+        chart.setNotify(false);
+        chart.getXYPlot().setDomainGridlinesVisible(false);
+        assertTrue(chart.getModificationCount() > count);
+    }
+
+    /**
+     * An unchanged chart should be answered from the cache, and a changed
+     * chart should be drawn again.
+     */
+    @Test
+    public void testHitAndMiss() throws Exception {
+        ChartRenderCache cache = new ChartRenderCache(1000000L);
+        JFreeChart chart = createChart();
+        ChartRenderCache.RenderedChart r1 = cache.renderAsPNG(chart, 300,
+                200, false);
+        ChartRenderCache.RenderedChart r2 = cache.renderAsPNG(chart, 300,
+                200, false);
+        assertSame(r1, r2);
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+
+        // the image should match one written directly
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        ChartUtilities.writeChartAsPNG(out, chart, 300, 200);
+        assertTrue(Arrays.equals(out.toByteArray(), r1.getData()));
+
+        // a different size or format is a different image
+        assertFalse(r1 == cache.renderAsPNG(chart, 301, 200, false));
+        assertFalse(r1 == cache.render(chart, 300, 200, ImageFormat.JPEG,
+                false));
+        assertEquals(3, cache.getEntryCount());
+
+        // a change replaces the old images for the chart
+        this.series.add(20, 1.0);
+        ChartRenderCache.RenderedChart r3 = cache.renderAsPNG(chart, 300,
+                200, false);
+        assertFalse(r1 == r3);
+        assertEquals(1, cache.getEntryCount());
+        assertEquals(r3.getLength(), cache.getSize());
+    }
+
+    /**
+     * A change to a dataset made while its change events are suppressed is
+     * detected through the modification stamp.
+     */
+    @Test
+    public void testSuppressedChange() throws Exception {
+        ChartRenderCache cache = new ChartRenderCache(1000000L);
+        JFreeChart chart = createChart();
+        ChartRenderCache.RenderedChart r1 = cache.renderAsPNG(chart, 300,
+                200, false);
+        long count = chart.getModificationCount();
+        this.series.setNotify(false);
+        this.series.add(20, 1.0);
+        assertEquals(count, chart.getModificationCount());
+        ChartRenderCache.RenderedChart r2 = cache.renderAsPNG(chart, 300,
+                200, false);
+        assertFalse(r1 == r2);
+        assertEquals(2L, cache.getMissCount());
+        assertEquals(1, cache.getEntryCount());
+        assertSame(r2, cache.renderAsPNG(chart, 300, 200, false));
+    }
+
+    /**
+     * An image with rendering info can be used for a request without.
+     */
+    @Test
+    public void testInfo() throws Exception {
+        ChartRenderCache cache = new ChartRenderCache(1000000L);
+        JFreeChart chart = createChart();
+        ChartRenderCache.RenderedChart r1 = cache.renderAsPNG(chart, 300,
+                200, true);
+        assertNotNull(r1.getInfo());
+        assertTrue(r1.getInfo().getEntityCollection().getEntityCount() > 0);
+        assertTrue(r1.getImageMap("map").startsWith("<map id=\"map\""));
+        assertSame(r1, cache.renderAsPNG(chart, 300, 200, false));
+
+        ChartRenderCache.RenderedChart r2 = cache.renderAsPNG(chart, 200,
+                200, false);
+        assertNull(r2.getInfo());
+        assertNull(r2.getImageMap("map"));
+        assertFalse(r2 == cache.renderAsPNG(chart, 200, 200, true));
+    }
+
+    /**
+     * The least recently used images should be evicted when the cache is
+     * full.
+     */
+    @Test
+    public void testEviction() throws Exception {
+        JFreeChart chart1 = createChart();
+        JFreeChart chart2 = createChart();
+        JFreeChart chart3 = createChart();
+        int length = new ChartRenderCache(1000000L).renderAsPNG(chart1, 300,
+                200, false).getLength();
+        ChartRenderCache cache = new ChartRenderCache(length * 5 / 2);
+        ChartRenderCache.RenderedChart r1 = cache.renderAsPNG(chart1, 300,
+                200, false);
+        cache.renderAsPNG(chart2, 300, 200, false);
+        cache.renderAsPNG(chart1, 300, 200, false);
+        cache.renderAsPNG(chart3, 300, 200, false);
+        assertEquals(2, cache.getEntryCount());
+        assertEquals(1L, cache.getEvictionCount());
+        assertSame(r1, cache.renderAsPNG(chart1, 300, 200, false));
+        cache.remove(chart1);
+        assertEquals(1, cache.getEntryCount());
+    }
+
+}
@@ -50,12 +50,24 @@ import java.awt.BasicStroke;
 import java.awt.Color;
 import java.awt.Font;
 import java.awt.GradientPaint;
+import java.awt.Graphics2D;
 import java.awt.RenderingHints;
+import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.List;
 
 import org.jfree.chart.event.ChartChangeEvent;
 import org.jfree.chart.event.ChartChangeListener;
+import org.jfree.chart.event.ChartProgressEvent;
+import org.jfree.chart.event.ChartProgressListener;
+import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.plot.CategoryPlot;
+import org.jfree.chart.plot.CrosshairState;
 import org.jfree.chart.plot.PiePlot;
+import org.jfree.chart.plot.PlotRenderingInfo;
+import org.jfree.chart.plot.XYPlot;
+import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 import org.jfree.chart.plot.RingPlot;
 import org.jfree.chart.title.LegendTitle;
 import org.jfree.chart.title.TextTitle;
@@ -66,6 +78,8 @@ import org.jfree.data.time.Day;
 import org.jfree.data.time.RegularTimePeriod;
 import org.jfree.data.time.TimeSeries;
 import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
 import org.jfree.ui.Align;
 import org.jfree.ui.RectangleEdge;
 import org.jfree.ui.RectangleInsets;
@@ -477,6 +491,130 @@ public class JFreeChartTest implements ChartChangeListener {
                 new DefaultPieDataset()).getTitle().getText());
     }
 
+    /**
+     * Draws the chart with a progress listener registered and returns the
+     * statistics from the DRAWING_FINISHED event.
+     */
+    private ChartRenderingStatistics drawWithStatistics(JFreeChart chart,
+            ChartRenderingInfo info) {
+        final List<ChartProgressEvent> events
+                = new ArrayList<ChartProgressEvent>();
+        ChartProgressListener listener = new ChartProgressListener() {
+            @Override
+            public void chartProgress(ChartProgressEvent event) {
+                events.add(event);
+            }
+        };
+        chart.addProgressListener(listener);
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), info);
+        g2.dispose();
+        chart.removeProgressListener(listener);
+        assertEquals(2, events.size());
+        assertNull(events.get(0).getStatistics());
+        assertEquals(ChartProgressEvent.DRAWING_FINISHED,
+                events.get(1).getType());
+        return events.get(1).getStatistics();
+    }
+
+    /**
+     * The rendering statistics for an XY chart.
+     */
+    @Test
+    public void testRenderingStatisticsXYPlot() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 50; i++) {
+            series.add(i, i * i);
+        }
+        JFreeChart chart = ChartFactory.createXYLineChart("Title", "X", "Y",
+                new XYSeriesCollection(series));
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        ChartRenderingStatistics stats = drawWithStatistics(chart, info);
+        assertNotNull(stats);
+        assertTrue(stats.getElapsedTime() > 0L);
+        assertTrue(stats.getPhases().contains(
+                ChartRenderingStatistics.TITLES));
+        assertTrue(stats.getPhases().contains(
+                ChartRenderingStatistics.LEGENDS));
+        assertTrue(stats.getPhases().contains(
+                ChartRenderingStatistics.AXIS_SPACE));
+        assertTrue(stats.getPhases().contains(ChartRenderingStatistics.AXES));
+        assertTrue(stats.getPhaseTime(ChartRenderingStatistics.RENDERING)
+                > 0L);
+        assertTrue(stats.getPhaseTime(ChartRenderingStatistics.PLOT)
+                >= stats.getPhaseTime(ChartRenderingStatistics.RENDERING));
+        XYPlot plot = (XYPlot) chart.getPlot();
+        assertEquals(1, stats.getRenderers().size());
+        assertSame(plot.getRenderer(), stats.getRenderers().get(0));
+        assertEquals(50, stats.getRendererItemCount(plot.getRenderer()));
+        assertEquals(50, stats.getItemCount());
+        assertEquals(info.getEntityCollection().getEntityCount(),
+                stats.getEntityCount());
+    }
+
+    /**
+     * A subclass that overrides the render() method is still used when the
+     * rendering statistics are recorded.
+     */
+    @Test
+    public void testRenderingStatisticsOverriddenRender() {
+        XYSeries series = new XYSeries("S1");
+        series.add(1.0, 2.0);
+        series.add(2.0, 3.0);
+        final boolean[] called = new boolean[1];
+        XYPlot plot = new XYPlot(new XYSeriesCollection(series),
+                new NumberAxis("X"), new NumberAxis("Y"),
+                new XYLineAndShapeRenderer()) {
+            @Override
+            public boolean render(Graphics2D g2, Rectangle2D dataArea,
+                    int index, PlotRenderingInfo info,
+                    CrosshairState crosshairState) {
+                called[0] = true;
+                return super.render(g2, dataArea, index, info,
+                        crosshairState);
+            }
+        };
+        JFreeChart chart = new JFreeChart(plot);
+        ChartRenderingStatistics stats = drawWithStatistics(chart, null);
+        assertTrue(called[0]);
+        assertEquals(2, stats.getRendererItemCount(plot.getRenderer()));
+    }
+
+    /**
+     * The rendering statistics for a category chart.
+     */
+    @Test
+    public void testRenderingStatisticsCategoryPlot() {
+        DefaultCategoryDataset dataset = new DefaultCategoryDataset();
+        dataset.addValue(1.0, "R1", "C1");
+        dataset.addValue(2.0, "R1", "C2");
+        dataset.addValue(3.0, "R2", "C1");
+        JFreeChart chart = ChartFactory.createBarChart("Title", "X", "Y",
+                dataset);
+        ChartRenderingStatistics stats = drawWithStatistics(chart, null);
+        CategoryPlot plot = (CategoryPlot) chart.getPlot();
+        assertEquals(4, stats.getRendererItemCount(plot.getRenderer()));
+        assertTrue(stats.getPhases().contains(ChartRenderingStatistics.AXES));
+        assertEquals(0, stats.getEntityCount());
+    }
+
+    /**
+     * The rendering statistics for a pie chart.
+     */
+    @Test
+    public void testRenderingStatisticsPiePlot() {
+        DefaultPieDataset dataset = new DefaultPieDataset();
+        dataset.setValue("A", 1.0);
+        dataset.setValue("B", 2.0);
+        JFreeChart chart = ChartFactory.createPieChart("Title", dataset);
+        ChartRenderingStatistics stats = drawWithStatistics(chart, null);
+        assertEquals(2, stats.getRendererItemCount(chart.getPlot()));
+        assertTrue(stats.getPhases().contains(
+                ChartRenderingStatistics.RENDERING));
+    }
+
     /** The last ChartChangeEvent received. */
     private ChartChangeEvent lastChartChangeEvent;
 
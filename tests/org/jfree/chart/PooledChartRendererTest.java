@@ -0,0 +1,231 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * PooledChartRendererTest.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.chart;
+
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.util.Arrays;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+
+import org.jfree.chart.event.ChartProgressEvent;
+import org.jfree.chart.event.ChartProgressListener;
+import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link PooledChartRenderer} class.
+ */
+public class PooledChartRendererTest {
+
+    /**
+     * Creates a chart for testing.
+     *
+     * @return A chart.
+     */
+    private JFreeChart createChart() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 20; i++) {
+            series.add(i, Math.sin(i));
+        }
+        return ChartFactory.createXYLineChart("Title", "X", "Y",
+                new XYSeriesCollection(series));
+    }
+
+    /**
+     * The output should be the same as from ChartUtilities, and images
+     * should be reused for the same size and type.
+     */
+    @Test
+    public void testWriteChartAsPNG() throws Exception {
+        JFreeChart chart = createChart();
+        ByteArrayOutputStream expected = new ByteArrayOutputStream();
+        ChartUtilities.writeChartAsPNG(expected, chart, 300, 200, null);
+
+        PooledChartRenderer renderer = new PooledChartRenderer(2, 4);
+        ByteArrayOutputStream out1 = new ByteArrayOutputStream();
+        renderer.writeChartAsPNG(out1, chart, 300, 200, null);
+        assertTrue(Arrays.equals(expected.toByteArray(), out1.toByteArray()));
+        assertEquals(1, renderer.getPooledImageCount());
+
+        // the second chart reuses (and clears) the pooled image
+        ByteArrayOutputStream out2 = new ByteArrayOutputStream();
+        renderer.writeChartAsPNG(out2, chart, 300, 200, null);
+        assertTrue(Arrays.equals(expected.toByteArray(), out2.toByteArray()));
+        assertEquals(1, renderer.getPooledImageCount());
+
+        renderer.writeChartAsPNG(new ByteArrayOutputStream(), chart, 200, 100,
+                null);
+        assertEquals(2, renderer.getPooledImageCount());
+        renderer.clear();
+        assertEquals(0, renderer.getPooledImageCount());
+    }
+
+    /**
+     * When the pool is full, the images for the least recently used size
+     * are discarded first.
+     */
+    @Test
+    public void testEviction() throws Exception {
+        JFreeChart chart = createChart();
+        int type = BufferedImage.TYPE_INT_ARGB;
+        PooledChartRenderer renderer = new PooledChartRenderer(1, 2);
+        renderer.writeChartAsPNG(new ByteArrayOutputStream(), chart, 300, 200,
+                null);
+        renderer.writeChartAsPNG(new ByteArrayOutputStream(), chart, 200, 100,
+                null);
+        renderer.writeChartAsPNG(new ByteArrayOutputStream(), chart, 300, 200,
+                null);
+        assertEquals(2, renderer.getPooledImageCount());
+
+        // the 200 x 100 image was used least recently
+        renderer.writeChartAsPNG(new ByteArrayOutputStream(), chart, 100, 50,
+                null);
+        assertEquals(2, renderer.getPooledImageCount());
+        assertEquals(1, renderer.getPooledImageCount(300, 200, type));
+        assertEquals(0, renderer.getPooledImageCount(200, 100, type));
+        assertEquals(1, renderer.getPooledImageCount(100, 50, type));
+
+        // a new size replaces the old sizes in turn
+        renderer.writeChartAsPNG(new ByteArrayOutputStream(), chart, 50, 25,
+                null);
+        assertEquals(0, renderer.getPooledImageCount(300, 200, type));
+        assertEquals(1, renderer.getPooledImageCount(50, 25, type));
+        assertEquals(2, renderer.getPooledImageCount());
+    }
+
+    /**
+     * No images are kept when the pool size is zero.
+     */
+    @Test
+    public void testNoPooling() throws Exception {
+        PooledChartRenderer renderer = new PooledChartRenderer(1, 0);
+        renderer.writeChartAsJPEG(new ByteArrayOutputStream(), createChart(),
+                300, 200, null);
+        assertEquals(0, renderer.getPooledImageCount());
+    }
+
+    /**
+     * A request is rejected when the renderer is busy and the timeout
+     * expires.
+     */
+    @Test
+    public void testAcquireTimeout() throws Exception {
+        final PooledChartRenderer renderer = new PooledChartRenderer(1, 1);
+        renderer.setAcquireTimeout(10L);
+        final JFreeChart busyChart = createChart();
+        final CountDownLatch started = new CountDownLatch(1);
+        final CountDownLatch release = new CountDownLatch(1);
+        busyChart.addProgressListener(new ChartProgressListener() {
+            @Override
+            public void chartProgress(ChartProgressEvent event) {
+                if (event.getType() == ChartProgressEvent.DRAWING_STARTED) {
+                    started.countDown();
+                    try {
+                        release.await(5, TimeUnit.SECONDS);
+                    }
+                    catch (InterruptedException e) {
+                        Thread.currentThread().interrupt();
+                    }
+                }
+            }
+        });
+        Thread t = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    renderer.writeChartAsPNG(new ByteArrayOutputStream(),
+                            busyChart, 100, 100, null);
+                }
+                catch (Exception e) {
+                    // ignore
+                }
+            }
+        });
+        t.start();
+        assertTrue(started.await(5, TimeUnit.SECONDS));
+        try {
+            renderer.writeChartAsPNG(new ByteArrayOutputStream(),
+                    createChart(), 100, 100, null);
+            fail("Expected a RejectedExecutionException.");
+        }
+        catch (RejectedExecutionException e) {
+            // expected
+        }
+        finally {
+            release.countDown();
+            t.join();
+        }
+
+        // the permit is available again
+        renderer.writeChartAsPNG(new ByteArrayOutputStream(), createChart(),
+                100, 100, null);
+    }
+
+    /**
+     * Check the constructor arguments.
+     */
+    @Test
+    public void testConstructor() {
+        try {
+            new PooledChartRenderer(0, 1);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            new PooledChartRenderer(1, -1);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,385 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------
+ * FastPNGEncoderTest.java
+ * -----------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.chart.encoders;
+
+import java.awt.Color;
+import java.awt.Graphics2D;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.util.Random;
+import java.util.zip.Adler32;
+import java.util.zip.Deflater;
+
+import javax.imageio.ImageIO;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link FastPNGEncoder} class.
+ */
+public class FastPNGEncoderTest {
+
+    /**
+     * Creates an image with some shapes and noise.
+     *
+     * @param width  the width.
+     * @param height  the height.
+     * @param type  the image type.
+     * @param transparent  leave the background transparent?
+     *
+     * @return The image.
+     */
+    private BufferedImage createImage(int width, int height, int type,
+            boolean transparent) {
+        BufferedImage image = new BufferedImage(width, height, type);
+        Graphics2D g2 = image.createGraphics();
+        if (!transparent) {
+            g2.setPaint(Color.WHITE);
+            g2.fillRect(0, 0, width, height);
+        }
+        g2.setPaint(Color.RED);
+        g2.fillOval(width / 4, height / 4, width / 2, height / 2);
+        g2.setPaint(new Color(0, 0, 255, 128));
+        g2.fillRect(0, 0, width / 3, height / 3);
+        g2.dispose();
+        Random random = new Random(42L);
+        for (int i = 0; i < width * height / 20; i++) {
+            int x = random.nextInt(width);
+            int y = random.nextInt(height);
+            image.setRGB(x, y, 0xFF000000 | random.nextInt(0x1000000));
+        }
+        return image;
+    }
+
+    /**
+     * Encodes an image, decodes it with ImageIO and checks that the pixels
+     * are the same.
+     *
+     * @param encoder  the encoder.
+     * @param image  the image.
+     * @param alpha  should the result have an alpha channel?
+     */
+    private void checkRoundTrip(FastPNGEncoder encoder, BufferedImage image,
+            boolean alpha) throws IOException {
+        byte[] png = encoder.encode(image);
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(png));
+        assertEquals(image.getWidth(), result.getWidth());
+        assertEquals(image.getHeight(), result.getHeight());
+        assertEquals(alpha, result.getColorModel().hasAlpha());
+        for (int y = 0; y < image.getHeight(); y++) {
+            for (int x = 0; x < image.getWidth(); x++) {
+                int expected = image.getRGB(x, y);
+                if (!alpha) {
+                    expected |= 0xFF000000;
+                }
+                if (expected != result.getRGB(x, y)) {
+                    fail("Pixel (" + x + ", " + y + ") differs.");
+                }
+            }
+        }
+    }
+
+    /**
+     * Round trips for each filter, with and without alpha.
+     */
+    @Test
+    public void testFilters() throws IOException {
+        BufferedImage rgb = createImage(61, 47, BufferedImage.TYPE_INT_RGB,
+                false);
+        BufferedImage argb = createImage(61, 47, BufferedImage.TYPE_INT_ARGB,
+                true);
+        BufferedImage opaque = createImage(61, 47,
+                BufferedImage.TYPE_INT_ARGB, false);
+        int[] filters = {FastPNGEncoder.FILTER_NONE,
+                FastPNGEncoder.FILTER_SUB, FastPNGEncoder.FILTER_UP};
+        for (int filter : filters) {
+            FastPNGEncoder encoder = new FastPNGEncoder();
+            encoder.setFilter(filter);
+            checkRoundTrip(encoder, rgb, false);
+            checkRoundTrip(encoder, argb, true);
+            // an opaque image is written without alpha unless requested
+            checkRoundTrip(encoder, opaque, false);
+            encoder.setEncodingAlpha(true);
+            checkRoundTrip(encoder, opaque, true);
+            encoder.setEncodingAlpha(false);
+        }
+    }
+
+    /**
+     * Round trips for other image types, compression levels and strategies.
+     */
+    @Test
+    public void testOtherSettings() throws IOException {
+        FastPNGEncoder encoder = new FastPNGEncoder();
+        checkRoundTrip(encoder, createImage(30, 20,
+                BufferedImage.TYPE_3BYTE_BGR, false), false);
+        checkRoundTrip(encoder, createImage(30, 20,
+                BufferedImage.TYPE_INT_ARGB_PRE, true), true);
+        for (int level = 0; level <= 9; level++) {
+            encoder.setCompressionLevel(level);
+            checkRoundTrip(encoder, createImage(30, 20,
+                    BufferedImage.TYPE_INT_RGB, false), false);
+        }
+        encoder.setStrategy(Deflater.FILTERED);
+        checkRoundTrip(encoder, createImage(30, 20,
+                BufferedImage.TYPE_INT_RGB, false), false);
+        encoder.setStrategy(Deflater.HUFFMAN_ONLY);
+        checkRoundTrip(encoder, createImage(30, 20,
+                BufferedImage.TYPE_INT_RGB, false), false);
+    }
+
+    /**
+     * Returns the PNG colour type from the IHDR chunk.
+     *
+     * @param png  the PNG data.
+     *
+     * @return The colour type.
+     */
+    private int colorType(byte[] png) {
+        return png[25];
+    }
+
+    /**
+     * Creates an image with a limited number of colours.
+     *
+     * @param colors  the number of colours.
+     * @param transparent  include transparent and translucent pixels?
+     *
+     * @return The image.
+     */
+    private BufferedImage createPaletteImage(int colors,
+            boolean transparent) {
+        BufferedImage image = new BufferedImage(64, 48,
+                BufferedImage.TYPE_INT_ARGB);
+        Random random = new Random(7L);
+        int[] palette = new int[colors];
+        for (int i = 0; i < colors; i++) {
+            palette[i] = 0xFF000000 | random.nextInt(0x1000000);
+        }
+        if (transparent) {
+            palette[0] = 0;
+            palette[1] = 0x80FF0000;
+        }
+        for (int y = 0; y < 48; y++) {
+            for (int x = 0; x < 64; x++) {
+                image.setRGB(x, y, palette[(x + y * 64) % colors]);
+            }
+        }
+        return image;
+    }
+
+    /**
+     * Images with no more than 256 colours are written exactly as palette
+     * images.
+     */
+    @Test
+    public void testIndexed() throws IOException {
+        FastPNGEncoder encoder = new FastPNGEncoder();
+        encoder.setIndexed(true);
+        int[] filters = {FastPNGEncoder.FILTER_NONE,
+                FastPNGEncoder.FILTER_SUB, FastPNGEncoder.FILTER_UP};
+        for (int filter : filters) {
+            encoder.setFilter(filter);
+            BufferedImage opaque = createPaletteImage(256, false);
+            assertEquals(3, colorType(encoder.encode(opaque)));
+            checkRoundTrip(encoder, opaque, false);
+            BufferedImage translucent = createPaletteImage(20, true);
+            assertEquals(3, colorType(encoder.encode(translucent)));
+            checkRoundTrip(encoder, translucent, true);
+        }
+        encoder.setParallel(true);
+        checkRoundTrip(encoder, createPaletteImage(5, true), true);
+    }
+
+    /**
+     * Images with more than 256 colours are written as RGB unless
+     * quantizing is enabled.
+     */
+    @Test
+    public void testQuantizing() throws IOException {
+        FastPNGEncoder encoder = new FastPNGEncoder();
+        encoder.setIndexed(true);
+        BufferedImage image = createPaletteImage(300, false);
+        byte[] png = encoder.encode(image);
+        assertEquals(2, colorType(png));
+
+        encoder.setQuantizing(true);
+        png = encoder.encode(image);
+        assertEquals(3, colorType(png));
+        BufferedImage result = ImageIO.read(new ByteArrayInputStream(png));
+        int exact = 0;
+        for (int y = 0; y < 48; y++) {
+            for (int x = 0; x < 64; x++) {
+                if (image.getRGB(x, y) == result.getRGB(x, y)) {
+                    exact++;
+                }
+            }
+        }
+        // the 256 most frequent colours are exact
+        assertTrue(exact >= 256 * 10);
+    }
+
+    /**
+     * Round trips for parallel compression of an image with many blocks.
+     */
+    @Test
+    public void testParallel() throws IOException {
+        BufferedImage image = createImage(400, 700,
+                BufferedImage.TYPE_INT_ARGB, true);
+        int[] filters = {FastPNGEncoder.FILTER_NONE,
+                FastPNGEncoder.FILTER_SUB, FastPNGEncoder.FILTER_UP};
+        for (int filter : filters) {
+            FastPNGEncoder encoder = new FastPNGEncoder();
+            encoder.setParallel(true);
+            encoder.setFilter(filter);
+            checkRoundTrip(encoder, image, true);
+        }
+    }
+
+    /**
+     * A subimage shares the raster data of its parent.
+     */
+    @Test
+    public void testSubimage() throws IOException {
+        BufferedImage image = createImage(50, 40, BufferedImage.TYPE_INT_RGB,
+                false);
+        checkRoundTrip(new FastPNGEncoder(), image.getSubimage(7, 5, 30, 20),
+                false);
+    }
+
+    /**
+     * Check the combined Adler-32 checksum against one calculated in a
+     * single pass.
+     */
+    @Test
+    public void testCombineAdler32() {
+        byte[] data = new byte[100000];
+        new Random(1L).nextBytes(data);
+        Adler32 all = new Adler32();
+        all.update(data);
+        Adler32 a = new Adler32();
+        a.update(data, 0, 12345);
+        Adler32 b = new Adler32();
+        b.update(data, 12345, data.length - 12345);
+        assertEquals(all.getValue(), FastPNGEncoder.combineAdler32(
+                a.getValue(), b.getValue(), data.length - 12345));
+        assertEquals(a.getValue(), FastPNGEncoder.combineAdler32(1L,
+                a.getValue(), 12345));
+    }
+
+    /**
+     * Invalid settings are rejected.
+     */
+    @Test
+    public void testSettings() {
+        FastPNGEncoder encoder = new FastPNGEncoder();
+        assertEquals(6.0f, encoder.getQuality(), 0.0f);
+        assertFalse(encoder.isParallel());
+
+        // a fraction is scaled to a compression level
+        encoder.setQuality(0.75f);
+        assertEquals(7.0f, encoder.getQuality(), 0.0f);
+        encoder.setQuality(0.01f);
+        assertEquals(1.0f, encoder.getQuality(), 0.0f);
+        encoder.setQuality(0.99f);
+        assertEquals(9.0f, encoder.getQuality(), 0.0f);
+        encoder.setQuality(1.0f);
+        assertEquals(9.0f, encoder.getQuality(), 0.0f);
+        encoder.setQuality(2.0f);
+        assertEquals(2.0f, encoder.getQuality(), 0.0f);
+        encoder.setQuality(0.0f);
+        assertEquals(0, encoder.getCompressionLevel());
+        ImageEncoder fromFactory = ImageEncoderFactory.newInstance(
+                ImageFormat.PNG, 0.75f);
+        assertEquals(7.0f, fromFactory.getQuality(), 0.0f);
+
+        // a compression level is used as it is
+        encoder.setCompressionLevel(1);
+        assertEquals(1, encoder.getCompressionLevel());
+        assertEquals(1.0f, ImageEncoderFactory.newPNGInstance(1,
+                false).getQuality(), 0.0f);
+        try {
+            encoder.setCompressionLevel(10);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            encoder.setQuality(10f);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            encoder.setFilter(3);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        try {
+            encoder.setStrategy(99);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The factory returns this encoder for PNG.
+     */
+    @Test
+    public void testFactory() {
+        assertTrue(ImageEncoderFactory.newInstance(ImageFormat.PNG)
+                instanceof FastPNGEncoder);
+    }
+
+}
@@ -0,0 +1,155 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -----------------------------
+ * GridEntityCollectionTest.java
+ * -----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.chart.entity;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import java.awt.geom.Ellipse2D;
+import java.awt.geom.Rectangle2D;
+import java.util.Random;
+
+import org.jfree.chart.TestUtilities;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link GridEntityCollection} class.
+ */
+public class GridEntityCollectionTest {
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        GridEntityCollection c1 = new GridEntityCollection();
+        GridEntityCollection c2 = new GridEntityCollection();
+        assertTrue(c1.equals(c2));
+
+        c1.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0),
+                "ToolTip", "URL"));
+        assertFalse(c1.equals(c2));
+        c2.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0),
+                "ToolTip", "URL"));
+        assertTrue(c1.equals(c2));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        GridEntityCollection c1 = new GridEntityCollection();
+        c1.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0)));
+        assertTrue(c1.getEntity(2.0, 3.0) != null);
+        GridEntityCollection c2 = (GridEntityCollection) c1.clone();
+        assertTrue(c1 != c2);
+        assertTrue(c1.getClass() == c2.getClass());
+        assertTrue(c1.equals(c2));
+
+        // check independence
+        c1.clear();
+        assertFalse(c1.equals(c2));
+        assertNull(c1.getEntity(2.0, 3.0));
+        assertTrue(c2.getEntity(2.0, 3.0) != null);
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        GridEntityCollection c1 = new GridEntityCollection();
+        c1.add(new ChartEntity(new Rectangle2D.Double(1.0, 2.0, 3.0, 4.0)));
+        GridEntityCollection c2 = (GridEntityCollection)
+                TestUtilities.serialised(c1);
+        assertEquals(c1, c2);
+        assertEquals(c2.getEntity(0), c2.getEntity(2.0, 3.0));
+        assertNull(new GridEntityCollection().getEntity(0.0, 0.0));
+    }
+
+    /**
+     * Checks that lookups return the same entity as the
+     * {@link StandardEntityCollection} class, including where entities
+     * overlap and where a large entity is added after smaller ones.
+     */
+    @Test
+    public void testGetEntity() {
+        Random random = new Random(123L);
+        StandardEntityCollection c1 = new StandardEntityCollection();
+        GridEntityCollection c2 = new GridEntityCollection();
+        ChartEntity background = new ChartEntity(
+                new Rectangle2D.Double(0.0, 0.0, 500.0, 400.0));
+        c1.add(background);
+        c2.add(background);
+        for (int i = 0; i < 5000; i++) {
+            double x = random.nextDouble() * 480.0;
+            double y = random.nextDouble() * 380.0;
+            double w = random.nextDouble() * 20.0;
+            double h = random.nextDouble() * 20.0;
+            ChartEntity e = new ChartEntity(i % 2 == 0
+                    ? new Rectangle2D.Double(x, y, w, h)
+                    : new Ellipse2D.Double(x, y, w, h));
+            c1.add(e);
+            c2.add(e);
+        }
+        ChartEntity overlay = new ChartEntity(
+                new Rectangle2D.Double(100.0, 100.0, 200.0, 100.0));
+        c1.add(overlay);
+        c2.add(overlay);
+        for (int i = 0; i < 20000; i++) {
+            double x = random.nextDouble() * 520.0 - 10.0;
+            double y = random.nextDouble() * 420.0 - 10.0;
+            assertSame(c1.getEntity(x, y), c2.getEntity(x, y));
+        }
+
+        // adding entities after a lookup updates the index
+        ChartEntity top = new ChartEntity(
+                new Rectangle2D.Double(10.0, 10.0, 1.0, 1.0));
+        c2.add(top);
+        assertSame(top, c2.getEntity(10.5, 10.5));
+    }
+
+}
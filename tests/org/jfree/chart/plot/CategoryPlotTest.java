@@ -67,6 +67,7 @@ import java.awt.Stroke;
 import java.awt.geom.Line2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
@@ -82,16 +83,20 @@ import org.jfree.chart.axis.AxisSpace;
 import org.jfree.chart.axis.CategoryAnchor;
 import org.jfree.chart.axis.CategoryAxis;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.ValueAxis;
 import org.jfree.chart.event.MarkerChangeListener;
 import org.jfree.chart.renderer.category.AreaRenderer;
 import org.jfree.chart.renderer.category.BarRenderer;
 import org.jfree.chart.renderer.category.CategoryItemRenderer;
+import org.jfree.chart.renderer.category.CategoryItemRendererState;
 import org.jfree.chart.renderer.category.DefaultCategoryItemRenderer;
 import org.jfree.chart.renderer.category.LineAndShapeRenderer;
 import org.jfree.chart.util.DefaultShadowGenerator;
 import org.jfree.data.Range;
 import org.jfree.data.category.CategoryDataset;
 import org.jfree.data.category.DefaultCategoryDataset;
+import org.jfree.data.general.Dataset;
+import org.jfree.data.general.SnapshotableDataset;
 import org.jfree.ui.Layer;
 import org.jfree.ui.RectangleInsets;
 import org.jfree.util.SortOrder;
@@ -1262,4 +1267,57 @@ public class CategoryPlotTest {
                 yMarker1));
     }
 
+    /**
+     * A category dataset that returns a copy of itself as a snapshot.
+     */
+    static class SnapshotCategoryDataset extends DefaultCategoryDataset
+            implements SnapshotableDataset {
+
+        @Override
+        public Dataset getSnapshot() {
+            try {
+                return (Dataset) clone();
+            }
+            catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+    }
+
+    /**
+     * A dataset that supplies snapshots is rendered from a snapshot.
+     */
+    @Test
+    public void testRenderSnapshot() {
+        final SnapshotCategoryDataset dataset = new SnapshotCategoryDataset();
+        dataset.addValue(1.0, "R1", "C1");
+        dataset.addValue(2.0, "R1", "C2");
+        final List<CategoryDataset> seen = new ArrayList<CategoryDataset>();
+        LineAndShapeRenderer r = new LineAndShapeRenderer() {
+            @Override
+            public void drawItem(Graphics2D g2,
+                    CategoryItemRendererState state, Rectangle2D dataArea,
+                    CategoryPlot plot, CategoryAxis domainAxis,
+                    ValueAxis rangeAxis, CategoryDataset data, int row,
+                    int column, int pass) {
+                seen.add(data);
+                dataset.clear();
+            }
+        };
+        CategoryPlot plot = new CategoryPlot(dataset, new CategoryAxis("X"),
+                new NumberAxis("Y"), r);
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100));
+        g2.dispose();
+        assertEquals(4, seen.size());
+        for (CategoryDataset data : seen) {
+            assertTrue(data != dataset);
+            assertEquals(2, data.getColumnCount());
+        }
+    }
+
 }
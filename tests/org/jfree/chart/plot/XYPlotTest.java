@@ -64,13 +64,20 @@ import java.awt.Color;
 import java.awt.GradientPaint;
 import java.awt.Graphics2D;
 import java.awt.Stroke;
+import java.awt.geom.AffineTransform;
 import java.awt.geom.Point2D;
 import java.awt.geom.Rectangle2D;
 import java.awt.image.BufferedImage;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.TimeUnit;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.LegendItemCollection;
@@ -79,17 +86,23 @@ import org.jfree.chart.annotations.XYTextAnnotation;
 import org.jfree.chart.axis.AxisLocation;
 import org.jfree.chart.axis.DateAxis;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.axis.ValueAxis;
+import org.jfree.chart.entity.ChartEntity;
+import org.jfree.chart.entity.EntityCollection;
+import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.event.MarkerChangeListener;
 import org.jfree.chart.labels.StandardXYToolTipGenerator;
 import org.jfree.chart.renderer.xy.DefaultXYItemRenderer;
 import org.jfree.chart.renderer.xy.StandardXYItemRenderer;
 import org.jfree.chart.renderer.xy.XYBarRenderer;
 import org.jfree.chart.renderer.xy.XYItemRenderer;
+import org.jfree.chart.renderer.xy.XYItemRendererState;
 import org.jfree.chart.renderer.xy.XYLineAndShapeRenderer;
 import org.jfree.chart.util.DefaultShadowGenerator;
 import org.jfree.data.time.Day;
 import org.jfree.data.time.TimeSeries;
 import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.ConcurrentXYDataset;
 import org.jfree.data.xy.DefaultXYDataset;
 import org.jfree.data.xy.IntervalXYDataset;
 import org.jfree.data.xy.XYDataset;
@@ -425,6 +438,12 @@ public class XYPlotTest {
         plot2.setShadowGenerator(null);
         assertTrue(plot1.equals(plot2));
 
+        // parallelRendering
+        plot1.setParallelRendering(true);
+        assertFalse(plot1.equals(plot2));
+        plot2.setParallelRendering(true);
+        assertTrue(plot1.equals(plot2));
+
         LegendItemCollection lic1 = new LegendItemCollection();
         lic1.add(new LegendItem("XYZ", Color.red));
         plot1.setFixedLegendItems(lic1);
@@ -1067,6 +1086,154 @@ public class XYPlotTest {
         }
     }
 
+    /**
+     * Draws a plot with several datasets sequentially and in parallel, and
+     * checks that the same entities are created in the same order.
+     */
+    @Test
+    public void testParallelRendering() {
+        XYPlot plot = new XYPlot();
+        plot.setDomainAxis(new NumberAxis("X"));
+        plot.setRangeAxis(new NumberAxis("Y"));
+        plot.setRenderer(new XYLineAndShapeRenderer());
+        for (int i = 0; i < 4; i++) {
+            XYSeries s = new XYSeries("S" + i);
+            for (int j = 0; j < 50; j++) {
+                s.add(j, i * 10 + j % 7);
+            }
+            plot.setDataset(i, new XYSeriesCollection(s));
+        }
+        plot.setRenderer(2, new XYBarRenderer());
+        JFreeChart chart = new JFreeChart(plot);
+
+        ChartRenderingInfo info1 = new ChartRenderingInfo();
+        BufferedImage image = new BufferedImage(400, 300,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), info1);
+
+        plot.setParallelRendering(true);
+        ChartRenderingInfo info2 = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 300), info2);
+        g2.dispose();
+
+        EntityCollection e1 = info1.getEntityCollection();
+        EntityCollection e2 = info2.getEntityCollection();
+        assertTrue(e1.getEntityCount() > 200);
+        assertEquals(e1.getEntityCount(), e2.getEntityCount());
+        for (int i = 0; i < e1.getEntityCount(); i++) {
+            ChartEntity c1 = e1.getEntity(i);
+            ChartEntity c2 = e2.getEntity(i);
+            assertEquals(c1.getClass(), c2.getClass());
+            assertEquals(c1.getArea().getBounds2D(),
+                    c2.getArea().getBounds2D());
+            if (c1 instanceof XYItemEntity) {
+                XYItemEntity x1 = (XYItemEntity) c1;
+                XYItemEntity x2 = (XYItemEntity) c2;
+                assertTrue(x1.getDataset() == x2.getDataset());
+                assertEquals(x1.getSeriesIndex(), x2.getSeriesIndex());
+                assertEquals(x1.getItem(), x2.getItem());
+            }
+        }
+    }
+
+    /**
+     * Charts with parallel rendering can be drawn from tasks that occupy
+     * every thread in the common fork/join pool.
+     *
+     * @throws Exception if there is a problem.
+     */
+    @Test
+    public void testParallelRenderingFromPoolThreads() throws Exception {
+        Callable<Integer> drawChart = new Callable<Integer>() {
+            @Override
+            public Integer call() {
+                XYPlot plot = new XYPlot();
+                plot.setDomainAxis(new NumberAxis("X"));
+                plot.setRangeAxis(new NumberAxis("Y"));
+                plot.setParallelRendering(true);
+                for (int i = 0; i < 3; i++) {
+                    XYSeries s = new XYSeries("S" + i);
+                    for (int j = 0; j < 50; j++) {
+                        s.add(j, i * 10 + j % 7);
+                    }
+                    plot.setDataset(i, new XYSeriesCollection(s));
+                    plot.setRenderer(i, new XYLineAndShapeRenderer());
+                }
+                JFreeChart chart = new JFreeChart(plot);
+                ChartRenderingInfo info = new ChartRenderingInfo();
+                BufferedImage image = new BufferedImage(200, 100,
+                        BufferedImage.TYPE_INT_RGB);
+                Graphics2D g2 = image.createGraphics();
+                chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), info);
+                g2.dispose();
+                return info.getEntityCollection().getEntityCount();
+            }
+        };
+        int count = ForkJoinPool.commonPool().getParallelism() * 2;
+        List<ForkJoinTask<Integer>> tasks
+                = new ArrayList<ForkJoinTask<Integer>>();
+        for (int t = 0; t < count; t++) {
+            tasks.add(ForkJoinPool.commonPool().submit(drawChart));
+        }
+        for (ForkJoinTask<Integer> task : tasks) {
+            assertTrue(task.get(60, TimeUnit.SECONDS) > 150);
+        }
+    }
+
+    /**
+     * Parallel rendering should follow the transform of the graphics device.
+     */
+    @Test
+    public void testParallelRenderingTransform() {
+        XYPlot plot = new XYPlot();
+        plot.setDomainAxis(new NumberAxis("X"));
+        plot.setRangeAxis(new NumberAxis("Y"));
+        plot.setRenderer(new XYLineAndShapeRenderer());
+        for (int i = 0; i < 3; i++) {
+            XYSeries s = new XYSeries("S" + i);
+            for (int j = 0; j < 50; j++) {
+                s.add(j, i * 10 + j % 7);
+            }
+            plot.setDataset(i, new XYSeriesCollection(s));
+        }
+        JFreeChart chart = new JFreeChart(plot);
+        chart.setAntiAlias(false);
+
+        AffineTransform[] transforms = new AffineTransform[] {
+            AffineTransform.getTranslateInstance(30.5, 20.25),
+            AffineTransform.getScaleInstance(1.5, 0.75)};
+        for (AffineTransform t : transforms) {
+            plot.setParallelRendering(false);
+            BufferedImage image1 = drawImage(chart, t);
+            plot.setParallelRendering(true);
+            BufferedImage image2 = drawImage(chart, t);
+            for (int x = 0; x < image1.getWidth(); x++) {
+                for (int y = 0; y < image1.getHeight(); y++) {
+                    assertEquals(image1.getRGB(x, y), image2.getRGB(x, y));
+                }
+            }
+        }
+    }
+
+    /**
+     * Draws a chart to an image.
+     *
+     * @param chart  the chart.
+     * @param t  the transform for the graphics device.
+     *
+     * @return The image.
+     */
+    private BufferedImage drawImage(JFreeChart chart, AffineTransform t) {
+        BufferedImage image = new BufferedImage(500, 300,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        g2.transform(t);
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 250));
+        g2.dispose();
+        return image;
+    }
+
     /**
      * Check that removing a marker that isn't assigned to the plot returns
      * false.
@@ -1372,4 +1539,106 @@ public class XYPlotTest {
         assertTrue(plot.getRangeMarkers(99, Layer.FOREGROUND).contains(yMarker1));
     }
     
+    /**
+     * Rendering stops early when the drawing has been cancelled through the
+     * {@link ChartRenderingInfo}, which is how a superseded background frame
+     * is abandoned.  Interrupting the thread has no effect.
+     */
+    @Test
+    public void testRenderCancelled() {
+        XYSeries series = new XYSeries("S1");
+        for (int i = 0; i < 20000; i++) {
+            series.add(i, i % 100);
+        }
+        final int[] count = new int[1];
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer(true, false) {
+            @Override
+            public void drawItem(Graphics2D g2, XYItemRendererState state,
+                    Rectangle2D dataArea, PlotRenderingInfo info,
+                    XYPlot plot, ValueAxis domainAxis, ValueAxis rangeAxis,
+                    XYDataset dataset, int series, int item,
+                    CrosshairState crosshairState, int pass) {
+                if (pass == 0) {
+                    count[0]++;
+                    if (item == 100 && info != null) {
+                        info.getOwner().cancel();
+                    }
+                }
+            }
+        };
+        XYPlot plot = new XYPlot(new XYSeriesCollection(series),
+                new NumberAxis("X"), new NumberAxis("Y"), r);
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100));
+        assertEquals(20000, count[0]);
+
+        // the interrupt flag is not used for cancellation
+        count[0] = 0;
+        Thread.currentThread().interrupt();
+        try {
+            chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100));
+        } finally {
+            assertTrue(Thread.interrupted());
+        }
+        assertEquals(20000, count[0]);
+
+        count[0] = 0;
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100), info);
+        g2.dispose();
+        assertTrue(info.isCancelled());
+        assertTrue(count[0] < 20000);
+    }
+
+    /**
+     * A dataset that supplies snapshots is rendered from a snapshot, so a
+     * change published while the chart is drawn is not seen until the next
+     * draw.
+     */
+    @Test
+    public void testRenderSnapshot() {
+        final ConcurrentXYDataset dataset = new ConcurrentXYDataset();
+        final int s = dataset.addSeries("S1");
+        for (int i = 0; i < 100; i++) {
+            dataset.append(s, i, i);
+        }
+        dataset.publish();
+        final int[] count = new int[1];
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer(true, false) {
+            @Override
+            public void drawItem(Graphics2D g2, XYItemRendererState state,
+                    Rectangle2D dataArea, PlotRenderingInfo info,
+                    XYPlot plot, ValueAxis domainAxis, ValueAxis rangeAxis,
+                    XYDataset data, int series, int item,
+                    CrosshairState crosshairState, int pass) {
+                if (count[0]++ == 0) {
+                    dataset.clear(s);
+                    dataset.publish();
+                }
+                super.drawItem(g2, state, dataArea, info, plot, domainAxis,
+                        rangeAxis, data, series, item, crosshairState, pass);
+            }
+        };
+        NumberAxis xAxis = new NumberAxis("X");
+        xAxis.setRange(0.0, 99.0);
+        NumberAxis yAxis = new NumberAxis("Y");
+        yAxis.setRange(0.0, 99.0);
+        XYPlot plot = new XYPlot(dataset, xAxis, yAxis, r);
+        JFreeChart chart = new JFreeChart(plot);
+        BufferedImage image = new BufferedImage(200, 100,
+                BufferedImage.TYPE_INT_RGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100));
+        assertEquals(200, count[0]);
+        assertEquals(0, dataset.getItemCount(0));
+
+        count[0] = 1;
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 200, 100));
+        g2.dispose();
+        assertEquals(1, count[0]);
+    }
+
 }
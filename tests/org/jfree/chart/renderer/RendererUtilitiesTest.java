@@ -46,6 +46,7 @@ import static org.junit.Assert.assertEquals;
 import org.jfree.data.DomainOrder;
 import org.jfree.data.xy.DefaultXYDataset;
 import org.jfree.data.xy.XYSeries;
+import org.jfree.data.xy.XYItemFinder;
 import org.jfree.data.xy.XYSeriesCollection;
 import org.junit.Test;
 
@@ -502,4 +503,57 @@ public class RendererUtilitiesTest {
         assertEquals(2, bounds[1]);
     }
 
+    /**
+     * A dataset that implements {@link XYItemFinder} is asked for the
+     * bounds instead of being searched.
+     */
+    @Test
+    public void testFindLiveItems_XYItemFinder() {
+        final int[] calls = new int[1];
+        DefaultXYDataset d = new FinderDataset(calls);
+        d.addSeries("S1", new double[][] {{1.0, 2.0, 3.0, 4.0, 5.0},
+                {1.0, 1.0, 1.0, 1.0, 1.0}});
+        assertEquals(1, RendererUtilities.findLiveItemsLowerBound(d, 0, 1.5,
+                3.5));
+        assertEquals(2, RendererUtilities.findLiveItemsUpperBound(d, 0, 1.5,
+                3.5));
+        assertEquals(2, RendererUtilities.findLiveItemsUpperBound(d, 0, 1.5,
+                3.0));
+        assertEquals(4, RendererUtilities.findLiveItemsLowerBound(d, 0, 9.0,
+                10.0));
+        assertEquals(0, RendererUtilities.findLiveItemsUpperBound(d, 0, 0.0,
+                0.5));
+        assertEquals(5, calls[0]);
+    }
+
+    /**
+     * A dataset that finds items with a linear search and counts the calls.
+     */
+    private static class FinderDataset extends DefaultXYDataset
+            implements XYItemFinder {
+
+        /** The call count. */
+        private int[] calls;
+
+        /**
+         * Creates a new dataset.
+         *
+         * @param calls  the call count.
+         */
+        FinderDataset(int[] calls) {
+            this.calls = calls;
+        }
+
+        @Override
+        public int findItem(int series, double x) {
+            this.calls[0]++;
+            int i = 0;
+            while (i < getItemCount(series) && getXValue(series, i) < x) {
+                i++;
+            }
+            return i;
+        }
+
+    }
+
 }
@@ -48,14 +48,18 @@ import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 
+import java.awt.Graphics2D;
 import java.awt.geom.Line2D;
 import java.awt.geom.Rectangle2D;
+import java.awt.image.BufferedImage;
 
 import org.jfree.chart.ChartFactory;
+import org.jfree.chart.ChartRenderingInfo;
 import org.jfree.chart.JFreeChart;
 import org.jfree.chart.LegendItem;
 import org.jfree.chart.TestUtilities;
 import org.jfree.chart.axis.NumberAxis;
+import org.jfree.chart.entity.XYItemEntity;
 import org.jfree.chart.plot.PlotOrientation;
 import org.jfree.chart.plot.XYPlot;
 import org.jfree.chart.urls.TimeSeriesURLGenerator;
@@ -151,6 +155,11 @@ public class XYLineAndShapeRendererTest {
         assertFalse(r1.equals(r2));
         r2.setDrawSeriesLineAsPath(true);
         assertTrue(r1.equals(r2));
+
+        r1.setPixelColumnAggregation(true);
+        assertFalse(r1.equals(r2));
+        r2.setPixelColumnAggregation(true);
+        assertTrue(r1.equals(r2));
     }
 
     /**
@@ -313,4 +322,52 @@ public class XYLineAndShapeRendererTest {
         assertEquals(2, li.getSeriesIndex());
     }
 
+    /**
+     * Draws a dense series with and without pixel column aggregation and
+     * checks that the aggregated chart has at most four entities per pixel
+     * column and keeps the minimum and maximum items.
+     */
+    @Test
+    public void testPixelColumnAggregation() {
+        XYSeries s1 = new XYSeries("S1");
+        for (int i = 0; i < 10000; i++) {
+            s1.add(i, Math.sin(i / 50.0));
+        }
+        s1.add(10000, null);
+        s1.add(10001, 1.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        XYLineAndShapeRenderer r = new XYLineAndShapeRenderer();
+        XYPlot plot = new XYPlot(dataset, new NumberAxis("X"),
+                new NumberAxis("Y"), r);
+        JFreeChart chart = new JFreeChart(plot);
+
+        ChartRenderingInfo info = new ChartRenderingInfo();
+        BufferedImage image = new BufferedImage(400, 200,
+                BufferedImage.TYPE_INT_ARGB);
+        Graphics2D g2 = image.createGraphics();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 200), info);
+        int full = info.getEntityCollection().getEntityCount();
+
+        r.setPixelColumnAggregation(true);
+        info = new ChartRenderingInfo();
+        chart.draw(g2, new Rectangle2D.Double(0, 0, 400, 200), info);
+        g2.dispose();
+        int aggregated = info.getEntityCollection().getEntityCount();
+        assertTrue(aggregated < full);
+        assertTrue(aggregated <= 4 * 400 + 10);
+
+        boolean foundMin = false;
+        boolean foundMax = false;
+        for (Object obj : info.getEntityCollection().getEntities()) {
+            if (obj instanceof XYItemEntity) {
+                XYItemEntity e = (XYItemEntity) obj;
+                double y = dataset.getYValue(0, e.getItem());
+                foundMin = foundMin || y == s1.getMinY();
+                foundMax = foundMax || y == s1.getMaxY();
+            }
+        }
+        assertTrue(foundMin);
+        assertTrue(foundMax);
+    }
+
 }
@@ -0,0 +1,182 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * ChartImageCacheTest.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.chart.servlet;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.Arrays;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+/**
+ * Tests for the {@link ChartImageCache} class.
+ */
+public class ChartImageCacheTest {
+
+    /**
+     * Returns some data for a test image.
+     *
+     * @param length  the length.
+     *
+     * @return The data.
+     */
+    private static byte[] data(int length) {
+        byte[] result = new byte[length];
+        for (int i = 0; i < length; i++) {
+            result[i] = (byte) i;
+        }
+        return result;
+    }
+
+    /**
+     * Check that images can be stored and fetched, and that the statistics
+     * are updated.
+     */
+    @Test
+    public void testPutAndGet() throws IOException {
+        ChartImageCache cache = new ChartImageCache(1000L);
+        byte[] data = data(100);
+        String name = cache.put("jfreechart-", ".png", data, "image/png");
+        assertTrue(name.startsWith("jfreechart-"));
+        assertTrue(name.endsWith(".png"));
+        assertEquals(1, cache.getEntryCount());
+        assertEquals(100L, cache.getSize());
+
+        ChartImageCache.CachedImage image = cache.get(name);
+        assertNotNull(image);
+        assertEquals("image/png", image.getContentType());
+        assertEquals(100, image.getLength());
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        image.writeTo(out);
+        assertTrue(Arrays.equals(data, out.toByteArray()));
+
+        assertNull(cache.get("jfreechart-missing.png"));
+        assertEquals(1L, cache.getHitCount());
+        assertEquals(1L, cache.getMissCount());
+        assertEquals(0.5, cache.getHitRate(), 0.0);
+
+        assertTrue(cache.remove(name));
+        assertFalse(cache.remove(name));
+        assertEquals(0, cache.getEntryCount());
+        assertEquals(0L, cache.getSize());
+    }
+
+    /**
+     * The names should be different each time.
+     */
+    @Test
+    public void testUniqueNames() {
+        ChartImageCache cache = new ChartImageCache(1000L);
+        String n1 = cache.put("a", ".png", data(1), null);
+        String n2 = cache.put("a", ".png", data(1), null);
+        assertFalse(n1.equals(n2));
+    }
+
+    /**
+     * Check that the least recently used images are evicted when the cache
+     * is full.
+     */
+    @Test
+    public void testEviction() {
+        ChartImageCache cache = new ChartImageCache(250L);
+        String n1 = cache.put("a", ".png", data(100), null);
+        String n2 = cache.put("a", ".png", data(100), null);
+        cache.get(n1);
+        String n3 = cache.put("a", ".png", data(100), null);
+        assertNotNull(cache.get(n1));
+        assertNull(cache.get(n2));
+        assertNotNull(cache.get(n3));
+        assertEquals(200L, cache.getSize());
+        assertEquals(1L, cache.getEvictionCount());
+
+        // limit on the number of images
+        cache = new ChartImageCache(1000L, 2, 0L, false);
+        n1 = cache.put("a", ".png", data(1), null);
+        n2 = cache.put("a", ".png", data(1), null);
+        n3 = cache.put("a", ".png", data(1), null);
+        assertEquals(2, cache.getEntryCount());
+        assertNull(cache.get(n1));
+
+        // an image larger than the cache is not stored
+        assertNull(cache.put("a", ".png", data(1001), null));
+        assertEquals(2, cache.getEntryCount());
+    }
+
+    /**
+     * Check that images expire.
+     */
+    @Test
+    public void testExpiry() throws InterruptedException {
+        ChartImageCache cache = new ChartImageCache(1000L, 10, 20L, false);
+        String name = cache.put("a", ".png", data(10), null);
+        assertNotNull(cache.get(name));
+        Thread.sleep(50L);
+        assertNull(cache.get(name));
+        assertEquals(1L, cache.getExpirationCount());
+        assertEquals(0L, cache.getSize());
+    }
+
+    /**
+     * Check that images can be stored off the heap.
+     */
+    @Test
+    public void testOffHeap() throws IOException {
+        ChartImageCache cache = new ChartImageCache(100000L, 10, 0L, true);
+        byte[] data = data(20000);
+        String name = cache.put("a", ".jpeg", data, "image/jpeg");
+        ChartImageCache.CachedImage image = cache.get(name);
+        assertEquals(20000, image.getLength());
+        assertTrue(Arrays.equals(data, image.getData()));
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        image.writeTo(out);
+        image.writeTo(out);
+        byte[] written = out.toByteArray();
+        assertEquals(40000, written.length);
+        assertTrue(Arrays.equals(data, Arrays.copyOf(written, 20000)));
+    }
+
+}
@@ -0,0 +1,161 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * MinMaxSegmentTreeTest.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.data;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.fail;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.junit.Test;
+
+/**
+ * Tests for the {@link MinMaxSegmentTree} class.
+ */
+public class MinMaxSegmentTreeTest {
+
+    /**
+     * Some checks for the getBounds() method.
+     */
+    @Test
+    public void testGetBounds() {
+        MinMaxSegmentTree tree = new MinMaxSegmentTree(
+                new double[] {3.0, Double.NaN, -1.0, 7.0, 2.0});
+        assertEquals(5, tree.getSize());
+        assertEquals(new Range(-1.0, 7.0), tree.getBounds(0, 4));
+        assertEquals(new Range(3.0, 3.0), tree.getBounds(0, 1));
+        assertEquals(new Range(-1.0, 7.0), tree.getBounds(1, 3));
+        assertEquals(new Range(2.0, 2.0), tree.getBounds(4, 4));
+        assertNull(tree.getBounds(1, 1));
+        assertNull(tree.getBounds(3, 2));
+        try {
+            tree.getBounds(2, 5);
+            fail("Expected an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        assertNull(new MinMaxSegmentTree(new double[0]).getBounds(0, -1));
+    }
+
+    /**
+     * Compare the results against a simple scan for every run of values.
+     */
+    @Test
+    public void testAgainstScan() {
+        Random random = new Random(123L);
+        for (int n = 1; n < 40; n++) {
+            double[] values = new double[n];
+            for (int i = 0; i < n; i++) {
+                values[i] = random.nextInt(10) == 0 ? Double.NaN
+                        : random.nextGaussian();
+            }
+            MinMaxSegmentTree tree = new MinMaxSegmentTree(values);
+            for (int start = 0; start < n; start++) {
+                double lower = Double.POSITIVE_INFINITY;
+                double upper = Double.NEGATIVE_INFINITY;
+                for (int end = start; end < n; end++) {
+                    if (!Double.isNaN(values[end])) {
+                        lower = Math.min(lower, values[end]);
+                        upper = Math.max(upper, values[end]);
+                    }
+                    Range expected = lower <= upper
+                            ? new Range(lower, upper) : null;
+                    assertEquals(expected, tree.getBounds(start, end));
+                }
+            }
+        }
+    }
+
+    /**
+     * Values added at the end and removed from the start give the same
+     * results as a tree built from the remaining values.
+     */
+    @Test
+    public void testAddAndRemoveFirst() {
+        Random random = new Random(456L);
+        MinMaxSegmentTree tree = new MinMaxSegmentTree(new double[0]);
+        List<Double> values = new ArrayList<Double>();
+        for (int step = 0; step < 2000; step++) {
+            if (random.nextInt(3) > 0 || values.isEmpty()) {
+                double v = random.nextInt(10) == 0 ? Double.NaN
+                        : random.nextGaussian();
+                if (random.nextInt(50) == 0) {
+                    v = Double.POSITIVE_INFINITY;
+                }
+                tree.add(v);
+                values.add(new Double(v));
+            }
+            else {
+                int count = random.nextInt(Math.min(values.size(), 5) + 1);
+                tree.removeFirst(count);
+                values.subList(0, count).clear();
+            }
+            assertEquals(values.size(), tree.getSize());
+            int n = values.size();
+            int start = n > 0 ? random.nextInt(n) : 0;
+            int end = n > 0 ? start + random.nextInt(n - start) : -1;
+            double lower = Double.POSITIVE_INFINITY;
+            double upper = Double.NEGATIVE_INFINITY;
+            for (int i = start; i <= end; i++) {
+                double v = values.get(i).doubleValue();
+                if (!Double.isNaN(v)) {
+                    lower = Math.min(lower, v);
+                    upper = Math.max(upper, v);
+                }
+            }
+            Range expected = lower <= upper ? new Range(lower, upper) : null;
+            assertEquals(expected, tree.getBounds(start, end));
+        }
+        try {
+            tree.removeFirst(tree.getSize() + 1);
+            fail("Expected an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+    }
+
+}
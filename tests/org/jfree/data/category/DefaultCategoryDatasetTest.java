@@ -374,4 +374,33 @@ public class DefaultCategoryDatasetTest {
         assertTrue(pass);
     }
 
+    /**
+     * Some checks for the addValues() method.
+     */
+    @Test
+    public void testAddValues() {
+        DefaultCategoryDataset d = new DefaultCategoryDataset();
+        d.addValue(9.0, "R2", "C1");
+        d.addValues(new Comparable[] {"R1", "R2"},
+                new Comparable[] {"C1", "C2"},
+                new double[][] {{1.0, 2.0}, {3.0, 4.0}});
+        assertEquals(2, d.getRowCount());
+        assertEquals(2, d.getColumnCount());
+        assertEquals("R2", d.getRowKey(0));
+        assertEquals("R1", d.getRowKey(1));
+        assertEquals(3.0, d.getValue("R2", "C1").doubleValue(), 0.0);
+        assertEquals(2.0, d.getValue("R1", "C2").doubleValue(), 0.0);
+
+        boolean pass = false;
+        try {
+            d.addValues(new Comparable[] {"R3"}, new Comparable[] {"C1"},
+                    new double[][] {{1.0}, {2.0}});
+        }
+        catch (IllegalArgumentException e) {
+            pass = true;
+        }
+        assertTrue(pass);
+        assertEquals(2, d.getRowCount());
+    }
+
 }
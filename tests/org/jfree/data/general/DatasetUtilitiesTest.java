@@ -69,6 +69,8 @@ import org.jfree.data.statistics.DefaultBoxAndWhiskerXYDataset;
 import org.jfree.data.statistics.DefaultMultiValueCategoryDataset;
 import org.jfree.data.statistics.DefaultStatisticalCategoryDataset;
 import org.jfree.data.statistics.MultiValueCategoryDataset;
+import org.jfree.data.xy.CategoryTableXYDataset;
+import org.jfree.data.xy.ConcurrentXYDataset;
 import org.jfree.data.xy.DefaultIntervalXYDataset;
 import org.jfree.data.xy.DefaultTableXYDataset;
 import org.jfree.data.xy.DefaultXYDataset;
@@ -1418,4 +1420,128 @@ public class DatasetUtilitiesTest {
         assertTrue(Double.isNaN(DatasetUtilities.findYValue(dataset, 0, 3.0)));
     }
 
+    /**
+     * The bounds for datasets that don't maintain their own are cached until
+     * the dataset changes, and updated incrementally for appended series.
+     */
+    @Test
+    public void testBoundsCache() {
+        DatasetUtilities.setBoundsCacheEnabled(true);
+        try {
+            DefaultXYDataset d = new DefaultXYDataset();
+            double[] x1 = new double[] {1.0, 2.0, 3.0};
+            double[] y1 = new double[] {4.0, 5.0, 6.0};
+            d.addSeries("S1", new double[][] {x1, y1});
+            assertEquals(new Range(1.0, 3.0),
+                    DatasetUtilities.findDomainBounds(d));
+            assertEquals(new Range(4.0, 6.0),
+                    DatasetUtilities.findRangeBounds(d));
+
+            // changing the data without an event is not seen...
+            x1[0] = -1.0;
+            y1[0] = 10.0;
+            assertEquals(new Range(1.0, 3.0),
+                    DatasetUtilities.findDomainBounds(d));
+
+            // ...and appending a series only examines the new items
+            d.addSeries("S2", new double[][] {{7.0}, {0.0}});
+            assertEquals(new Range(1.0, 7.0),
+                    DatasetUtilities.findDomainBounds(d));
+            assertEquals(new Range(0.0, 6.0),
+                    DatasetUtilities.findRangeBounds(d));
+
+            // any other change discards the cached bounds
+            d.removeSeries("S2");
+            assertEquals(new Range(-1.0, 3.0),
+                    DatasetUtilities.findDomainBounds(d));
+            assertEquals(new Range(5.0, 10.0),
+                    DatasetUtilities.findRangeBounds(d));
+
+            DefaultCategoryDataset c = new DefaultCategoryDataset();
+            c.addValue(1.0, "R1", "C1");
+            assertEquals(new Range(1.0, 1.0),
+                    DatasetUtilities.findRangeBounds(c));
+            c.addValue(3.0, "R1", "C2");
+            assertEquals(new Range(1.0, 3.0),
+                    DatasetUtilities.findRangeBounds(c));
+        }
+        finally {
+            DatasetUtilities.setBoundsCacheEnabled(false);
+        }
+    }
+
+    /**
+     * The cache is disabled by default, so the bounds are calculated on
+     * every call.
+     */
+    @Test
+    public void testBoundsCacheDisabled() {
+        assertFalse(DatasetUtilities.isBoundsCacheEnabled());
+        double[] x = new double[] {1.0, 2.0};
+        DefaultXYDataset d = new DefaultXYDataset();
+        d.addSeries("S1", new double[][] {x, {3.0, 4.0}});
+        assertEquals(new Range(1.0, 2.0),
+                DatasetUtilities.findDomainBounds(d));
+        x[1] = 5.0;
+        assertEquals(new Range(1.0, 5.0),
+                DatasetUtilities.findDomainBounds(d));
+    }
+
+    /**
+     * Cached bounds are discarded when a dataset is changed without sending
+     * an event, provided the dataset records a modification stamp.
+     */
+    @Test
+    public void testBoundsCacheModificationStamp() {
+        DatasetUtilities.setBoundsCacheEnabled(true);
+        try {
+            CategoryTableXYDataset d = new CategoryTableXYDataset();
+            d.add(1.0, 4.0, "S1");
+            d.add(2.0, 5.0, "S1");
+            assertEquals(new Range(4.0, 5.0),
+                    DatasetUtilities.findRangeBounds(d));
+            d.add(new Double(3.0), new Double(9.0), "S1", false);
+            assertEquals(new Range(4.0, 9.0),
+                    DatasetUtilities.findRangeBounds(d));
+            d.remove(new Double(3.0), "S1", false);
+            assertEquals(new Range(4.0, 5.0),
+                    DatasetUtilities.findRangeBounds(d));
+        }
+        finally {
+            DatasetUtilities.setBoundsCacheEnabled(false);
+        }
+    }
+
+    /**
+     * A change without an event that follows an append is not mistaken for
+     * another append.
+     */
+    @Test
+    public void testBoundsCacheChangeAfterAppend() {
+        DatasetUtilities.setBoundsCacheEnabled(true);
+        try {
+            ConcurrentXYDataset d = new ConcurrentXYDataset();
+            d.addSeries("S1");
+            d.append(0, new double[] {1.0, 2.0, 3.0},
+                    new double[] {4.0, 5.0, 6.0});
+            d.publish();
+            assertEquals(new Range(1.0, 3.0),
+                    DatasetUtilities.findDomainBounds(d));
+            d.append(0, 4.0, 7.0);
+            d.publish();
+
+            // replace the items without an event
+            d.setNotify(false);
+            d.clear(0);
+            d.append(0, new double[] {10.0, 11.0, 12.0, 13.0, 14.0},
+                    new double[] {1.0, 1.0, 1.0, 1.0, 1.0});
+            d.publish();
+            assertEquals(new Range(10.0, 14.0),
+                    DatasetUtilities.findDomainBounds(d));
+        }
+        finally {
+            DatasetUtilities.setBoundsCacheEnabled(false);
+        }
+    }
+
 }
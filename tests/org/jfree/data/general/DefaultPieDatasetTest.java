@@ -163,4 +163,31 @@ public class DefaultPieDatasetTest implements DatasetChangeListener {
         assertEquals(d1, d2);
     }
 
+    /**
+     * Some checks for the setValues() method.
+     */
+    @Test
+    public void testSetValues() {
+        DefaultPieDataset d = new DefaultPieDataset();
+        d.setValue("B", 9.0);
+        d.addChangeListener(this);
+        this.lastEvent = null;
+        d.setValues(new Comparable[] {"A", "B"}, new double[] {1.0, 2.0});
+        assertNotNull(this.lastEvent);
+        assertEquals(2, d.getItemCount());
+        assertEquals("B", d.getKey(0));
+        assertEquals(new Double(1.0), d.getValue("A"));
+        assertEquals(new Double(2.0), d.getValue("B"));
+
+        this.lastEvent = null;
+        try {
+            d.setValues(new Comparable[] {"C", null}, new double[] {3.0, 4.0});
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertNull(this.lastEvent);
+        assertEquals(2, d.getItemCount());
+    }
+
 }
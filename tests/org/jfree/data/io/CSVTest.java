@@ -0,0 +1,384 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------
+ * CSVTest.java
+ * ------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.io;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.util.Calendar;
+import java.util.Random;
+import java.util.TimeZone;
+
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.jfree.data.general.SeriesException;
+import org.jfree.data.time.FixedMillisecond;
+import org.jfree.data.time.Millisecond;
+import org.jfree.data.time.TimeSeries;
+import org.jfree.data.time.TimeSeriesCollection;
+import org.jfree.data.xy.OHLCDataset;
+import org.jfree.data.xy.XYDataset;
+import org.jfree.data.xy.XYSeriesCollection;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link CSV} class.
+ */
+public class CSVTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Parses a string with the fast number parser.
+     *
+     * @param s  the string.
+     *
+     * @return The value.
+     */
+    private static double parse(String s) {
+        return CSV.ChunkParser.parseDouble(s.toCharArray(), 0, s.length());
+    }
+
+    /**
+     * The fast number parser gives the same result as
+     * Double.parseDouble().
+     */
+    @Test
+    public void testParseDouble() {
+        String[] values = {"0", "-0", "1", "-1.5", "+2.25", ".5", "5.",
+                "0.1", "123456789012345678", "1234567890123456789012",
+                "1e10", "1E-10", "2.5e+3", "1e22", "1e23", "1e-300",
+                "1e400", "4.9e-324", "1.7976931348623157E308", "NaN",
+                "-Infinity", "0.30000000000000004", "000123.4500"};
+        for (String s : values) {
+            assertEquals(s, Double.doubleToLongBits(Double.parseDouble(s)),
+                    Double.doubleToLongBits(parse(s)));
+        }
+        Random random = new Random(1);
+        for (int i = 0; i < 10000; i++) {
+            String s = Double.toString(random.nextGaussian()
+                    * Math.pow(10, random.nextInt(20) - 10));
+            assertEquals(s, Double.parseDouble(s), parse(s), 0.0);
+            s = String.format("%.4f", random.nextDouble() * 1000);
+            assertEquals(s, Double.parseDouble(s), parse(s), 0.0);
+        }
+        String[] invalid = {"", "-", "1.2.3", "e5", "1e", "12a"};
+        for (String s : invalid) {
+            try {
+                parse(s);
+                fail("Expected a NumberFormatException for '" + s + "'.");
+            }
+            catch (NumberFormatException e) {
+                // expected
+            }
+        }
+    }
+
+    /**
+     * Timestamps are converted to milliseconds in the specified zone unless
+     * they include an offset.
+     */
+    @Test
+    public void testParseTimestamp() {
+        TimeZone zone = TimeZone.getTimeZone("America/New_York");
+        Calendar c = Calendar.getInstance(zone);
+        c.clear();
+        c.set(2026, Calendar.JULY, 4, 9, 30, 15);
+        c.set(Calendar.MILLISECOND, 250);
+        assertEquals(c.getTimeInMillis(), timestamp("2026-07-04 09:30:15.25",
+                zone), EPSILON);
+        c.set(2026, Calendar.JANUARY, 4, 9, 30, 0);
+        c.set(Calendar.MILLISECOND, 0);
+        assertEquals(c.getTimeInMillis(), timestamp("2026-01-04T09:30",
+                zone), EPSILON);
+        c.set(1969, Calendar.FEBRUARY, 28, 0, 0, 0);
+        assertEquals(c.getTimeInMillis(), timestamp("1969-02-28", zone),
+                EPSILON);
+        assertEquals(0.0, timestamp("1970-01-01T00:00:00Z", zone), EPSILON);
+        assertEquals(-3600000.0, timestamp("1970-01-01T00:00:00+01:00",
+                zone), EPSILON);
+        assertEquals(5400000.0, timestamp("1970-01-01T00:00:00-0130", zone),
+                EPSILON);
+        try {
+            timestamp("2026-13-01", zone);
+            fail("Expected a NumberFormatException.");
+        }
+        catch (NumberFormatException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Parses a timestamp.
+     *
+     * @param s  the string.
+     * @param zone  the time zone.
+     *
+     * @return The milliseconds.
+     */
+    private static double timestamp(String s, TimeZone zone) {
+        return CSV.ChunkParser.parseTimestamp(s.toCharArray(), 0, s.length(),
+                zone);
+    }
+
+    /**
+     * Creates the text for a CSV file with x-values 0, 1, 2, ... and two
+     * y-value columns.
+     *
+     * @param rows  the number of rows.
+     *
+     * @return The text.
+     */
+    private static String createText(int rows) {
+        StringBuilder b = new StringBuilder("X,\"A\",B\r\n");
+        for (int i = 0; i < rows; i++) {
+            b.append(i).append(',').append(i * 0.5).append(",\"")
+                    .append(-i).append("\"\r\n");
+        }
+        return b.toString();
+    }
+
+    /**
+     * Read an XY dataset in many chunks, parsed in parallel.
+     */
+    @Test
+    public void testReadXYDataset() throws IOException {
+        CSV csv = new CSV();
+        csv.setChunkSize(100);
+        XYDataset d = csv.readXYDataset(new StringReader(createText(10000)));
+        assertEquals(2, d.getSeriesCount());
+        assertEquals("A", d.getSeriesKey(0));
+        assertEquals("B", d.getSeriesKey(1));
+        for (int i = 0; i < 10000; i++) {
+            assertEquals(i, d.getXValue(0, i), EPSILON);
+            assertEquals(i * 0.5, d.getYValue(0, i), EPSILON);
+            assertEquals(-i, d.getYValue(1, i), EPSILON);
+        }
+
+        csv = new CSV(';', '"');
+        d = csv.readXYDataset(new StringReader("X;Y\n\n1;2\n 3 ;\n4"));
+        assertEquals(3, d.getItemCount(0));
+        assertEquals(3.0, d.getXValue(0, 1), EPSILON);
+        assertTrue(Double.isNaN(d.getYValue(0, 1)));
+        assertTrue(Double.isNaN(d.getYValue(0, 2)));
+
+        d = csv.readXYDataset(new StringReader(""));
+        assertEquals(0, d.getSeriesCount());
+    }
+
+    /**
+     * An invalid value is reported with its line number.
+     */
+    @Test
+    public void testInvalidValue() {
+        CSV csv = new CSV();
+        csv.setChunkSize(10);
+        String text = createText(100) + "100,1x,3\n" + createText(100);
+        try {
+            csv.readXYDataset(new StringReader(text));
+            fail("Expected an IOException.");
+        }
+        catch (IOException e) {
+            assertEquals("Invalid value on line 102: 1x", e.getMessage());
+        }
+    }
+
+    /** The number of events received. */
+    private int events;
+
+    /**
+     * Loading into a series collection sends one event per chunk.
+     */
+    @Test
+    public void testLoadXYSeriesCollection() throws IOException {
+        CSV csv = new CSV();
+        csv.setChunkSize(1000);
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        dataset.addChangeListener(new DatasetChangeListener() {
+            @Override
+            public void datasetChanged(DatasetChangeEvent event) {
+                events++;
+            }
+        });
+        assertEquals(9500, csv.load(new StringReader(createText(9500)),
+                dataset));
+        assertEquals(10, this.events);
+        assertEquals(2, dataset.getSeriesCount());
+        assertEquals(9500, dataset.getItemCount(1));
+        assertEquals(-9499.0, dataset.getYValue(1, 9499), EPSILON);
+
+        // a second load appends to the existing series
+        csv.setParallel(false);
+        csv.load(new StringReader("X,B\n10000,1\n"), dataset);
+        assertEquals(11, this.events);
+        assertEquals(9501, dataset.getItemCount(1));
+        assertEquals(9500, dataset.getItemCount(0));
+    }
+
+    /**
+     * Read a time series collection.
+     */
+    @Test
+    public void testReadTimeSeriesCollection() throws IOException {
+        CSV csv = new CSV();
+        csv.setTimeZone(TimeZone.getTimeZone("UTC"));
+        csv.setChunkSize(2);
+        TimeSeriesCollection dataset = csv.readTimeSeriesCollection(
+                new StringReader("Time,S1\n"
+                + "2026-10-17T00:00:00.000Z,1.0\n"
+                + "2026-10-17T00:00:00.001Z,2.0\n"
+                + "2026-10-17T00:00:00.002Z,\n"), Millisecond.class);
+        assertEquals(1, dataset.getSeriesCount());
+        assertEquals(3, dataset.getItemCount(0));
+        Calendar c = Calendar.getInstance(TimeZone.getTimeZone("UTC"));
+        c.clear();
+        c.set(2026, Calendar.OCTOBER, 17);
+        assertEquals(c.getTimeInMillis() + 1, dataset.getXValue(0, 1),
+                EPSILON);
+        assertEquals(2.0, dataset.getYValue(0, 1), EPSILON);
+        assertTrue(Double.isNaN(dataset.getYValue(0, 2)));
+    }
+
+    /**
+     * Read a time series collection with {@link FixedMillisecond} periods,
+     * which have no <code>(Date, TimeZone)</code> constructor.
+     */
+    @Test
+    public void testReadTimeSeriesCollectionFixedMillisecond()
+            throws IOException {
+        CSV csv = new CSV();
+        TimeSeriesCollection dataset = csv.readTimeSeriesCollection(
+                new StringReader("t,A\n1000,1\n2000,2\n"),
+                FixedMillisecond.class);
+        assertEquals(2, dataset.getItemCount(0));
+        assertEquals(new FixedMillisecond(2000L),
+                dataset.getSeries(0).getTimePeriod(1));
+        assertEquals(2.0, dataset.getYValue(0, 1), EPSILON);
+    }
+
+    /**
+     * An unsupported time period class is rejected before any input is
+     * read.
+     */
+    @Test
+    public void testReadTimeSeriesCollectionUnsupportedClass()
+            throws IOException {
+        CSV csv = new CSV();
+        TimeSeriesCollection dataset = new TimeSeriesCollection();
+        try {
+            csv.load(new StringReader("t,A\n1000,1\n"), dataset,
+                    String.class);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+        assertEquals(0, dataset.getSeriesCount());
+    }
+
+    /**
+     * A chunk that clashes with one series should not be added to any of
+     * the series.
+     */
+    @Test
+    public void testLoadTimeSeriesCollectionRejected() throws IOException {
+        CSV csv = new CSV();
+        csv.setTimeZone(TimeZone.getTimeZone("UTC"));
+        TimeSeriesCollection dataset = csv.readTimeSeriesCollection(
+                new StringReader("Time,A,B\n"
+                + "2026-10-17T00:00:00.000Z,1.0,2.0\n"), Millisecond.class);
+        try {
+            csv.load(new StringReader("Time,A,B,C\n"
+                    + "2026-10-17T00:00:00.001Z,3.0,4.0,5.0\n"
+                    + "2026-10-17T00:00:00.000Z,6.0,7.0,8.0\n"), dataset,
+                    Millisecond.class);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(2, dataset.getSeriesCount());
+        TimeSeries a = dataset.getSeries("A");
+        assertEquals(1, a.getItemCount());
+        assertEquals(1.0, a.getValue(0).doubleValue(), EPSILON);
+        assertEquals(1, dataset.getSeries("B").getItemCount());
+
+        // a period repeated in the input is also rejected
+        try {
+            csv.load(new StringReader("Time,A\n"
+                    + "2026-10-17T00:00:00.005Z,1.0\n"
+                    + "2026-10-17T00:00:00.005Z,2.0\n"), dataset,
+                    Millisecond.class);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(1, a.getItemCount());
+    }
+
+    /**
+     * Read an OHLC dataset.
+     */
+    @Test
+    public void testReadOHLCDataset() throws IOException {
+        CSV csv = new CSV();
+        OHLCDataset dataset = csv.readOHLCDataset(new StringReader(
+                "Date,Open,High,Low,Close,Volume\n"
+                + "2026-10-15Z,10,12,9,11,1000\n"
+                + "2026-10-16Z,11,13,10,12.5,2000\n"), "S1");
+        assertEquals(2, dataset.getItemCount(0));
+        assertEquals(13.0, dataset.getHighValue(0, 1), EPSILON);
+        assertEquals(12.5, dataset.getCloseValue(0, 1), EPSILON);
+        assertEquals(2000.0, dataset.getVolumeValue(0, 1), EPSILON);
+        try {
+            csv.readOHLCDataset(new StringReader("Date,Close\n"), "S1");
+            fail("Expected an IOException.");
+        }
+        catch (IOException e) {
+            // expected
+        }
+    }
+
+}
@@ -0,0 +1,379 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * --------------------------
+ * RollingTimeSeriesTest.java
+ * --------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.time;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import java.util.Calendar;
+import java.util.TimeZone;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.Range;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesException;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link RollingTimeSeries} class.
+ */
+public class RollingTimeSeriesTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Some checks for the equals() method.
+     */
+    @Test
+    public void testEquals() {
+        RollingTimeSeries s1 = new RollingTimeSeries("S");
+        RollingTimeSeries s2 = new RollingTimeSeries("S");
+        assertTrue(s1.equals(s2));
+
+        s1.add(new Day(1, 1, 2020), 1.0);
+        assertFalse(s1.equals(s2));
+        s2.add(new Day(1, 1, 2020), 1.0);
+        assertTrue(s1.equals(s2));
+        assertEquals(s1.hashCode(), s2.hashCode());
+
+        s1.setMaximumItemAge(10);
+        assertFalse(s1.equals(s2));
+        s2.setMaximumItemAge(10);
+        assertTrue(s1.equals(s2));
+    }
+
+    /**
+     * Confirm that cloning works and that the clone is independent.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        RollingTimeSeries s1 = new RollingTimeSeries("S", 3);
+        s1.add(new Day(1, 1, 2020), 1.0);
+        s1.add(new Day(2, 1, 2020), null);
+        RollingTimeSeries s2 = (RollingTimeSeries) s1.clone();
+        assertTrue(s1 != s2);
+        assertTrue(s1.equals(s2));
+        s2.add(new Day(3, 1, 2020), 3.0);
+        assertFalse(s1.equals(s2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        RollingTimeSeries s1 = new RollingTimeSeries("S");
+        s1.add(new Hour(1, new Day(1, 1, 2020)), 1.0);
+        s1.add(new Hour(2, new Day(1, 1, 2020)), 2.0);
+        RollingTimeSeries s2 = (RollingTimeSeries) TestUtilities.serialised(
+                s1);
+        assertEquals(s1, s2);
+        assertEquals(new Hour(2, new Day(1, 1, 2020)), s2.getTimePeriod(1));
+    }
+
+    /**
+     * Items are kept in order, periods are recreated on demand and duplicate
+     * periods are rejected.
+     */
+    @Test
+    public void testAdd() {
+        RollingTimeSeries s1 = new RollingTimeSeries("S");
+        s1.add(new Day(3, 1, 2020), 3.0);
+        s1.add(new Day(1, 1, 2020), 1.0);
+        s1.add(new Day(2, 1, 2020), null);
+        assertEquals(3, s1.getItemCount());
+        assertEquals(new Day(1, 1, 2020), s1.getTimePeriod(0));
+        assertEquals(new Day(2, 1, 2020), s1.getTimePeriod(1));
+        assertNull(s1.getValue(1));
+        assertEquals(3.0, s1.getValue(new Day(3, 1, 2020)).doubleValue(),
+                EPSILON);
+        assertEquals(-4, s1.getIndex(new Day(4, 1, 2020)));
+        try {
+            s1.add(new Day(2, 1, 2020), 2.0);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        try {
+            s1.add(new Year(2021), 2.0);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The maximum item count evicts the oldest items as the buffer wraps
+     * around.
+     */
+    @Test
+    public void testMaximumItemCount() {
+        RollingTimeSeries s1 = new RollingTimeSeries("S", 3);
+        Second second = new Second(0, 0, 0, 1, 1, 2020);
+        for (int i = 0; i < 100; i++) {
+            s1.add(second, i);
+            second = (Second) second.next();
+        }
+        assertEquals(3, s1.getItemCount());
+        assertEquals(97.0, s1.getValue(0).doubleValue(), EPSILON);
+        assertEquals(99.0, s1.getValue(2).doubleValue(), EPSILON);
+        assertEquals(97.0, s1.getMinY(), EPSILON);
+        assertEquals(99.0, s1.getMaxY(), EPSILON);
+        assertEquals(new Second(39, 1, 0, 1, 1, 2020), s1.getTimePeriod(2));
+        assertEquals(1, s1.getIndex(new Second(38, 1, 0, 1, 1, 2020)));
+
+        s1.setMaximumItemCount(1);
+        assertEquals(1, s1.getItemCount());
+        assertEquals(99.0, s1.getMinY(), EPSILON);
+    }
+
+    /**
+     * The maximum item age removes items older than the latest period.
+     */
+    @Test
+    public void testMaximumItemAge() {
+        RollingTimeSeries s1 = new RollingTimeSeries("S");
+        s1.setMaximumItemAge(2);
+        s1.add(new Year(2000), 1.0);
+        s1.add(new Year(2001), 2.0);
+        s1.add(new Year(2002), 3.0);
+        assertEquals(3, s1.getItemCount());
+        s1.add(new Year(2004), 4.0);
+        assertEquals(2, s1.getItemCount());
+        assertEquals(new Year(2002), s1.getTimePeriod(0));
+        assertEquals(3.0, s1.getMinY(), EPSILON);
+    }
+
+    /**
+     * Some checks for the update(), addOrUpdate() and delete() methods.
+     */
+    @Test
+    public void testUpdateAndDelete() {
+        RollingTimeSeries s1 = new RollingTimeSeries("S");
+        for (int i = 1; i <= 5; i++) {
+            s1.add(new Month(i, 2020), i);
+        }
+        s1.update(new Month(5, 2020), new Double(0.5));
+        assertEquals(0.5, s1.getMinY(), EPSILON);
+        assertEquals(4.0, s1.getMaxY(), EPSILON);
+
+        TimeSeriesDataItem old = s1.addOrUpdate(new Month(1, 2020), 9.0);
+        assertEquals(1.0, old.getValue().doubleValue(), EPSILON);
+        assertNull(s1.addOrUpdate(new Month(6, 2020), 6.0));
+        assertEquals(9.0, s1.getMaxY(), EPSILON);
+
+        s1.delete(new Month(1, 2020));
+        assertEquals(5, s1.getItemCount());
+        assertEquals(6.0, s1.getMaxY(), EPSILON);
+        s1.delete(1, 2);
+        assertEquals(3, s1.getItemCount());
+        assertEquals(new Month(5, 2020), s1.getTimePeriod(1));
+    }
+
+    /**
+     * Some checks for the createCopy() methods.
+     */
+    @Test
+    public void testCreateCopy() throws CloneNotSupportedException {
+        RollingTimeSeries s1 = new RollingTimeSeries("S", 4);
+        for (int i = 1; i <= 6; i++) {
+            s1.add(new Month(i, 2020), i);
+        }
+        TimeSeries s2 = s1.createCopy(1, 2);
+        assertEquals(2, s2.getItemCount());
+        assertEquals(new Month(4, 2020), s2.getTimePeriod(0));
+        assertEquals(5.0, s2.getMaxY(), EPSILON);
+        TimeSeries s3 = s1.createCopy(new Month(1, 2021),
+                new Month(2, 2021));
+        assertEquals(0, s3.getItemCount());
+    }
+
+    /**
+     * The series works in a TimeSeriesCollection.
+     */
+    @Test
+    public void testCollection() {
+        RollingTimeSeries s1 = new RollingTimeSeries("S", 10);
+        s1.add(new FixedMillisecond(1000L), 1.0);
+        s1.add(new FixedMillisecond(2000L), 5.0);
+        s1.add(new FixedMillisecond(3000L), 2.0);
+        TimeSeriesCollection dataset = new TimeSeriesCollection(s1);
+        assertEquals(2000.0, dataset.getXValue(0, 1), EPSILON);
+        assertEquals(5.0, dataset.getYValue(0, 1), EPSILON);
+        Range r = s1.findValueRange(new Range(2500.0, 4000.0),
+                TimePeriodAnchor.START, java.util.TimeZone.getDefault());
+        assertEquals(new Range(2.0, 2.0), r);
+    }
+
+    /**
+     * The value range for an x-range reflects appends, evictions, updates
+     * and inserts.
+     */
+    @Test
+    public void testFindValueRangeAfterChanges() {
+        TimeZone utc = TimeZone.getTimeZone("UTC");
+        Range all = new Range(0.0, 10000.0);
+        RollingTimeSeries s = new RollingTimeSeries("S", 3);
+        s.add(new FixedMillisecond(1000L), 9.0);
+        s.add(new FixedMillisecond(2000L), 1.0);
+        assertEquals(new Range(1.0, 9.0), s.findValueRange(all,
+                TimePeriodAnchor.START, utc));
+        s.add(new FixedMillisecond(3000L), 4.0);
+        s.add(new FixedMillisecond(4000L), 2.0);
+        assertEquals(new Range(1.0, 4.0), s.findValueRange(all,
+                TimePeriodAnchor.START, utc));
+        s.update(new FixedMillisecond(2000L), new Double(7.0));
+        assertEquals(new Range(2.0, 7.0), s.findValueRange(all,
+                TimePeriodAnchor.START, utc));
+        s.add(new FixedMillisecond(3500L), -5.0);
+        assertEquals(new Range(-5.0, 4.0), s.findValueRange(all,
+                TimePeriodAnchor.START, utc));
+        assertEquals(new Range(-5.0, 2.0), s.findValueRange(
+                new Range(3200.0, 4000.0), TimePeriodAnchor.START, utc));
+    }
+
+    /**
+     * Some checks for the add(RegularTimePeriod[], double[]) method.
+     */
+    @Test
+    public void testAddArrays() {
+        RollingTimeSeries s = new RollingTimeSeries("S", 5);
+        s.add(new FixedMillisecond(2000L), 2.0);
+        s.add(new FixedMillisecond(4000L), 4.0);
+        final int[] events = new int[1];
+        s.addChangeListener(new SeriesChangeListener() {
+            @Override
+            public void seriesChanged(SeriesChangeEvent event) {
+                events[0]++;
+            }
+        });
+        s.add(new RegularTimePeriod[] {new FixedMillisecond(5000L),
+                new FixedMillisecond(1000L), new FixedMillisecond(3000L)},
+                new double[] {5.0, 1.0, 3.0});
+        assertEquals(1, events[0]);
+        assertEquals(5, s.getItemCount());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(new FixedMillisecond((i + 1) * 1000L),
+                    s.getTimePeriod(i));
+            assertEquals(i + 1.0, s.getValue(i).doubleValue(), EPSILON);
+        }
+
+        // a duplicate period leaves the series unchanged
+        try {
+            s.add(new RegularTimePeriod[] {new FixedMillisecond(6000L),
+                    new FixedMillisecond(6000L)}, new double[] {6.0, 6.0});
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        try {
+            s.add(new RegularTimePeriod[] {new FixedMillisecond(3000L)},
+                    new double[] {3.0});
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(5, s.getItemCount());
+        assertEquals(1, events[0]);
+
+        // appending rolls the oldest items out of the buffer
+        s.add(new RegularTimePeriod[] {new FixedMillisecond(7000L),
+                new FixedMillisecond(6000L)}, new double[] {7.0, 6.0});
+        assertEquals(5, s.getItemCount());
+        assertEquals(new FixedMillisecond(3000L), s.getTimePeriod(0));
+        assertEquals(new FixedMillisecond(7000L), s.getTimePeriod(4));
+        assertEquals(3.0, s.getMinY(), EPSILON);
+        assertEquals(7.0, s.getMaxY(), EPSILON);
+
+        // inserting before the end also respects the buffer capacity
+        s.add(new RegularTimePeriod[] {new FixedMillisecond(3500L),
+                new FixedMillisecond(8000L)}, new double[] {3.5, 8.0});
+        assertEquals(5, s.getItemCount());
+        assertEquals(new FixedMillisecond(4000L), s.getTimePeriod(0));
+        assertEquals(new FixedMillisecond(8000L), s.getTimePeriod(4));
+        assertEquals(4.0, s.getMinY(), EPSILON);
+
+        // an unsorted batch that repeats the last period is still rejected
+        try {
+            s.add(new RegularTimePeriod[] {new FixedMillisecond(9000L),
+                    new FixedMillisecond(8000L)}, new double[] {9.0, 8.0});
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(new FixedMillisecond(8000L), s.getTimePeriod(4));
+    }
+
+    /**
+     * The cached x-values must stay correct as items roll off the start of
+     * the series.
+     */
+    @Test
+    public void testGetMillisecond() {
+        Calendar calendar = Calendar.getInstance(
+                TimeZone.getTimeZone("Europe/Paris"));
+        RollingTimeSeries s = new RollingTimeSeries("S", 5);
+        for (int i = 0; i < 20; i++) {
+            s.add(new Hour(i, new Day(1, 3, 2015)), i);
+            for (int j = 0; j < s.getItemCount(); j++) {
+                assertEquals(s.getTimePeriod(j).getFirstMillisecond(calendar),
+                        s.getMillisecond(j, TimePeriodAnchor.START,
+                        calendar));
+            }
+        }
+        s.add(new Hour(17, new Day(28, 2, 2015)), 1.0);
+        s.delete(1, 2, true);
+        for (int j = 0; j < s.getItemCount(); j++) {
+            assertEquals(s.getTimePeriod(j).getLastMillisecond(calendar),
+                    s.getMillisecond(j, TimePeriodAnchor.END, calendar));
+        }
+    }
+
+}
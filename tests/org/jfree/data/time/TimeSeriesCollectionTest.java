@@ -476,4 +476,32 @@ public class TimeSeriesCollectionTest {
         collection.setXPosition(TimePeriodAnchor.END);
         assertNull(collection.getRangeBounds(Arrays.asList("S1"), range, true));
     }
+    /**
+     * The x-values follow changes to the x-position, and the start and end
+     * values come from the time periods.
+     */
+    @Test
+    public void testXValues() {
+        TimeZone zone = TimeZone.getTimeZone("Europe/Paris");
+        TimeSeries s1 = new TimeSeries("S1");
+        s1.add(new Day(1, 1, 2015), 1.0);
+        s1.add(new Day(2, 1, 2015), 2.0);
+        TimeSeriesCollection dataset = new TimeSeriesCollection(s1, zone);
+        Day d = new Day(2, 1, 2015);
+        assertEquals(d.getFirstMillisecond(zone), dataset.getXValue(0, 1),
+                EPSILON);
+        dataset.setXPosition(TimePeriodAnchor.MIDDLE);
+        assertEquals(d.getMiddleMillisecond(zone), dataset.getXValue(0, 1),
+                EPSILON);
+        assertEquals(d.getMiddleMillisecond(zone),
+                dataset.getX(0, 1).longValue());
+        assertEquals(d.getFirstMillisecond(zone),
+                dataset.getStartXValue(0, 1), EPSILON);
+        assertEquals(d.getLastMillisecond(zone),
+                dataset.getEndX(0, 1).longValue());
+        s1.add(new Day(31, 12, 2014), 0.0);
+        assertEquals(d.getMiddleMillisecond(zone), dataset.getXValue(0, 2),
+                EPSILON);
+    }
+
 }
@@ -58,6 +58,7 @@ package org.jfree.data.time;
 import java.util.Calendar;
 import java.util.GregorianCalendar;
 import java.util.Locale;
+import java.util.Random;
 import java.util.TimeZone;
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertEquals;
@@ -1203,4 +1204,209 @@ public class TimeSeriesTest implements SeriesChangeListener {
         assertTrue(ts.findValueRange(range, TimePeriodAnchor.MIDDLE, tzone).isNaNRange());
         assertTrue(ts.findValueRange(range, TimePeriodAnchor.END, tzone).isNaNRange());
     }
+
+    /**
+     * Some checks for the add(RegularTimePeriod[], double[]) method.
+     */
+    @Test
+    public void testAddArrays() {
+        TimeSeries s = new TimeSeries("S");
+        s.add(new Year(2002), 2.0);
+        s.add(new Year(2004), 4.0);
+        s.addChangeListener(this);
+        this.gotSeriesChangeEvent = false;
+        s.add(new RegularTimePeriod[] {new Year(2005), new Year(2001),
+                new Year(2003)}, new double[] {5.0, 1.0, 3.0});
+        assertTrue(this.gotSeriesChangeEvent);
+        assertEquals(5, s.getItemCount());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(new Year(2001 + i), s.getTimePeriod(i));
+            assertEquals(i + 1.0, s.getValue(i).doubleValue(), EPSILON);
+        }
+        assertEquals(1.0, s.getMinY(), EPSILON);
+        assertEquals(5.0, s.getMaxY(), EPSILON);
+
+        // a duplicate period leaves the series unchanged
+        this.gotSeriesChangeEvent = false;
+        try {
+            s.add(new RegularTimePeriod[] {new Year(2006), new Year(2003)},
+                    new double[] {6.0, 3.0});
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertFalse(this.gotSeriesChangeEvent);
+        assertEquals(5, s.getItemCount());
+
+        // mixed period classes are rejected
+        try {
+            s.add(new RegularTimePeriod[] {new Month(1, 2007)},
+                    new double[] {7.0});
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(5, s.getItemCount());
+
+        // the oldest items are dropped to respect the maximum item count
+        s.setMaximumItemCount(4);
+        s.add(new RegularTimePeriod[] {new Year(2000), new Year(2006)},
+                new double[] {0.0, 6.0});
+        assertEquals(4, s.getItemCount());
+        assertEquals(new Year(2003), s.getTimePeriod(0));
+        assertEquals(3.0, s.getMinY(), EPSILON);
+        assertEquals(6.0, s.getMaxY(), EPSILON);
+    }
+
+    /**
+     * The value range for an x-range reflects changes to the series.
+     */
+    @Test
+    public void testFindValueRangeAfterChanges() {
+        TimeSeries ts = new TimeSeries("S");
+        ts.add(new Year(2000), 5.0);
+        ts.add(new Year(2001), 1.0);
+        ts.add(new Year(2002), Double.NaN);
+        ts.add(new Year(2003), 8.0);
+        TimeZone tzone = TimeZone.getTimeZone("Europe/London");
+        Range range = new Range(new Year(2000).getFirstMillisecond(tzone),
+                new Year(2002).getLastMillisecond(tzone));
+        assertEquals(new Range(1.0, 5.0), ts.findValueRange(range,
+                TimePeriodAnchor.MIDDLE, tzone));
+        ts.update(new Year(2001), new Double(-1.0));
+        assertEquals(new Range(-1.0, 5.0), ts.findValueRange(range,
+                TimePeriodAnchor.MIDDLE, tzone));
+        ts.addOrUpdate(new Year(2002), 9.0);
+        assertEquals(new Range(-1.0, 9.0), ts.findValueRange(range,
+                TimePeriodAnchor.MIDDLE, tzone));
+        ts.delete(new Year(2000));
+        assertEquals(new Range(-1.0, 9.0), ts.findValueRange(range,
+                TimePeriodAnchor.MIDDLE, tzone));
+        ts.add(new Year(1999), -7.0, false);
+        assertEquals(new Range(-1.0, 9.0), ts.findValueRange(range,
+                TimePeriodAnchor.MIDDLE, tzone));
+        assertEquals(new Range(-7.0, 9.0), ts.findValueRange(new Range(
+                Double.NEGATIVE_INFINITY, range.getUpperBound()),
+                TimePeriodAnchor.MIDDLE, tzone));
+    }
+
+    /**
+     * The value ranges stay correct through a random mix of appends,
+     * evictions, inserts, removals and updates.
+     */
+    @Test
+    public void testFindValueRangeRandomChanges() {
+        TimeZone tzone = TimeZone.getTimeZone("UTC");
+        TimeSeries ts = new TimeSeries("S");
+        ts.setMaximumItemCount(50);
+        Random random = new Random(42L);
+        long last = 0L;
+        for (int step = 0; step < 2000; step++) {
+            int op = random.nextInt(10);
+            Double y = random.nextInt(8) == 0 ? null
+                    : new Double(random.nextInt(1000));
+            if (op < 7 || ts.getItemCount() == 0) {
+                last += 2L;
+                ts.add(new FixedMillisecond(last), y);
+            } else if (op == 7) {
+                ts.addOrUpdate(new FixedMillisecond(random.nextInt(
+                        (int) last)), y);
+            } else if (op == 8) {
+                ts.delete(ts.getTimePeriod(random.nextInt(
+                        ts.getItemCount())));
+            } else {
+                ts.update(random.nextInt(ts.getItemCount()), y);
+            }
+            long a = random.nextInt((int) last + 1);
+            long b = random.nextInt((int) last + 1);
+            Range xRange = new Range(Math.min(a, b), Math.max(a, b));
+            double lower = Double.POSITIVE_INFINITY;
+            double upper = Double.NEGATIVE_INFINITY;
+            for (int i = 0; i < ts.getItemCount(); i++) {
+                Number v = ts.getValue(i);
+                long x = ts.getTimePeriod(i).getFirstMillisecond();
+                if (v != null && xRange.contains(x)) {
+                    lower = Math.min(lower, v.doubleValue());
+                    upper = Math.max(upper, v.doubleValue());
+                }
+            }
+            Range r = ts.findValueRange(xRange, TimePeriodAnchor.START, tzone);
+            if (ts.getItemCount() == 0) {
+                assertNull(r);
+            }
+            else if (lower <= upper) {
+                assertEquals(new Range(lower, upper), r);
+            }
+            else {
+                assertTrue(Double.isNaN(r.getLowerBound()));
+                assertTrue(Double.isNaN(r.getUpperBound()));
+            }
+        }
+    }
+
+    /**
+     * Checks the cached x-values of a series against values calculated from
+     * the time periods.
+     */
+    private static void checkMillis(TimeSeries ts, TimePeriodAnchor anchor,
+            Calendar calendar) {
+        for (int i = 0; i < ts.getItemCount(); i++) {
+            assertEquals(ts.getTimePeriod(i).getMillisecond(anchor, calendar),
+                    ts.getMillisecond(i, anchor, calendar));
+        }
+    }
+
+    /**
+     * The cached x-values must stay correct as items are added and removed,
+     * and when the calendar changes.
+     */
+    @Test
+    public void testGetMillisecond() {
+        Calendar london = Calendar.getInstance(
+                TimeZone.getTimeZone("Europe/London"));
+        TimeSeries ts = new TimeSeries("S");
+        ts.setMaximumItemCount(10);
+        for (int i = 1; i <= 5; i++) {
+            ts.add(new Day(i * 2, 1, 2015), i);
+        }
+        checkMillis(ts, TimePeriodAnchor.MIDDLE, london);
+        checkMillis(ts, TimePeriodAnchor.START, london);
+
+        // appended, inserted and updated items
+        ts.add(new Day(20, 1, 2015), 6.0);
+        ts.add(new Day(3, 1, 2015), 7.0);
+        ts.addOrUpdate(new Day(5, 1, 2015), 8.0);
+        ts.addOrUpdate(new Day(5, 1, 2015), 9.0);
+        checkMillis(ts, TimePeriodAnchor.MIDDLE, london);
+
+        // items dropped from the start when the maximum count is exceeded
+        for (int i = 21; i <= 28; i++) {
+            ts.add(new Day(i, 1, 2015), i);
+        }
+        assertEquals(10, ts.getItemCount());
+        checkMillis(ts, TimePeriodAnchor.MIDDLE, london);
+        checkMillis(ts, TimePeriodAnchor.START, london);
+
+        // deletions and bulk additions
+        ts.delete(new Day(22, 1, 2015));
+        ts.delete(0, 1);
+        checkMillis(ts, TimePeriodAnchor.MIDDLE, london);
+        ts.add(new RegularTimePeriod[] {new Day(1, 2, 2015),
+                new Day(1, 1, 2015)}, new double[] {1.0, 2.0}, true);
+        checkMillis(ts, TimePeriodAnchor.MIDDLE, london);
+
+        // a different time zone
+        Calendar tokyo = Calendar.getInstance(
+                TimeZone.getTimeZone("Asia/Tokyo"));
+        checkMillis(ts, TimePeriodAnchor.MIDDLE, tokyo);
+        london.setTimeZone(TimeZone.getTimeZone("America/New_York"));
+        checkMillis(ts, TimePeriodAnchor.MIDDLE, london);
+
+        ts.clear();
+        ts.add(new Day(1, 3, 2015), 1.0);
+        checkMillis(ts, TimePeriodAnchor.END, london);
+    }
+
 }
@@ -0,0 +1,333 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * ConcurrentXYDatasetTest.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.DomainOrder;
+import org.jfree.data.general.DatasetAppendEvent;
+import org.jfree.data.general.DatasetChangeEvent;
+import org.jfree.data.general.DatasetChangeListener;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link ConcurrentXYDataset} class.
+ */
+public class ConcurrentXYDatasetTest implements DatasetChangeListener {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /** The last event received. */
+    private DatasetChangeEvent lastEvent;
+
+    @Override
+    public void datasetChanged(DatasetChangeEvent event) {
+        this.lastEvent = event;
+    }
+
+    /**
+     * Appended items are only visible after publish().
+     */
+    @Test
+    public void testPublish() {
+        ConcurrentXYDataset d = new ConcurrentXYDataset();
+        d.addChangeListener(this);
+        int s = d.addSeries("S1");
+        d.append(s, 1.0, 10.0);
+        d.append(s, 2.0, 20.0);
+        assertEquals(0, d.getSeriesCount());
+        assertNull(this.lastEvent);
+
+        assertTrue(d.publish());
+        assertTrue(this.lastEvent instanceof DatasetAppendEvent);
+        assertEquals(1, d.getSeriesCount());
+        assertEquals("S1", d.getSeriesKey(0));
+        assertEquals(2, d.getItemCount(0));
+        assertEquals(2.0, d.getXValue(0, 1), EPSILON);
+        assertEquals(20.0, d.getYValue(0, 1), EPSILON);
+        assertEquals(DomainOrder.ASCENDING, d.getDomainOrder());
+
+        d.append(s, 3.0, 30.0);
+        assertEquals(2, d.getItemCount(0));
+        this.lastEvent = null;
+        assertTrue(d.publish());
+        assertEquals(3, d.getItemCount(0));
+        assertFalse(d.publish());
+        try {
+            d.getXValue(0, 3);
+            fail("Expected an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+
+        d.append(s, 0.5, 5.0);
+        d.publish();
+        assertEquals(DomainOrder.NONE, d.getDomainOrder());
+        d.clear(s);
+        d.publish();
+        assertEquals(0, d.getItemCount(0));
+        assertFalse(this.lastEvent instanceof DatasetAppendEvent);
+    }
+
+    /**
+     * Datasets are equal when their published series are equal.
+     */
+    @Test
+    public void testEquals() {
+        ConcurrentXYDataset d1 = new ConcurrentXYDataset();
+        ConcurrentXYDataset d2 = new ConcurrentXYDataset();
+        assertTrue(d1.equals(d2));
+        d1.addSeries("S1");
+        d1.append(0, 1.0, 2.0);
+        d1.publish();
+        assertFalse(d1.equals(d2));
+        d2.addSeries("S1");
+        d2.append(0, 1.0, 2.0);
+        assertFalse(d1.equals(d2));
+        d2.publish();
+        assertTrue(d1.equals(d2));
+        assertEquals(d1.hashCode(), d2.hashCode());
+
+        // unpublished items are ignored
+        d1.append(0, 2.0, 3.0);
+        assertTrue(d1.equals(d2));
+
+        d1.setMaximumItemCount(10);
+        assertFalse(d1.equals(d2));
+        d2.setMaximumItemCount(10);
+        assertTrue(d1.equals(d2));
+    }
+
+    /**
+     * A clone is independent, including its unpublished items.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        ConcurrentXYDataset d1 = new ConcurrentXYDataset();
+        d1.addSeries("S1");
+        d1.append(0, 1.0, 2.0);
+        d1.publish();
+        d1.append(0, 2.0, 3.0);
+        ConcurrentXYDataset d2 = (ConcurrentXYDataset) d1.clone();
+        assertTrue(d1 != d2);
+        assertTrue(d1.equals(d2));
+
+        d1.append(0, 3.0, 4.0);
+        d2.append(0, 3.0, 5.0);
+        d1.publish();
+        d2.publish();
+        assertEquals(3, d2.getItemCount(0));
+        assertEquals(4.0, d1.getYValue(0, 2), EPSILON);
+        assertEquals(5.0, d2.getYValue(0, 2), EPSILON);
+        assertFalse(d1.equals(d2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        ConcurrentXYDataset d1 = new ConcurrentXYDataset();
+        d1.addSeries("S1");
+        for (int i = 0; i < 5000; i++) {
+            d1.append(0, i, i * 2.0);
+        }
+        d1.publish();
+        ConcurrentXYDataset d2 = (ConcurrentXYDataset)
+                TestUtilities.serialised(d1);
+        assertEquals(d1, d2);
+        d2.append(0, 5000.0, 1.0);
+        d2.publish();
+        assertEquals(5001, d2.getItemCount(0));
+    }
+
+    /**
+     * With a maximum item count, only the most recent items are kept,
+     * including across chunk boundaries.
+     */
+    @Test
+    public void testMaximumItemCount() {
+        ConcurrentXYDataset d = new ConcurrentXYDataset();
+        d.addChangeListener(this);
+        d.setMaximumItemCount(5000);
+        int s = d.addSeries("S1");
+        d.publish();
+        for (int i = 0; i < 20000; i++) {
+            d.append(s, i, -i);
+        }
+        d.publish();
+        assertFalse(this.lastEvent instanceof DatasetAppendEvent);
+        assertEquals(5000, d.getItemCount(0));
+        assertEquals(15000.0, d.getXValue(0, 0), EPSILON);
+        assertEquals(-19999.0, d.getYValue(0, 4999), EPSILON);
+
+        // a published snapshot is not changed by later appends
+        double[] x = new double[10000];
+        double[] y = new double[10000];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = 20000 + i;
+            y[i] = -x[i];
+        }
+        d.append(s, x, y);
+        assertEquals(15000.0, d.getXValue(0, 0), EPSILON);
+        assertEquals(19999.0, d.getXValue(0, 4999), EPSILON);
+        d.publish();
+        assertEquals(25000.0, d.getXValue(0, 0), EPSILON);
+        assertEquals(29999.0, d.getXValue(0, 4999), EPSILON);
+    }
+
+    /**
+     * A snapshot is not changed by later calls to publish().
+     */
+    @Test
+    public void testGetSnapshot() {
+        ConcurrentXYDataset d = new ConcurrentXYDataset();
+        int s = d.addSeries("S1");
+        d.append(s, 1.0, 10.0);
+        d.publish();
+        XYDataset snapshot = (XYDataset) d.getSnapshot();
+        d.append(s, 2.0, 20.0);
+        d.addSeries("S2");
+        d.publish();
+        assertEquals(2, d.getSeriesCount());
+        assertEquals(1, snapshot.getSeriesCount());
+        assertEquals("S1", snapshot.getSeriesKey(0));
+        assertEquals(1, snapshot.getItemCount(0));
+        assertEquals(10.0, snapshot.getYValue(0, 0), EPSILON);
+        d.clear(s);
+        d.publish();
+        assertEquals(1.0, snapshot.getXValue(0, 0), EPSILON);
+    }
+
+    /**
+     * Series keys must be unique.
+     */
+    @Test
+    public void testDuplicateKey() {
+        ConcurrentXYDataset d = new ConcurrentXYDataset();
+        d.addSeries("S1");
+        try {
+            d.addSeries("S1");
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * Several threads append while the dataset is published and read; the
+     * reader must always see a consistent series and nothing is lost.
+     */
+    @Test
+    public void testConcurrentWriters() throws Exception {
+        final ConcurrentXYDataset d = new ConcurrentXYDataset();
+        final int threads = 4;
+        final int count = 50000;
+        for (int t = 0; t < threads; t++) {
+            d.addSeries("S" + t);
+        }
+        final AtomicReference<Throwable> error
+                = new AtomicReference<Throwable>();
+        List<Thread> writers = new ArrayList<Thread>();
+        for (int t = 0; t < threads; t++) {
+            final int series = t;
+            Thread writer = new Thread(new Runnable() {
+                @Override
+                public void run() {
+                    for (int i = 0; i < count; i++) {
+                        d.append(series, i, 2.0 * i);
+                    }
+                }
+            });
+            writers.add(writer);
+            writer.start();
+        }
+        final AtomicBoolean done = new AtomicBoolean();
+        Thread reader = new Thread(new Runnable() {
+            @Override
+            public void run() {
+                try {
+                    while (!done.get()) {
+                        d.publish();
+                        for (int s = 0; s < d.getSeriesCount(); s++) {
+                            int n = d.getItemCount(s);
+                            for (int i = 0; i < n; i += 97) {
+                                if (d.getXValue(s, i) != i
+                                        || d.getYValue(s, i) != 2.0 * i) {
+                                    throw new IllegalStateException(
+                                            "Inconsistent item " + i);
+                                }
+                            }
+                        }
+                    }
+                }
+                catch (Throwable t) {
+                    error.set(t);
+                }
+            }
+        });
+        reader.start();
+        for (Thread writer : writers) {
+            writer.join();
+        }
+        done.set(true);
+        reader.join();
+        assertNull(error.get());
+        d.publish();
+        for (int s = 0; s < threads; s++) {
+            assertEquals(count, d.getItemCount(s));
+            assertEquals(count - 1, d.getXValue(s, count - 1), EPSILON);
+        }
+    }
+
+}
@@ -0,0 +1,373 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ----------------------------
+ * DoubleArrayXYSeriesTest.java
+ * ----------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.Range;
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
+import org.jfree.data.general.SeriesException;
+import org.junit.Test;
+
+/**
+ * Tests for the {@link DoubleArrayXYSeries} class.
+ */
+public class DoubleArrayXYSeriesTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        DoubleArrayXYSeries s1 = new DoubleArrayXYSeries("Series");
+        s1.add(1.0, 1.1);
+        DoubleArrayXYSeries s2 = new DoubleArrayXYSeries("Series");
+        s2.add(1.0, 1.1);
+        assertTrue(s1.equals(s2));
+        assertTrue(s2.equals(s1));
+
+        s1.add(2.0, 2.2);
+        assertFalse(s1.equals(s2));
+        s2.add(2.0, 2.2);
+        assertTrue(s1.equals(s2));
+
+        s1.setMaximumItemCount(5);
+        assertFalse(s1.equals(s2));
+        s2.setMaximumItemCount(5);
+        assertTrue(s1.equals(s2));
+        assertEquals(s1.hashCode(), s2.hashCode());
+    }
+
+    /**
+     * Confirm that cloning works and that the clone is independent.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        DoubleArrayXYSeries s1 = new DoubleArrayXYSeries("S1");
+        s1.add(1.0, 100.0);
+        s1.add(2.0, null);
+        s1.add(3.0, 200.0);
+        DoubleArrayXYSeries s2 = (DoubleArrayXYSeries) s1.clone();
+        assertTrue(s1 != s2);
+        assertTrue(s1.equals(s2));
+
+        s2.add(4.0, 300.0);
+        assertFalse(s1.equals(s2));
+        s1.add(4.0, 300.0);
+        assertTrue(s1.equals(s2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        DoubleArrayXYSeries s1 = new DoubleArrayXYSeries("Series");
+        s1.add(1.0, 1.1);
+        s1.add(2.0, null);
+        DoubleArrayXYSeries s2 = (DoubleArrayXYSeries)
+                TestUtilities.serialised(s1);
+        assertEquals(s1, s2);
+    }
+
+    /**
+     * Items added out of order are sorted, and duplicates are added after
+     * any existing items with the same x-value.
+     */
+    @Test
+    public void testAddSorted() {
+        DoubleArrayXYSeries s1 = new DoubleArrayXYSeries("S1");
+        s1.add(3.0, 3.0);
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        s1.add(2.0, 2.5);
+        assertEquals(4, s1.getItemCount());
+        assertEquals(1.0, s1.getXValue(0), EPSILON);
+        assertEquals(2.0, s1.getXValue(1), EPSILON);
+        assertEquals(2.0, s1.getYValue(1), EPSILON);
+        assertEquals(2.5, s1.getYValue(2), EPSILON);
+        assertEquals(3.0, s1.getXValue(3), EPSILON);
+        assertEquals(0, s1.indexOf(new Double(1.0)));
+        assertEquals(-5, s1.indexOf(new Double(99.9)));
+        assertEquals(-1, s1.indexOf(new Double(0.5)));
+    }
+
+    /**
+     * Duplicate x-values are rejected when the series does not allow them.
+     */
+    @Test
+    public void testAddDuplicate() {
+        DoubleArrayXYSeries s1 = new DoubleArrayXYSeries("S1", true, false);
+        s1.add(1.0, 1.0);
+        s1.add(2.0, 2.0);
+        try {
+            s1.add(1.0, 3.0);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        try {
+            s1.add(2.0, 3.0);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        DoubleArrayXYSeries s2 = new DoubleArrayXYSeries("S2", false, false);
+        s2.add(2.0, 2.0);
+        s2.add(1.0, 1.0);
+        assertEquals(1, s2.indexOf(new Double(1.0)));
+        try {
+            s2.add(2.0, 3.0);
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+    }
+
+    /**
+     * A null y-value is reported as null by getY() and ignored by the bounds.
+     */
+    @Test
+    public void testNullY() {
+        DoubleArrayXYSeries s1 = new DoubleArrayXYSeries("S1");
+        s1.add(1.0, 5.0);
+        s1.add(2.0, null);
+        assertNull(s1.getY(1));
+        assertTrue(Double.isNaN(s1.getYValue(1)));
+        assertEquals(5.0, s1.getMinY(), EPSILON);
+        assertEquals(5.0, s1.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Check the maximum item count, including the cached bounds.
+     */
+    @Test
+    public void testMaximumItemCount() {
+        DoubleArrayXYSeries s1 = new DoubleArrayXYSeries("S1");
+        s1.setMaximumItemCount(2);
+        s1.add(1.0, 1.1);
+        s1.add(2.0, 2.2);
+        s1.add(3.0, 3.3);
+        assertEquals(2, s1.getItemCount());
+        assertEquals(2.0, s1.getXValue(0), EPSILON);
+        assertEquals(2.0, s1.getMinX(), EPSILON);
+        assertEquals(3.0, s1.getMaxX(), EPSILON);
+        assertEquals(2.2, s1.getMinY(), EPSILON);
+        assertEquals(3.3, s1.getMaxY(), EPSILON);
+
+        // many more items than the initial capacity
+        for (int i = 4; i < 1000; i++) {
+            s1.add(i, -i);
+        }
+        assertEquals(2, s1.getItemCount());
+        assertEquals(998.0, s1.getXValue(0), EPSILON);
+        assertEquals(-999.0, s1.getMinY(), EPSILON);
+        assertEquals(-998.0, s1.getMaxY(), EPSILON);
+    }
+
+    /**
+     * Some checks for the remove(), delete() and clear() methods.
+     */
+    @Test
+    public void testRemove() {
+        DoubleArrayXYSeries s1 = new DoubleArrayXYSeries("S1");
+        for (int i = 1; i <= 6; i++) {
+            s1.add(i, i * 1.1);
+        }
+        XYDataItem removed = s1.remove(5);
+        assertEquals(6.0, removed.getXValue(), EPSILON);
+        assertEquals(5.0, s1.getMaxX(), EPSILON);
+        assertEquals(5.5, s1.getMaxY(), EPSILON);
+
+        s1.remove(new Double(1.0));
+        assertEquals(2.0, s1.getMinX(), EPSILON);
+        assertEquals(2.2, s1.getMinY(), EPSILON);
+
+        s1.delete(1, 2);
+        assertEquals(2, s1.getItemCount());
+        assertEquals(2.0, s1.getXValue(0), EPSILON);
+        assertEquals(5.0, s1.getXValue(1), EPSILON);
+
+        s1.clear();
+        assertEquals(0, s1.getItemCount());
+        assertTrue(Double.isNaN(s1.getMinX()));
+        assertTrue(Double.isNaN(s1.getMaxY()));
+    }
+
+    /**
+     * Some checks for the addOrUpdate() and update() methods.
+     */
+    @Test
+    public void testAddOrUpdate() {
+        DoubleArrayXYSeries s1 = new DoubleArrayXYSeries("S1", true, false);
+        assertNull(s1.addOrUpdate(1.0, 1.0));
+        assertNull(s1.addOrUpdate(3.0, 3.0));
+        XYDataItem old = s1.addOrUpdate(1.0, 5.0);
+        assertEquals(1.0, old.getYValue(), EPSILON);
+        assertEquals(2, s1.getItemCount());
+        assertEquals(3.0, s1.getMinY(), EPSILON);
+        assertEquals(5.0, s1.getMaxY(), EPSILON);
+        s1.addOrUpdate(2.0, 2.0);
+        assertEquals(2.0, s1.getXValue(1), EPSILON);
+
+        s1.update(new Double(3.0), new Double(-1.0));
+        assertEquals(-1.0, s1.getMinY(), EPSILON);
+    }
+
+    /**
+     * The series can be used in an XYSeriesCollection.
+     */
+    @Test
+    public void testCollection() {
+        DoubleArrayXYSeries s1 = new DoubleArrayXYSeries("S1");
+        s1.add(1.0, 10.0);
+        s1.add(2.0, 20.0);
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        assertEquals(2, dataset.getItemCount(0));
+        assertEquals(2.0, dataset.getXValue(0, 1), EPSILON);
+        assertEquals(20.0, dataset.getYValue(0, 1), EPSILON);
+        assertEquals(10.0, dataset.getRangeLowerBound(false), EPSILON);
+        assertEquals(2.0, dataset.getDomainUpperBound(false), EPSILON);
+        assertEquals(2, s1.getItems().size());
+        assertEquals(new XYDataItem(1.0, 10.0), s1.getItems().get(0));
+    }
+
+    /**
+     * Some checks for the add(double[], double[]) method.
+     */
+    @Test
+    public void testAddArrays() {
+        DoubleArrayXYSeries s = new DoubleArrayXYSeries("S", true, false);
+        s.add(2.0, 20.0);
+        s.add(4.0, 40.0);
+        final int[] events = new int[1];
+        s.addChangeListener(new SeriesChangeListener() {
+            @Override
+            public void seriesChanged(SeriesChangeEvent event) {
+                events[0]++;
+            }
+        });
+        s.add(new double[] {5.0, 1.0, 3.0}, new double[] {50.0, 10.0, 30.0});
+        assertEquals(1, events[0]);
+        assertEquals(5, s.getItemCount());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i + 1.0, s.getXValue(i), EPSILON);
+            assertEquals((i + 1.0) * 10.0, s.getYValue(i), EPSILON);
+        }
+
+        // the append fast path
+        s.add(new double[] {6.0, 7.0}, new double[] {60.0, 70.0});
+        assertEquals(7, s.getItemCount());
+        assertEquals(7.0, s.getMaxX(), EPSILON);
+
+        // a duplicate x-value leaves the series unchanged
+        try {
+            s.add(new double[] {8.0, 3.0}, new double[] {80.0, 30.0});
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(7, s.getItemCount());
+        assertEquals(2, events[0]);
+
+        // the oldest items are dropped to respect the maximum item count
+        s.setMaximumItemCount(4);
+        s.add(new double[] {0.5, 9.0}, new double[] {5.0, 90.0});
+        assertEquals(4, s.getItemCount());
+        assertEquals(5.0, s.getXValue(0), EPSILON);
+        assertEquals(9.0, s.getXValue(3), EPSILON);
+        assertEquals(50.0, s.getMinY(), EPSILON);
+    }
+
+    /**
+     * Bulk adds to an unsorted series are appended in order.
+     */
+    @Test
+    public void testAddArraysUnsorted() {
+        DoubleArrayXYSeries s = new DoubleArrayXYSeries("S", false, false);
+        s.add(3.0, 30.0);
+        s.add(new double[] {1.0, 2.0}, new double[] {10.0, 20.0});
+        assertEquals(3, s.getItemCount());
+        assertEquals(3.0, s.getXValue(0), EPSILON);
+        assertEquals(1.0, s.getXValue(1), EPSILON);
+        assertEquals(2.0, s.getXValue(2), EPSILON);
+        try {
+            s.add(new double[] {4.0, 1.0}, new double[] {40.0, 10.0});
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(3, s.getItemCount());
+    }
+
+    /**
+     * Some checks for the findYRange() method, which is inherited but needs
+     * to see changes to the arrays.
+     */
+    @Test
+    public void testFindYRange() {
+        DoubleArrayXYSeries s = new DoubleArrayXYSeries("S");
+        s.add(1.0, 5.0);
+        s.add(2.0, 1.0);
+        s.add(3.0, 8.0);
+        assertEquals(new Range(1.0, 5.0), s.findYRange(new Range(0.0, 2.0)));
+        s.update(new Double(2.0), new Double(-2.0));
+        assertEquals(new Range(-2.0, 5.0), s.findYRange(new Range(0.0, 2.0)));
+        s.remove(0);
+        assertEquals(new Range(-2.0, -2.0), s.findYRange(new Range(0.0, 2.0)));
+        s.add(1.5, 7.0, false);
+        assertEquals(new Range(-2.0, 7.0), s.findYRange(new Range(0.0, 2.0)));
+    }
+
+}
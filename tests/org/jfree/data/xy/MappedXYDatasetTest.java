@@ -0,0 +1,268 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * ------------------------
+ * MappedXYDatasetTest.java
+ * ------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+package org.jfree.data.xy;
+
+import java.io.File;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.util.Collections;
+import java.util.Random;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.chart.renderer.RendererUtilities;
+import org.jfree.data.Range;
+import org.jfree.data.general.DatasetUtilities;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+import static org.junit.Assert.fail;
+
+/**
+ * Tests for the {@link MappedXYDataset} class.
+ */
+public class MappedXYDatasetTest {
+
+    private static final double EPSILON = 0.0000000001;
+
+    /**
+     * Writes the records for a series to a temporary file.
+     *
+     * @param x  the x-values.
+     * @param y  the y-values.
+     * @param longX  write the x-values as long integers?
+     * @param extra  the number of extra bytes to write at the end.
+     *
+     * @return The file.
+     */
+    private static File createFile(double[] x, double[] y, boolean longX,
+            int extra) throws IOException {
+        File file = File.createTempFile("MappedXYDatasetTest", ".bin");
+        file.deleteOnExit();
+        ByteBuffer b = ByteBuffer.allocate(x.length * 16 + extra);
+        b.order(ByteOrder.LITTLE_ENDIAN);
+        for (int i = 0; i < x.length; i++) {
+            if (longX) {
+                b.putLong((long) x[i]);
+            }
+            else {
+                b.putDouble(x[i]);
+            }
+            b.putDouble(y[i]);
+        }
+        FileOutputStream out = new FileOutputStream(file);
+        try {
+            out.write(b.array());
+        }
+        finally {
+            out.close();
+        }
+        return file;
+    }
+
+    /**
+     * The items are read from the file, across segment boundaries.
+     */
+    @Test
+    public void testValues() throws IOException {
+        double[] x = new double[1000];
+        double[] y = new double[1000];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = 1000 + 2 * i;
+            y[i] = Math.sin(i / 10.0);
+        }
+        MappedXYDataset d = new MappedXYDataset(6, 4);
+        d.addSeries("S1", createFile(x, y, false, 5), false);
+        d.addSeries("S2", createFile(x, y, true, 0), true);
+        assertEquals(2, d.getSeriesCount());
+        assertEquals("S2", d.getSeriesKey(1));
+        for (int s = 0; s < 2; s++) {
+            assertEquals(1000, d.getItemCount(s));
+            for (int i = 0; i < x.length; i++) {
+                assertEquals(x[i], d.getXValue(s, i), EPSILON);
+                assertEquals(y[i], d.getYValue(s, i), EPSILON);
+            }
+        }
+        assertEquals(1000.0 + 2 * 999, d.getX(0, 999).doubleValue(),
+                EPSILON);
+        assertEquals(1999.5, d.getStartXValue(0, 500), EPSILON);
+        assertEquals(2000.5, d.getEndXValue(0, 500), EPSILON);
+        assertEquals(y[500], d.getEndYValue(0, 500), EPSILON);
+        try {
+            d.getXValue(0, 1000);
+            fail("Expected an IndexOutOfBoundsException.");
+        }
+        catch (IndexOutOfBoundsException e) {
+            // expected
+        }
+        try {
+            d.addSeries("S1", d.getSeriesFile(0), false);
+            fail("Expected an IllegalArgumentException.");
+        }
+        catch (IllegalArgumentException e) {
+            // expected
+        }
+    }
+
+    /**
+     * The bounds agree with those found by iterating over the items.
+     */
+    @Test
+    public void testBounds() throws IOException {
+        Random random = new Random(42);
+        double[] x = new double[777];
+        double[] y = new double[777];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i;
+            y[i] = random.nextGaussian();
+        }
+        y[100] = Double.NaN;
+        MappedXYDataset d = new MappedXYDataset(8, 5);
+        d.addSeries("S1", createFile(x, y, false, 0), false);
+        DefaultXYDataset expected = new DefaultXYDataset();
+        expected.addSeries("S1", new double[][] {x, y});
+
+        assertEquals(new Range(0.0, 776.0), d.getDomainBounds(false));
+        assertEquals(new Range(-0.5, 776.5), d.getDomainBounds(true));
+        assertEquals(DatasetUtilities.iterateRangeBounds(expected),
+                d.getRangeBounds(false));
+        for (int i = 0; i < 200; i++) {
+            double a = random.nextDouble() * 800 - 10;
+            double b = a + random.nextDouble() * 300;
+            Range xRange = new Range(a, b);
+            assertEquals(DatasetUtilities.findRangeBounds(expected,
+                    Collections.singletonList("S1"), xRange, false),
+                    d.getRangeBounds(Collections.singletonList("S1"),
+                    xRange, false));
+        }
+        assertNull(d.getRangeBounds(Collections.singletonList("S1"),
+                new Range(1000.0, 2000.0), false));
+        assertNull(d.getRangeBounds(Collections.singletonList("S2"),
+                new Range(0.0, 2000.0), false));
+    }
+
+    /**
+     * The live items found with the block index are the same as those
+     * found for an in-memory dataset.
+     */
+    @Test
+    public void testFindLiveItems() throws IOException {
+        double[] x = new double[300];
+        double[] y = new double[300];
+        for (int i = 0; i < x.length; i++) {
+            x[i] = i / 3;  // runs of equal x-values
+        }
+        MappedXYDataset d = new MappedXYDataset(5, 3);
+        d.addSeries("S1", createFile(x, y, false, 0), false);
+        DefaultXYDataset expected = new DefaultXYDataset();
+        expected.addSeries("S1", new double[][] {x, y});
+        for (double a = -5.0; a < 105.0; a += 0.5) {
+            for (double b = a + 0.5; b < 110.0; b += 7.5) {
+                assertArrayEquals(RendererUtilities.findLiveItems(expected,
+                        0, a, b), RendererUtilities.findLiveItems(d, 0, a, b));
+            }
+        }
+        assertEquals(0, d.findItem(0, -1.0));
+        assertEquals(3, d.findItem(0, 0.5));
+        assertEquals(300, d.findItem(0, 100.0));
+    }
+
+    /**
+     * An empty file gives an empty series.
+     */
+    @Test
+    public void testEmptyFile() throws IOException {
+        MappedXYDataset d = new MappedXYDataset();
+        d.addSeries("S1", createFile(new double[0], new double[0], false, 9),
+                false);
+        assertEquals(0, d.getItemCount(0));
+        assertNull(d.getDomainBounds(true));
+        assertNull(d.getRangeBounds(false));
+        assertTrue(Double.isNaN(d.getRangeLowerBound(false)));
+        assertEquals(0, d.findItem(0, 1.0));
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required
+     * fields.
+     */
+    @Test
+    public void testEquals() throws IOException {
+        File file = createFile(new double[] {1.0}, new double[] {2.0}, false,
+                0);
+        MappedXYDataset d1 = new MappedXYDataset();
+        MappedXYDataset d2 = new MappedXYDataset();
+        assertTrue(d1.equals(d2));
+        d1.addSeries("S1", file, false);
+        assertFalse(d1.equals(d2));
+        d2.addSeries("S1", file, false);
+        assertTrue(d1.equals(d2));
+        d1.setIntervalWidth(2.0);
+        assertFalse(d1.equals(d2));
+        d2.setIntervalWidth(2.0);
+        assertTrue(d1.equals(d2));
+        d1.setIntervalPositionFactor(0.0);
+        assertFalse(d1.equals(d2));
+        d2.setIntervalPositionFactor(0.0);
+        assertTrue(d1.equals(d2));
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.  The file
+     * is mapped again when the dataset is restored.
+     */
+    @Test
+    public void testSerialization() throws IOException {
+        MappedXYDataset d1 = new MappedXYDataset();
+        d1.addSeries("S1", createFile(new double[] {1.0, 2.0},
+                new double[] {3.0, 4.0}, false, 0), false);
+        MappedXYDataset d2 = (MappedXYDataset) TestUtilities.serialised(d1);
+        assertEquals(d1, d2);
+        assertEquals(4.0, d2.getYValue(0, 1), EPSILON);
+        assertEquals("S1", d2.getSeriesKey(0));
+    }
+
+}
@@ -0,0 +1,199 @@
+/* ===========================================================
+ * JFreeChart : a free chart library for the Java(tm) platform
+ * ===========================================================
+ *
+ * (C) Copyright 2000-2026, by Object Refinery Limited and Contributors.
+ *
+ * Project Info:  http://www.jfree.org/jfreechart/index.html
+ *
+ * This library is free software; you can redistribute it and/or modify it
+ * under the terms of the GNU Lesser General Public License as published by
+ * the Free Software Foundation; either version 2.1 of the License, or
+ * (at your option) any later version.
+ *
+ * This library is distributed in the hope that it will be useful, but
+ * WITHOUT ANY WARRANTY; without even the implied warranty of MERCHANTABILITY
+ * or FITNESS FOR A PARTICULAR PURPOSE. See the GNU Lesser General Public
+ * License for more details.
+ *
+ * You should have received a copy of the GNU Lesser General Public
+ * License along with this library; if not, write to the Free Software
+ * Foundation, Inc., 51 Franklin Street, Fifth Floor, Boston, MA  02110-1301,
+ * USA.
+ *
+ * [Oracle and Java are registered trademarks of Oracle and/or its affiliates.
+ * Other names may be trademarks of their respective owners.]
+ *
+ * -------------------------------
+ * MinMaxPyramidXYDatasetTest.java
+ * -------------------------------
+ * (C) Copyright 2026, by Object Refinery Limited and Contributors.
+ *
+ * Original Author:  -;
+ * Contributor(s):   -;
+ *
+ * Changes
+ * -------
+ * 17-Oct-2026 : Version 1;
+ *
+ */
+
+
+package org.jfree.data.xy;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertSame;
+import static org.junit.Assert.assertTrue;
+
+import org.jfree.chart.TestUtilities;
+import org.jfree.data.Range;
+import org.junit.Test;
+
+/**
+ * Some tests for the {@link MinMaxPyramidXYDataset} class.
+ */
+public class MinMaxPyramidXYDatasetTest {
+
+    /**
+     * Creates a dataset with one series containing a sine wave.
+     *
+     * @param n  the number of items.
+     *
+     * @return The dataset.
+     */
+    private DefaultXYDataset createSine(int n) {
+        double[] x = new double[n];
+        double[] y = new double[n];
+        for (int i = 0; i < n; i++) {
+            x[i] = i;
+            y[i] = Math.sin(i / 100.0);
+        }
+        DefaultXYDataset d = new DefaultXYDataset();
+        d.addSeries("S1", new double[][] {x, y});
+        return d;
+    }
+
+    /**
+     * Confirm that the equals method can distinguish all the required fields.
+     */
+    @Test
+    public void testEquals() {
+        MinMaxPyramidXYDataset d1 = new MinMaxPyramidXYDataset(createSine(10));
+        MinMaxPyramidXYDataset d2 = new MinMaxPyramidXYDataset(createSine(10));
+        assertTrue(d1.equals(d2));
+        assertTrue(d2.equals(d1));
+
+        d1 = new MinMaxPyramidXYDataset(createSine(11));
+        assertFalse(d1.equals(d2));
+        d2 = new MinMaxPyramidXYDataset(createSine(11));
+        assertTrue(d1.equals(d2));
+    }
+
+    /**
+     * Confirm that cloning works.
+     */
+    @Test
+    public void testCloning() throws CloneNotSupportedException {
+        MinMaxPyramidXYDataset d1 = new MinMaxPyramidXYDataset(createSine(10));
+        MinMaxPyramidXYDataset d2 = (MinMaxPyramidXYDataset) d1.clone();
+        assertTrue(d1 != d2);
+        assertTrue(d1.getClass() == d2.getClass());
+        assertTrue(d1.equals(d2));
+
+        // check independence
+        DefaultXYDataset u1 = (DefaultXYDataset) d1.getUnderlyingDataset();
+        u1.addSeries("S2", new double[][] {{1.0}, {2.0}});
+        assertFalse(d1.equals(d2));
+        assertEquals(1, d2.getSeriesCount());
+    }
+
+    /**
+     * Serialize an instance, restore it, and check for equality.
+     */
+    @Test
+    public void testSerialization() {
+        MinMaxPyramidXYDataset d1 = new MinMaxPyramidXYDataset(createSine(10));
+        MinMaxPyramidXYDataset d2 = (MinMaxPyramidXYDataset)
+                TestUtilities.serialised(d1);
+        assertEquals(d1, d2);
+    }
+
+    /**
+     * A small request for a wide x-range returns items from every bucket,
+     * including the minimum and maximum y-values.
+     */
+    @Test
+    public void testGetLevelOfDetail() {
+        MinMaxPyramidXYDataset d = new MinMaxPyramidXYDataset(
+                createSine(100000));
+        XYDataset view = d.getLevelOfDetail(0.0, 99999.0, 100);
+        int n = view.getItemCount(0);
+        assertTrue(n > 100);
+        assertTrue(n <= 4 * 1024);
+        double min = Double.POSITIVE_INFINITY;
+        double max = Double.NEGATIVE_INFINITY;
+        double prev = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < n; i++) {
+            double x = view.getXValue(0, i);
+            assertTrue(x > prev);
+            prev = x;
+            min = Math.min(min, view.getYValue(0, i));
+            max = Math.max(max, view.getYValue(0, i));
+        }
+        assertEquals(0.0, view.getXValue(0, 0), 0.0);
+        assertEquals(99999.0, view.getXValue(0, n - 1), 0.0);
+        Range r = d.getRangeBounds(false);
+        assertEquals(r.getLowerBound(), min, 0.0);
+        assertEquals(r.getUpperBound(), max, 0.0);
+
+        // the same request returns the same view
+        assertSame(view, d.getLevelOfDetail(0.0, 99999.0, 100));
+    }
+
+    /**
+     * A narrow x-range is returned in full (plus one item either side).
+     */
+    @Test
+    public void testGetLevelOfDetailZoomed() {
+        MinMaxPyramidXYDataset d = new MinMaxPyramidXYDataset(
+                createSine(100000));
+        XYDataset view = d.getLevelOfDetail(500.0, 600.0, 400);
+        assertEquals(103, view.getItemCount(0));
+        assertEquals(499.0, view.getXValue(0, 0), 0.0);
+        assertEquals(601.0, view.getXValue(0, 102), 0.0);
+    }
+
+    /**
+     * Series that are not sorted by x-value are not reduced.
+     */
+    @Test
+    public void testUnsorted() {
+        DefaultXYDataset u = createSine(1000);
+        u.addSeries("S2", new double[][] {{3.0, 1.0, 2.0}, {1.0, 2.0, 3.0}});
+        MinMaxPyramidXYDataset d = new MinMaxPyramidXYDataset(u);
+        XYDataset view = d.getLevelOfDetail(0.0, 999.0, 10);
+        assertTrue(view.getItemCount(0) < 1000);
+        assertEquals(3, view.getItemCount(1));
+        assertEquals(0, d.getLevelCount(1));
+        assertEquals(new Range(0.0, 999.0), d.getDomainBounds(false));
+    }
+
+    /**
+     * A change to the underlying dataset invalidates the index.
+     */
+    @Test
+    public void testUnderlyingChange() {
+        DefaultXYDataset u = createSine(1000);
+        MinMaxPyramidXYDataset d = new MinMaxPyramidXYDataset(u);
+        XYDataset view1 = d.getLevelOfDetail(0.0, 999.0, 10);
+        assertEquals(new Range(0.0, 999.0), d.getDomainBounds(false));
+        u.addSeries("S1", new double[][] {{0.0, 5000.0}, {-5.0, 5.0}});
+        assertEquals(new Range(0.0, 5000.0), d.getDomainBounds(false));
+        assertEquals(new Range(-5.0, 5.0), d.getRangeBounds(false));
+        XYDataset view2 = d.getLevelOfDetail(0.0, 999.0, 10);
+        assertTrue(view1 != view2);
+        assertEquals(2, view2.getItemCount(0));
+    }
+
+}
@@ -49,6 +49,9 @@
 
 package org.jfree.data.xy;
 
+import java.util.Arrays;
+import java.util.List;
+
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertEquals;
@@ -60,6 +63,7 @@ import static org.junit.Assert.fail;
 import org.jfree.chart.TestUtilities;
 import org.jfree.data.Range;
 import org.jfree.data.UnknownKeyException;
+import org.jfree.data.general.DatasetUtilities;
 import org.jfree.util.PublicCloneable;
 
 import org.junit.Test;
@@ -534,4 +538,52 @@ public class XYSeriesCollectionTest {
         // change because "C" is already the key for the other series in the
         // collection
     }
+
+    /**
+     * Some checks for the getRangeBounds(List, Range, boolean) method.
+     */
+    @Test
+    public void testGetRangeBoundsForXRange() {
+        XYSeries s1 = new XYSeries("S1");
+        s1.add(1.0, 10.0);
+        s1.add(2.0, 20.0);
+        s1.add(3.0, 30.0);
+        XYSeries s2 = new XYSeries("S2");
+        s2.add(2.5, -5.0);
+        s2.add(9.0, 90.0);
+        XYSeriesCollection dataset = new XYSeriesCollection();
+        dataset.addSeries(s1);
+        dataset.addSeries(s2);
+        List keys = Arrays.asList(new String[] {"S1", "S2"});
+        assertEquals(new Range(-5.0, 30.0), dataset.getRangeBounds(keys,
+                new Range(1.5, 3.5), true));
+        assertEquals(new Range(20.0, 30.0), dataset.getRangeBounds(
+                Arrays.asList(new String[] {"S1"}), new Range(1.5, 3.5),
+                true));
+        assertNull(dataset.getRangeBounds(keys, new Range(4.0, 5.0), true));
+        assertEquals(DatasetUtilities.iterateToFindRangeBounds(dataset, keys,
+                new Range(0.0, 9.0), true), dataset.getRangeBounds(keys,
+                new Range(0.0, 9.0), true));
+    }
+
+    /**
+     * The modification stamp of the collection includes changes made to its
+     * series without notification.
+     */
+    @Test
+    public void testModificationStamp() {
+        XYSeries s1 = new XYSeries("S1");
+        XYSeriesCollection dataset = new XYSeriesCollection(s1);
+        long stamp = dataset.getModificationStamp();
+        s1.add(1.0, 2.0);
+        assertTrue(dataset.getModificationStamp() > stamp);
+        stamp = dataset.getModificationStamp();
+        s1.add(2.0, 3.0, false);
+        assertTrue(dataset.getModificationStamp() > stamp);
+        stamp = dataset.getModificationStamp();
+        dataset.removeSeries(s1);
+        assertTrue(dataset.getModificationStamp() > stamp);
+    }
+
+
 }
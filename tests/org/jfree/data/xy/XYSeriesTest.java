@@ -48,9 +48,15 @@ package org.jfree.data.xy;
 
 import static org.junit.Assert.assertTrue;
 import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+
+import java.util.Random;
 
 import org.jfree.chart.TestUtilities;
+import org.jfree.data.Range;
 
+import org.jfree.data.general.SeriesChangeEvent;
+import org.jfree.data.general.SeriesChangeListener;
 import org.jfree.data.general.SeriesException;
 import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.fail;
@@ -806,4 +812,181 @@ public class XYSeriesTest {
         c.removeSeries(1);
         s1.setKey("S2");
     }
+
+    /**
+     * Some checks for the add(double[], double[]) method.
+     */
+    @Test
+    public void testAddArrays() {
+        XYSeries s = new XYSeries("S", true, false);
+        s.add(2.0, 20.0);
+        s.add(4.0, 40.0);
+        final int[] events = new int[1];
+        s.addChangeListener(new SeriesChangeListener() {
+            @Override
+            public void seriesChanged(SeriesChangeEvent event) {
+                events[0]++;
+            }
+        });
+        s.add(new double[] {5.0, 1.0, 3.0}, new double[] {50.0, 10.0, 30.0});
+        assertEquals(1, events[0]);
+        assertEquals(5, s.getItemCount());
+        for (int i = 0; i < 5; i++) {
+            assertEquals(i + 1.0, s.getX(i).doubleValue(), EPSILON);
+            assertEquals((i + 1.0) * 10.0, s.getY(i).doubleValue(), EPSILON);
+        }
+        assertEquals(1.0, s.getMinX(), EPSILON);
+        assertEquals(50.0, s.getMaxY(), EPSILON);
+
+        // a duplicate x-value leaves the series unchanged
+        try {
+            s.add(new double[] {6.0, 3.0}, new double[] {60.0, 30.0});
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        try {
+            s.add(new double[] {7.0, 7.0}, new double[] {70.0, 70.0});
+            fail("Expected a SeriesException.");
+        }
+        catch (SeriesException e) {
+            // expected
+        }
+        assertEquals(5, s.getItemCount());
+        assertEquals(1, events[0]);
+
+        // the oldest items are dropped to respect the maximum item count
+        s.setMaximumItemCount(4);
+        s.add(new double[] {0.5, 6.0}, new double[] {5.0, 60.0});
+        assertEquals(4, s.getItemCount());
+        assertEquals(3.0, s.getMinX(), EPSILON);
+        assertEquals(6.0, s.getMaxX(), EPSILON);
+        assertEquals(30.0, s.getMinY(), EPSILON);
+    }
+
+    /**
+     * Duplicates are added after any existing items with the same x-value.
+     */
+    @Test
+    public void testAddArraysWithDuplicates() {
+        XYSeries s = new XYSeries("S", true, true);
+        s.add(1.0, 1.0);
+        s.add(new double[] {1.0, 0.0, 1.0}, new double[] {2.0, 0.0, 3.0});
+        assertEquals(4, s.getItemCount());
+        assertEquals(0.0, s.getY(0).doubleValue(), EPSILON);
+        assertEquals(1.0, s.getY(1).doubleValue(), EPSILON);
+        assertEquals(2.0, s.getY(2).doubleValue(), EPSILON);
+        assertEquals(3.0, s.getY(3).doubleValue(), EPSILON);
+    }
+
+    /**
+     * Some checks for the findYRange() method.
+     */
+    @Test
+    public void testFindYRange() {
+        XYSeries s = new XYSeries("S");
+        assertNull(s.findYRange(new Range(0.0, 10.0)));
+        s.add(1.0, 5.0);
+        s.add(2.0, null);
+        s.add(3.0, 1.0);
+        s.add(3.0, 8.0);
+        s.add(4.0, 2.0);
+        assertEquals(new Range(1.0, 8.0), s.findYRange(new Range(0.0, 10.0)));
+        assertEquals(new Range(1.0, 8.0), s.findYRange(new Range(3.0, 3.0)));
+        assertEquals(new Range(5.0, 5.0), s.findYRange(new Range(0.5, 2.5)));
+        assertNull(s.findYRange(new Range(1.5, 2.5)));
+        assertNull(s.findYRange(new Range(5.0, 6.0)));
+
+        // the tree is rebuilt after the series changes
+        s.updateByIndex(0, new Double(-3.0));
+        assertEquals(new Range(-3.0, -3.0), s.findYRange(new Range(0.5, 2.5)));
+        s.add(2.0, 9.0, false);
+        assertEquals(new Range(-3.0, 9.0), s.findYRange(new Range(0.5, 2.5)));
+
+        // unsorted series
+        XYSeries u = new XYSeries("U", false);
+        u.add(4.0, 2.0);
+        u.add(1.0, 5.0);
+        u.add(3.0, 1.0);
+        assertEquals(new Range(1.0, 5.0), u.findYRange(new Range(0.0, 3.0)));
+    }
+
+    /**
+     * Returns the y-range for an x-range by scanning all items.
+     */
+    private static Range scanYRange(XYSeries s, Range xRange) {
+        double lower = Double.POSITIVE_INFINITY;
+        double upper = Double.NEGATIVE_INFINITY;
+        for (int i = 0; i < s.getItemCount(); i++) {
+            double y = s.getY(i) == null ? Double.NaN : s.getYValue(i);
+            if (xRange.contains(s.getXValue(i)) && !Double.isNaN(y)) {
+                lower = Math.min(lower, y);
+                upper = Math.max(upper, y);
+            }
+        }
+        return lower <= upper ? new Range(lower, upper) : null;
+    }
+
+    /**
+     * The y-ranges stay correct through a random mix of appends, evictions,
+     * inserts, removals and updates.
+     */
+    @Test
+    public void testFindYRangeRandomChanges() {
+        XYSeries[] all = new XYSeries[] {new XYSeries("S"),
+                new DoubleArrayXYSeries("D")};
+        for (XYSeries s : all) {
+            Random random = new Random(42L);
+            s.setMaximumItemCount(50);
+            double last = 0.0;
+            for (int step = 0; step < 2000; step++) {
+                int op = random.nextInt(10);
+                Double y = random.nextInt(8) == 0 ? null
+                        : new Double(random.nextInt(1000));
+                if (op < 6 || s.getItemCount() == 0) {
+                    last += 1.0;
+                    s.add(new Double(last), y);
+                } else if (op == 6) {
+                    s.add(new Double(random.nextDouble() * last), y);
+                } else if (op == 7) {
+                    s.remove(random.nextInt(s.getItemCount()));
+                } else if (op == 8) {
+                    s.updateByIndex(random.nextInt(s.getItemCount()), y);
+                } else {
+                    s.add(new double[] {last + 1.0, last + 2.0},
+                            new double[] {random.nextInt(1000),
+                            random.nextInt(1000)});
+                    last += 2.0;
+                }
+                double a = random.nextDouble() * last;
+                double b = random.nextDouble() * last;
+                Range xRange = new Range(Math.min(a, b), Math.max(a, b));
+                assertEquals(scanYRange(s, xRange), s.findYRange(xRange));
+            }
+        }
+    }
+
+    /**
+     * The modification stamp changes with every change, including changes
+     * made without notification.
+     */
+    @Test
+    public void testModificationStamp() {
+        XYSeries s = new XYSeries("S");
+        long stamp = s.getModificationStamp();
+        s.add(1.0, 2.0);
+        assertTrue(s.getModificationStamp() > stamp);
+        stamp = s.getModificationStamp();
+        s.add(2.0, 3.0, false);
+        assertTrue(s.getModificationStamp() > stamp);
+        stamp = s.getModificationStamp();
+        s.setNotify(false);
+        s.updateByIndex(0, 5.0);
+        assertTrue(s.getModificationStamp() > stamp);
+        stamp = s.getModificationStamp();
+        assertEquals(stamp, s.getModificationStamp());
+    }
+
+
 }